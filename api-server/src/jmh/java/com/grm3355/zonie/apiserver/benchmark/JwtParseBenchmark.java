@@ -0,0 +1,91 @@
+package com.grm3355.zonie.apiserver.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import com.grm3355.zonie.commonlib.global.enums.Role;
+import com.grm3355.zonie.commonlib.global.util.JwtClaims;
+import com.grm3355.zonie.commonlib.global.util.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 요청 1건당 JWT 처리 비용 비교 (JwtAuthenticationFilter 기준)
+ * - legacy: validateToken + getUserId/getRole/getPassword → 파서 생성 + HMAC 검증 + JSON 파싱 4회
+ * - parseOnce: parseClaims 1회 (캐시 미사용, 재사용 파서로 검증/파싱 1회)
+ * - parseOnceCached: parseClaims 1회 (검증 완료 토큰 캐시 적중 → SHA-256 해시 + Map 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+	private SecretKey key;
+	private String token;
+	private JwtTokenProvider uncachedProvider;
+	private JwtTokenProvider cachedProvider;
+
+	@Setup
+	public void setUp() {
+		byte[] keyBytes = Jwts.SIG.HS256.key().build().getEncoded();
+		key = Keys.hmacShaKeyFor(keyBytes);
+		String secret = Base64.getEncoder().encodeToString(keyBytes);
+
+		uncachedProvider = provider(secret, 0);
+		cachedProvider = provider(secret, 10_000);
+		token = cachedProvider.createAccessToken("benchmark-user", Role.USER);
+		cachedProvider.parseClaims(token); // 캐시 적재
+	}
+
+	@Benchmark
+	public JwtClaims legacy() {
+		Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+		String userId = legacyClaims().getSubject();
+		String role = legacyClaims().get("role", String.class);
+		String password = legacyClaims().get("password", String.class);
+		return new JwtClaims(userId, role, password, 0);
+	}
+
+	@Benchmark
+	public JwtClaims parseOnce() {
+		return uncachedProvider.parseClaims(token);
+	}
+
+	@Benchmark
+	public JwtClaims parseOnceCached() {
+		return cachedProvider.parseClaims(token);
+	}
+
+	private Claims legacyClaims() {
+		return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+	}
+
+	private static JwtTokenProvider provider(String secret, int cacheMaxSize) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		setField(provider, "secret", secret);
+		setField(provider, "verifiedCacheMaxSize", cacheMaxSize);
+		provider.setAccessTokenExpirationTime(TimeUnit.HOURS.toMillis(1));
+		provider.init();
+		return provider;
+	}
+
+	private static void setField(JwtTokenProvider provider, String name, Object value) {
+		Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, provider, value);
+	}
+}
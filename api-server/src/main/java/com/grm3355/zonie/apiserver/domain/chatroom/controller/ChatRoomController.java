@@ -23,6 +23,7 @@ import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomPageResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomRequest;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSliceResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.service.ChatRoomApiService;
 import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
 import com.grm3355.zonie.apiserver.global.swagger.ApiError400;
@@ -110,6 +111,39 @@ public class ChatRoomController {
 		return ResponseEntity.ok().body(ApiResponse.success(response));
 	}
 
+	@Operation(summary = "축제별 채팅방 목록 (커서)", description = "특정 축제의 채팅방을 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+	@ApiResponses({
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "목록 조회 성공",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class),
+				examples = @ExampleObject(
+					name = "OK",
+					value = "{\"success\": true,"
+							+ "\"data\":{"
+							+ "\"content\":["
+							+ "{\"chatRoomId\": \"bf8cf7ed-f01e-4eb9-8bf9-5f201cbf8122\",\"festivalId\": 112,\"title\": \"채팅방\",\"lat\": 33.247109,\"lon\": 126.56447,\"festivalTitle\": \"2025 서귀포 원도심 문화페스티벌\",\"participantCount\": 0,\"lastMessageAt\": null,\"lastContent\": null}"
+							+ " ],"
+							+ "\"hasNext\": true,"
+							+ "\"nextCursor\": \"djI6NTo0MQ\","
+							+ "\"totalElements\": null"
+							+ "},"
+							+ "\"error\": null,"
+							+ "\"timestamp\": \"2025-11-14T10:39:51.431745\"}"
+				)
+			)
+		)
+	})
+	@ApiError400
+	@ApiError405
+	@ApiError415
+	@ApiError429
+	@GetMapping("/festivals/{festivalId}/chat-rooms/cursor")
+	public ResponseEntity<ApiResponse<ChatRoomSliceResponse>> getChatRoomSlice(@PathVariable long festivalId,
+		@Valid @ModelAttribute ChatRoomSearchRequest request
+	) {
+		ChatRoomSliceResponse response = chatRoomApiService.getFestivalChatRoomSlice(festivalId, request);
+		return ResponseEntity.ok().body(ApiResponse.success(response));
+	}
+
 	@Operation(summary = "내 채팅방 목록", description = "사용자 인증을 거쳐 사용자가 등록한 채팅방 목록을 조회합니다.")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "목록 조회 성공",
@@ -148,6 +182,42 @@ public class ChatRoomController {
 		return ResponseEntity.ok().body(ApiResponse.success(response));
 	}
 
+	@Operation(summary = "내 채팅방 목록 (커서)", description = "사용자가 참여한 채팅방을 커서 기반으로 조회합니다. 정렬 기본값은 활성화 최신순입니다.")
+	@ApiResponses({
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "목록 조회 성공",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class),
+				examples = @ExampleObject(
+					name = "OK",
+					value = "{\"success\": true,"
+							+ "\"data\":{"
+							+ "\"content\":["
+							+ "{\"chatRoomId\": \"bf8cf7ed-f01e-4eb9-8bf9-5f201cbf8122\",\"festivalId\": 112,\"title\": \"채팅방\",\"lat\": 33.247109,\"lon\": 126.56447,\"festivalTitle\": \"2025 서귀포 원도심 문화페스티벌\",\"participantCount\": 0,\"lastMessageAt\": null,\"lastContent\": null}"
+							+ " ],"
+							+ "\"hasNext\": true,"
+							+ "\"nextCursor\": \"djI6NTo0MQ\","
+							+ "\"totalElements\": null"
+							+ "},"
+							+ "\"error\": null,"
+							+ "\"timestamp\": \"2025-11-14T10:39:51.431745\"}"
+				)
+			)
+		)
+	})
+	@ApiError400
+	@ApiError405
+	@ApiError415
+	@ApiError429
+	@PreAuthorize("isAuthenticated()")
+	@SecurityRequirement(name = "Authorization")
+	@GetMapping("/chat-rooms/my-rooms/cursor")
+	public ResponseEntity<ApiResponse<ChatRoomSliceResponse>> getMyChatRoomSlice(
+		@Valid @ModelAttribute ChatRoomSearchRequest request,
+		@AuthenticationPrincipal UserDetailsImpl userDetails
+	) {
+		ChatRoomSliceResponse response = chatRoomApiService.getMyChatRoomSlice(userDetails, request);
+		return ResponseEntity.ok().body(ApiResponse.success(response));
+	}
+
 	@Operation(summary = "채팅방 입장", description = "DB 트랜잭션을 통해 채팅방에 입장하고 memberCount를 증가시킵니다.")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "가입 성공"),
@@ -42,6 +42,12 @@ public class ChatRoomSearchRequest {
 	@Schema(description = "검색어")
 	private String keyword;
 
+	@Schema(description = "커서 목록의 다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 생략)", nullable = true)
+	private String cursor;
+
+	@Schema(description = "커서 목록에서 전체 개수 포함 여부 (근사값)", example = "false")
+	private boolean withTotal;
+
 	public int getPage() {
 		return page != null ? page : 1;
 	}
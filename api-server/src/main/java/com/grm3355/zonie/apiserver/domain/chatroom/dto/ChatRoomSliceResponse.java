@@ -0,0 +1,32 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+/**
+ * 커서 기반 채팅방 목록 응답 (OFFSET/COUNT 없이 다음 페이지 여부와 커서만 반환)
+ */
+@Getter
+public class ChatRoomSliceResponse {
+
+	private final List<ChatRoomResponse> content;
+
+	@Schema(description = "다음 페이지 존재 여부")
+	private final boolean hasNext;
+
+	@Schema(description = "다음 페이지 커서 (다음 요청의 cursor 값, 마지막 페이지면 null)", nullable = true)
+	private final String nextCursor;
+
+	@Schema(description = "전체 개수 (withTotal=true일 때만, 최대 1분 지연된 근사값)", nullable = true)
+	private final Long totalElements;
+
+	public ChatRoomSliceResponse(List<ChatRoomResponse> content, boolean hasNext, String nextCursor,
+		Long totalElements) {
+		this.content = content;
+		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
+		this.totalElements = totalElements;
+	}
+}
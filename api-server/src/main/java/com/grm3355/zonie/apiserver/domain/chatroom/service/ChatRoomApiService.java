@@ -3,7 +3,6 @@ package com.grm3355.zonie.apiserver.domain.chatroom.service;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,6 +14,8 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,8 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.grm3355.zonie.apiserver.domain.auth.dto.LocationDto;
 import com.grm3355.zonie.apiserver.domain.auth.dto.UserTokenDto;
@@ -32,9 +36,14 @@ import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomCreateResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomRequest;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSliceResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
+import com.grm3355.zonie.apiserver.domain.festival.service.FestivalCatalog;
+import com.grm3355.zonie.apiserver.domain.location.service.FestivalGeofence;
 import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
 import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSeekDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
 import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
@@ -45,6 +54,7 @@ import com.grm3355.zonie.commonlib.domain.user.entity.User;
 import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
 import com.grm3355.zonie.commonlib.global.exception.BusinessException;
 import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
 import com.grm3355.zonie.commonlib.global.util.RedisScanService;
 
 import lombok.RequiredArgsConstructor;
@@ -57,6 +67,9 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatRoomApiService {
 
 	private static final String PRE_FIX = "";
+	private static final String LEGACY_NICKNAME_SEQ_KEY_PREFIX = "chatroom:nickname_seq:";
+	private static final RedisScript<Long> NICKNAME_SEQ_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/nickname_seq.lua"), Long.class);
 	private final RedisTokenService redisTokenService;
 	private final FestivalInfoService festivalInfoService;
 	private final RedisScanService redisScanService;
@@ -64,6 +77,11 @@ public class ChatRoomApiService {
 	private final UserRepository userRepository;
 	private final ChatRoomUserRepository chatRoomUserRepository;
 	private final FestivalRepository festivalRepository;
+	private final FestivalGeofence festivalGeofence;
+	private final FestivalCatalog festivalCatalog;
+	private final UserRoomIndex userRoomIndex;
+	private final ChatRoomRanking chatRoomRanking;
+	private final ChatRoomCountCache chatRoomCountCache;
 	private final StringRedisTemplate stringRedisTemplate;
 	private final RedisTemplate<String, Object> redisTemplate;
 	GeometryFactory geometryFactory = new GeometryFactory(); // GeometryFactory 생성 (보통 한 번만 만들어 재사용)
@@ -88,9 +106,10 @@ public class ChatRoomApiService {
 	private String createAndSaveChatRoomUser(User user, ChatRoom chatRoom) {
 		String roomId = chatRoom.getChatRoomId();
 
-		// 1. Redis INCR을 사용하여 해당 방의 닉네임 순번을 획득 (1부터 시작)
-		// 키: "chatroom:nickname_seq:[roomId]"
-		Long sequence = stringRedisTemplate.opsForValue().increment("chatroom:nickname_seq:" + roomId);
+		// 1. Redis HINCRBY를 사용하여 해당 방의 닉네임 순번을 획득 (1부터 시작)
+		// 키: "chatroom:[roomId]" 요약 Hash의 nicknameSeq 필드 (이전 방식 키 값이 있으면 이어서 발급)
+		Long sequence = stringRedisTemplate.execute(NICKNAME_SEQ_SCRIPT,
+			List.of(ChatRoomSummaryDto.key(roomId), LEGACY_NICKNAME_SEQ_KEY_PREFIX + roomId));
 		sequence = sequence == null ? nicknameStartNumber : sequence;
 
 		// 2. 닉네임 순번 계산: nicknameStartNumber (3355) 부터 오름차순
@@ -112,6 +131,46 @@ public class ChatRoomApiService {
 		return nickName;
 	}
 
+	/**
+	 * 채팅방 생성에 필요한 축제 정보 (FK 참조, 지역, 중심 좌표)
+	 * - 카탈로그 스냅샷에 있으면 DB 조회 없이 프록시 참조만 사용
+	 * - 없으면(초기 적재 전, 스냅샷 이후 추가) 기존처럼 개설 가능 기간 조건으로 DB 조회
+	 */
+	private FestivalSite loadFestivalSite(long festivalId) {
+		return festivalCatalog.findById(festivalId)
+			.filter(cached -> cached.getLat() != null && cached.getLon() != null)
+			.map(cached -> new FestivalSite(festivalRepository.getReferenceById(festivalId),
+				cached.getRegion(), cached.getLat(), cached.getLon()))
+			.orElseGet(() -> {
+				Festival festival = festivalInfoService.getDataValid(festivalId, preCreateDays);
+				return new FestivalSite(festival, festival.getRegion(),
+					festival.getPosition().getY(), festival.getPosition().getX());
+			});
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되지 않으면 예약한 채팅방 개설 슬롯을 반납합니다.
+	 * (채팅방/방장 저장 실패, 커밋 실패 모두 포함. 반납 자체가 실패하면 로그만 남김)
+	 */
+	private void releaseChatRoomSlotOnRollback(long festivalId) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					return;
+				}
+				try {
+					festivalInfoService.releaseChatRoomSlot(festivalId);
+				} catch (Exception e) {
+					log.error("채팅방 개설 슬롯 반납 실패: festivalId={}", festivalId, e);
+				}
+			}
+		});
+	}
+
+	private record FestivalSite(Festival festival, String region, double lat, double lon) {
+	}
+
 	/**
 	 * 채팅방 생성
 	 * : 유저조회, 축제조회, 위치검증, 토큰발급, 채팅방제한개수체크, 엔티티생성저장
@@ -124,9 +183,10 @@ public class ChatRoomApiService {
 		User user = userRepository.findByUserId(userId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "사용자 정보가 유효하지 않습니다."));
 
-		// 1. 축제 조회
+		// 1. 축제 조회 (카탈로그 스냅샷 우선, 스냅샷에 없으면 DB)
+		// 개설 가능 기간은 5단계 슬롯 예약 UPDATE에서 함께 검증
 		String festivalIdStr = String.valueOf(festivalId);
-		Festival festival = festivalInfoService.getDataValid(festivalId, preCreateDays);
+		FestivalSite festival = loadFestivalSite(festivalId);
 
 		// 2. 위치 정보 객체 생성
 		LocationDto currentLocation = LocationDto.builder()
@@ -135,19 +195,14 @@ public class ChatRoomApiService {
 			.build();
 
 		// 3. 축제 거리계산하기
-		String region = festival.getRegion();
+		String region = festival.region();
 
-		// 동적 반경 로직 적용
-		final double dynamicRadiusLimit;
-		if ("SEOUL".equals(region)) {
-			dynamicRadiusLimit = maxRadius; // 서울: 설정값 (1km) 사용
-		} else {
-			dynamicRadiusLimit = maxRadius * 2; // 그 외 지역: 설정값의 2배 (2km) 사용
-		}
+		// 동적 반경 로직 적용 (서울: 설정값, 그 외 지역: 설정값의 2배)
+		final double dynamicRadiusLimit = festivalGeofence.radiusLimitKm(region, maxRadius);
 
-		// PostGIS 반경 검증
-		double distanceKm = festivalRepository.findDistanceToFestival(festivalId,
-				currentLocation.getLon(), currentLocation.getLat())
+		// 반경 검증 (캐시된 축제 중심 좌표로 측지 거리 계산, 캐시에 없으면 PostGIS)
+		double distanceKm = festivalGeofence.distanceKm(festivalId,
+				currentLocation.getLat(), currentLocation.getLon())
 			.orElse(Double.MAX_VALUE);
 
 		if (distanceKm > dynamicRadiusLimit) {
@@ -167,19 +222,22 @@ public class ChatRoomApiService {
 			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "위치 인증 토큰 정보를 읽을 수 없습니다.");
 		}
 
-		// 5. 채팅방 제한 개수 체크
-		if (festival.getChatRoomCount() >= maxRoom) {
+		// 5. 채팅방 개설 슬롯 예약 (한도 미만일 때만 조건부 +1, 별도 트랜잭션으로 즉시 커밋)
+		if (!festivalInfoService.reserveChatRoomSlot(festivalId, preCreateDays, maxRoom)) {
+			// 실패 원인 구분: 개설 가능 기간이 아니거나 없는 축제면 NOT_FOUND, 아니면 한도 초과
+			festivalInfoService.getDataValid(festivalId, preCreateDays);
 			throw new BusinessException(ErrorCode.BAD_REQUEST, "채팅방 개설은 " + maxRoom + "개까지 입니다.");
 		}
+		// 이후 채팅방/방장 저장이 실패해 롤백되면 예약한 슬롯 반납 (보상)
+		releaseChatRoomSlotOnRollback(festivalId);
 
 		// 6. 채팅방 저장
-		Point point = geometryFactory.createPoint(
-			new Coordinate(festival.getPosition().getX(), festival.getPosition().getY())); // lon=X, lat=Y
+		Point point = geometryFactory.createPoint(new Coordinate(festival.lon(), festival.lat())); // lon=X, lat=Y
 
 		String roomId = createRoomId();
 		ChatRoom chatRoom = ChatRoom.builder()
 			.chatRoomId(roomId)
-			.festival(festival)
+			.festival(festival.festival())
 			// .user(user)
 			.title(request.getTitle())
 			.maxParticipants(maxParticipants)
@@ -189,7 +247,6 @@ public class ChatRoomApiService {
 			.build();
 
 		ChatRoom saveChatRoom = chatRoomRepository.save(chatRoom);
-		festivalRepository.updateFestivalChatRoomCount(festivalId);
 		log.info("채팅방 생성 완료:  User {}, Room {}", user.getUserId(), saveChatRoom.getChatRoomId());
 
 		// 방장 닉네임 순번 획득 및 ChatRoomUser 엔티티 생성 및 DB 저장
@@ -199,6 +256,8 @@ public class ChatRoomApiService {
 		long createdAtLong = saveChatRoom.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 		double initialScore = (double)createdAtLong;
 		stringRedisTemplate.opsForZSet().add("chatroom:active_rooms", roomId, initialScore);
+		userRoomIndex.addAfterCommit(userId, roomId, initialScore);
+		chatRoomRanking.addAfterCommit(festivalId, roomId, saveChatRoom.getCreatedAt());
 
 		/*
 		// join 이벤트 발행 필요성 없어짐
@@ -235,6 +294,7 @@ public class ChatRoomApiService {
 	/**
 	 * 통합검색 채팅방 목록
 	 * 정렬 기본: 참여자 많은 순(PART_DESC)
+	 * 검색어가 없고 랭킹이 지원하는 정렬이면 전체 랭킹 ZSET으로 페이지를 정하고 PG는 해당 방 정보만 조회
 	 */
 	@Transactional
 	public Page<ChatRoomResponse> getTotalChatRoomList(ChatRoomSearchRequest req) {
@@ -243,6 +303,10 @@ public class ChatRoomApiService {
 		if (req.getOrder() == null)
 			req.setOrder(OrderType.PART_DESC);
 
+		if (isRankingRequest(req)) {
+			return getRankedChatRoomList(null, req);
+		}
+
 		Sort sort = getSort(req.getOrder());
 		Pageable pageable = PageRequest.of(req.getPage() - 1, req.getPageSize(), sort);
 
@@ -274,6 +338,11 @@ public class ChatRoomApiService {
 		if (req.getOrder() == null)
 			req.setOrder(OrderType.PART_DESC);
 
+		// 검색어가 없으면 축제별 랭킹 ZSET 사용
+		if (isRankingRequest(req)) {
+			return getRankedChatRoomList(festivalId, req);
+		}
+
 		Sort sort = getSort(req.getOrder());
 		Pageable pageable = PageRequest.of(req.getPage() - 1, req.getPageSize(), sort);
 
@@ -293,9 +362,49 @@ public class ChatRoomApiService {
 		return chatRoomRepository.chatFestivalRoomList(festivalId, keyword, pageable);
 	}
 
+	private boolean isRankingRequest(ChatRoomSearchRequest req) {
+		return (req.getKeyword() == null || req.getKeyword().isBlank()) && chatRoomRanking.supports(req.getOrder());
+	}
+
+	/**
+	 * 랭킹 ZSET 기반 채팅방 목록 (축제별 또는 전체)
+	 * 1. 랭킹 ZSET에서 정렬 순서대로 한 페이지의 방과 전체 개수 조회 (1 RTT)
+	 * 2. PG는 해당 방의 정보만 ID로 조회 (정렬/OFFSET/COUNT 없음)
+	 * 3. Redis 채팅방 요약 병합
+	 * @param festivalId 축제 ID (null이면 전체)
+	 */
+	private Page<ChatRoomResponse> getRankedChatRoomList(Long festivalId, ChatRoomSearchRequest req) {
+		int page = req.getPage() - 1;
+		int pageSize = req.getPageSize();
+		long start = (long)page * pageSize;
+		long end = start + pageSize - 1;
+		Pageable pageable = PageRequest.of(page, pageSize);
+
+		ChatRoomRanking.RoomPage roomPage = chatRoomRanking.page(festivalId, req.getOrder(), start, end);
+		long totalElements = roomPage.total();
+		if (roomPage.members().isEmpty()) {
+			return new PageImpl<>(Collections.emptyList(), pageable, totalElements);
+		}
+
+		// PG 조회 결과는 랭킹 순서대로 정렬되어 있음 (array_position)
+		List<ChatRoomInfoDto> infoDtoList = chatRoomRepository.chatRoomListByRoomIds(roomPage.roomIds());
+
+		// PG에 없는 방(삭제된 방)은 랭킹에서 제거
+		Set<String> foundRoomIds = infoDtoList.stream().map(ChatRoomInfoDto::chatRoomId).collect(Collectors.toSet());
+		List<String> staleMembers = roomPage.members().stream()
+			.filter(member -> !foundRoomIds.contains(ChatRoomRankingKeys.roomIdOf(member)))
+			.toList();
+		if (!staleMembers.isEmpty()) {
+			chatRoomRanking.remove(festivalId, staleMembers);
+			totalElements -= staleMembers.size();
+		}
+
+		return mergeChatRoomDataWithRedis(new PageImpl<>(infoDtoList, pageable, totalElements), pageable);
+	}
+
 	/**
 	 * 나의 채팅방 목록
-	 * 정렬: 최신 대화 순(ACTIVE_DESC) -> 동점 시 생성 최신순(DATE_DESC)
+	 * 정렬: 최신 대화 순(ACTIVE_DESC, 사용자별 ZSET) -> 동점 시 채팅방 ID 역순(ZREVRANGE)
 	 */
 	@Transactional
 	public Page<ChatRoomResponse> getMyChatRoomList(UserDetailsImpl userDetails,
@@ -312,10 +421,19 @@ public class ChatRoomApiService {
 			long start = (long)page * pageSize;
 			long end = start + pageSize - 1;
 
-			// 1-1. Redis ZSET에서 활성화 시각 기준으로 정렬된 RoomId 목록 획득 (Composite Score 기반 정렬 완료)
-			// ZREVRANGE: Score가 DESC로 정렬되어 있으므로, ZSET에서 획득한 순서가 최종 순서
-			List<String> sortedRoomIds = redisScanService.getSortedRoomIds(start, end);
-			Long totalElements = redisScanService.countActiveRooms();
+			// 1-1. 사용자별 ZSET(user:{userId}:rooms)에서 활성화 최신순 RoomId 페이지 획득
+			// ZREVRANGE 순서가 최종 순서이며, 전체 개수는 사용자가 참여 중인 방 수
+			UserRoomIndex.RoomPage roomPage = userRoomIndex.page(userId, start, end);
+			if (roomPage == null) {
+				// 적재 표시(loaded)가 없으면 PG 참여 정보로 재구성 (도입 이전 참여분, 반영 실패분, Redis 유실 대비)
+				userRoomIndex.rebuild(userId, chatRoomUserRepository.findChatRoomIdsByUserId(userId));
+				roomPage = userRoomIndex.page(userId, start, end);
+				if (roomPage == null) {
+					roomPage = new UserRoomIndex.RoomPage(List.of(), 0);
+				}
+			}
+			List<String> sortedRoomIds = roomPage.roomIds();
+			long totalElements = roomPage.total();
 
 			if (sortedRoomIds.isEmpty()) {
 				return new PageImpl<>(Collections.emptyList(), PageRequest.of(page, pageSize), totalElements);
@@ -328,19 +446,22 @@ public class ChatRoomApiService {
 			Map<String, ChatRoomInfoDto> infoDtoMap = infoDtoList.stream()
 				.collect(Collectors.toMap(ChatRoomInfoDto::chatRoomId, dto -> dto));
 
-			// 1-4. Redis Content/Timestamp 병합 및 응답 DTO 생성
+			// PG에 없는 방(삭제됐거나 이미 퇴장한 방)은 인덱스에서 제거
+			List<String> staleRoomIds = sortedRoomIds.stream().filter(id -> !infoDtoMap.containsKey(id)).toList();
+			if (!staleRoomIds.isEmpty()) {
+				userRoomIndex.remove(userId, staleRoomIds);
+				totalElements -= staleRoomIds.size();
+			}
+
+			// 1-4. Redis 채팅방 요약(HMGET 파이프라인 1회) 병합 및 응답 DTO 생성
+			Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(infoDtoMap.keySet());
 			List<ChatRoomResponse> finalDtoList = sortedRoomIds.stream()
-				.map(roomId -> {
-					ChatRoomInfoDto dto = infoDtoMap.get(roomId);
-					if (dto == null)
-						return null; // PG에 없는 방 필터링
-					return mergeSingleChatRoomData(dto); // Redis String 값 병합
-				})
+				.map(infoDtoMap::get)
 				.filter(Objects::nonNull)
+				.map(dto -> mergeChatRoomData(dto, summaries.get(dto.chatRoomId())))
 				.toList();
 
-			// totalElements는 ZSET의 크기를 사용
-			// finalDtoList는 이미 Redis ZSET 순서대로 정렬되어 있습니다.
+			// finalDtoList는 이미 사용자별 ZSET 순서대로 정렬되어 있습니다.
 			return new PageImpl<>(finalDtoList, PageRequest.of(page, pageSize), totalElements);
 		}
 
@@ -365,7 +486,113 @@ public class ChatRoomApiService {
 	}
 
 	/**
-	 * 채팅방 가입 (DB 트랜잭션 기반 정원 검증 및 memberCount++)
+	 * 통합검색 채팅방 커서 목록 (OFFSET/COUNT 없이 이전 페이지 마지막 행 이후부터 조회)
+	 * 전체 개수는 withTotal 요청 시에만 캐시된 근사값으로 제공
+	 */
+	@Transactional(readOnly = true)
+	public ChatRoomSliceResponse getTotalChatRoomSlice(ChatRoomSearchRequest req) {
+		String keyword = likeKeyword(req.getKeyword());
+		OrderType order = orderOf(req);
+		ChatRoomCursor cursor = ChatRoomCursor.decode(req.getCursor(), order);
+		int limit = sliceSize(req) + 1;
+		List<ChatRoomSeekDto> rows = switch (order) {
+			case PART_DESC -> chatRoomRepository.totalChatRoomSeekByPartDesc(keyword, cursor.key(), cursor.id(), limit);
+			case PART_ASC -> chatRoomRepository.totalChatRoomSeekByPartAsc(keyword, cursor.key(), cursor.id(), limit);
+			case DATE_DESC -> chatRoomRepository.totalChatRoomSeekByDateDesc(keyword, cursor.id(), limit);
+			case DATE_ASC -> chatRoomRepository.totalChatRoomSeekByDateAsc(keyword, cursor.id(), limit);
+			case ACTIVE_DESC ->
+				chatRoomRepository.totalChatRoomSeekByActiveDesc(keyword, cursor.key(), cursor.id(), limit);
+			case ACTIVE_ASC ->
+				chatRoomRepository.totalChatRoomSeekByActiveAsc(keyword, cursor.key(), cursor.id(), limit);
+		};
+		Long total = req.isWithTotal() ? chatRoomCountCache.countTotal(keyword).total() : null;
+		return toSliceResponse(rows, sliceSize(req), total);
+	}
+
+	/**
+	 * 축제별 채팅방 커서 목록
+	 */
+	@Transactional(readOnly = true)
+	public ChatRoomSliceResponse getFestivalChatRoomSlice(long festivalId, ChatRoomSearchRequest req) {
+		String keyword = likeKeyword(req.getKeyword());
+		OrderType order = orderOf(req);
+		ChatRoomCursor cursor = ChatRoomCursor.decode(req.getCursor(), order);
+		int limit = sliceSize(req) + 1;
+		List<ChatRoomSeekDto> rows = switch (order) {
+			case PART_DESC -> chatRoomRepository.chatFestivalRoomSeekByPartDesc(festivalId, keyword, cursor.key(),
+				cursor.id(), limit);
+			case PART_ASC -> chatRoomRepository.chatFestivalRoomSeekByPartAsc(festivalId, keyword, cursor.key(),
+				cursor.id(), limit);
+			case DATE_DESC ->
+				chatRoomRepository.chatFestivalRoomSeekByDateDesc(festivalId, keyword, cursor.id(), limit);
+			case DATE_ASC ->
+				chatRoomRepository.chatFestivalRoomSeekByDateAsc(festivalId, keyword, cursor.id(), limit);
+			case ACTIVE_DESC -> chatRoomRepository.chatFestivalRoomSeekByActiveDesc(festivalId, keyword, cursor.key(),
+				cursor.id(), limit);
+			case ACTIVE_ASC -> chatRoomRepository.chatFestivalRoomSeekByActiveAsc(festivalId, keyword, cursor.key(),
+				cursor.id(), limit);
+		};
+		Long total = req.isWithTotal() ? chatRoomCountCache.countFestival(festivalId, keyword).total() : null;
+		return toSliceResponse(rows, sliceSize(req), total);
+	}
+
+	/**
+	 * 나의 채팅방 커서 목록 (정렬 기본: 활성화 최신순)
+	 */
+	@Transactional(readOnly = true)
+	public ChatRoomSliceResponse getMyChatRoomSlice(UserDetailsImpl userDetails, ChatRoomSearchRequest req) {
+		String userId = userDetails.getUsername();
+		OrderType order = req.getOrder() != null ? req.getOrder() : OrderType.ACTIVE_DESC;
+		ChatRoomCursor cursor = ChatRoomCursor.decode(req.getCursor(), order);
+		int limit = sliceSize(req) + 1;
+		List<ChatRoomSeekDto> rows = switch (order) {
+			case PART_DESC -> chatRoomRepository.chatMyRoomSeekByPartDesc(userId, cursor.key(), cursor.id(), limit);
+			case PART_ASC -> chatRoomRepository.chatMyRoomSeekByPartAsc(userId, cursor.key(), cursor.id(), limit);
+			case DATE_DESC -> chatRoomRepository.chatMyRoomSeekByDateDesc(userId, cursor.id(), limit);
+			case DATE_ASC -> chatRoomRepository.chatMyRoomSeekByDateAsc(userId, cursor.id(), limit);
+			case ACTIVE_DESC -> chatRoomRepository.chatMyRoomSeekByActiveDesc(userId, cursor.key(), cursor.id(), limit);
+			case ACTIVE_ASC -> chatRoomRepository.chatMyRoomSeekByActiveAsc(userId, cursor.key(), cursor.id(), limit);
+		};
+		Long total = req.isWithTotal() ? chatRoomCountCache.countMyRooms(userId).total() : null;
+		return toSliceResponse(rows, sliceSize(req), total);
+	}
+
+	/**
+	 * 페이지 크기 + 1행 조회 결과로 다음 페이지 여부/커서를 정하고 Redis 채팅방 요약을 병합
+	 */
+	private ChatRoomSliceResponse toSliceResponse(List<ChatRoomSeekDto> rows, int pageSize, Long total) {
+		boolean hasNext = rows.size() > pageSize;
+		List<ChatRoomSeekDto> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+		if (pageRows.isEmpty()) {
+			return new ChatRoomSliceResponse(Collections.emptyList(), false, null, total);
+		}
+
+		Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(
+			pageRows.stream().map(ChatRoomSeekDto::chatRoomId).toList());
+		List<ChatRoomResponse> content = pageRows.stream()
+			.map(row -> mergeChatRoomData(row.toInfo(), summaries.get(row.chatRoomId())))
+			.toList();
+		String nextCursor = hasNext ? ChatRoomCursor.of(pageRows.get(pageRows.size() - 1)).encode() : null;
+		return new ChatRoomSliceResponse(content, hasNext, nextCursor, total);
+	}
+
+	private static OrderType orderOf(ChatRoomSearchRequest req) {
+		return req.getOrder() != null ? req.getOrder() : OrderType.PART_DESC;
+	}
+
+	private static int sliceSize(ChatRoomSearchRequest req) {
+		return Math.max(req.getPageSize(), 1);
+	}
+
+	private static String likeKeyword(String keyword) {
+		return (keyword != null && !keyword.isBlank()) ? "%" + keyword + "%" : "%";
+	}
+
+	/**
+	 * 채팅방 가입 (조건부 UPDATE 기반 정원 검증 및 memberCount++)
+	 * - 채팅방 행 락을 미리 잡지 않음: 위치 토큰(Redis), 재입장 확인, 닉네임 발급, 참여자 저장을 먼저 수행하고
+	 *   트랜잭션 마지막에 "정원이 남아 있을 때만 +1" UPDATE 한 번으로 입장을 확정 (행 락은 이 UPDATE부터 커밋까지만 유지)
+	 * - 정원이 찼으면 UPDATE 결과가 0건 → 예외로 롤백되어 참여자 저장도 취소됨
 	 * @param roomId 가입할 채팅방 ID
 	 * @param locationDto 사용자 위치 정보
 	 * @param userDetails 사용자 정보
@@ -375,13 +602,13 @@ public class ChatRoomApiService {
 	public String joinRoom(String roomId, LocationDto locationDto, UserDetailsImpl userDetails) {
 		String userId = userDetails.getUsername();
 
-		// 1. 엔티티 조회 및 PESSIMISTIC_WRITE 락 획득
+		// 1. 엔티티 조회 (락 없음)
 		// 1-1. User 조회
 		User user = userRepository.findByUserId(userId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "사용자 정보가 유효하지 않습니다."));
 
-		// 1-2. ChatRoom 조회, PESSIMISTIC_WRITE 락 획득
-		ChatRoom room = chatRoomRepository.findByChatRoomIdWithLock(roomId)
+		// 1-2. ChatRoom 조회
+		ChatRoom room = chatRoomRepository.findByChatRoomId(roomId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
 
 		// 2. 위치 검증 (입장을 막지는 않음) & 위치 토큰 발급/갱신
@@ -389,17 +616,11 @@ public class ChatRoomApiService {
 		String contextId = String.valueOf(festivalId);
 		String region = room.getFestival().getRegion();
 
-		// 동적 반경 적용
-		final double dynamicRadiusLimit;
-		if ("SEOUL".equals(region)) {
-			dynamicRadiusLimit = maxRadius; // 서울: 설정값 (1km) 사용
-		} else {
-			dynamicRadiusLimit = maxRadius * 2; // 그 외 지역: 설정값의 2배 (2km) 사용
-		}
+		// 동적 반경 적용 (서울: 설정값, 그 외 지역: 설정값의 2배)
+		final double dynamicRadiusLimit = festivalGeofence.radiusLimitKm(region, maxRadius);
 
 		try {
-			double distanceKm = festivalRepository.findDistanceToFestival(festivalId, locationDto.getLon(),
-					locationDto.getLat())
+			double distanceKm = festivalGeofence.distanceKm(festivalId, locationDto.getLat(), locationDto.getLon())
 				.orElse(Double.MAX_VALUE);
 
 			if (distanceKm > dynamicRadiusLimit) {
@@ -422,22 +643,33 @@ public class ChatRoomApiService {
 			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "위치 인증 토큰 처리 중 오류가 발생했습니다.");
 		}
 
-		// 3. 재입장 방지 검증
+		// 3. 재입장 방지 검증 (동시 중복 요청은 (chat_room_id, user_id) 유니크 제약으로 차단)
 		if (chatRoomUserRepository.findByUserAndChatRoom(user, room).isPresent()) {
 			throw new BusinessException(ErrorCode.CONFLICT, "이미 채팅방에 입장되어 있습니다.");
 		}
 
-		// 4. 정원 검증 (memberCount는 이미 DB에 있는 값, PESSIMISTIC_WRITE 락으로 동시성 안전)
+		// 4. 정원 사전 확인 (조회 시점 값, 이미 찬 방은 닉네임 발급 전에 빠르게 거절 - 최종 판정은 6번)
 		if (room.getMemberCount() >= room.getMaxParticipants()) {
 			throw new BusinessException(ErrorCode.CONFLICT, "채팅방 최대 정원(" + room.getMaxParticipants() + "명)을 초과했습니다.");
 		}
 
 		// 5. 닉네임 순번 획득 및 ChatRoomUser 엔티티 생성 및 DB 저장
-		String nickName = createAndSaveChatRoomUser(user, room);
+		String nickName;
+		try {
+			nickName = createAndSaveChatRoomUser(user, room);
+		} catch (DataIntegrityViolationException e) {
+			throw new BusinessException(ErrorCode.CONFLICT, "이미 채팅방에 입장되어 있습니다.");
+		}
 
-		// 6. ChatRoom.memberCount++
-		room.setMemberCount(room.getMemberCount() + 1);
-		chatRoomRepository.save(room);  // Dirty Checking | 명시적 save
+		// 6. ChatRoom.memberCount++ (정원 미만일 때만 증가하는 원자적 UPDATE, 0건이면 정원 초과 → 롤백)
+		if (chatRoomRepository.incrementMemberCountIfAvailable(roomId) == 0) {
+			throw new BusinessException(ErrorCode.CONFLICT, "채팅방 최대 정원(" + room.getMaxParticipants() + "명)을 초과했습니다.");
+		}
+
+		// 사용자별 채팅방 인덱스 추가 (커밋 후, 활성화 점수는 조회 시 반영)
+		userRoomIndex.addAfterCommit(userId, roomId,
+			room.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		chatRoomRanking.incrementMembersAfterCommit(festivalId, roomId, room.getCreatedAt(), 1);
 
 		// 7. Redis Pub/Sub 이벤트 발행 (Chat Server로 실시간 연결 알림)
 		/*
@@ -491,19 +723,22 @@ public class ChatRoomApiService {
 			log.info("Deleted user {} from chat room {}: deleted = {}", userId, roomId, deleted);
 		}
 
-		// 5. ChatRoom.memberCount--
-		if (room.getMemberCount() > 0) {
-			long newCount = room.getMemberCount() - 1;
-			room.setMemberCount(newCount);
-			chatRoomRepository.save(room); // Dirty Checking | 명시적 save
-
+		// 5. ChatRoom.memberCount-- (원자적 UPDATE: 동시 입장/퇴장과 경합해도 증감이 유실되지 않음)
+		if (chatRoomRepository.decrementMemberCount(roomId) > 0) {
+			// UPDATE로 행 락을 잡은 상태이므로 커밋 전까지 다른 트랜잭션이 값을 바꿀 수 없음
+			long newCount = chatRoomRepository.findMemberCountByChatRoomId(roomId).orElse(0L);
 			if (newCount == 0 && room.getFestival() != null) {
 				Long festivalId = room.getFestival().getFestivalId();
 				festivalRepository.decrementFestivalChatRoomCount(festivalId);
 			}
 		}
 
-		/*// 6. Redis Pub/Sub 이벤트 발행 (Chat Server로 실시간 연결 알림)
+		// 사용자별 채팅방 인덱스 제거, 참여자 수 랭킹 감소 (커밋 후)
+		userRoomIndex.removeAfterCommit(userId, roomId);
+		chatRoomRanking.incrementMembersAfterCommit(
+			room.getFestival() != null ? room.getFestival().getFestivalId() : null, roomId, room.getCreatedAt(), -1);
+
+		// 6. Redis Pub/Sub 이벤트 발행 (Chat Server의 STOMP 세션 컨텍스트 무효화)
 		try {
 			Map<String, String> leaveEvent = Map.of(
 				"userId", userId,
@@ -513,49 +748,32 @@ public class ChatRoomApiService {
 			redisTemplate.convertAndSend("chat-events:leave", leaveEvent);
 			log.info("Published leave event for User {} from Room {}", userId, roomId);
 		} catch (Exception e) {
+			// 이벤트 발행 실패는 롤백하지 않고 로그만 남김 (chat-server 컨텍스트는 TTL로 만료됨)
 			log.error("Failed to publish leave event after successful DB leave.", e);
-		}*/
+		}
 	}
 
 	/**
-	 * 실시간 데이터를 조회하고 병합
-	 * getFestivalChatRoomList와 getMyRoomChatRoomList에서 사용할 공통 메서드
-	 * mergeChatRoomDataWithRedis 내부의 루프 로직을 단일 DTO 처리용으로 변경
+	 * PG 기본 정보와 Redis 채팅방 요약을 병합
+	 * - 마지막 대화 시각은 PG 값과 Redis 값 중 최신 값, 참여자 수는 PG의 memberCount 사용
+	 * @param summary Redis 채팅방 요약 (없으면 null)
 	 */
-	private ChatRoomResponse mergeSingleChatRoomData(ChatRoomInfoDto dto) {
-		String roomId = dto.chatRoomId();
-
-		// 1. Redis Last Content, Timestamp 단건 조회
-		String contentKey = "chatroom:last_msg_content:" + roomId;
-		String timestampKey = "chatroom:last_msg_at:" + roomId;
-
-		// StringRedisTemplate을 직접 사용하여 단건 조회 (MGET보다 단일 호출이 빠름)
-		String realTimeContent = stringRedisTemplate.opsForValue().get(contentKey);
-		String timestampStr = stringRedisTemplate.opsForValue().get(timestampKey);
-
-		// 2. Timestamp 파싱 및 비교
-		Long realTimeTimestamp = null;
-		if (timestampStr != null) {
-			String cleanTimestampStr = timestampStr.replaceAll("^\"|\"$", "");
-			try {
-				realTimeTimestamp = Long.parseLong(cleanTimestampStr);
-			} catch (NumberFormatException e) {
-				log.error("Failed to parse timestamp for room {}. Input string: {}", roomId, timestampStr, e);
-			}
-		}
+	private ChatRoomResponse mergeChatRoomData(ChatRoomInfoDto dto, ChatRoomSummaryDto summary) {
+		Long realTimeTimestamp = summary != null ? summary.lastMessageAt() : null;
+		String realTimeContent = summary != null ? summary.lastContent() : null;
 
 		Long finalTimestamp = dto.lastMessageAt();
 		if (realTimeTimestamp != null && (finalTimestamp == null || realTimeTimestamp > finalTimestamp)) {
 			finalTimestamp = realTimeTimestamp;
 		}
 
-		// 3. Response DTO 생성 (참여자 수는 PG의 memberCount 사용)
 		return ChatRoomResponse.fromDto(dto, realTimeContent, dto.participantCount(), finalTimestamp);
 	}
 
 	/**
 	 * 실시간 데이터를 조회하고 병합
 	 * getFestivalChatRoomList와 getMyRoomChatRoomList에서 사용할 공통 메서드
+	 * 페이지의 모든 채팅방 요약을 HMGET 파이프라인 1회로 조회
 	 */
 	private Page<ChatRoomResponse> mergeChatRoomDataWithRedis(Page<ChatRoomInfoDto> pageList, Pageable pageable) {
 		List<String> roomIds = pageList.getContent().stream().map(ChatRoomInfoDto::chatRoomId).toList();
@@ -563,98 +781,15 @@ public class ChatRoomApiService {
 			return new PageImpl<>(Collections.emptyList(), pageable, pageList.getTotalElements());
 		}
 
-		// 1. Redis 조회를 위한 Key Set 2개 생성
-		// 실시간 참여자 수는 관리하지 않아도 된다는 요구사항에 따라 삭제 (나중을 위해 주석처리만)
-		// Set<String> participantKeys = roomIds.stream()
-		// 	.map(id -> "chatroom:participants:" + id)
-		// 	.collect(Collectors.toSet());
-
-		Set<String> contentKeys = roomIds.stream()
-			.map(id -> "chatroom:last_msg_content:" + id)
-			.collect(Collectors.toSet());
-
-		Set<String> timestampKeys = roomIds.stream()
-			.map(id -> "chatroom:last_msg_at:" + id)
-			.collect(Collectors.toSet());
-
-		// 2. RedisScanService 메소드 호출
-		// Map<String, Long> participantCountsMap = redisScanService.getParticipantCounts(
-		// 	participantKeys);        // (1) 참여자 수 조회 (SCARD)
-		Map<String, String> lastContentsMap = redisScanService.multiGetLastMessageTimestamps(
-			contentKeys);        // (2) 마지막 대화 내용 조회 (MGET)
-		Map<String, String> lastTimestampsMap = redisScanService.multiGetLastMessageTimestamps(
-			timestampKeys);    // (3) 마지막 대화 시각 조회 (MGET)
-
-		// 3. DTO 변환 (PG 백업 데이터 + Redis 실시간 데이터 병합)
-		List<ChatRoomResponse> dtoPage = pageList.stream()
-			.map(dto -> {
-				String roomId = dto.chatRoomId();
-
-				// 참여자 수 병합
-				// Long realTimeCount = participantCountsMap.get("chatroom:participants:" + roomId);
-				// Long finalCount = (realTimeCount != null) ? realTimeCount : dto.participantCount();
-				Long finalCount = dto.participantCount();    // PG의 memberCount
-
-				// 마지막 내용 병합
-				String realTimeContent = lastContentsMap.get("chatroom:last_msg_content:" + roomId);
-				String finalContent = realTimeContent;
-
-				// 마지막 시각 병합
-				String timestampStr = lastTimestampsMap.get("chatroom:last_msg_at:" + roomId);
-				Long realTimeTimestamp = null;
-				if (timestampStr != null) {
-					// NumberFormatException 방지. 양 끝의 큰따옴표가 있다면 제거 (방어용)
-					String cleanTimestampStr = timestampStr.replaceAll("^\"|\"$", "");
-					try {
-						realTimeTimestamp = Long.parseLong(cleanTimestampStr);
-					} catch (NumberFormatException e) {
-						// 파싱 실패 시 로그를 남기고 해당 값은 무시 (null 처리)
-						log.error("Failed to parse timestamp for room {}. Input string: {}", roomId, timestampStr, e);
-						realTimeTimestamp = null;
-					}
-				}
-
-				Long finalTimestamp = dto.lastMessageAt();
-				if (realTimeTimestamp != null && (finalTimestamp == null || realTimeTimestamp > finalTimestamp)) {
-					finalTimestamp = realTimeTimestamp;
-				}
+		Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(roomIds);
 
-				return ChatRoomResponse.fromDto(dto, finalContent, finalCount, finalTimestamp);
-			})
+		List<ChatRoomResponse> dtoPage = pageList.stream()
+			.map(dto -> mergeChatRoomData(dto, summaries.get(dto.chatRoomId())))
 			.collect(Collectors.toList());
 
 		return new PageImpl<>(dtoPage, pageable, pageList.getTotalElements());
 	}
 
-	/**
-	 * DTO 리스트를 받아 Redis에서 마지막 대화 내용을 일괄 조회합니다. (MGET)
-	 */
-	@Deprecated
-	private Map<String, String> getLastContents(List<ChatRoomInfoDto> dtoList) {
-		if (dtoList.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
-		// 1. RoomId 리스트 추출 (Redis 키 생성)
-		List<String> redisKeys = dtoList.stream()
-			.map(dto -> "chatroom:last_msg_content:" + dto.chatRoomId())
-			.toList();
-
-		// 2. Redis MGET
-		List<String> contents = stringRedisTemplate.opsForValue().multiGet(redisKeys);
-
-		// 3. Map<RoomId, Content>로 변환
-		Map<String, String> contentMap = new HashMap<>();
-		for (int i = 0; i < dtoList.size(); i++) {
-			String roomId = dtoList.get(i).chatRoomId();
-			String content = (contents != null && i < contents.size() && contents.get(i) != null)
-				? contents.get(i)
-				: null;
-			contentMap.put(roomId, content);
-		}
-		return contentMap;
-	}
-
 	/**
 	 * 정렬 순서 가져오기 (복합 정렬 지원)
 	 * @return Sort 객체
@@ -0,0 +1,39 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+
+/**
+ * 커서 목록의 전체 개수 (요청 시에만 계산, 캐시 TTL 동안은 근사값)
+ * 같은 빈 안에서 호출하면 프록시를 거치지 않아 캐시가 동작하지 않으므로 별도 컴포넌트로 분리
+ */
+@Component
+public class ChatRoomCountCache {
+
+	private final ChatRoomRepository chatRoomRepository;
+
+	public ChatRoomCountCache(ChatRoomRepository chatRoomRepository) {
+		this.chatRoomRepository = chatRoomRepository;
+	}
+
+	@Cacheable(value = "chatRoomCount", key = "'all:' + #keyword")
+	public RoomCount countTotal(String keyword) {
+		return new RoomCount(chatRoomRepository.countTotalChatRooms(keyword));
+	}
+
+	@Cacheable(value = "chatRoomCount", key = "'festival:' + #festivalId + ':' + #keyword")
+	public RoomCount countFestival(long festivalId, String keyword) {
+		return new RoomCount(chatRoomRepository.countFestivalChatRooms(festivalId, keyword));
+	}
+
+	@Cacheable(value = "chatRoomCount", key = "'user:' + #userId")
+	public RoomCount countMyRooms(String userId) {
+		return new RoomCount(chatRoomRepository.countMyChatRooms(userId));
+	}
+
+	// 캐시 값은 타입 정보와 함께 직렬화되므로 Long 대신 레코드로 감쌈 (작은 Long은 Integer로 역직렬화됨)
+	public record RoomCount(long total) {
+	}
+}
@@ -0,0 +1,67 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSeekDto;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+
+/**
+ * 채팅방 목록 커서 (이전 페이지 마지막 행의 정렬 키)
+ * - 클라이언트에는 "v2:{seekKey}:{seekId}"를 Base64 URL-safe로 인코딩한 불투명 문자열로 전달
+ * - 정렬 기준이 바뀐 커서를 넘기면 다른 위치부터 조회될 뿐 오류는 아님 (커서는 같은 정렬로만 사용)
+ * - v1(부호로 방향을 표현한 정렬 키) 커서는 BAD_REQUEST
+ */
+public record ChatRoomCursor(long key, long id) {
+
+	private static final String VERSION = "v2";
+	// 활성화 순 커서 키 범위: 1970-01-01 ~ 9999-12-31 (마이크로초, PG timestamp로 변환할 수 있는 값이어야 함)
+	private static final long MAX_ACTIVE_MICROS = 253_402_214_400_000_000L;
+
+	public static ChatRoomCursor of(ChatRoomSeekDto row) {
+		return new ChatRoomCursor(row.seekKey(), row.seekId());
+	}
+
+	/**
+	 * 정렬 방향의 끝 값 (첫 페이지를 커서 조건 하나로 조회하기 위한 커서)
+	 */
+	public static ChatRoomCursor first(OrderType orderType) {
+		return switch (orderType) {
+			case PART_DESC, DATE_DESC -> new ChatRoomCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+			case ACTIVE_DESC -> new ChatRoomCursor(MAX_ACTIVE_MICROS, Long.MAX_VALUE);
+			case PART_ASC, DATE_ASC -> new ChatRoomCursor(Long.MIN_VALUE, Long.MIN_VALUE);
+			case ACTIVE_ASC -> new ChatRoomCursor(0, Long.MIN_VALUE);
+		};
+	}
+
+	/**
+	 * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+	 * @return 커서 (첫 페이지면 정렬 방향의 끝 값)
+	 */
+	public static ChatRoomCursor decode(String cursor, OrderType orderType) {
+		if (cursor == null || cursor.isBlank()) {
+			return first(orderType);
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			if (parts.length != 3 || !VERSION.equals(parts[0])) {
+				throw new IllegalArgumentException(cursor);
+			}
+			long key = Long.parseLong(parts[1]);
+			boolean activeOrder = orderType == OrderType.ACTIVE_DESC || orderType == OrderType.ACTIVE_ASC;
+			if (activeOrder && (key < 0 || key > MAX_ACTIVE_MICROS)) {
+				throw new IllegalArgumentException(cursor);
+			}
+			return new ChatRoomCursor(key, Long.parseLong(parts[2]));
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		String value = VERSION + ":" + key + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
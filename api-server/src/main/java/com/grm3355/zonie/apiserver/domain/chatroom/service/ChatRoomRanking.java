@@ -0,0 +1,262 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제별/전체 채팅방 랭킹 ZSET (chatroom:rank:{festivalId | all}:{members | activity | created})
+ * - 개설 시 ZADD, 입장/퇴장 시 참여자 수 ZADD XX INCR (DB 트랜잭션 커밋 후 반영)
+ * - 메시지 전송 시 chat-server가 활성화 점수 갱신, 채팅방 삭제 시 batch-server가 ZREM
+ * - 범위별로 PG로 적재하고 loaded 키에 TTL을 둬서 주기적으로 다시 적재 (도입 이전 채팅방, Redis 유실 대비)
+ *   - 커밋 후 증감은 실패해도 로그만 남고, 적재 중 도착한 증감은 PG 스냅샷에 덮일 수 있으므로
+ *     재적재 때 참여자 수는 PG member_count로 덮어써서 어긋난 값이 TTL 이상 남지 않게 함
+ * - 동점 시 순서는 멤버의 생성 시각으로 결정 (ChatRoomRankingKeys)
+ */
+@Slf4j
+@Component
+public class ChatRoomRanking {
+
+	private static final String ACTIVE_ROOMS_KEY = "chatroom:active_rooms";
+	private static final RedisScript<Long> MEMBERS_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/ranking_members.lua"), Long.class);
+
+	private static final Duration LOADING_LOCK_TTL = Duration.ofSeconds(30);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ChatRoomRepository chatRoomRepository;
+	private final Duration reloadInterval;
+
+	public ChatRoomRanking(StringRedisTemplate stringRedisTemplate, ChatRoomRepository chatRoomRepository,
+		@Value("${chat.ranking.reload-seconds:600}") long reloadSeconds) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.chatRoomRepository = chatRoomRepository;
+		this.reloadInterval = Duration.ofSeconds(reloadSeconds);
+	}
+
+	/**
+	 * 랭킹 ZSET으로 처리할 수 있는 정렬인지 여부
+	 * 참여자 적은 순(PART_ASC)은 동점 시 생성 최신순이어야 해서 ZRANGE 순서(생성 오래된순)와 맞지 않음 → PG 정렬
+	 */
+	public boolean supports(OrderType orderType) {
+		return rankingOf(orderType) != null;
+	}
+
+	/**
+	 * 정렬 순서대로 채팅방 한 페이지 (EXISTS + ZCARD + ZRANGE 파이프라인 1 RTT)
+	 * loaded 키가 없으면(처음 또는 TTL 만료) PG로 적재 후 다시 조회
+	 * 재적재는 한 요청만 수행하고(loading 키), 나머지 요청은 기존 랭킹으로 응답 (랭킹이 비어 있으면 직접 적재)
+	 * @param festivalId 축제 ID (null이면 전체 채팅방)
+	 * @param start 시작 인덱스 (0부터 시작)
+	 * @param end 종료 인덱스
+	 */
+	public RoomPage page(Long festivalId, OrderType orderType, long start, long end) {
+		Ranking ranking = rankingOf(orderType);
+		if (ranking == null) {
+			throw new IllegalArgumentException("랭킹으로 처리할 수 없는 정렬입니다: " + orderType);
+		}
+		PageRead read = readPage(festivalId, ranking, start, end);
+		if (!read.loaded() && (tryLockLoading(festivalId) || read.page().total() == 0)) {
+			load(festivalId);
+			read = readPage(festivalId, ranking, start, end);
+		}
+		return read.page();
+	}
+
+	/**
+	 * PG에 없는(삭제된) 방을 랭킹에서 제거합니다.
+	 * @param members 랭킹 ZSET 멤버
+	 */
+	public void remove(Long festivalId, Collection<String> members) {
+		if (members.isEmpty()) {
+			return;
+		}
+		Object[] values = members.toArray();
+		stringRedisTemplate.opsForZSet().remove(ChatRoomRankingKeys.members(festivalId), values);
+		stringRedisTemplate.opsForZSet().remove(ChatRoomRankingKeys.activity(festivalId), values);
+		stringRedisTemplate.opsForZSet().remove(ChatRoomRankingKeys.created(festivalId), values);
+	}
+
+	/**
+	 * 개설 트랜잭션이 커밋되면 축제별/전체 랭킹에 추가합니다. (참여자 1명, 활성화 점수 = 생성 시각)
+	 */
+	public void addAfterCommit(Long festivalId, String roomId, LocalDateTime createdAt) {
+		long createdAtMillis = ChatRoomRankingKeys.createdAtMillis(createdAt);
+		String member = ChatRoomRankingKeys.member(createdAtMillis, roomId);
+		double activityScore = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		afterCommit(() -> stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (Long scope : scopes(festivalId)) {
+				stringConnection.zAdd(ChatRoomRankingKeys.members(scope), 1, member);
+				stringConnection.zAdd(ChatRoomRankingKeys.activity(scope), activityScore, member);
+				stringConnection.zAdd(ChatRoomRankingKeys.created(scope), createdAtMillis, member);
+			}
+			return null;
+		}));
+	}
+
+	/**
+	 * 입장/퇴장 트랜잭션이 커밋되면 참여자 수 랭킹을 증감합니다.
+	 * @param delta 입장 1, 퇴장 -1
+	 */
+	public void incrementMembersAfterCommit(Long festivalId, String roomId, LocalDateTime createdAt, int delta) {
+		String member = ChatRoomRankingKeys.member(ChatRoomRankingKeys.createdAtMillis(createdAt), roomId);
+		List<String> keys = scopes(festivalId).stream().map(ChatRoomRankingKeys::members).toList();
+		afterCommit(() -> stringRedisTemplate.execute(MEMBERS_SCRIPT, keys, member, String.valueOf(delta)));
+	}
+
+	private PageRead readPage(Long festivalId, Ranking ranking, long start, long end) {
+		String key = ChatRoomRankingKeys.key(festivalId, ranking.metric());
+		List<Object> results = stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stringConnection.exists(ChatRoomRankingKeys.loaded(festivalId));
+			stringConnection.zCard(key);
+			if (ranking.descending()) {
+				stringConnection.zRevRange(key, start, end);
+			} else {
+				stringConnection.zRange(key, start, end);
+			}
+			return null;
+		});
+		boolean loaded = Boolean.TRUE.equals(results.get(0));
+		long total = results.get(1) instanceof Number count ? count.longValue() : 0;
+		List<String> members = results.get(2) instanceof Set<?> range
+			? range.stream().map(String::valueOf).toList() : List.of();
+		return new PageRead(loaded, new RoomPage(members, total));
+	}
+
+	private boolean tryLockLoading(Long festivalId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+			.setIfAbsent(ChatRoomRankingKeys.loading(festivalId), "1", LOADING_LOCK_TTL));
+	}
+
+	/**
+	 * PG의 채팅방으로 랭킹을 채우거나 맞춥니다.
+	 * - 참여자 수: PG member_count로 덮어씀 (유실/경합으로 어긋난 증감 교정)
+	 * - 활성화: chatroom:active_rooms 값(마지막 대화 시각)을 우선 사용하고, 없으면 PG 값. 더 클 때만 반영 (GT)
+	 * - 생성 시각: 바뀌지 않으므로 없는 방만 추가 (NX)
+	 */
+	private void load(Long festivalId) {
+		List<ChatRoomInfoDto> rooms = chatRoomRepository.findRankingRooms(festivalId);
+		List<Double> activeScores = rooms.isEmpty() ? List.of()
+			: stringRedisTemplate.opsForZSet().score(ACTIVE_ROOMS_KEY,
+			rooms.stream().map(ChatRoomInfoDto::chatRoomId).toArray());
+
+		stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (int i = 0; i < rooms.size(); i++) {
+				ChatRoomInfoDto room = rooms.get(i);
+				String member = ChatRoomRankingKeys.member(room.createdAt(), room.chatRoomId());
+				Double activeScore = activeScores != null && i < activeScores.size() ? activeScores.get(i) : null;
+				double activityScore = activeScore != null ? activeScore
+					: toEpochMillis(room.lastMessageAt() != null ? room.lastMessageAt() : room.createdAt());
+				long participantCount = room.participantCount() != null ? room.participantCount() : 0;
+
+				stringConnection.zAdd(ChatRoomRankingKeys.members(festivalId), participantCount, member);
+				stringConnection.zAdd(ChatRoomRankingKeys.activity(festivalId), activityScore, member,
+					ZAddArgs.empty().gt());
+				stringConnection.zAdd(ChatRoomRankingKeys.created(festivalId), room.createdAt(), member,
+					ZAddArgs.ifNotExists());
+			}
+			stringConnection.set(ChatRoomRankingKeys.loaded(festivalId), String.valueOf(System.currentTimeMillis()),
+				Expiration.from(reloadInterval), SetOption.upsert());
+			stringConnection.del(ChatRoomRankingKeys.loading(festivalId));
+			return null;
+		});
+		log.info("채팅방 랭킹 적재: scope={}, rooms={}",
+			festivalId != null ? festivalId : ChatRoomRankingKeys.ALL_SCOPE, rooms.size());
+	}
+
+	private void afterCommit(Runnable action) {
+		Runnable safeAction = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				// 랭킹 반영 실패는 요청을 실패시키지 않음 (PG에 없는 방은 조회 시 제거)
+				log.error("채팅방 랭킹 갱신 실패", e);
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					safeAction.run();
+				}
+			});
+		} else {
+			safeAction.run();
+		}
+	}
+
+	// 축제 범위와 전체 범위 (festivalId가 없으면 전체 범위만)
+	private static List<Long> scopes(Long festivalId) {
+		List<Long> scopes = new ArrayList<>(2);
+		if (festivalId != null) {
+			scopes.add(festivalId);
+		}
+		scopes.add(null);
+		return scopes;
+	}
+
+	// PG 시각(벽시계 값을 UTC로 간주한 millis) -> epoch millis (chat-server의 마지막 대화 시각과 같은 기준)
+	private static long toEpochMillis(long wallClockMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(wallClockMillis), ZoneOffset.UTC)
+			.atZone(ZoneId.systemDefault())
+			.toInstant()
+			.toEpochMilli();
+	}
+
+	private static Ranking rankingOf(OrderType orderType) {
+		return switch (orderType) {
+			case PART_DESC -> new Ranking("members", true);
+			case DATE_DESC -> new Ranking("created", true);
+			case DATE_ASC -> new Ranking("created", false);
+			case ACTIVE_DESC -> new Ranking("activity", true);
+			case ACTIVE_ASC -> new Ranking("activity", false);
+			case PART_ASC -> null;
+		};
+	}
+
+	private record Ranking(String metric, boolean descending) {
+	}
+
+	private record PageRead(boolean loaded, RoomPage page) {
+	}
+
+	/**
+	 * @param members 페이지에 해당하는 랭킹 ZSET 멤버 (정렬 순서)
+	 * @param total 범위 내 전체 채팅방 수
+	 */
+	public record RoomPage(List<String> members, long total) {
+
+		public List<String> roomIds() {
+			return members.stream().map(ChatRoomRankingKeys::roomIdOf).toList();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.grm3355.zonie.apiserver.domain.chatroom.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grm3355.zonie.apiserver.domain.location.service.LocationService;
@@ -31,6 +32,25 @@ public class FestivalInfoService {
 		festivalRepository.updateFestivalChatRoomCount(festivalId);
 	}
 
+	/**
+	 * 채팅방 개설 슬롯을 예약합니다. (축제 채팅방 수 조건부 +1)
+	 * 별도 트랜잭션으로 바로 커밋해 축제 행 잠금을 UPDATE 한 문장 동안만 잡습니다.
+	 * 채팅방 저장이 실패하면 호출 측에서 releaseChatRoomSlot으로 되돌려야 합니다.
+	 * @return 예약 성공 여부 (한도 초과 또는 개설 가능 기간이 아니면 false)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public boolean reserveChatRoomSlot(long festivalId, int dayNum, int maxRoom) {
+		return festivalRepository.reserveChatRoomSlot(festivalId, dayNum, maxRoom) == 1;
+	}
+
+	/**
+	 * 예약한 채팅방 개설 슬롯을 반납합니다. (채팅방 생성 트랜잭션 롤백 시 보상)
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void releaseChatRoomSlot(long festivalId) {
+		festivalRepository.decrementFestivalChatRoomCount(festivalId);
+	}
+
 	/**
 	 * 사용자가 축제 반경 내에 있는지 PostGIS를 이용해 검증합니다.
 	 * @param festivalId 축제 ID
@@ -0,0 +1,151 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 참여 채팅방 인덱스 (user:{userId}:rooms ZSET, score = 채팅방 활성화 점수)
+ * - 개설/입장 시 ZADD, 퇴장 시 ZREM (DB 트랜잭션 커밋 후 반영), 채팅방 삭제 시에는 batch-server가 ZREM
+ * - 메시지 활성화 점수는 조회 시 chatroom:active_rooms에서 지연 반영 (scripts/user_rooms_page.lua)
+ * - 점수가 같으면 ZREVRANGE 규칙대로 채팅방 ID 역순 (이전 In-Memory 정렬의 생성 최신순 동점 처리는 하지 않음)
+ * - 사용자별 loaded 키가 없으면 호출 측에서 PG 참여 정보로 다시 채움 (도입 이전 참여분, Redis 유실 대비)
+ *   - 인덱스가 비어 있는지로 판단하지 않음: 도입 후 첫 입장으로 ZSET이 생기면 이전 참여분이 영영 빠지기 때문
+ *   - loaded 키는 TTL이 지나면 만료되어 다시 PG와 맞춤 (커밋 후 반영 실패로 빠진 방 복구)
+ */
+@Slf4j
+@Component
+public class UserRoomIndex {
+
+	private static final String KEY_PREFIX = "user:";
+	private static final String KEY_SUFFIX = ":rooms";
+	private static final String LOADED_SUFFIX = ":loaded";
+	private static final String ACTIVE_ROOMS_KEY = "chatroom:active_rooms";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisScript<List> pageScript;
+	private final Duration reloadInterval;
+
+	public UserRoomIndex(StringRedisTemplate stringRedisTemplate,
+		@Value("${chat.index.reload-seconds:3600}") long reloadSeconds) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.reloadInterval = Duration.ofSeconds(reloadSeconds);
+
+		DefaultRedisScript<List> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/user_rooms_page.lua")));
+		script.setResultType(List.class);
+		this.pageScript = script;
+	}
+
+	public static String key(String userId) {
+		return KEY_PREFIX + userId + KEY_SUFFIX;
+	}
+
+	public static String loadedKey(String userId) {
+		return key(userId) + LOADED_SUFFIX;
+	}
+
+	/**
+	 * 활성화 최신순으로 정렬된 사용자의 채팅방 ID 한 페이지 (ZREVRANGE, 점수 지연 갱신 포함 1 RTT)
+	 * @param start 시작 인덱스 (0부터 시작)
+	 * @param end 종료 인덱스
+	 * @return 페이지 (PG로 적재하기 전이거나 loaded 키가 만료됐으면 null → rebuild 후 다시 조회)
+	 */
+	public RoomPage page(String userId, long start, long end) {
+		List<?> result = stringRedisTemplate.execute(pageScript,
+			List.of(key(userId), ACTIVE_ROOMS_KEY, loadedKey(userId)), String.valueOf(start), String.valueOf(end));
+		if (result == null || result.isEmpty()) {
+			return new RoomPage(List.of(), 0);
+		}
+		long total = ((Number)result.getFirst()).longValue();
+		if (total < 0) {
+			return null;
+		}
+		List<String> roomIds = result.subList(1, result.size()).stream().map(String::valueOf).toList();
+		return new RoomPage(roomIds, total);
+	}
+
+	/**
+	 * PG 참여 정보로 인덱스를 채우고 loaded 키를 남깁니다. 이미 있는 방의 점수는 유지 (ZADD NX)
+	 * 점수는 0으로 넣고, 다음 조회 시 활성화 점수가 반영됨 (PG에 없는 방은 조회 시 제거)
+	 * @param roomIds PG 기준 참여 중인 채팅방 ID (없으면 loaded 키만 남김)
+	 */
+	public void rebuild(String userId, Collection<String> roomIds) {
+		if (!roomIds.isEmpty()) {
+			Set<ZSetOperations.TypedTuple<String>> tuples = roomIds.stream()
+				.map(roomId -> ZSetOperations.TypedTuple.of(roomId, 0.0))
+				.collect(Collectors.toSet());
+			stringRedisTemplate.opsForZSet().addIfAbsent(key(userId), tuples);
+		}
+		stringRedisTemplate.opsForValue().set(loadedKey(userId), String.valueOf(System.currentTimeMillis()),
+			reloadInterval);
+	}
+
+	/**
+	 * PG에 없는(삭제됐거나 퇴장한) 방을 인덱스에서 제거합니다.
+	 */
+	public void remove(String userId, Collection<String> roomIds) {
+		if (roomIds.isEmpty()) {
+			return;
+		}
+		stringRedisTemplate.opsForZSet().remove(key(userId), roomIds.toArray());
+	}
+
+	/**
+	 * 개설/입장 트랜잭션이 커밋되면 인덱스에 추가합니다.
+	 * @param score 초기 점수 (채팅방 생성 시각 ms, 이후 활성화 점수로 갱신됨)
+	 */
+	public void addAfterCommit(String userId, String roomId, double score) {
+		afterCommit(() -> stringRedisTemplate.opsForZSet().add(key(userId), roomId, score));
+	}
+
+	/**
+	 * 퇴장 트랜잭션이 커밋되면 인덱스에서 제거합니다.
+	 */
+	public void removeAfterCommit(String userId, String roomId) {
+		afterCommit(() -> stringRedisTemplate.opsForZSet().remove(key(userId), roomId));
+	}
+
+	private void afterCommit(Runnable action) {
+		Runnable safeAction = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				// 인덱스 반영 실패는 요청을 실패시키지 않음 (PG에 없는 방은 조회 시 제거, 비어 있으면 PG로 재구성)
+				log.error("사용자 채팅방 인덱스 갱신 실패", e);
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					safeAction.run();
+				}
+			});
+		} else {
+			safeAction.run();
+		}
+	}
+
+	/**
+	 * @param roomIds 페이지에 해당하는 채팅방 ID (활성화 최신순)
+	 * @param total 사용자가 참여 중인 전체 채팅방 수
+	 */
+	public record RoomPage(List<String> roomIds, long total) {
+	}
+}
@@ -0,0 +1,371 @@
+package com.grm3355.zonie.apiserver.domain.festival.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalSearchRequest;
+import com.grm3355.zonie.apiserver.domain.festival.enums.FestivalOrderType;
+import com.grm3355.zonie.apiserver.domain.festival.enums.FestivalStatus;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.global.util.GeodesicDistance;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 목록 인메모리 카탈로그 (목록/지역 개수 조회 시 PostGIS 조회 0회)
+ * - 축제 데이터는 하루 한 번(batch-server festivalSyncJob) 바뀌므로, 전체 축제를 불변 스냅샷으로 들고 volatile 참조 교체로 갱신
+ * - 스냅샷: 노출 대상 축제의 (지역 × 상태) 그룹별 정렬 4종 목록, 지역별 개수, 위치기반 검색용 STRtree
+ * - 노출 기간/진행 상태는 날짜 기준이므로, 날짜가 바뀌면 메모리에 있는 전체 축제로 스냅샷만 다시 계산
+ * - 갱신 시점: 기동 시, festival-events:synced 이벤트 수신 시(배치 동기화 완료),
+ *   refresh-interval-ms 주기 (채팅방 수/참여자 수 반영용)
+ * - 스냅샷이 없으면(초기 적재 실패 등) isReady()가 false이며, FestivalService는 기존 DB 조회로 처리
+ */
+@Slf4j
+@Component
+public class FestivalCatalog {
+
+	public static final String SYNCED_EVENT_CHANNEL = "festival-events:synced";
+
+	private static final String ALL_REGIONS = "*";
+
+	/**
+	 * 정렬 (FestivalService의 Sort와 동일 + 페이지 경계가 흔들리지 않도록 festivalId로 마무리)
+	 * - 모든 정렬의 최우선: 상태 그룹 (진행 중 0 → 예정 1 → 종료 2)
+	 * - 문자열 정렬은 PostgreSQL 기본값과 같게 ASC는 null 마지막, DESC는 null 처음
+	 */
+	private static final Map<FestivalOrderType, Comparator<Entry>> COMPARATORS = new EnumMap<>(FestivalOrderType.class);
+
+	static {
+		Comparator<Entry> byStatus = Comparator.comparingInt(Entry::statusRank);
+		Comparator<Entry> startAsc = Comparator.comparing(entry -> entry.festival().getEventStartDate(),
+			Comparator.nullsLast(Comparator.naturalOrder()));
+		Comparator<Entry> titleAsc = Comparator.comparing(entry -> entry.festival().getTitle(),
+			Comparator.nullsLast(Comparator.naturalOrder()));
+		Comparator<Entry> byId = Comparator.comparing(entry -> entry.festival().getFestivalId(),
+			Comparator.nullsLast(Comparator.naturalOrder()));
+
+		COMPARATORS.put(FestivalOrderType.DATE_DESC, byStatus.thenComparing(startAsc.reversed()).thenComparing(titleAsc)
+			.thenComparing(byId));
+		COMPARATORS.put(FestivalOrderType.DATE_ASC, byStatus.thenComparing(startAsc).thenComparing(titleAsc)
+			.thenComparing(byId));
+		COMPARATORS.put(FestivalOrderType.TITLE_ASC, byStatus.thenComparing(titleAsc).thenComparing(startAsc)
+			.thenComparing(byId));
+		COMPARATORS.put(FestivalOrderType.TITLE_DESC, byStatus.thenComparing(titleAsc.reversed()).thenComparing(startAsc)
+			.thenComparing(byId));
+	}
+
+	private final FestivalRepository festivalRepository;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final int previewDays;
+	private final long refreshIntervalMillis;
+
+	private volatile Snapshot snapshot;
+	private ScheduledExecutorService refreshExecutor;
+
+	public FestivalCatalog(FestivalRepository festivalRepository,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${chat.pre-view-day}") int previewDays,
+		@Value("${festival.catalog.refresh-interval-ms:60000}") long refreshIntervalMillis) {
+		this.festivalRepository = festivalRepository;
+		this.listenerContainer = listenerContainer;
+		this.previewDays = previewDays;
+		this.refreshIntervalMillis = refreshIntervalMillis;
+	}
+
+	@PostConstruct
+	public void start() {
+		refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "festival-catalog-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			refresh();
+		} catch (Exception e) {
+			log.warn("축제 카탈로그 초기 적재 실패 - 적재 전까지 DB 조회로 처리", e);
+		}
+		if (refreshIntervalMillis > 0) {
+			refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMillis, refreshIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+		// 배치 동기화 완료 이벤트: 리스너 스레드를 막지 않도록 갱신은 전용 스레드에서 수행
+		listenerContainer.addMessageListener((message, pattern) -> requestRefresh(),
+			new ChannelTopic(SYNCED_EVENT_CHANNEL));
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * DB에서 전체 축제를 다시 읽어 스냅샷을 교체합니다.
+	 * 호출 스레드에 트랜잭션이 있으면 그 트랜잭션 안에서 조회합니다.
+	 */
+	public void refresh() {
+		List<FestivalResponse> festivals = festivalRepository.findAll().stream()
+			.map(FestivalResponse::fromEntity)
+			.toList();
+		Snapshot built = Snapshot.build(festivals, LocalDate.now(), previewDays);
+		synchronized (this) {
+			snapshot = built;
+		}
+		log.info("축제 카탈로그 갱신: 전체 {}건, 노출 {}건", festivals.size(), built.visibleCount());
+	}
+
+	/**
+	 * 비동기 갱신 요청 (이벤트 수신, 축제 생성 커밋 후)
+	 */
+	public void requestRefresh() {
+		if (refreshExecutor != null && !refreshExecutor.isShutdown()) {
+			refreshExecutor.execute(this::refreshQuietly);
+		}
+	}
+
+	private void refreshQuietly() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			log.warn("축제 카탈로그 갱신 실패 - 이전 스냅샷 유지", e);
+		}
+	}
+
+	public boolean isReady() {
+		return snapshot != null;
+	}
+
+	/**
+	 * 축제 목록 (FestivalRepository.getFestivalList / getFestivalLocationBased와 같은 필터, FestivalService와 같은 정렬)
+	 */
+	public Page<FestivalResponse> search(FestivalSearchRequest req, Pageable pageable) {
+		Snapshot current = current();
+		FestivalOrderType order = req.getOrder() != null ? req.getOrder() : FestivalOrderType.DATE_DESC;
+
+		List<Entry> matched;
+		if (req.isPs()) {
+			matched = current.within(req.getLat(), req.getLon(), req.getRadius() * 1000.0);
+			matched.sort(COMPARATORS.get(order));
+		} else {
+			String region = req.getRegion() != null ? req.getRegion().toString() : ALL_REGIONS;
+			FestivalStatus status = req.getStatus() != null ? req.getStatus() : FestivalStatus.ALL;
+			matched = current.group(region, status, order);
+			if (req.getKeyword() != null) {
+				String keyword = req.getKeyword().toLowerCase(Locale.ROOT);
+				matched = matched.stream().filter(entry -> entry.titleContains(keyword)).toList();
+			}
+		}
+
+		int from = (int)Math.min(pageable.getOffset(), matched.size());
+		int to = Math.min(from + pageable.getPageSize(), matched.size());
+		List<FestivalResponse> content = matched.subList(from, to).stream().map(Entry::festival).toList();
+		return new PageImpl<>(content, pageable, matched.size());
+	}
+
+	/**
+	 * 노출 기간과 관계없이 DB에 있는 축제 1건 (위치 검증용 중심 좌표/지역 조회)
+	 * @return 스냅샷이 없거나 스냅샷 이후 추가된 축제면 empty
+	 */
+	public Optional<FestivalResponse> findById(long festivalId) {
+		Snapshot current = snapshot;
+		return current != null ? Optional.ofNullable(current.byId.get(festivalId)) : Optional.empty();
+	}
+
+	/**
+	 * @return 지역 코드 → 노출 대상 축제 수 (축제가 없는 지역은 없음)
+	 */
+	public Map<String, Long> countByRegion() {
+		return current().regionCounts;
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		LocalDate today = LocalDate.now();
+		if (current.asOf.equals(today)) {
+			return current;
+		}
+		synchronized (this) {
+			// 날짜가 바뀜: 노출 기간/상태만 다시 계산 (DB 재조회 없음)
+			if (!snapshot.asOf.equals(today)) {
+				snapshot = Snapshot.build(snapshot.festivals, today, previewDays);
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 * 스냅샷의 축제 1건 (상태 그룹, 검색용 소문자 제목을 미리 계산)
+	 */
+	private record Entry(FestivalResponse festival, int statusRank, String lowerTitle) {
+
+		boolean titleContains(String lowerKeyword) {
+			return lowerTitle != null && lowerTitle.contains(lowerKeyword);
+		}
+	}
+
+	private record GroupKey(String region, FestivalStatus status) {
+	}
+
+	/**
+	 * 특정 날짜(asOf) 기준 불변 스냅샷
+	 */
+	private static final class Snapshot {
+
+		private final List<FestivalResponse> festivals;    // DB 전체 (날짜 변경 시 재계산용)
+		private final Map<Long, FestivalResponse> byId;
+		private final LocalDate asOf;
+		private final Map<GroupKey, Map<FestivalOrderType, List<Entry>>> groups;
+		private final Map<String, Long> regionCounts;
+		private final STRtree spatialIndex;
+		private final int visibleCount;
+
+		private Snapshot(List<FestivalResponse> festivals, LocalDate asOf,
+			Map<GroupKey, Map<FestivalOrderType, List<Entry>>> groups, Map<String, Long> regionCounts,
+			STRtree spatialIndex, int visibleCount) {
+			this.festivals = festivals;
+			this.byId = new HashMap<>(festivals.size() * 2);
+			for (FestivalResponse festival : festivals) {
+				byId.put(festival.getFestivalId(), festival);
+			}
+			this.asOf = asOf;
+			this.groups = groups;
+			this.regionCounts = regionCounts;
+			this.spatialIndex = spatialIndex;
+			this.visibleCount = visibleCount;
+		}
+
+		static Snapshot build(List<FestivalResponse> festivals, LocalDate today, int previewDays) {
+			Map<GroupKey, List<Entry>> members = new HashMap<>();
+			Map<String, Long> regionCounts = new HashMap<>();
+			STRtree spatialIndex = new STRtree();
+			int visible = 0;
+
+			for (FestivalResponse festival : festivals) {
+				if (!isVisible(festival, today, previewDays)) {
+					continue;
+				}
+				visible++;
+				int statusRank = statusRank(festival, today);
+				String title = festival.getTitle();
+				Entry entry = new Entry(festival, statusRank, title != null ? title.toLowerCase(Locale.ROOT) : null);
+
+				List<String> regionKeys = festival.getRegion() != null
+					? List.of(ALL_REGIONS, festival.getRegion()) : List.of(ALL_REGIONS);
+				for (String region : regionKeys) {
+					members.computeIfAbsent(new GroupKey(region, FestivalStatus.ALL), k -> new ArrayList<>()).add(entry);
+					FestivalStatus status = statusRank == 0 ? FestivalStatus.ONGOING
+						: statusRank == 1 ? FestivalStatus.UPCOMING : null;
+					if (status != null) {
+						members.computeIfAbsent(new GroupKey(region, status), k -> new ArrayList<>()).add(entry);
+					}
+				}
+				if (festival.getRegion() != null) {
+					regionCounts.merge(festival.getRegion(), 1L, Long::sum);
+				}
+				if (festival.getLat() != null && festival.getLon() != null) {
+					spatialIndex.insert(new Envelope(festival.getLon(), festival.getLon(), festival.getLat(),
+						festival.getLat()), entry);
+				}
+			}
+			spatialIndex.build(); // 공개 전에 트리를 확정해 두면 이후 조회는 읽기 전용
+
+			Map<GroupKey, Map<FestivalOrderType, List<Entry>>> groups = new HashMap<>();
+			members.forEach((key, entries) -> {
+				Map<FestivalOrderType, List<Entry>> sorted = new EnumMap<>(FestivalOrderType.class);
+				COMPARATORS.forEach((order, comparator) -> {
+					List<Entry> copy = new ArrayList<>(entries);
+					copy.sort(comparator);
+					sorted.put(order, List.copyOf(copy));
+				});
+				groups.put(key, sorted);
+			});
+
+			return new Snapshot(festivals, today, groups, Map.copyOf(regionCounts), spatialIndex, visible);
+		}
+
+		int visibleCount() {
+			return visibleCount;
+		}
+
+		List<Entry> group(String region, FestivalStatus status, FestivalOrderType order) {
+			Map<FestivalOrderType, List<Entry>> sorted = groups.get(new GroupKey(region, status));
+			return sorted != null ? sorted.get(order) : List.of();
+		}
+
+		/**
+		 * ST_DWithin(geography)과 같은 조건: 측지 거리 <= radiusMeters
+		 * STRtree로 위경도 경계 상자 후보만 추린 뒤 정확한 거리로 거름
+		 */
+		@SuppressWarnings("unchecked")
+		List<Entry> within(double lat, double lon, double radiusMeters) {
+			List<Entry> candidates = spatialIndex.query(boundingBox(lat, lon, radiusMeters));
+			List<Entry> matched = new ArrayList<>(candidates.size());
+			for (Entry entry : candidates) {
+				FestivalResponse festival = entry.festival();
+				if (GeodesicDistance.meters(lat, lon, festival.getLat(), festival.getLon()) <= radiusMeters) {
+					matched.add(entry);
+				}
+			}
+			return matched;
+		}
+
+		/**
+		 * 반경을 모두 포함하는 위경도 상자 (위도 1도의 최소 길이로 계산해 항상 반경보다 크거나 같음)
+		 */
+		private static Envelope boundingBox(double lat, double lon, double radiusMeters) {
+			double latDelta = Math.toDegrees(radiusMeters / GeodesicDistance.MIN_MERIDIONAL_RADIUS);
+			double maxAbsLat = Math.abs(lat) + latDelta;
+			if (maxAbsLat >= 90) {
+				return new Envelope(-180, 180, lat - latDelta, lat + latDelta); // 극점 포함
+			}
+			double lonDelta = latDelta / Math.cos(Math.toRadians(maxAbsLat));
+			if (lon - lonDelta < -180 || lon + lonDelta > 180) {
+				return new Envelope(-180, 180, lat - latDelta, lat + latDelta); // 날짜변경선 통과
+			}
+			return new Envelope(lon - lonDelta, lon + lonDelta, lat - latDelta, lat + latDelta);
+		}
+
+		/**
+		 * 노출 기간: start - previewDays 일 00:00 <= 현재 <= end 일 23:59:59
+		 */
+		private static boolean isVisible(FestivalResponse festival, LocalDate today, int previewDays) {
+			LocalDate start = festival.getEventStartDate();
+			LocalDate end = festival.getEventEndDate();
+			return start != null && end != null
+				&& !today.isBefore(start.minusDays(previewDays)) && !today.isAfter(end);
+		}
+
+		private static int statusRank(FestivalResponse festival, LocalDate today) {
+			LocalDate start = festival.getEventStartDate();
+			LocalDate end = festival.getEventEndDate();
+			if (!start.isAfter(today) && !end.isBefore(today)) {
+				return 0; // 진행 중
+			}
+			return start.isAfter(today) ? 1 : 2; // 예정 / 종료
+		}
+	}
+}
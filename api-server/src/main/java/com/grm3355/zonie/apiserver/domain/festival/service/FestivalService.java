@@ -21,6 +21,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalCreateRequest;
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalDetailResponse;
@@ -48,6 +50,7 @@ public class FestivalService {
 
 	private final FestivalDetailImageRepository detailImageRepository;
 	private final FestivalRepository festivalRepository;
+	private final FestivalCatalog festivalCatalog;
 	@Value("${chat.pre-view-day}")
 	private int preview_days; //시작하기전 몇일전부터 보여주기
 
@@ -68,6 +71,11 @@ public class FestivalService {
 			}
 		}
 
+		// 카탈로그 스냅샷이 있으면 메모리에서 필터/정렬/페이징 (DB 조회 없음)
+		if (festivalCatalog.isReady()) {
+			return festivalCatalog.search(req, PageRequest.of(req.getPage() - 1, req.getPageSize()));
+		}
+
 		Sort sort;
 		Sort statusGroupSort = getStatusGroupSort();
 
@@ -132,7 +140,7 @@ public class FestivalService {
 				""");
 	}
 
-	// 축제별 채팅방 검색조건별 목록 가져오기
+	// 축제별 채팅방 검색조건별 목록 가져오기 (DB 조회: 카탈로그 미적재 시, 통합검색)
 	public Page<Festival> getFestivalListType(FestivalSearchRequest req, Pageable pageable) {
 
 		Region region = req.getRegion();
@@ -183,14 +191,8 @@ public class FestivalService {
 
 	public List<RegionResponse> getRegionCounts() {
 
-		// DB에서: { "서울", 23 }, { "경기/인천", 15 }
-		List<Object[]> rows = festivalRepository.countByRegionGroup(preview_days);
-
-		// String → count 매핑
-		Map<String, Long> dbCounts = new HashMap<>();
-		for (Object[] row : rows) {
-			dbCounts.put((String)row[0], (Long)row[1]);
-		}
+		// 카탈로그(없으면 DB)에서: { "SEOUL", 23 }, { "GYEONGGI", 15 }
+		Map<String, Long> dbCounts = festivalCatalog.isReady() ? festivalCatalog.countByRegion() : countByRegionFromDb();
 
 		List<RegionResponse> result = new ArrayList<>();
 
@@ -205,6 +207,17 @@ public class FestivalService {
 		return result;
 	}
 
+	private Map<String, Long> countByRegionFromDb() {
+		List<Object[]> rows = festivalRepository.countByRegionGroup(preview_days);
+
+		// String → count 매핑
+		Map<String, Long> dbCounts = new HashMap<>();
+		for (Object[] row : rows) {
+			dbCounts.put((String)row[0], (Long)row[1]);
+		}
+		return dbCounts;
+	}
+
 	/**
 	 * 지역별 축제 개수 조회
 	 * (getFestivalListType의 필터 조건 중 'preview_days'를 동일하게 적용)
@@ -226,6 +239,10 @@ public class FestivalService {
 					+ "\tJEJU(\"제주\")}");
 		}
 
+		if (festivalCatalog.isReady()) {
+			return festivalCatalog.countByRegion().getOrDefault(region.toString(), 0L);
+		}
+
 		// 3. Repository에 count용 메서드 호출: getFestivalList와 동일하게 preview_days를 적용하여 노출될 축제만 카운트
 		return festivalRepository.countFestivalsByRegion(
 			region.toString(),
@@ -291,6 +308,18 @@ public class FestivalService {
 		Festival savedFestival = festivalRepository.save(festival);
 		log.info("새로운 축제 생성됨: FestivalId={}, Title={}", savedFestival.getFestivalId(), savedFestival.getTitle());
 
+		// 커밋 후 카탈로그 갱신 (커밋 전에 다른 스레드에서 다시 읽으면 새 축제가 보이지 않음)
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					festivalCatalog.requestRefresh();
+				}
+			});
+		} else {
+			festivalCatalog.requestRefresh();
+		}
+
 		return FestivalResponse.fromEntity(savedFestival);
 	}
 
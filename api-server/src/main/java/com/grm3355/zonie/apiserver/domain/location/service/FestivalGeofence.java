@@ -0,0 +1,66 @@
+package com.grm3355.zonie.apiserver.domain.location.service;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
+import com.grm3355.zonie.apiserver.domain.festival.service.FestivalCatalog;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.global.enums.Region;
+import com.grm3355.zonie.commonlib.global.util.GeodesicDistance;
+
+/**
+ * 축제 반경(지오펜스) 검증 엔진
+ * - 축제 중심 좌표/지역은 FestivalCatalog 스냅샷에서 읽고, 거리는 WGS84 측지 거리로 JVM 안에서 계산
+ *   (PostGIS geography의 ST_Distance와 같은 기준)
+ * - 스냅샷에 없는 축제(초기 적재 전, 스냅샷 이후 추가)만 FestivalRepository.findDistanceToFestival로 조회
+ * - 지역별 반경 규칙: 서울은 기준 반경, 그 외 지역은 기준 반경의 2배
+ */
+@Component
+public class FestivalGeofence {
+
+	private static final double DEFAULT_RADIUS_MULTIPLIER = 2.0;
+	private static final Map<String, Double> REGION_RADIUS_MULTIPLIERS = Map.of(Region.SEOUL.name(), 1.0);
+
+	private final FestivalCatalog festivalCatalog;
+	private final FestivalRepository festivalRepository;
+
+	public FestivalGeofence(FestivalCatalog festivalCatalog, FestivalRepository festivalRepository) {
+		this.festivalCatalog = festivalCatalog;
+		this.festivalRepository = festivalRepository;
+	}
+
+	/**
+	 * @param region       축제 지역 코드 (SEOUL 등, null이면 그 외 지역)
+	 * @param baseRadiusKm 설정된 기준 반경 (km)
+	 * @return 지역에 적용할 반경 제한 (km)
+	 */
+	public double radiusLimitKm(String region, double baseRadiusKm) {
+		double multiplier = region != null
+			? REGION_RADIUS_MULTIPLIERS.getOrDefault(region, DEFAULT_RADIUS_MULTIPLIER)
+			: DEFAULT_RADIUS_MULTIPLIER;
+		return baseRadiusKm * multiplier;
+	}
+
+	/**
+	 * @return 캐시된 축제 지역 코드 (캐시에 없으면 empty → 호출 측에서 DB 조회)
+	 */
+	public Optional<String> cachedRegion(long festivalId) {
+		return festivalCatalog.findById(festivalId).map(FestivalResponse::getRegion);
+	}
+
+	/**
+	 * 사용자 위치와 축제 중심 간 거리
+	 * @return 거리 (km). 축제가 없거나 위치 정보가 없으면 empty
+	 */
+	public Optional<Double> distanceKm(long festivalId, double lat, double lon) {
+		Optional<FestivalResponse> cached = festivalCatalog.findById(festivalId);
+		if (cached.isPresent() && cached.get().getLat() != null && cached.get().getLon() != null) {
+			FestivalResponse festival = cached.get();
+			return Optional.of(GeodesicDistance.meters(lat, lon, festival.getLat(), festival.getLon()) / 1000.0);
+		}
+		return festivalRepository.findDistanceToFestival(festivalId, lon, lat);
+	}
+}
@@ -8,7 +8,6 @@ import com.grm3355.zonie.apiserver.domain.auth.dto.LocationTokenResponse;
 import com.grm3355.zonie.apiserver.domain.auth.dto.UserTokenDto;
 import com.grm3355.zonie.apiserver.domain.auth.service.RedisTokenService;
 import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
-import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
 import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
 import com.grm3355.zonie.commonlib.global.exception.BusinessException;
 import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
@@ -19,12 +18,15 @@ public class LocationService {
 	private final double locationRadiusLimit;
 	private final RedisTokenService redisTokenService;
 	private final FestivalRepository festivalRepository;
+	private final FestivalGeofence festivalGeofence;
 
 	public LocationService(@Value("${location.radius.limit}") double locationRadiusLimit,
-		RedisTokenService redisTokenService, FestivalRepository festivalRepository) {
+		RedisTokenService redisTokenService, FestivalRepository festivalRepository,
+		FestivalGeofence festivalGeofence) {
 		this.locationRadiusLimit = locationRadiusLimit;
 		this.redisTokenService = redisTokenService;
 		this.festivalRepository = festivalRepository;
+		this.festivalGeofence = festivalGeofence;
 	}
 
 	/**
@@ -60,26 +62,23 @@ public class LocationService {
 		String userId = userDetails.getUsername();
 		String festivalIdStr = String.valueOf(festivalId);
 
-		// 1. 축제 정보 조회해 Region 정보 획득 (먼저 조회하여 엔티티 존재 확인)
-		Festival festival = festivalRepository.findByFestivalId(festivalId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "관련 축제정보가 없습니다."));
+		// 1. 축제 Region 정보 획득 (카탈로그 캐시 → 없으면 DB 조회로 엔티티 존재 확인)
+		String region = festivalGeofence.cachedRegion(festivalId)
+			.orElseGet(() -> festivalRepository.findByFestivalId(festivalId)
+				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "관련 축제정보가 없습니다."))
+				.getRegion());
 
-		// 2. 축제 DB 정보 조회 -> PostGIS 거리 계산 (엔티티가 있으므로 거리 계산 요청)
-		double radius_km = festivalRepository.findDistanceToFestival(
+		// 2. 축제 중심과의 거리 계산 (캐시된 중심 좌표로 JVM 내 측지 거리 계산, 캐시에 없으면 PostGIS)
+		double radius_km = festivalGeofence.distanceKm(
 				festivalId,
-				userLocationDto.getLon(), // :lon
-				userLocationDto.getLat()  // :lat
+				userLocationDto.getLat(),
+				userLocationDto.getLon()
 			)
 			// 거리 계산은 실패할 가능성이 낮지만 Optional 처리
 			.orElseThrow(() -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "축제 위치 정보를 찾을 수 없습니다."));
 
-		// 3. 지역별 반경 제한값 동적 결정 (조회된 festival 객체 사용)
-		final double dynamicRadiusLimit;
-		if ("SEOUL".equals(festival.getRegion())) {
-			dynamicRadiusLimit = locationRadiusLimit; // 서울: 1km
-		} else {
-			dynamicRadiusLimit = locationRadiusLimit * 2; // 그 외 지역: 2km
-		}
+		// 3. 지역별 반경 제한값 결정 (서울: 1km, 그 외 지역: 2km)
+		final double dynamicRadiusLimit = festivalGeofence.radiusLimitKm(region, locationRadiusLimit);
 
 		// 3. 반경 비교 (동적 결정값 사용)
 		boolean isInside = radius_km <= dynamicRadiusLimit;
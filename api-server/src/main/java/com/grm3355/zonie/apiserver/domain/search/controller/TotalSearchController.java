@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomPageResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSliceResponse;
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalSearchRequest;
 import com.grm3355.zonie.apiserver.domain.search.dto.KeywordSearchRequest;
@@ -134,4 +135,39 @@ public class TotalSearchController {
 		ChatRoomPageResponse response = new ChatRoomPageResponse(pageList, request.getPageSize());
 		return ResponseEntity.ok().body(ApiResponse.success(response));
 	}
+
+	/**
+	 * 채팅방 목록 검색 전용 API (커서)
+	 */
+	@Operation(summary = "검색 - 채팅방 목록 (커서)", description = "검색 결과 채팅방을 커서 기반으로 조회합니다. withTotal=true면 전체 개수(근사값)를 함께 반환합니다.")
+	@ApiResponses({
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "목록 조회 성공",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class),
+				examples = @ExampleObject(
+					name = "OK",
+					value = "{\"success\": true,"
+							+ "\"data\":{"
+							+ "\"content\":["
+							+ "{\"chatRoomId\": \"bf8cf7ed-f01e-4eb9-8bf9-5f201cbf8122\",\"festivalId\": 112,\"title\": \"채팅방\",\"lat\": 33.247109,\"lon\": 126.56447,\"festivalTitle\": \"2025 서귀포 원도심 문화페스티벌\",\"participantCount\": 0,\"lastMessageAt\": null,\"lastContent\": null}"
+							+ " ],"
+							+ "\"hasNext\": true,"
+							+ "\"nextCursor\": \"djI6NTo0MQ\","
+							+ "\"totalElements\": null"
+							+ "},"
+							+ "\"error\": null,"
+							+ "\"timestamp\": \"2025-11-14T10:39:51.431745\"}"
+				)
+			)
+		)
+	})
+	@ApiError400
+	@ApiError405
+	@ApiError415
+	@ApiError429
+	@GetMapping("/search/chat-rooms/cursor")
+	public ResponseEntity<?> getChatroomSearchSlice(@Valid @ModelAttribute ChatRoomSearchRequest request
+	) {
+		ChatRoomSliceResponse response = totalSearchService.getChatroomTotalSearchSlice(request);
+		return ResponseEntity.ok().body(ApiResponse.success(response));
+	}
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSliceResponse;
 import com.grm3355.zonie.apiserver.domain.chatroom.service.ChatRoomApiService;
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
 import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalSearchRequest;
@@ -95,6 +96,20 @@ public class TotalSearchService {
 		return chatRoomApiService.getTotalChatRoomList(request);
 	}
 
+	/**
+	 * 통합검색 - 채팅방 (커서 목록)
+	 * @param request 검색dto (cursor: 이전 응답의 nextCursor)
+	 * @return ChatRoomSliceResponse
+	 */
+	public ChatRoomSliceResponse getChatroomTotalSearchSlice(ChatRoomSearchRequest request) {
+
+		// 키워드 체크
+		checkKeyWord(request.getKeyword());
+
+		// 채팅방 목록
+		return chatRoomApiService.getTotalChatRoomSlice(request);
+	}
+
 	// 키워드 체크
 	private void checkKeyWord(String keyword) {
 		if (keyword == null || keyword.isEmpty()) {
@@ -13,6 +13,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -23,6 +24,7 @@ import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
 /**
  * * @Cacheable을 위한 cacheManager (타입 정보 o)
  * * Pub/Sub을 위한 redisTemplate (타입 정보 x)
+ * * Pub/Sub 구독을 위한 redisMessageListenerContainer
  */
 @EnableCaching
 @Configuration
@@ -64,6 +66,17 @@ public class RedisConfig {
 		return redisTemplate;
 	}
 
+	/**
+	 * Redis Pub/Sub 구독 컨테이너
+	 * - 구독 채널은 각 컴포넌트가 직접 등록 (예: FestivalCatalog의 festival-events:synced)
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	/**
 	 * Spring Cache 추상화를 위한 Redis 기반 캐시 매니저를 설정한다.
 	 * 캐시 항목의 기본 TTL과 키/값 직렬화 방식을 정의한다.
@@ -3,6 +3,7 @@ package com.grm3355.zonie.apiserver.global.filter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,12 +14,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.apiserver.global.service.RateLimitDecision;
 import com.grm3355.zonie.apiserver.global.service.RateLimitingService;
 import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
 import com.grm3355.zonie.commonlib.global.response.ApiResponse;
@@ -33,7 +33,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-	private static final PathMatcher pathMatcher = new AntPathMatcher();
+	// 클라이언트가 남은 한도/재시도 시점을 알 수 있도록 응답 헤더로 노출
+	static final String HEADER_LIMIT = "X-RateLimit-Limit";
+	static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+	static final String HEADER_RETRY_AFTER = "Retry-After";
 
 	//스프링시큐리티에서 과도한 요청회수 필터링
 	// 인증이 필요한 API 그룹
@@ -46,6 +49,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 		"/api/v1/user/me/quit",                              // POST 회원 탈퇴
 		"/api/v1/festivals/*/chat-rooms",                    // POST 채팅방 생성
 		"/api/v1/chat-rooms/my-rooms",                       // GET 내 채팅방 목록
+		"/api/v1/chat-rooms/my-rooms/cursor",                // GET 내 채팅방 목록 (커서)
 		"/api/v1/chat-rooms/*/join",                         // POST 채팅방 입장
 		"/api/v1/chat-rooms/*/leave",                        // POST 채팅방 퇴장
 		"/api/v1/messages/*/like"                            // POST 메시지 좋아요
@@ -62,10 +66,23 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 		"/api/v1/search",
 		"/api/v1/search/festivals",
 		"/api/v1/search/chat-rooms",
+		"/api/v1/search/chat-rooms/cursor",
+		"/api/v1/festivals/*/chat-rooms/cursor",
 		"/api/v1/festivals/*/chat-rooms"// , // GET 축제별 채팅방 목록
 		// "/api/v1/chat-rooms/{roomId}/messages" // 채팅방 과거 메시지 조회: 인증 필요하지만 MongoDB I/O가 Block될 수 있음.
 	);
 
+	// 패턴 목록은 기동 시 한 번만 트라이로 컴파일 (요청마다 AntPathMatcher 목록 순회 x)
+	private static final RoutePatternTrie AUTH_ROUTES = RoutePatternTrie.compile(AUTH_ENDPOINTS);
+	private static final RoutePatternTrie READ_ROUTES = RoutePatternTrie.compile(READ_ENDPOINTS);
+
+	// GET 요청 중 Latency가 높은 API (AUTH_ENDPOINTS에 포함된 GET 요청들만 체크)
+	private static final Set<String> HIGH_LATENCY_READS = Set.of(
+		"/api/v1/user/me",                    // 프로필 조회 (복호화/캐시 미스 리스크)
+		"/api/v1/chat-rooms/my-rooms",        // 내 채팅방 목록 (DB 조인 부하)
+		"/api/v1/chat-rooms/my-rooms/cursor"  // 내 채팅방 목록 (커서, 같은 조인)
+	);
+
 	/**
 	 * 현재 시스템은 2000 VUs에서 P95 응답 시간 1.37s, 276 RPS 요청 처리함.
 	 * 2~3배 이상의 트래픽 고려, 1/10 이하의 속도로 방어.
@@ -93,8 +110,8 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 		String rateLimitKey;
 		int currentMaxRequests;
 
-		String authPattern = findMatchingPattern(requestUri, AUTH_ENDPOINTS);
-		String readPattern = findMatchingPattern(requestUri, READ_ENDPOINTS);
+		String authPattern = AUTH_ROUTES.match(requestUri);
+		String readPattern = READ_ROUTES.match(requestUri);
 
 		boolean isAuthTarget = authPattern != null;
 		boolean isReadTarget = readPattern != null;
@@ -120,7 +137,8 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 			if (jwt != null) {
 				try {
 					// 토큰이 유효하면 User ID 기준으로 제한 (DB 접근 x)
-					String userId = jwtTokenProvider.getUserIdFromToken(jwt);
+					// JwtAuthenticationFilter와 검증 캐시를 공유하므로 같은 토큰을 다시 검증하지 않음
+					String userId = jwtTokenProvider.parseClaims(jwt).userId();
 					rateLimitKey = userId + ":" + matchedPattern;
 				} catch (JwtException | IllegalArgumentException e) {
 					// 토큰 만료/유효하지 않으면 IP 기준으로 대체 제한
@@ -144,38 +162,18 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 		}
 
 		// 3. Rate Limit 검사 실행
-		if (!rateLimitingService.allowRequest(rateLimitKey, currentMaxRequests, WINDOW_SECONDS)) {
+		RateLimitDecision decision = rateLimitingService.check(rateLimitKey, currentMaxRequests, WINDOW_SECONDS);
+		response.setHeader(HEADER_LIMIT, String.valueOf(decision.limit()));
+		response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+		if (!decision.allowed()) {
 			log.warn("Rate limit exceeded for Key: {}", rateLimitKey);
-			sendTooManyRequestsResponse(response);
+			sendTooManyRequestsResponse(response, decision);
 			return;
 		}
 
 		filterChain.doFilter(request, response);
 	}
 
-	/**
-	 * AntPathMatcher: URI 패턴 매칭
-	 * @param requestUri 현재 요청 URI
-	 * @param patterns List<String>으로 정의된 패턴 목록
-	 * @return 매칭되는 패턴이 있으면 해당 패턴 문자열, 없으면 null
-	 */
-	private String findMatchingPattern(String requestUri, List<String> patterns) { 
-		return patterns.stream()
-			.filter(pattern -> pathMatcher.match(pattern, requestUri))
-			.findFirst()
-			.orElse(null);
-	}
-
-	/**
-	 * AntPathMatcher: URI 패턴 매칭
-	 * @param requestUri 현재 요청 URI
-	 * @param patterns List<String>으로 정의된 패턴 목록
-	 * @return 매칭되는 패턴이 하나라도 있으면 true
-	 */
-	private boolean isUriMatch(String requestUri, List<String> patterns) {
-		return patterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestUri));
-	}
-
 	/**
 	 * HighCost 요청(Write/Update/Latent Read) 여부
 	 * - POST, PATCH, DELETE는 항상 High Cost로.
@@ -188,12 +186,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
 		// GET 요청 중 Latency가 높음
 		if (method.equals("GET")) {
-			List<String> highLatencyReads = Arrays.asList(
-				"/api/v1/user/me",           // 프로필 조회 (복호화/캐시 미스 리스크)
-				"/api/v1/chat-rooms/my-rooms" // 내 채팅방 목록 (DB 조인 부하)
-			);
-			// AUHT_ENDPOINTS에 포함된 GET 요청들만 체크
-			return isUriMatch(requestUri, highLatencyReads);
+			return HIGH_LATENCY_READS.contains(requestUri);
 		}
 		return false;
 	}
@@ -215,8 +208,12 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 		return xfHeader.split(",")[0];
 	}
 
-	private void sendTooManyRequestsResponse(HttpServletResponse response) throws IOException {
+	private void sendTooManyRequestsResponse(HttpServletResponse response, RateLimitDecision decision)
+		throws IOException {
 		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		// Retry-After는 초 단위 (1초 미만은 1초로 올림)
+		long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+		response.setHeader(HEADER_RETRY_AFTER, String.valueOf(retryAfterSeconds));
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 		response.setCharacterEncoding("UTF-8");
 
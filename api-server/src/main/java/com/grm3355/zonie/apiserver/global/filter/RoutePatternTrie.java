@@ -0,0 +1,104 @@
+package com.grm3355.zonie.apiserver.global.filter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate Limit 대상 URI 패턴 트라이 (요청마다 AntPathMatcher 목록을 순회하던 방식 대체)
+ * - 시작 시 패턴을 경로 세그먼트 단위 트라이로 한 번만 컴파일하고, 요청 시에는 URI 세그먼트 수만큼만 탐색
+ * - 지원 문법: 리터럴 세그먼트, 세그먼트 전체 와일드카드(*) (현재 사용하는 패턴 범위)
+ * - 여러 패턴이 일치하면 목록에서 먼저 선언된 패턴을 반환 (AntPathMatcher + findFirst와 동일한 결과)
+ */
+final class RoutePatternTrie {
+
+	private static final String WILDCARD = "*";
+
+	private final Node root = new Node();
+
+	private RoutePatternTrie() {
+	}
+
+	static RoutePatternTrie compile(List<String> patterns) {
+		RoutePatternTrie trie = new RoutePatternTrie();
+		for (int order = 0; order < patterns.size(); order++) {
+			trie.add(patterns.get(order), order);
+		}
+		return trie;
+	}
+
+	/**
+	 * @return 일치하는 패턴 문자열, 없으면 null
+	 */
+	String match(String uri) {
+		if (uri == null || !uri.startsWith("/")) {
+			return null;
+		}
+		Node matched = match(root, uri, 0, uri.length() > 1 && uri.endsWith("/"));
+		return matched != null ? matched.pattern : null;
+	}
+
+	private void add(String pattern, int order) {
+		if (!pattern.startsWith("/") || pattern.endsWith("/")) {
+			throw new IllegalArgumentException("Unsupported route pattern: " + pattern);
+		}
+		Node node = root;
+		for (String segment : pattern.substring(1).split("/")) {
+			if (WILDCARD.equals(segment)) {
+				if (node.wildcard == null) {
+					node.wildcard = new Node();
+				}
+				node = node.wildcard;
+			} else if (segment.isEmpty() || segment.contains("*") || segment.contains("?") || segment.contains("{")) {
+				throw new IllegalArgumentException("Unsupported route pattern: " + pattern);
+			} else {
+				node = node.children.computeIfAbsent(segment, s -> new Node());
+			}
+		}
+		// 같은 패턴이 중복 선언되면 먼저 선언된 순서 유지
+		if (node.pattern == null) {
+			node.pattern = pattern;
+			node.order = order;
+		}
+	}
+
+	/**
+	 * uri[from..]을 소비하며 일치하는 종단 노드 중 가장 먼저 선언된 패턴의 노드를 반환합니다.
+	 * AntPathMatcher와 동일하게, '/'로 끝나는 URI는 마지막 세그먼트가 *인 패턴(/a/* ← /a/)에만 일치합니다.
+	 */
+	private static Node match(Node node, String uri, int from, boolean trailingSlash) {
+		int start = from;
+		while (start < uri.length() && uri.charAt(start) == '/') {
+			start++; // 빈 세그먼트(//)는 무시 (AntPathMatcher 토큰화와 동일)
+		}
+		if (start >= uri.length()) {
+			Node terminal = trailingSlash ? node.wildcard : node;
+			return terminal != null && terminal.pattern != null ? terminal : null;
+		}
+
+		int end = uri.indexOf('/', start);
+		if (end < 0) {
+			end = uri.length();
+		}
+
+		Node best = null;
+		Node literal = node.children.isEmpty() ? null : node.children.get(uri.substring(start, end));
+		if (literal != null) {
+			best = match(literal, uri, end, trailingSlash);
+		}
+		if (node.wildcard != null) {
+			Node viaWildcard = match(node.wildcard, uri, end, trailingSlash);
+			if (viaWildcard != null && (best == null || viaWildcard.order < best.order)) {
+				best = viaWildcard;
+			}
+		}
+		return best;
+	}
+
+	private static final class Node {
+		private final Map<String, Node> children = new HashMap<>();
+		private Node wildcard;
+		private String pattern;
+		private int order = Integer.MAX_VALUE;
+	}
+}
@@ -15,6 +15,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.grm3355.zonie.commonlib.global.util.JwtClaims;
 import com.grm3355.zonie.commonlib.global.util.JwtTokenProvider;
 
 import io.jsonwebtoken.ExpiredJwtException;
@@ -47,12 +48,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (jwt != null) {
 			try {
-				// 1. 토큰 유효성 및 서명 검증
-				jwtTokenProvider.validateToken(jwt);
-				// 토큰 Payload -> 모든 정보 추출
-				String userId = jwtTokenProvider.getUserIdFromToken(jwt);
-				String role = jwtTokenProvider.getRoleFromToken(jwt);
-				String password = jwtTokenProvider.getPasswordFromToken(jwt);
+				// 1. 토큰 유효성 및 서명 검증 + Payload -> 모든 정보 추출 (1회 파싱, 검증된 토큰은 캐시)
+				JwtClaims claims = jwtTokenProvider.parseClaims(jwt);
+				String userId = claims.userId();
+				String role = claims.role();
+				String password = claims.password();
 
 				// DB에서 최신 사용자 정보를 로드하여 토큰 정보의 유효성(예: 계정 잠금, 권한 변경 등)을 확인한다.
 				// 이는 토큰이 탈취되거나 사용자 상태가 변경되었을 때 발생할 수 있는 보안 문제를 방지한다.
@@ -0,0 +1,232 @@
+package com.grm3355.zonie.apiserver.global.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 Rate Limiter (요청 경로에서 Redis 왕복 0회)
+ * - 키마다 용량 maxRequests, 초당 maxRequests / windowSeconds개씩 채워지는 토큰 버킷으로 즉시 허용/거부
+ * - sync-interval-ms마다 로컬 소비량을 Redis 고정 윈도우 카운터에 INCRBY(파이프라인)로 합산하고,
+ *   돌려받은 전체 인스턴스 합계만큼 로컬 버킷의 남은 토큰을 줄여 인스턴스 간 한도를 근사적으로 맞춤
+ *   (동기화 주기 사이에는 인스턴스마다 주기 동안 채워지는 토큰만큼 초과 허용될 수 있음)
+ * - Redis 장애 시에도 로컬 한도는 계속 적용되며, 다음 동기화에서 미반영 소비량을 다시 보냄
+ * - 윈도우 동안 사용되지 않은 버킷은 동기화 여부와 관계없이 evict-interval-ms마다 제거
+ *   (Redis 장애가 길어져도 키 수만큼 버킷이 쌓이지 않도록, 미반영 소비량은 이미 지난 윈도우 것이라 버림)
+ */
+@Slf4j
+@Component
+public class LocalRateLimiter {
+
+	private static final String KEY_PREFIX = "rate_limit:local:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long syncIntervalMillis;
+	private final long evictIntervalMillis;
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService syncExecutor;
+
+	public LocalRateLimiter(RedisTemplate<String, String> redisTemplate,
+		@Value("${rate-limit.local.sync-interval-ms:1000}") long syncIntervalMillis,
+		@Value("${rate-limit.local.evict-interval-ms:10000}") long evictIntervalMillis) {
+		this.redisTemplate = redisTemplate;
+		this.syncIntervalMillis = syncIntervalMillis;
+		this.evictIntervalMillis = evictIntervalMillis;
+	}
+
+	@PostConstruct
+	public void start() {
+		syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rate-limit-sync");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (evictIntervalMillis > 0) {
+			syncExecutor.scheduleWithFixedDelay(() -> evictIdleBuckets(System.nanoTime()), evictIntervalMillis,
+				evictIntervalMillis, TimeUnit.MILLISECONDS);
+		}
+		if (syncIntervalMillis > 0) { // 0이면 동기화 비활성화: 인스턴스별 한도만 적용
+			syncExecutor.scheduleWithFixedDelay(this::syncWithRedis, syncIntervalMillis, syncIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (syncExecutor == null) {
+			return;
+		}
+		syncExecutor.shutdown();
+		if (syncIntervalMillis <= 0) {
+			return;
+		}
+		try {
+			syncExecutor.awaitTermination(syncIntervalMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		syncWithRedis();
+	}
+
+	/**
+	 * 토큰 1개를 소비합니다. 토큰이 없으면 거부하고 다음 토큰이 채워지기까지의 시간을 반환합니다.
+	 */
+	public RateLimitDecision tryAcquire(String key, int maxRequests, int windowSeconds) {
+		Bucket bucket = buckets.get(key);
+		if (bucket == null) {
+			bucket = buckets.computeIfAbsent(key, k -> new Bucket(maxRequests, windowSeconds, System.nanoTime()));
+		}
+		return bucket.tryConsume(System.nanoTime());
+	}
+
+	/**
+	 * 마지막 사용 이후 윈도우가 지난 버킷을 제거합니다.
+	 */
+	void evictIdleBuckets(long nowNanos) {
+		buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(nowNanos));
+	}
+
+	/**
+	 * 로컬 소비량을 Redis에 합산하고, 전체 인스턴스 합계로 로컬 버킷을 보정합니다.
+	 * 윈도우 동안 사용되지 않은 버킷은 건너뜁니다. (제거는 evictIdleBuckets)
+	 */
+	void syncWithRedis() {
+		long nowNanos = System.nanoTime();
+		long epochSeconds = System.currentTimeMillis() / 1000;
+
+		List<String> keys = new ArrayList<>();
+		List<Bucket> synced = new ArrayList<>();
+		List<Integer> deltas = new ArrayList<>();
+		for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+			Bucket bucket = entry.getValue();
+			if (bucket.isIdle(nowNanos)) {
+				continue;
+			}
+			keys.add(KEY_PREFIX + entry.getKey() + ":" + epochSeconds / bucket.windowSeconds);
+			synced.add(bucket);
+			deltas.add(bucket.drainUnsynced());
+		}
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		List<Object> results;
+		try {
+			results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (int i = 0; i < keys.size(); i++) {
+					incrementWindow(connection, keys.get(i), deltas.get(i), synced.get(i).windowSeconds);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("Rate limit 동기화 실패 - 로컬 한도만 적용 ({}개 키)", keys.size(), e);
+			for (int i = 0; i < synced.size(); i++) {
+				synced.get(i).restoreUnsynced(deltas.get(i));
+			}
+			return;
+		}
+
+		// 결과: 키마다 [INCRBY 결과, EXPIRE 결과]
+		for (int i = 0; i < synced.size(); i++) {
+			if (results.get(i * 2) instanceof Long globalCount) {
+				synced.get(i).reconcile(globalCount, System.nanoTime());
+			}
+		}
+	}
+
+	private static void incrementWindow(RedisConnection connection, String key, int delta, int windowSeconds) {
+		byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+		connection.stringCommands().incrBy(rawKey, delta);
+		// 윈도우가 끝난 뒤에도 직전 윈도우 값을 잠시 읽을 수 있도록 윈도우 2배 동안 유지
+		connection.keyCommands().expire(rawKey, windowSeconds * 2L);
+	}
+
+	int bucketCount() {
+		return buckets.size();
+	}
+
+	/**
+	 * 키별 토큰 버킷 (버킷 단위 동기화, 경합은 같은 키의 동시 요청끼리만 발생)
+	 */
+	static final class Bucket {
+
+		private final int capacity;
+		private final int windowSeconds;
+		private final double tokensPerNano;
+		private final long idleNanos;
+		private double tokens;
+		private long lastRefillNanos;
+		private long lastUsedNanos;
+		private int unsynced; // 마지막 동기화 이후 로컬에서 허용한 요청 수
+
+		Bucket(int capacity, int windowSeconds, long nowNanos) {
+			this.capacity = capacity;
+			this.windowSeconds = windowSeconds;
+			this.tokensPerNano = (double)capacity / TimeUnit.SECONDS.toNanos(windowSeconds);
+			this.idleNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+			this.tokens = capacity;
+			this.lastRefillNanos = nowNanos;
+			this.lastUsedNanos = nowNanos;
+		}
+
+		synchronized RateLimitDecision tryConsume(long nowNanos) {
+			refill(nowNanos);
+			lastUsedNanos = nowNanos;
+			if (tokens < 1) {
+				long retryAfterNanos = (long)Math.ceil((1 - tokens) / tokensPerNano);
+				return RateLimitDecision.deny(capacity, Math.max(1, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos)));
+			}
+			tokens -= 1;
+			unsynced++;
+			return RateLimitDecision.allow(capacity, (long)tokens);
+		}
+
+		synchronized int drainUnsynced() {
+			int drained = unsynced;
+			unsynced = 0;
+			return drained;
+		}
+
+		synchronized void restoreUnsynced(int delta) {
+			unsynced += delta;
+		}
+
+		/**
+		 * 이번 윈도우의 전체 인스턴스 소비량(globalCount)과 아직 보내지 않은 로컬 소비량을 제외한
+		 * 남은 전역 예산보다 많은 토큰은 버립니다.
+		 */
+		synchronized void reconcile(long globalCount, long nowNanos) {
+			refill(nowNanos);
+			long remaining = capacity - globalCount - unsynced;
+			tokens = Math.min(tokens, Math.max(0, remaining));
+		}
+
+		synchronized boolean isIdle(long nowNanos) {
+			return nowNanos - lastUsedNanos > idleNanos;
+		}
+
+		private void refill(long nowNanos) {
+			long elapsed = nowNanos - lastRefillNanos;
+			if (elapsed > 0) {
+				tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+				lastRefillNanos = nowNanos;
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.grm3355.zonie.apiserver.global.service;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed          요청 허용 여부
+ * @param limit            윈도우당 최대 요청 수
+ * @param remaining        이번 요청 이후 남은 요청 수
+ * @param retryAfterMillis 거부된 경우 다음 요청이 허용되기까지 대기 시간 (허용 시 0)
+ */
+public record RateLimitDecision(
+	boolean allowed,
+	int limit,
+	long remaining,
+	long retryAfterMillis
+) {
+
+	public static RateLimitDecision allow(int limit, long remaining) {
+		return new RateLimitDecision(true, limit, remaining, 0);
+	}
+
+	public static RateLimitDecision deny(int limit, long retryAfterMillis) {
+		return new RateLimitDecision(false, limit, 0, retryAfterMillis);
+	}
+}
@@ -0,0 +1,11 @@
+package com.grm3355.zonie.apiserver.global.service;
+
+/**
+ * Rate Limit 판정 방식 (rate-limit.mode)
+ */
+public enum RateLimitMode {
+	/** 인스턴스 로컬 토큰 버킷 + Redis 비동기 동기화 (요청 경로 Redis 왕복 0회, 인스턴스 간 한도는 근사) */
+	LOCAL,
+	/** 요청마다 Redis GCRA 스크립트 1회 (EVALSHA, 인스턴스 간 정확한 한도) */
+	REDIS
+}
@@ -1,18 +1,41 @@
 package com.grm3355.zonie.apiserver.global.service;
 
-import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RateLimitingService {
 
+	private static final String GCRA_KEY_PREFIX = "rate_limit:gcra:";
+
 	private final RedisTemplate<String, String> redisTemplate;
+	private final LocalRateLimiter localRateLimiter;
+	private final RateLimitMode mode;
+	private final RedisScript<List> gcraScript;
+
+	public RateLimitingService(RedisTemplate<String, String> redisTemplate, LocalRateLimiter localRateLimiter,
+		@Value("${rate-limit.mode:LOCAL}") RateLimitMode mode) {
+		this.redisTemplate = redisTemplate;
+		this.localRateLimiter = localRateLimiter;
+		this.mode = mode;
+
+		DefaultRedisScript<List> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/rate_limit_gcra.lua")));
+		script.setResultType(List.class);
+		this.gcraScript = script;
+	}
 
 	/**
 	 * 지정된 키에 대한 요청 속도를 확인하고 제한합니다.
@@ -23,6 +46,18 @@ public class RateLimitingService {
 	 * @return 요청이 허용되면 true, 속도 제한에 걸리면 false
 	 */
 	public boolean allowRequest(String key, int maxRequests, int windowSeconds) {
+		return check(key, maxRequests, windowSeconds).allowed();
+	}
+
+	/**
+	 * 요청 속도를 확인하고, 허용 시 1회를 소비합니다. 남은 요청 수와 재시도 대기 시간을 함께 반환합니다.
+	 */
+	public RateLimitDecision check(String key, int maxRequests, int windowSeconds) {
+		if (mode == RateLimitMode.LOCAL) {
+			// 로컬 토큰 버킷 (Redis 합산은 LocalRateLimiter가 비동기로 수행)
+			return localRateLimiter.tryAcquire(key, maxRequests, windowSeconds);
+		}
+
 		/**
 		 * 지정된 키에 대한 요청 속도를 확인하고 제한합니다.
 		 * -
@@ -37,19 +72,30 @@ public class RateLimitingService {
 			"maxRequests", String.valueOf(maxRequests),
 			"windowSeconds", String.valueOf(windowSeconds)
 		))) {
-			String countKey = "rate_limit:" + key;
-			Long currentCount = redisTemplate.opsForValue().increment(countKey);
-
-			if (currentCount == null) {
-				currentCount = 1L;
-			}
+			return checkWithGcra(key, maxRequests, windowSeconds);
+		} catch (Exception e) {
+			// Redis 장애 시 요청 전체를 실패시키지 않고 인스턴스 로컬 한도로 대체
+			log.warn("Redis Rate Limit 스크립트 실패 - 로컬 한도로 대체: {}", key, e);
+			return localRateLimiter.tryAcquire(key, maxRequests, windowSeconds);
+		}
+	}
 
-			if (currentCount == 1) {
-				// 윈도우의 첫 번째 요청이면 만료 시간 설정
-				redisTemplate.expire(countKey, Duration.ofSeconds(windowSeconds));
-			}
+	/**
+	 * GCRA 스크립트로 검사 + 소비를 한 번에 수행 (EVALSHA 1회, 키는 항상 TTL과 함께 기록됨)
+	 */
+	private RateLimitDecision checkWithGcra(String key, int maxRequests, int windowSeconds) {
+		long windowMicros = TimeUnit.SECONDS.toMicros(windowSeconds);
+		long intervalMicros = Math.max(1, windowMicros / maxRequests);
 
-			return currentCount <= maxRequests;
+		List<?> result = redisTemplate.execute(gcraScript, List.of(GCRA_KEY_PREFIX + key),
+			String.valueOf(intervalMicros), String.valueOf(windowMicros));
+		if (result == null || result.size() < 3) {
+			throw new IllegalStateException("Unexpected rate limit script result: " + result);
 		}
+
+		boolean allowed = ((Number)result.get(0)).longValue() == 1;
+		return allowed
+			? RateLimitDecision.allow(maxRequests, ((Number)result.get(1)).longValue())
+			: RateLimitDecision.deny(maxRequests, ((Number)result.get(2)).longValue());
 	}
 }
@@ -0,0 +1,13 @@
+-- 채팅방 닉네임 순번 발급 (1 RTT, 원자적 실행)
+-- 순번은 채팅방 요약 Hash의 nicknameSeq 필드에 보관하며, 이전 방식의 단독 키 값이 남아 있으면 이어서 발급
+-- KEYS[1] = chatroom:{roomId} (채팅방 요약 Hash)
+-- KEYS[2] = chatroom:nickname_seq:{roomId} (이전 방식 순번 키)
+-- 반환: 발급된 순번 (1부터 시작)
+if redis.call('HEXISTS', KEYS[1], 'nicknameSeq') == 0 then
+	local legacy = redis.call('GET', KEYS[2])
+	if legacy then
+		redis.call('HSET', KEYS[1], 'nicknameSeq', legacy)
+		redis.call('DEL', KEYS[2])
+	end
+end
+return redis.call('HINCRBY', KEYS[1], 'nicknameSeq', 1)
@@ -0,0 +1,9 @@
+-- 채팅방 참여자 수 랭킹 증감 (1 RTT, 원자적 실행)
+-- 랭킹에 이미 있는 방만 갱신 (XX): 적재 전이면 무시하고, 이후 PG 적재 시 현재 참여자 수로 채워짐
+-- KEYS = chatroom:rank:{festivalId}:members, chatroom:rank:all:members
+-- ARGV[1] = 랭킹 멤버 ("{생성 시각 13자리}:{roomId}")
+-- ARGV[2] = 증감값 (입장 1, 퇴장 -1)
+for i = 1, #KEYS do
+	redis.call('ZADD', KEYS[i], 'XX', 'INCR', ARGV[2], ARGV[1])
+end
+return #KEYS
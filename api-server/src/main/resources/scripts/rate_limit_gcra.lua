@@ -0,0 +1,26 @@
+-- GCRA(Generic Cell Rate Algorithm) Rate Limit: 검사와 소비를 한 번에 수행 (1 RTT, 원자적 실행)
+-- 키에는 TAT(Theoretical Arrival Time, 마이크로초)만 저장하며, TTL은 항상 함께 설정됨
+-- KEYS[1] = rate_limit:gcra:{rateLimitKey}
+-- ARGV[1] = 요청 간 배출 간격 (마이크로초, windowMicros / maxRequests)
+-- ARGV[2] = 윈도우 (마이크로초) - 비어 있는 상태에서 최대 maxRequests개까지 연속 허용
+-- 반환: {허용 여부(1/0), 남은 요청 수, 재시도까지 대기 시간(ms)}
+local interval = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+-- 노드 간 시계 차이가 없도록 Redis 서버 시각 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat or tat < now then
+	tat = now
+end
+
+local newTat = tat + interval
+local diff = newTat - now
+if diff > window then
+	return {0, 0, math.ceil((diff - window) / 1000)}
+end
+
+redis.call('SET', KEYS[1], string.format('%d', newTat), 'PX', math.ceil(diff / 1000))
+return {1, math.floor((window - diff) / interval), 0}
@@ -0,0 +1,29 @@
+-- 나의 채팅방 목록(활성화 최신순) 한 페이지 조회 (1 RTT, 원자적 실행)
+-- 메시지마다 모든 참여자 ZSET에 점수를 팬아웃하지 않고, 조회 시 채팅방의 현재 활성화 점수를 끌어와 반영
+-- (사용자당 참여 방 수는 많지 않으므로 전체 멤버를 훑어도 비용이 작음)
+-- KEYS[1] = user:{userId}:rooms
+-- KEYS[2] = chatroom:active_rooms
+-- KEYS[3] = user:{userId}:rooms:loaded (PG 참여 정보로 적재했는지 표시)
+-- ARGV[1] = 시작 인덱스
+-- ARGV[2] = 종료 인덱스
+-- 반환: {전체 방 수, roomId...}, 적재 전이면 {-1}
+if redis.call('EXISTS', KEYS[3]) == 0 then
+	return {-1}
+end
+
+local rooms = redis.call('ZRANGE', KEYS[1], 0, -1)
+if #rooms == 0 then
+	return {0}
+end
+
+-- 활성화 ZSET 점수가 더 크면(새 메시지) 사용자 ZSET 점수 갱신
+local scores = redis.call('ZMSCORE', KEYS[2], unpack(rooms))
+for i = 1, #rooms do
+	if scores[i] then
+		redis.call('ZADD', KEYS[1], 'GT', scores[i], rooms[i])
+	end
+end
+
+local page = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+table.insert(page, 1, #rooms)
+return page
@@ -0,0 +1,116 @@
+package com.grm3355.zonie.apiserver.domain.auth.infra;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.grm3355.zonie.commonlib.global.enums.Role;
+import com.grm3355.zonie.commonlib.global.util.JwtClaims;
+import com.grm3355.zonie.commonlib.global.util.JwtTokenProvider;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+
+@DisplayName("JwtTokenProvider 검증 완료 토큰 캐시 테스트")
+class JwtTokenProviderCacheTest {
+
+	private static final String SECRET = Base64.getEncoder()
+		.encodeToString(Jwts.SIG.HS256.key().build().getEncoded());
+
+	private JwtTokenProvider provider(int cacheMaxSize, long accessTokenExpirationMillis) {
+		return provider(SECRET, cacheMaxSize, accessTokenExpirationMillis);
+	}
+
+	private JwtTokenProvider provider(String secret, int cacheMaxSize, long accessTokenExpirationMillis) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "secret", secret);
+		ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheMaxSize);
+		provider.setAccessTokenExpirationTime(accessTokenExpirationMillis);
+		provider.init();
+		return provider;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int cacheSize(JwtTokenProvider provider) {
+		return ((Map<String, JwtClaims>)ReflectionTestUtils.getField(provider, "verifiedCache")).size();
+	}
+
+	@Test
+	@DisplayName("캐시에 적재된 토큰도 만료 시각이 지나면 다시 검증되어 거부된다")
+	void testCachedTokenRejectedAfterExpiry() throws Exception {
+		// given: 1초 뒤 만료되는 토큰을 캐시에 적재
+		JwtTokenProvider provider = provider(100, 1000);
+		String token = provider.createAccessToken("user-1", Role.USER);
+		assertThat(provider.parseClaims(token).userId()).isEqualTo("user-1");
+		assertThat(cacheSize(provider)).isEqualTo(1);
+
+		// when: JWT exp는 초 단위이므로 1초 이상 대기
+		TimeUnit.MILLISECONDS.sleep(1100);
+
+		// then
+		assertThatThrownBy(() -> provider.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(cacheSize(provider)).isZero();
+	}
+
+	@Test
+	@DisplayName("서명이 변조되었거나 다른 키로 서명된 토큰은 캐시하지 않는다")
+	void testInvalidTokensAreNeverCached() {
+		// given
+		JwtTokenProvider provider = provider(100, TimeUnit.HOURS.toMillis(1));
+		String token = provider.createAccessToken("user-1", Role.USER);
+		String tampered = token.substring(0, token.length() - 2)
+			+ (token.endsWith("AA") ? "BB" : "AA");
+		String foreignSecret = Base64.getEncoder().encodeToString(Jwts.SIG.HS256.key().build().getEncoded());
+		String foreign = provider(foreignSecret, 0, TimeUnit.HOURS.toMillis(1)).createAccessToken("user-1", Role.USER);
+
+		// when & then: 반복 요청해도 매번 검증 실패
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> provider.parseClaims(tampered)).isInstanceOf(JwtException.class);
+			assertThatThrownBy(() -> provider.parseClaims(foreign)).isInstanceOf(JwtException.class);
+			assertThatThrownBy(() -> provider.parseClaims("not-a-jwt")).isInstanceOf(JwtException.class);
+		}
+		assertThat(cacheSize(provider)).isZero();
+	}
+
+	@Test
+	@DisplayName("서로 다른 토큰이 계속 들어와도 캐시 크기는 최대 크기를 넘지 않는다")
+	void testCacheSizeCap() {
+		// given
+		JwtTokenProvider provider = provider(10, TimeUnit.HOURS.toMillis(1));
+
+		// when
+		for (int i = 0; i < 50; i++) {
+			String token = provider.createAccessToken("user-" + i, Role.USER);
+			assertThat(provider.parseClaims(token).userId()).isEqualTo("user-" + i);
+			assertThat(cacheSize(provider)).isLessThanOrEqualTo(10);
+		}
+
+		// then: 최근 토큰은 캐시에서 그대로 반환
+		String latest = provider.createAccessToken("latest", Role.USER);
+		JwtClaims first = provider.parseClaims(latest);
+		assertThat(provider.parseClaims(latest)).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("max-size가 0이면 캐시를 사용하지 않고 매번 검증한다")
+	void testZeroMaxSizeBypassesCache() {
+		// given
+		JwtTokenProvider provider = provider(0, TimeUnit.HOURS.toMillis(1));
+		String token = provider.createAccessToken("user-1", Role.USER);
+
+		// when
+		JwtClaims first = provider.parseClaims(token);
+		JwtClaims second = provider.parseClaims(token);
+
+		// then
+		assertThat(first).isEqualTo(second).isNotSameAs(second);
+		assertThat(cacheSize(provider)).isZero();
+	}
+}
@@ -3,8 +3,10 @@ package com.grm3355.zonie.apiserver.domain.chatroom.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Disabled;
@@ -34,6 +36,7 @@ import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
 import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
 import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
 import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
 import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
@@ -65,31 +68,33 @@ class ChatRoomApiServiceIntegrationTest {
 	private UserRepository userRepository;
 	@MockitoBean
 	private ChatRoomUserRepository chatRoomUserRepository;
+	@MockitoBean
+	private UserRoomIndex userRoomIndex;
+	@MockitoBean
+	private ChatRoomRanking chatRoomRanking; // supports() = false → 목록 조회는 PG 경로
 
 	@Test
-	@DisplayName("나의 채팅방 목록: 활성화 최신순(Redis ZSET) 동점 시 생성일 최신순(In-Memory) 복합 정렬 검증")
-	void testMyRoomListSorting() {
+	@DisplayName("나의 채팅방 목록: PG 조회 순서와 무관하게 사용자별 ZSET(ZREVRANGE) 순서를 그대로 유지")
+	void testMyRoomListKeepsIndexOrder() {
 		String userId = "test-user-sort";
 
-		// 1. Mock Data: last_message_at이 동일하지만 created_at이 다른 두 방 설정
-		// last_message_at (Primary Key): 2000L (동점)
-		// created_at (Secondary Key): r2 > r1 (r2가 더 최신 생성)
-		String roomId1 = "room-older-created";
-		String roomId2 = "room-newer-created";
+		// 1. Mock Data: ZSET 순서(room-first → room-second)와 생성일 순서가 반대인 두 방
+		// (동점 처리 순서는 UserRoomIndexTest에서 실제 Redis로 검증)
+		String roomId1 = "room-second";
+		String roomId2 = "room-first";
 
 		// DB에서 조회될 ChatRoomInfoDto
 		ChatRoomInfoDto mockDto1 = new ChatRoomInfoDto(
 			roomId1, 1L, "Room A", 5L, 2000L, "Festival A", 37.0, 127.0,
-			1600000000000L // CreatedAt: Older (예: 2020-09-15)
+			1610000000000L // CreatedAt: Newer (예: 2021-01-07)
 		);
 		ChatRoomInfoDto mockDto2 = new ChatRoomInfoDto(
-			roomId2, 1L, "Room B", 5L, 2000L, "Festival A", 37.0, 127.0,
-			1610000000000L // CreatedAt: Newer (예: 2021-01-07)
+			roomId2, 1L, "Room B", 5L, 3000L, "Festival A", 37.0, 127.0,
+			1600000000000L // CreatedAt: Older (예: 2020-09-15)
 		);
 
-		// Redis ZSET에서 조회되는 Room ID 목록 (last_message_at이 같으면 순서는 임의적임)
-		// Redis는 ZSET score가 같으면 멤버명(String) 기준으로 정렬될 수 있지만, 여기서는 두 ID가 모두 페이지에 포함되어야 함을 Mocking
-		List<String> sortedRoomIdsFromRedis = List.of(roomId2, roomId1); // 임의의 순서로 가정
+		// 사용자별 ZSET에서 조회되는 Room ID 목록 (활성화 최신순)
+		List<String> sortedRoomIdsFromRedis = List.of(roomId2, roomId1);
 
 		// PG에서 조회되는 데이터: Redis ID 순서가 아닌 PG의 WHERE IN 쿼리가 반환하는 임의의 순서
 		List<ChatRoomInfoDto> dtoListFromPG = List.of(mockDto1, mockDto2);
@@ -101,11 +106,9 @@ class ChatRoomApiServiceIntegrationTest {
 
 		// 2. Mocking: ZSET 기반 정렬 및 PG 데이터 조회
 
-		// 2-1. Redis ZSET Mocking: ZSET에서 Room ID 목록 (Primary)
-		given(redisScanService.getSortedRoomIds(anyLong(), anyLong()))
-			.willReturn(sortedRoomIdsFromRedis);
-		given(redisScanService.countActiveRooms())
-			.willReturn(2L);
+		// 2-1. 사용자별 ZSET Mocking: ZSET에서 Room ID 목록 (최종 순서)
+		given(userRoomIndex.page(eq(userId), anyLong(), anyLong()))
+			.willReturn(new UserRoomIndex.RoomPage(sortedRoomIdsFromRedis, 2L));
 
 		// 2-2. PG Repository Mocking: chatMyRoomListByRoomIds가 ID에 해당하는 데이터를 반환합니다.
 		// chatMyRoomListByRoomIds - 정렬되지 않은 데이터 반환
@@ -114,16 +117,11 @@ class ChatRoomApiServiceIntegrationTest {
 			org.mockito.ArgumentMatchers.anyList() // Redis에서 가져온 roomIds 목록을 기대
 		)).willReturn(dtoListFromPG);
 
-		// 2-3. Redis String Mocking: lastMessageAt이 동점임을 확인하기 위해 실시간 값도 Mocking
-		given(redisScanService.multiGetLastMessageTimestamps(anySet()))
-			.willReturn(Collections.emptyMap()); // Redis MGET은 기존 merge 로직에서 사용되므로 Mocking
-
-		// Redis String Mocking: 단건 조회 (mergeSingleChatRoomData)
-		given(stringRedisTemplate.opsForValue().get("chatroom:last_msg_at:" + roomId1))
-			.willReturn("2000");
-		given(stringRedisTemplate.opsForValue().get("chatroom:last_msg_at:" + roomId2))
-			.willReturn("2000");
-		// content는 무시
+		// 2-3. Redis 채팅방 요약 Mocking (HMGET 파이프라인)
+		given(redisScanService.multiGetRoomSummaries(anyCollection()))
+			.willReturn(Map.of(
+				roomId1, ChatRoomSummaryDto.of(roomId1, Arrays.asList("2000", null, null)),
+				roomId2, ChatRoomSummaryDto.of(roomId2, Arrays.asList("3000", null, null))));
 
 		// 3. 테스트 실행: getMyRoomChatRoomList 호출
 		Page<ChatRoomResponse> resultPage = chatRoomApiService.getMyChatRoomList(
@@ -139,30 +137,22 @@ class ChatRoomApiServiceIntegrationTest {
 			eq(sortedRoomIdsFromRedis) // Redis에서 가져온 ID 목록을 사용했는지 검증
 		);
 
-		// 5. 최종 결과 순서 검증:
-		// lastMessageAt이 2000L로 동점이므로, created_at이 최신인 mockDto2가 1순위여야 함
-		// 1순위: mockDto2 (Newer Created: 1610...)
-		// 2순위: mockDto1 (Older Created: 1600...)
-
+		// 5. 최종 결과 순서 검증: 생성일이나 PG 순서로 다시 정렬하지 않고 ZSET 순서 그대로
 		assertEquals(roomId2, resultPage.getContent().get(0).getChatRoomId(),
-			"Primary Key 동점 시, Secondary Key인 created_at이 최신인 방이 1순위여야 합니다.");
+			"ZSET 1순위 방이 1순위여야 합니다.");
 		assertEquals(roomId1, resultPage.getContent().get(1).getChatRoomId(),
-			"Primary Key 동점 시, created_at이 오래된 방이 2순위여야 합니다.");
+			"ZSET 2순위 방이 2순위여야 합니다.");
 	}
 
 	@Test
 	void shouldHandleDirtyTimestampFromRedis() {
 		long festivalId = 1L;
 		String roomId = "test-room-2";
-		String redisKey = "chatroom:last_msg_at:" + roomId;
-
-		// 1. Redis에 수동으로 Dirty 데이터 삽입
+		// 1. 채팅방 요약 Hash에 Dirty 데이터가 들어 있는 상황 (HMGET 결과: lastAt, lastContent, msgCount)
 		// String dirtyValue = "\"1763691934350\""; // -> 이걸로 테스트하면 방어 코드로 인해 더티 데이터로 인식하지 않음
 		String dirtyValue = "BAD\"1763691934350\"DATA";
-		stringRedisTemplate.opsForValue().set(redisKey, dirtyValue);
-		// 다른 필수 Redis 키도 Mock 데이터로. (getParticipantCounts, multiGetLastMessageTimestamps)
-		stringRedisTemplate.opsForValue().set("chatroom:last_msg_content:" + roomId, "Mock Content");
-		stringRedisTemplate.opsForSet().add("chatroom:participants:" + roomId, "1");
+		given(redisScanService.multiGetRoomSummaries(anyCollection()))
+			.willReturn(Map.of(roomId, ChatRoomSummaryDto.of(roomId, Arrays.asList(dirtyValue, "Mock Content", "1"))));
 
 		// 2. Mocking 설정: getFestivalListTypeUser가 DB 결과를 반환하도록 설정
 		ChatRoomInfoDto mockDto = new ChatRoomInfoDto(
@@ -216,8 +206,8 @@ class ChatRoomApiServiceIntegrationTest {
 		String userId2 = "test-user-2";
 		long festivalId = 100L;
 		String roomId = "mock-room-id";
-		String sequenceKey = "chatroom:nickname_seq:" + roomId;
-		stringRedisTemplate.delete(sequenceKey);
+		String summaryKey = ChatRoomSummaryDto.key(roomId);
+		stringRedisTemplate.delete(summaryKey);
 
 		// Mock User/Festival/Token Setup (실제 DB에 의존하지 않도록 Mocking 필요)
 		User mockUser1 = User.builder().userId(userId1).role(Role.USER).build();
@@ -239,9 +229,9 @@ class ChatRoomApiServiceIntegrationTest {
 			room.setChatRoomId("mock-room-id");
 			return room;
 		});
-		// 2. findByChatRoomId/findByChatRoomIdWithLock
+		// 2. findByChatRoomId/incrementMemberCountIfAvailable
 		given(chatRoomRepository.findByChatRoomId(anyString())).willReturn(Optional.of(mockRoom));
-		given(chatRoomRepository.findByChatRoomIdWithLock(anyString())).willReturn(Optional.of(mockRoom));
+		given(chatRoomRepository.incrementMemberCountIfAvailable(anyString())).willReturn(1);
 
 		given(userRepository.findByUserId(userId1)).willReturn(Optional.of(mockUser1));
 		given(userRepository.findByUserId(userId2)).willReturn(Optional.of(mockUser2));
@@ -274,7 +264,8 @@ class ChatRoomApiServiceIntegrationTest {
 		// 닉네임 검증: 방장은 3355번을 받아야 함
 		// DB에서 ChatRoomUser를 조회하여 검증
 		// Redis 직접 검증: 닉네임 시퀀스가 1인지 확인
-		assertEquals("1", stringRedisTemplate.opsForValue().get(sequenceKey), "시퀀스는 1이어야 합니다.");
+		assertEquals("1", stringRedisTemplate.opsForHash().get(summaryKey, ChatRoomSummaryDto.FIELD_NICKNAME_SEQ),
+			"시퀀스는 1이어야 합니다.");
 
 		// DB 저장이 올바른 닉네임을 포함했는지 검증 (ArgumentCaptor 필요)
 		ArgumentCaptor<ChatRoomUser> captor = ArgumentCaptor.forClass(ChatRoomUser.class);
@@ -291,7 +282,8 @@ class ChatRoomApiServiceIntegrationTest {
 		assertEquals("#3356", nickName2, "참가자의 닉네임은 #3356이어야 합니다.");
 
 		// Redis 직접 검증: 닉네임 시퀀스가 2인지 확인
-		assertEquals("2", stringRedisTemplate.opsForValue().get(sequenceKey), "시퀀스는 2이어야 합니다.");
+		assertEquals("2", stringRedisTemplate.opsForHash().get(summaryKey, ChatRoomSummaryDto.FIELD_NICKNAME_SEQ),
+			"시퀀스는 2이어야 합니다.");
 
 		// DB 저장 검증 (joinRoom 내부에서 한 번 더 save 호출됨)
 		verify(chatRoomUserRepository, times(2)).save(captor.capture());
@@ -0,0 +1,181 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomRequest;
+import com.grm3355.zonie.apiserver.domain.festival.service.FestivalCatalog;
+import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.domain.user.entity.User;
+import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
+import com.grm3355.zonie.commonlib.global.enums.Role;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+
+@DisplayName("채팅방 개설 동시성 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0",
+		"spring.datasource.hikari.maximum-pool-size=20",
+		"spring.datasource.hikari.connection-timeout=30000"
+	}
+)
+class ChatRoomCreateConcurrencyTest extends BaseIntegrationTest {
+
+	private static final int CREATE_REQUESTS = 60;
+	private static final double LAT = 37.5;
+	private static final double LON = 127.0;
+
+	@Autowired
+	private ChatRoomApiService chatRoomApiService;
+	@Autowired
+	private FestivalRepository festivalRepository;
+	@Autowired
+	private FestivalCatalog festivalCatalog;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Value("${chat.max-chat-room}")
+	private int maxRoom;
+
+	private final GeometryFactory geometryFactory = new GeometryFactory();
+	private final List<User> users = new ArrayList<>();
+	private Festival festival;
+
+	@BeforeEach
+	void setUp() {
+		Point position = geometryFactory.createPoint(new Coordinate(LON, LAT));
+		position.setSRID(4326);
+
+		// 스레드마다 별도 트랜잭션으로 개설하므로 테스트 데이터는 커밋된 상태여야 함
+		festival = festivalRepository.save(Festival.builder()
+			.title("동시 개설 테스트 축제")
+			.addr1("주소")
+			.contentId((int)(Math.random() * 1_000_000))
+			.eventStartDate(LocalDate.now())
+			.eventEndDate(LocalDate.now().plusDays(1))
+			.region("SEOUL")
+			.position(position)
+			.build());
+		festivalCatalog.refresh();
+
+		String suffix = UUID.randomUUID().toString();
+		for (int i = 0; i < CREATE_REQUESTS; i++) {
+			users.add(userRepository.save(User.builder()
+				.userId("create-user-" + suffix + "-" + i)
+				.role(Role.USER)
+				.build()));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 축제 삭제 시 채팅방/참여자는 ON DELETE CASCADE로 함께 삭제
+		festivalRepository.deleteById(festival.getFestivalId());
+		userRepository.deleteAll(users);
+		users.clear();
+	}
+
+	@Test
+	@DisplayName("60명이 동시에 채팅방을 개설하면 축제당 한도(30개)만큼만 개설되고 나머지는 BAD_REQUEST로 거절된다")
+	void testConcurrentCreatesNeverExceedQuota() throws InterruptedException {
+		// given
+		AtomicInteger created = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+		ExecutorService executor = Executors.newFixedThreadPool(CREATE_REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(CREATE_REQUESTS);
+
+		// when
+		for (User user : users) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					chatRoomApiService.setCreateChatRoom(festival.getFestivalId(), request("동시 개설 방"),
+						UserDetailsImpl.build(user));
+					created.incrementAndGet();
+				} catch (BusinessException e) {
+					if (e.getErrorCode() == ErrorCode.BAD_REQUEST) {
+						rejected.incrementAndGet();
+					} else {
+						unexpected.add(e);
+					}
+				} catch (Throwable e) {
+					unexpected.add(e);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown(); // 모든 요청을 동시에 출발
+		assertTrue(done.await(60, TimeUnit.SECONDS), "개설 요청이 제한 시간 안에 끝나지 않았습니다.");
+		executor.shutdown();
+
+		// then
+		assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 예외: " + unexpected);
+		assertEquals(maxRoom, created.get());
+		assertEquals(CREATE_REQUESTS - maxRoom, rejected.get());
+		assertEquals(maxRoom, chatRoomCount());
+		assertEquals(maxRoom, countRooms());
+	}
+
+	@Test
+	@DisplayName("슬롯 예약 후 채팅방 저장이 실패하면 예약한 슬롯을 반납한다")
+	void testReservedSlotIsReleasedWhenRoomInsertFails() {
+		// given: 제목이 없으면 채팅방 INSERT가 NOT NULL 제약으로 실패
+		UserDetailsImpl userDetails = UserDetailsImpl.build(users.getFirst());
+
+		// when
+		assertThrows(RuntimeException.class,
+			() -> chatRoomApiService.setCreateChatRoom(festival.getFestivalId(), request(null), userDetails));
+
+		// then
+		assertEquals(0L, chatRoomCount());
+		assertEquals(0L, countRooms());
+	}
+
+	private ChatRoomRequest request(String title) {
+		return ChatRoomRequest.builder().title(title).lat(LAT).lon(LON).build();
+	}
+
+	private long chatRoomCount() {
+		return jdbcTemplate.queryForObject("SELECT chat_room_count FROM festivals WHERE festival_id = ?", Long.class,
+			festival.getFestivalId());
+	}
+
+	private long countRooms() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_rooms WHERE festival_id = ?", Long.class,
+			festival.getFestivalId());
+	}
+}
@@ -0,0 +1,196 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+import com.grm3355.zonie.apiserver.domain.auth.dto.LocationDto;
+import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.domain.user.entity.User;
+import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
+import com.grm3355.zonie.commonlib.global.enums.Role;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+
+@DisplayName("채팅방 입장 동시성 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0",
+		"spring.datasource.hikari.maximum-pool-size=20",
+		"spring.datasource.hikari.connection-timeout=30000"
+	}
+)
+class ChatRoomJoinConcurrencyTest extends BaseIntegrationTest {
+
+	private static final int JOIN_REQUESTS = 300;
+	private static final long MAX_PARTICIPANTS = 100L;
+	private static final double LAT = 37.5;
+	private static final double LON = 127.0;
+
+	@Autowired
+	private ChatRoomApiService chatRoomApiService;
+	@Autowired
+	private FestivalRepository festivalRepository;
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final GeometryFactory geometryFactory = new GeometryFactory();
+	private final List<User> users = new ArrayList<>();
+	private Festival festival;
+	private String roomId;
+
+	@BeforeEach
+	void setUp() {
+		Point position = geometryFactory.createPoint(new Coordinate(LON, LAT));
+		position.setSRID(4326);
+
+		// 스레드마다 별도 트랜잭션으로 입장하므로 테스트 데이터는 커밋된 상태여야 함
+		festival = festivalRepository.save(Festival.builder()
+			.title("동시 입장 테스트 축제")
+			.addr1("주소")
+			.contentId((int)(Math.random() * 1_000_000))
+			.eventStartDate(LocalDate.now())
+			.eventEndDate(LocalDate.now().plusDays(1))
+			.region("SEOUL")
+			.position(position)
+			.build());
+
+		roomId = UUID.randomUUID().toString();
+		chatRoomRepository.save(ChatRoom.builder()
+			.chatRoomId(roomId)
+			.festival(festival)
+			.title("동시 입장 테스트 방")
+			.maxParticipants(MAX_PARTICIPANTS)
+			.radius(1.0)
+			.position(position)
+			.memberCount(0L)
+			.build());
+
+		for (int i = 0; i < JOIN_REQUESTS; i++) {
+			users.add(userRepository.save(User.builder()
+				.userId("join-user-" + roomId + "-" + i)
+				.role(Role.USER)
+				.build()));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 축제 삭제 시 채팅방/참여자는 ON DELETE CASCADE로 함께 삭제
+		festivalRepository.deleteById(festival.getFestivalId());
+		userRepository.deleteAll(users);
+		users.clear();
+	}
+
+	@Test
+	@DisplayName("300명이 동시에 입장하면 정원(100명)만큼만 입장하고 나머지는 CONFLICT로 거절된다")
+	void testConcurrentJoinsNeverExceedCapacity() throws InterruptedException {
+		// given
+		AtomicInteger admitted = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+		// when
+		runConcurrently(users, admitted, rejected, unexpected);
+
+		// then
+		assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 예외: " + unexpected);
+		assertEquals(MAX_PARTICIPANTS, admitted.get());
+		assertEquals(JOIN_REQUESTS - MAX_PARTICIPANTS, rejected.get());
+		assertEquals(MAX_PARTICIPANTS, chatRoomRepository.findMemberCountByChatRoomId(roomId).orElseThrow());
+		assertEquals(MAX_PARTICIPANTS, countParticipants());
+	}
+
+	@Test
+	@DisplayName("같은 사용자가 동시에 여러 번 입장을 요청해도 한 번만 입장된다")
+	void testConcurrentDuplicateJoinsAdmitOnce() throws InterruptedException {
+		// given
+		List<User> sameUser = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			sameUser.add(users.getFirst());
+		}
+		AtomicInteger admitted = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+		// when
+		runConcurrently(sameUser, admitted, rejected, unexpected);
+
+		// then
+		assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 예외: " + unexpected);
+		assertEquals(1, admitted.get());
+		assertEquals(19, rejected.get());
+		assertEquals(1L, chatRoomRepository.findMemberCountByChatRoomId(roomId).orElseThrow());
+		assertEquals(1L, countParticipants());
+	}
+
+	private void runConcurrently(List<User> joiners, AtomicInteger admitted, AtomicInteger rejected,
+		Queue<Throwable> unexpected) throws InterruptedException {
+		LocationDto location = LocationDto.builder().lat(LAT).lon(LON).build();
+		ExecutorService executor = Executors.newFixedThreadPool(joiners.size());
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(joiners.size());
+
+		for (User user : joiners) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					chatRoomApiService.joinRoom(roomId, location, UserDetailsImpl.build(user));
+					admitted.incrementAndGet();
+				} catch (BusinessException e) {
+					if (e.getErrorCode() == ErrorCode.CONFLICT) {
+						rejected.incrementAndGet();
+					} else {
+						unexpected.add(e);
+					}
+				} catch (Throwable e) {
+					unexpected.add(e);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		start.countDown(); // 모든 요청을 동시에 출발
+		assertTrue(done.await(60, TimeUnit.SECONDS), "입장 요청이 제한 시간 안에 끝나지 않았습니다.");
+		executor.shutdown();
+	}
+
+	private long countParticipants() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_room_user WHERE chat_room_id = ?", Long.class,
+			roomId);
+	}
+}
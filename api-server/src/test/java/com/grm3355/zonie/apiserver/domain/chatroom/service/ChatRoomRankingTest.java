@@ -0,0 +1,193 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
+
+@DisplayName("축제별 채팅방 랭킹 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0"
+	}
+)
+class ChatRoomRankingTest extends BaseIntegrationTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 11, 20, 12, 0);
+
+	@Autowired
+	private ChatRoomRanking chatRoomRanking;
+	@Autowired
+	private ChatRoomApiService chatRoomApiService;
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private FestivalRepository festivalRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private final GeometryFactory geometryFactory = new GeometryFactory();
+	private Festival festival;
+	private String oldRoom;
+	private String middleRoom;
+	private String newRoom;
+
+	@BeforeEach
+	void setUp() {
+		Point position = geometryFactory.createPoint(new Coordinate(127.0, 37.5));
+		position.setSRID(4326);
+		festival = festivalRepository.save(Festival.builder()
+			.title("랭킹 테스트 축제")
+			.addr1("주소")
+			.contentId((int)(Math.random() * 1_000_000))
+			.eventStartDate(LocalDate.now())
+			.eventEndDate(LocalDate.now().plusDays(1))
+			.region("SEOUL")
+			.position(position)
+			.build());
+
+		// 참여자 수: oldRoom 5명, middleRoom 2명, newRoom 2명 (middleRoom과 newRoom은 동점)
+		oldRoom = saveRoom(5L, BASE_TIME);
+		middleRoom = saveRoom(2L, BASE_TIME.plusMinutes(1));
+		newRoom = saveRoom(2L, BASE_TIME.plusMinutes(2));
+	}
+
+	@AfterEach
+	void tearDown() {
+		Long festivalId = festival.getFestivalId();
+		stringRedisTemplate.delete(List.of(ChatRoomRankingKeys.members(festivalId),
+			ChatRoomRankingKeys.activity(festivalId), ChatRoomRankingKeys.created(festivalId),
+			ChatRoomRankingKeys.loaded(festivalId), ChatRoomRankingKeys.loading(festivalId)));
+		// 축제 삭제 시 채팅방은 ON DELETE CASCADE로 함께 삭제
+		festivalRepository.deleteById(festivalId);
+	}
+
+	@Test
+	@DisplayName("처음 조회 시 PG로 적재하고, 참여자 수 동점이면 생성 최신순으로 정렬한다")
+	void testLoadAndTieBreakByCreatedAt() {
+		// when
+		ChatRoomRanking.RoomPage byMembers = chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+		ChatRoomRanking.RoomPage byDate = chatRoomRanking.page(festival.getFestivalId(), OrderType.DATE_ASC, 0, 1);
+
+		// then
+		assertEquals(List.of(oldRoom, newRoom, middleRoom), byMembers.roomIds());
+		assertEquals(3, byMembers.total());
+		assertEquals(List.of(oldRoom, middleRoom), byDate.roomIds());
+		assertEquals(3, byDate.total());
+	}
+
+	@Test
+	@DisplayName("입장/퇴장은 적재된 방의 참여자 수만 증감하고, 적재 전이면 무시된다")
+	void testIncrementMembers() {
+		// given: 적재 전 증감은 무시 (적재 시 PG 값 사용)
+		chatRoomRanking.incrementMembersAfterCommit(festival.getFestivalId(), middleRoom, createdAt(middleRoom), 10);
+		assertNull(stringRedisTemplate.opsForZSet().score(ChatRoomRankingKeys.members(festival.getFestivalId()),
+			ChatRoomRankingKeys.member(ChatRoomRankingKeys.createdAtMillis(createdAt(middleRoom)), middleRoom)));
+		chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+
+		// when
+		chatRoomRanking.incrementMembersAfterCommit(festival.getFestivalId(), middleRoom, createdAt(middleRoom), 1);
+		chatRoomRanking.incrementMembersAfterCommit(festival.getFestivalId(), oldRoom, createdAt(oldRoom), -1);
+		chatRoomRanking.incrementMembersAfterCommit(festival.getFestivalId(), oldRoom, createdAt(oldRoom), -1);
+		ChatRoomRanking.RoomPage page = chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+
+		// then: oldRoom 3명, middleRoom 3명, newRoom 2명
+		assertEquals(List.of(middleRoom, oldRoom, newRoom), page.roomIds());
+	}
+
+	@Test
+	@DisplayName("적재와 입장이 겹쳐 증감이 유실돼도 loaded 키가 만료되면 PG 참여자 수로 다시 맞춘다")
+	void testReloadCorrectsIncrementLostToLoadRace() {
+		// given: 적재가 PG 스냅샷을 읽은 뒤 middleRoom 입장이 커밋됨
+		// → 입장의 ZADD XX INCR가 적재 쓰기보다 먼저 실행되면 (멤버가 없어) 무시되고, 적재는 입장 전 값(2)을 씀
+		chatRoomRanking.incrementMembersAfterCommit(festival.getFestivalId(), middleRoom, createdAt(middleRoom), 1);
+		chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+		jdbcTemplate.update("UPDATE chat_rooms SET member_count = member_count + 1 WHERE chat_room_id = ?",
+			middleRoom);
+		assertEquals(List.of(oldRoom, newRoom, middleRoom),
+			chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9).roomIds());
+		assertTrue(stringRedisTemplate.getExpire(ChatRoomRankingKeys.loaded(festival.getFestivalId())) > 0);
+
+		// when: loaded 키 만료 (TTL)
+		stringRedisTemplate.delete(ChatRoomRankingKeys.loaded(festival.getFestivalId()));
+		ChatRoomRanking.RoomPage page = chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+
+		// then: PG 값(middleRoom 3명)으로 교정
+		assertEquals(List.of(oldRoom, middleRoom, newRoom), page.roomIds());
+		assertEquals(3.0, stringRedisTemplate.opsForZSet().score(ChatRoomRankingKeys.members(festival.getFestivalId()),
+			ChatRoomRankingKeys.member(ChatRoomRankingKeys.createdAtMillis(createdAt(middleRoom)), middleRoom)));
+	}
+
+	@Test
+	@DisplayName("축제별 목록은 랭킹 순서로 반환하고, PG에서 삭제된 방은 목록과 랭킹에서 빠진다")
+	void testFestivalChatRoomListFromRanking() {
+		// given
+		chatRoomRanking.page(festival.getFestivalId(), OrderType.PART_DESC, 0, 9);
+		jdbcTemplate.update("DELETE FROM chat_rooms WHERE chat_room_id = ?", newRoom);
+
+		ChatRoomSearchRequest req = new ChatRoomSearchRequest();
+		req.setPage(1);
+		req.setPageSize(10);
+
+		// when
+		Page<ChatRoomResponse> result = chatRoomApiService.getFestivalChatRoomList(festival.getFestivalId(), req);
+
+		// then
+		assertEquals(List.of(oldRoom, middleRoom),
+			result.getContent().stream().map(ChatRoomResponse::getChatRoomId).toList());
+		assertEquals(2, result.getTotalElements());
+		assertEquals(2, stringRedisTemplate.opsForZSet().zCard(ChatRoomRankingKeys.members(festival.getFestivalId())));
+	}
+
+	private String saveRoom(long memberCount, LocalDateTime createdAt) {
+		String roomId = UUID.randomUUID().toString();
+		chatRoomRepository.save(ChatRoom.builder()
+			.chatRoomId(roomId)
+			.festival(festival)
+			.title("채팅방 " + memberCount)
+			.maxParticipants(300L)
+			.radius(1.0)
+			.position(festival.getPosition())
+			.memberCount(memberCount)
+			.build());
+		jdbcTemplate.update("UPDATE chat_rooms SET created_at = ? WHERE chat_room_id = ?",
+			Timestamp.valueOf(createdAt), roomId);
+		return roomId;
+	}
+
+	private LocalDateTime createdAt(String roomId) {
+		return jdbcTemplate.queryForObject("SELECT created_at FROM chat_rooms WHERE chat_room_id = ?",
+			Timestamp.class, roomId).toLocalDateTime();
+	}
+}
@@ -0,0 +1,197 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomResponse;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSearchRequest;
+import com.grm3355.zonie.apiserver.domain.chatroom.dto.ChatRoomSliceResponse;
+import com.grm3355.zonie.apiserver.domain.chatroom.enums.OrderType;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+
+@DisplayName("채팅방 커서 목록 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0"
+	}
+)
+class ChatRoomSlicePaginationTest extends BaseIntegrationTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 11, 20, 12, 0);
+
+	@Autowired
+	private ChatRoomApiService chatRoomApiService;
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private FestivalRepository festivalRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final GeometryFactory geometryFactory = new GeometryFactory();
+	private Festival festival;
+	private final List<String> rooms = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Point position = geometryFactory.createPoint(new Coordinate(127.0, 37.5));
+		position.setSRID(4326);
+		festival = festivalRepository.save(Festival.builder()
+			.title("커서 테스트 축제")
+			.addr1("주소")
+			.contentId((int)(Math.random() * 1_000_000))
+			.eventStartDate(LocalDate.now())
+			.eventEndDate(LocalDate.now().plusDays(1))
+			.region("SEOUL")
+			.position(position)
+			.build());
+
+		// 생성 순서(rooms 0~4), 참여자 수: 3, 5, 2, 2, 3
+		long[] memberCounts = {3, 5, 2, 2, 3};
+		for (int i = 0; i < memberCounts.length; i++) {
+			rooms.add(saveRoom(memberCounts[i], BASE_TIME.plusMinutes(i)));
+		}
+		// 마지막 대화: rooms 0은 +5분, rooms 2는 +10분 (나머지는 대화 없음 → 생성 시각 기준)
+		setLastMessageAt(rooms.get(0), BASE_TIME.plusMinutes(5));
+		setLastMessageAt(rooms.get(2), BASE_TIME.plusMinutes(10));
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 축제 삭제 시 채팅방은 ON DELETE CASCADE로 함께 삭제
+		festivalRepository.deleteById(festival.getFestivalId());
+	}
+
+	@Test
+	@DisplayName("참여자 많은 순으로 커서를 따라가면 중복/누락 없이 끝까지 조회하고, 동점은 생성 최신순이다")
+	void testPartDescPages() {
+		// when
+		List<ChatRoomSliceResponse> pages = readAll(OrderType.PART_DESC, 2);
+
+		// then
+		assertEquals(List.of(rooms.get(1), rooms.get(4), rooms.get(0), rooms.get(3), rooms.get(2)), roomIds(pages));
+		assertEquals(3, pages.size());
+		assertTrue(pages.get(0).isHasNext());
+		assertFalse(pages.get(2).isHasNext());
+		assertNull(pages.get(2).getNextCursor());
+		assertNull(pages.get(0).getTotalElements());
+	}
+
+	@Test
+	@DisplayName("활성화 순은 마지막 대화 시각(없으면 생성 시각), 생성 순은 생성 순서로 페이지를 넘긴다")
+	void testActiveAndDatePages() {
+		// when
+		List<String> activeDesc = roomIds(readAll(OrderType.ACTIVE_DESC, 2));
+		List<String> dateAsc = roomIds(readAll(OrderType.DATE_ASC, 3));
+
+		// then
+		assertEquals(List.of(rooms.get(2), rooms.get(0), rooms.get(4), rooms.get(3), rooms.get(1)), activeDesc);
+		assertEquals(rooms, dateAsc);
+	}
+
+	@Test
+	@DisplayName("오름차순은 동점도 오름차순(생성 오래된순)이고, 활성화 순은 마이크로초 단위 동점에서도 중복/누락이 없다")
+	void testAscendingPages() {
+		// given: rooms 1, 3의 마지막 대화 시각이 마이크로초까지 같음 (rooms 4의 생성 시각보다 0.123456초 뒤)
+		LocalDateTime tiedAt = BASE_TIME.plusMinutes(4).plusNanos(123_456_000);
+		setLastMessageAt(rooms.get(1), tiedAt);
+		setLastMessageAt(rooms.get(3), tiedAt);
+
+		// when
+		List<String> partAsc = roomIds(readAll(OrderType.PART_ASC, 2));
+		List<String> activeAsc = roomIds(readAll(OrderType.ACTIVE_ASC, 1));
+
+		// then
+		assertEquals(List.of(rooms.get(2), rooms.get(3), rooms.get(0), rooms.get(4), rooms.get(1)), partAsc);
+		assertEquals(List.of(rooms.get(4), rooms.get(1), rooms.get(3), rooms.get(0), rooms.get(2)), activeAsc);
+	}
+
+	@Test
+	@DisplayName("withTotal 요청 시에만 전체 개수를 포함하고, 잘못된 커서는 BAD_REQUEST")
+	void testTotalAndInvalidCursor() {
+		// given
+		ChatRoomSearchRequest req = request(OrderType.PART_DESC, 2, null);
+		req.setWithTotal(true);
+
+		// when
+		ChatRoomSliceResponse response = chatRoomApiService.getFestivalChatRoomSlice(festival.getFestivalId(), req);
+
+		// then
+		assertEquals(5L, response.getTotalElements());
+		assertThrows(BusinessException.class, () -> chatRoomApiService.getFestivalChatRoomSlice(
+			festival.getFestivalId(), request(OrderType.PART_DESC, 2, "not-a-cursor")));
+	}
+
+	private List<ChatRoomSliceResponse> readAll(OrderType order, int pageSize) {
+		List<ChatRoomSliceResponse> pages = new ArrayList<>();
+		String cursor = null;
+		do {
+			ChatRoomSliceResponse page = chatRoomApiService.getFestivalChatRoomSlice(festival.getFestivalId(),
+				request(order, pageSize, cursor));
+			pages.add(page);
+			cursor = page.getNextCursor();
+		} while (cursor != null && pages.size() < 10);
+		return pages;
+	}
+
+	private static List<String> roomIds(List<ChatRoomSliceResponse> pages) {
+		return pages.stream()
+			.flatMap(page -> page.getContent().stream())
+			.map(ChatRoomResponse::getChatRoomId)
+			.toList();
+	}
+
+	private static ChatRoomSearchRequest request(OrderType order, int pageSize, String cursor) {
+		ChatRoomSearchRequest req = new ChatRoomSearchRequest();
+		req.setOrder(order);
+		req.setPageSize(pageSize);
+		req.setCursor(cursor);
+		return req;
+	}
+
+	private String saveRoom(long memberCount, LocalDateTime createdAt) {
+		String roomId = UUID.randomUUID().toString();
+		chatRoomRepository.save(ChatRoom.builder()
+			.chatRoomId(roomId)
+			.festival(festival)
+			.title("채팅방 " + memberCount)
+			.maxParticipants(300L)
+			.radius(1.0)
+			.position(festival.getPosition())
+			.memberCount(memberCount)
+			.build());
+		jdbcTemplate.update("UPDATE chat_rooms SET created_at = ? WHERE chat_room_id = ?",
+			Timestamp.valueOf(createdAt), roomId);
+		return roomId;
+	}
+
+	private void setLastMessageAt(String roomId, LocalDateTime lastMessageAt) {
+		jdbcTemplate.update("UPDATE chat_rooms SET last_message_at = ? WHERE chat_room_id = ?",
+			Timestamp.valueOf(lastMessageAt), roomId);
+	}
+}
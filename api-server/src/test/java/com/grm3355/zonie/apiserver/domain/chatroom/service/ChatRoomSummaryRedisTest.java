@@ -0,0 +1,103 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
+import com.grm3355.zonie.commonlib.global.util.RedisScanService;
+
+@DisplayName("채팅방 요약 Hash 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0"
+	}
+)
+class ChatRoomSummaryRedisTest extends BaseIntegrationTest {
+
+	private static final String LEGACY_LAST_AT_PREFIX = "chatroom:last_msg_at:";
+	private static final String LEGACY_LAST_CONTENT_PREFIX = "chatroom:last_msg_content:";
+
+	@Autowired
+	private RedisScanService redisScanService;
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private String room1;
+	private String room2;
+	private String room3;
+
+	@BeforeEach
+	void setUp() {
+		room1 = UUID.randomUUID().toString();
+		room2 = UUID.randomUUID().toString();
+		room3 = UUID.randomUUID().toString();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(List.of(ChatRoomSummaryDto.key(room1), ChatRoomSummaryDto.key(room2),
+			ChatRoomSummaryDto.key(room3)));
+		for (String roomId : List.of(room1, room2, room3)) {
+			stringRedisTemplate.delete(List.of(LEGACY_LAST_AT_PREFIX + roomId, LEGACY_LAST_CONTENT_PREFIX + roomId));
+		}
+	}
+
+	@Test
+	@DisplayName("페이지의 채팅방 요약을 한 번에 조회하고, 없는 방과 숫자가 아닌 값은 null로 채운다")
+	void testMultiGetRoomSummaries() {
+		// given
+		stringRedisTemplate.opsForHash().putAll(ChatRoomSummaryDto.key(room1), Map.of(
+			ChatRoomSummaryDto.FIELD_LAST_AT, "1763691934350",
+			ChatRoomSummaryDto.FIELD_LAST_CONTENT, "#3355: 안녕하세요",
+			ChatRoomSummaryDto.FIELD_MSG_COUNT, "3",
+			ChatRoomSummaryDto.FIELD_NICKNAME_SEQ, "2"));
+		stringRedisTemplate.opsForHash().put(ChatRoomSummaryDto.key(room2), ChatRoomSummaryDto.FIELD_LAST_AT,
+			"BAD\"1763691934350\"DATA");
+
+		// when
+		Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(
+			List.of(room1, room2, room3));
+
+		// then
+		assertEquals(new ChatRoomSummaryDto(room1, 1763691934350L, "#3355: 안녕하세요", 3L), summaries.get(room1));
+		assertEquals(ChatRoomSummaryDto.empty(room2), summaries.get(room2));
+		assertEquals(ChatRoomSummaryDto.empty(room3), summaries.get(room3));
+	}
+
+	@Test
+	@DisplayName("요약 Hash에 마지막 대화가 없는 방은 이전 개별 키로 채운다")
+	void testLegacyKeysFallback() {
+		// given: room1은 요약 Hash와 이전 키가 모두 있음 (Hash 우선), room2는 닉네임 순번만 있는 Hash + 이전 키
+		stringRedisTemplate.opsForHash().putAll(ChatRoomSummaryDto.key(room1), Map.of(
+			ChatRoomSummaryDto.FIELD_LAST_AT, "1763691934350",
+			ChatRoomSummaryDto.FIELD_LAST_CONTENT, "#3355: 새 요약"));
+		stringRedisTemplate.opsForValue().set(LEGACY_LAST_AT_PREFIX + room1, "1763600000000");
+		stringRedisTemplate.opsForHash().put(ChatRoomSummaryDto.key(room2), ChatRoomSummaryDto.FIELD_NICKNAME_SEQ, "4");
+		stringRedisTemplate.opsForValue().set(LEGACY_LAST_AT_PREFIX + room2, "1763600000000");
+		stringRedisTemplate.opsForValue().set(LEGACY_LAST_CONTENT_PREFIX + room2, "#1024: 이전 대화");
+
+		// when
+		Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(
+			List.of(room1, room2, room3));
+
+		// then
+		assertEquals(new ChatRoomSummaryDto(room1, 1763691934350L, "#3355: 새 요약", null), summaries.get(room1));
+		assertEquals(new ChatRoomSummaryDto(room2, 1763600000000L, "#1024: 이전 대화", null), summaries.get(room2));
+		assertEquals(ChatRoomSummaryDto.empty(room3), summaries.get(room3));
+	}
+}
@@ -0,0 +1,147 @@
+package com.grm3355.zonie.apiserver.domain.chatroom.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.grm3355.zonie.apiserver.BaseIntegrationTest;
+
+@DisplayName("사용자별 채팅방 인덱스 통합 테스트")
+@SpringBootTest(
+	properties = {
+		"spring.data.mongodb.auto-configuration.enabled=false",
+		"spring.data.redis.repositories.enabled=false",
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0"
+	}
+)
+class UserRoomIndexTest extends BaseIntegrationTest {
+
+	private static final String ACTIVE_ROOMS_KEY = "chatroom:active_rooms";
+
+	@Autowired
+	private UserRoomIndex userRoomIndex;
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private String userId;
+	private String room1;
+	private String room2;
+	private String room3;
+
+	@BeforeEach
+	void setUp() {
+		userId = "index-user-" + UUID.randomUUID();
+		// 동점 정렬 검증을 위해 채팅방 ID 사전순은 room1 < room2 < room3
+		String suffix = UUID.randomUUID().toString();
+		room1 = "a-" + suffix;
+		room2 = "b-" + suffix;
+		room3 = "c-" + suffix;
+	}
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(List.of(UserRoomIndex.key(userId), UserRoomIndex.loadedKey(userId)));
+		stringRedisTemplate.opsForZSet().remove(ACTIVE_ROOMS_KEY, room1, room2, room3);
+	}
+
+	@Test
+	@DisplayName("조회 시 채팅방의 최신 활성화 점수를 반영해 활성화 최신순으로 자르고, 전체 개수는 참여 방 수다")
+	void testPageAppliesActivityScoresLazily() {
+		// given: 입장 시각 순서는 room1 < room2 < room3, 이후 room1에 새 메시지
+		userRoomIndex.rebuild(userId, List.of());
+		userRoomIndex.addAfterCommit(userId, room1, 100);
+		userRoomIndex.addAfterCommit(userId, room2, 200);
+		userRoomIndex.addAfterCommit(userId, room3, 300);
+		stringRedisTemplate.opsForZSet().add(ACTIVE_ROOMS_KEY, room1, 500);
+		stringRedisTemplate.opsForZSet().add(ACTIVE_ROOMS_KEY, room2, 200);
+
+		// when
+		UserRoomIndex.RoomPage firstPage = userRoomIndex.page(userId, 0, 1);
+		UserRoomIndex.RoomPage secondPage = userRoomIndex.page(userId, 2, 3);
+
+		// then
+		assertEquals(List.of(room1, room3), firstPage.roomIds());
+		assertEquals(3, firstPage.total());
+		assertEquals(List.of(room2), secondPage.roomIds());
+		assertEquals(500.0, stringRedisTemplate.opsForZSet().score(UserRoomIndex.key(userId), room1));
+	}
+
+	@Test
+	@DisplayName("활성화 점수가 같으면 생성일과 무관하게 채팅방 ID 역순(ZREVRANGE)으로 정렬된다")
+	void testTiesAreOrderedByRoomIdDesc() {
+		// given: 같은 ms에 마지막 메시지가 온 두 방 (room1이 더 최근에 생성·입장)
+		userRoomIndex.rebuild(userId, List.of());
+		userRoomIndex.addAfterCommit(userId, room2, 100);
+		userRoomIndex.addAfterCommit(userId, room1, 200);
+		stringRedisTemplate.opsForZSet().add(ACTIVE_ROOMS_KEY, room1, 500);
+		stringRedisTemplate.opsForZSet().add(ACTIVE_ROOMS_KEY, room2, 500);
+
+		// when
+		UserRoomIndex.RoomPage page = userRoomIndex.page(userId, 0, 9);
+
+		// then
+		assertEquals(List.of(room2, room1), page.roomIds());
+	}
+
+	@Test
+	@DisplayName("재구성은 없는 방만 추가하고, 제거한 방은 목록과 개수에서 빠진다")
+	void testRebuildAndRemove() {
+		// given
+		userRoomIndex.addAfterCommit(userId, room1, 100);
+
+		// when
+		userRoomIndex.rebuild(userId, List.of(room1, room2));
+		userRoomIndex.removeAfterCommit(userId, room2);
+		UserRoomIndex.RoomPage page = userRoomIndex.page(userId, 0, 9);
+
+		// then
+		assertEquals(List.of(room1), page.roomIds());
+		assertEquals(1, page.total());
+		assertEquals(100.0, stringRedisTemplate.opsForZSet().score(UserRoomIndex.key(userId), room1));
+	}
+
+	@Test
+	@DisplayName("PG로 적재하기 전에는 입장으로 ZSET이 생겨도 null을 반환하고, 적재 후에는 이전 참여분이 함께 조회된다")
+	void testNotLoadedUntilRebuild() {
+		// given: 도입 이전에 room1, room2에 참여했고 도입 후 room3에 입장
+		userRoomIndex.addAfterCommit(userId, room3, 300);
+
+		// when
+		UserRoomIndex.RoomPage beforeRebuild = userRoomIndex.page(userId, 0, 9);
+		userRoomIndex.rebuild(userId, List.of(room1, room2, room3));
+		UserRoomIndex.RoomPage afterRebuild = userRoomIndex.page(userId, 0, 9);
+
+		// then
+		assertNull(beforeRebuild);
+		assertEquals(room3, afterRebuild.roomIds().getFirst());
+		assertEquals(Set.of(room1, room2, room3), Set.copyOf(afterRebuild.roomIds()));
+		assertEquals(3, afterRebuild.total());
+		assertEquals(300.0, stringRedisTemplate.opsForZSet().score(UserRoomIndex.key(userId), room3));
+		assertTrue(stringRedisTemplate.getExpire(UserRoomIndex.loadedKey(userId)) > 0);
+	}
+
+	@Test
+	@DisplayName("참여 방이 없으면 빈 페이지와 0을 반환한다")
+	void testEmptyIndex() {
+		// given
+		userRoomIndex.rebuild(userId, List.of());
+
+		// when
+		UserRoomIndex.RoomPage page = userRoomIndex.page(userId, 0, 9);
+
+		// then
+		assertTrue(page.roomIds().isEmpty());
+		assertEquals(0, page.total());
+	}
+}
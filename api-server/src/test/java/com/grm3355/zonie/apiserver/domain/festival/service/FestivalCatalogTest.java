@@ -0,0 +1,141 @@
+package com.grm3355.zonie.apiserver.domain.festival.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalSearchRequest;
+import com.grm3355.zonie.apiserver.domain.festival.enums.FestivalOrderType;
+import com.grm3355.zonie.apiserver.domain.festival.enums.FestivalStatus;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
+import com.grm3355.zonie.commonlib.global.enums.Region;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FestivalCatalog 단위 테스트")
+class FestivalCatalogTest {
+
+	private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+	@Mock
+	private FestivalRepository festivalRepository;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private long nextId = 1;
+
+	private Festival festival(String title, String region, LocalDate start, LocalDate end, double lat, double lon) {
+		return Festival.builder()
+			.festivalId(nextId++)
+			.title(title)
+			.addr1("주소")
+			.region(region)
+			.eventStartDate(start)
+			.eventEndDate(end)
+			.position(GEOMETRY_FACTORY.createPoint(new Coordinate(lon, lat)))
+			.build();
+	}
+
+	private FestivalCatalog catalog(List<Festival> festivals) {
+		when(festivalRepository.findAll()).thenReturn(festivals);
+		FestivalCatalog catalog = new FestivalCatalog(festivalRepository, listenerContainer, 7, 0);
+		catalog.refresh();
+		return catalog;
+	}
+
+	private List<String> titles(Page<FestivalResponse> page) {
+		return page.getContent().stream().map(FestivalResponse::getTitle).toList();
+	}
+
+	@Test
+	@DisplayName("노출 기간 밖의 축제는 제외하고, 상태 그룹 → 정렬 기준 순으로 정렬해 페이지를 자른다")
+	void testVisibilitySortAndPaging() {
+		// given
+		LocalDate today = LocalDate.now();
+		FestivalCatalog catalog = catalog(List.of(
+			festival("Z_Ended", "SEOUL", today.minusDays(5), today.minusDays(1), 37.5, 127.0),
+			festival("A_Ongoing", "SEOUL", today.minusDays(5), today, 37.5, 127.0),
+			festival("B_Upcoming", "SEOUL", today.plusDays(1), today.plusDays(5), 37.5, 127.0),
+			festival("C_Old_Ongoing", "SEOUL", today.minusYears(1), today.plusDays(2), 37.5, 127.0),
+			festival("D_Far_Upcoming", "SEOUL", today.plusYears(1), today.plusYears(1).plusDays(5), 37.5, 127.0)
+		));
+		FestivalSearchRequest request = FestivalSearchRequest.builder()
+			.order(FestivalOrderType.DATE_ASC)
+			.build();
+
+		// when
+		Page<FestivalResponse> firstPage = catalog.search(request, PageRequest.of(0, 2));
+		Page<FestivalResponse> secondPage = catalog.search(request, PageRequest.of(1, 2));
+
+		// then
+		assertEquals(3, firstPage.getTotalElements());
+		assertEquals(List.of("C_Old_Ongoing", "A_Ongoing"), titles(firstPage));
+		assertEquals(List.of("B_Upcoming"), titles(secondPage));
+	}
+
+	@Test
+	@DisplayName("지역/상태/검색어(대소문자 무시) 조건과 지역별 개수를 DB 조회 없이 계산한다")
+	void testFiltersAndRegionCounts() {
+		// given
+		LocalDate today = LocalDate.now();
+		FestivalCatalog catalog = catalog(List.of(
+			festival("Seoul Lantern", "SEOUL", today.minusDays(1), today.plusDays(1), 37.5, 127.0),
+			festival("Seoul Food", "SEOUL", today.plusDays(2), today.plusDays(3), 37.5, 127.0),
+			festival("Jeju Lantern", "JEJU", today, today, 33.5, 126.5)
+		));
+		FestivalSearchRequest request = FestivalSearchRequest.builder()
+			.region(Region.SEOUL)
+			.status(FestivalStatus.ONGOING)
+			.keyword("lantern")
+			.build();
+
+		// when
+		Page<FestivalResponse> page = catalog.search(request, PageRequest.of(0, 10));
+		Map<String, Long> counts = catalog.countByRegion();
+
+		// then
+		assertEquals(List.of("Seoul Lantern"), titles(page));
+		assertEquals(2L, counts.get("SEOUL"));
+		assertEquals(1L, counts.get("JEJU"));
+		verify(festivalRepository, times(1)).findAll();
+		verifyNoMoreInteractions(festivalRepository);
+	}
+
+	@Test
+	@DisplayName("위치기반 검색은 반경(km) 안의 축제만 측지 거리로 골라낸다")
+	void testRadiusSearch() {
+		// given: 기준점(37.5, 127.0)에서 약 0.9km, 약 1.1km 떨어진 축제
+		LocalDate today = LocalDate.now();
+		FestivalCatalog catalog = catalog(List.of(
+			festival("Near", "SEOUL", today, today, 37.5081, 127.0),
+			festival("Far", "SEOUL", today, today, 37.5099, 127.0)
+		));
+		FestivalSearchRequest request = FestivalSearchRequest.builder()
+			.ps(true)
+			.lat(37.5)
+			.lon(127.0)
+			.radius(1.0)
+			.build();
+
+		// when
+		Page<FestivalResponse> page = catalog.search(request, PageRequest.of(0, 10));
+
+		// then
+		assertEquals(List.of("Near"), titles(page));
+	}
+}
@@ -27,7 +27,8 @@ import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository
 	properties = {
 		"spring.data.mongodb.auto-configuration.enabled=false",
 		"spring.data.redis.repositories.enabled=false",
-		"spring.cache.type=none"
+		"spring.cache.type=none",
+		"festival.catalog.refresh-interval-ms=0"
 	}
 )
 class FestivalServiceIntegrationTest extends BaseIntegrationTest {
@@ -38,6 +39,8 @@ class FestivalServiceIntegrationTest extends BaseIntegrationTest {
 	private FestivalService festivalService;
 	@Autowired
 	private FestivalRepository festivalRepository;
+	@Autowired
+	private FestivalCatalog festivalCatalog;
 
 	/**
 	 * 테스트용 축제 생성 헬퍼 (DB에 직접 삽입)
@@ -92,6 +95,9 @@ class FestivalServiceIntegrationTest extends BaseIntegrationTest {
 			.order(FestivalOrderType.DATE_ASC)
 			.build();
 
+		// 테스트 트랜잭션 안에서 삽입한 축제를 카탈로그에 반영
+		festivalCatalog.refresh();
+
 		// When
 		Page<FestivalResponse> resultPage = festivalService.getFestivalList(request);
 		List<String> sortedTitles = resultPage.getContent().stream()
@@ -137,6 +143,9 @@ class FestivalServiceIntegrationTest extends BaseIntegrationTest {
 			.order(FestivalOrderType.DATE_ASC)
 			.build();
 
+		// 테스트 트랜잭션 안에서 삽입한 축제를 카탈로그에 반영
+		festivalCatalog.refresh();
+
 		// When
 		Page<FestivalResponse> resultPage = festivalService.getFestivalList(request);
 		List<String> sortedTitles = resultPage.getContent().stream()
@@ -18,6 +18,8 @@ import com.grm3355.zonie.apiserver.domain.auth.dto.LocationDto;
 import com.grm3355.zonie.apiserver.domain.auth.dto.LocationTokenResponse;
 import com.grm3355.zonie.apiserver.domain.auth.dto.UserTokenDto;
 import com.grm3355.zonie.apiserver.domain.auth.service.RedisTokenService;
+import com.grm3355.zonie.apiserver.domain.festival.dto.FestivalResponse;
+import com.grm3355.zonie.apiserver.domain.festival.service.FestivalCatalog;
 import com.grm3355.zonie.apiserver.global.jwt.UserDetailsImpl;
 import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
 import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
@@ -41,15 +43,19 @@ public class LocationServiceTest {
 	@Mock
 	private FestivalRepository festivalRepository;
 	@Mock
+	private FestivalCatalog festivalCatalog;
+	@Mock
 	private UserDetailsImpl userDetails;
 
 	@BeforeEach
 	void setUp() {
 		// LocationService 인스턴스를 생성자 주입 방식으로 수동 초기화
+		// 카탈로그 Mock은 기본적으로 축제를 찾지 못함 → PostGIS 조회 경로 검증
 		this.locationService = new LocationService(
 			DEFAULT_RADIUS_LIMIT,
 			redisTokenService,
-			festivalRepository
+			festivalRepository,
+			new FestivalGeofence(festivalCatalog, festivalRepository)
 		);
 		when(userDetails.getUsername()).thenReturn(MOCK_USER_ID);
 	}
@@ -253,6 +259,52 @@ public class LocationServiceTest {
 		verify(festivalRepository, times(1)).findByFestivalId(SEOUL_FESTIVAL_ID);
 	}
 
+	// --- 단위 테스트 4: 카탈로그 캐시 적중 ---
+
+	@Test
+	@DisplayName("카탈로그에 축제 중심 좌표가 있으면 DB 조회 없이 측지 거리로 검증한다")
+	void verifyAndGenerateTokenWithCachedFestivalCenter() {
+		// Given: 축제 중심(37.5, 127.0)에서 북쪽으로 약 0.9km 떨어진 사용자
+		LocationDto userLocation = createLocationDto(37.5081, 127.0);
+		FestivalResponse cachedFestival = FestivalResponse.builder()
+			.festivalId(SEOUL_FESTIVAL_ID)
+			.region("SEOUL")
+			.lat(37.5)
+			.lon(127.0)
+			.build();
+		when(festivalCatalog.findById(SEOUL_FESTIVAL_ID)).thenReturn(Optional.of(cachedFestival));
+
+		// When
+		LocationTokenResponse response = locationService.verifyAndGenerateToken(userDetails, SEOUL_FESTIVAL_ID,
+			userLocation);
+
+		// Then
+		assertNotNull(response);
+		verify(redisTokenService).generateLocationToken(any(UserTokenDto.class), eq(String.valueOf(SEOUL_FESTIVAL_ID)));
+		verifyNoInteractions(festivalRepository);
+	}
+
+	@Test
+	@DisplayName("카탈로그 캐시로 계산해도 서울 축제 반경(1.0km) 밖이면 BusinessException 발생")
+	void verifyAndGenerateTokenWithCachedFestivalCenterOutside() {
+		// Given: 축제 중심에서 약 1.1km 떨어진 사용자
+		LocationDto userLocation = createLocationDto(37.5099, 127.0);
+		FestivalResponse cachedFestival = FestivalResponse.builder()
+			.festivalId(SEOUL_FESTIVAL_ID)
+			.region("SEOUL")
+			.lat(37.5)
+			.lon(127.0)
+			.build();
+		when(festivalCatalog.findById(SEOUL_FESTIVAL_ID)).thenReturn(Optional.of(cachedFestival));
+
+		// When & Then
+		BusinessException exception = assertThrows(BusinessException.class, () ->
+			locationService.verifyAndGenerateToken(userDetails, SEOUL_FESTIVAL_ID, userLocation)
+		);
+		assert (exception.getErrorCode() == ErrorCode.FORBIDDEN);
+		verifyNoInteractions(festivalRepository);
+	}
+
 	// @Test
 	@Deprecated
 	@DisplayName("Haversine 공식 메서드(getDistanceCalculator) 테스트")
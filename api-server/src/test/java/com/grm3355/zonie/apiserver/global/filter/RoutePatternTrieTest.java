@@ -0,0 +1,63 @@
+package com.grm3355.zonie.apiserver.global.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+@DisplayName("RoutePatternTrie 단위 테스트")
+class RoutePatternTrieTest {
+
+	private static final List<String> PATTERNS = List.of(
+		"/api/v1/festivals",
+		"/api/v1/festivals/*",
+		"/api/v1/festivals/regions",
+		"/api/v1/festivals/*/chat-rooms",
+		"/api/v1/chat-rooms/*/join",
+		"/api/v1/user/me"
+	);
+
+	private static final List<String> URIS = List.of(
+		"/api/v1/festivals",
+		"/api/v1/festivals/",
+		"/api/v1/festivals/12",
+		"/api/v1/festivals/regions",
+		"/api/v1/festivals/12/chat-rooms",
+		"/api/v1/festivals/12/chat-rooms/3",
+		"/api/v1/chat-rooms/abc/join",
+		"/api/v1/chat-rooms//join",
+		"/api/v1//user/me",
+		"/api/v1/user/me/quit",
+		"/api/v2/festivals",
+		"/"
+	);
+
+	@Test
+	@DisplayName("AntPathMatcher 목록을 순서대로 검사(findFirst)한 결과와 같은 패턴을 반환한다")
+	void testSameResultAsAntPathMatcher() {
+		// given
+		AntPathMatcher antPathMatcher = new AntPathMatcher();
+		RoutePatternTrie trie = RoutePatternTrie.compile(PATTERNS);
+
+		for (String uri : URIS) {
+			// when
+			String expected = PATTERNS.stream()
+				.filter(pattern -> antPathMatcher.match(pattern, uri))
+				.findFirst()
+				.orElse(null);
+
+			// then
+			assertEquals(expected, trie.match(uri), uri);
+		}
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 패턴 문법은 기동 시점에 거부한다")
+	void testRejectUnsupportedPattern() {
+		assertThrows(IllegalArgumentException.class, () -> RoutePatternTrie.compile(List.of("/api/**")));
+		assertThrows(IllegalArgumentException.class, () -> RoutePatternTrie.compile(List.of("/api/{id}")));
+	}
+}
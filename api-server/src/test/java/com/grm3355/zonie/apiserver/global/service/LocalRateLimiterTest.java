@@ -0,0 +1,96 @@
+package com.grm3355.zonie.apiserver.global.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalRateLimiter 단위 테스트")
+class LocalRateLimiterTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Test
+	@DisplayName("토큰 버킷은 용량만큼 허용한 뒤 거부하고, 시간이 지나면 비율에 맞게 다시 채워진다")
+	void testBucketRefill() {
+		// given: 60초에 60회 (초당 1개)
+		long start = 0;
+		LocalRateLimiter.Bucket bucket = new LocalRateLimiter.Bucket(60, 60, start);
+
+		// when & then
+		for (int i = 0; i < 60; i++) {
+			assertTrue(bucket.tryConsume(start).allowed());
+		}
+		RateLimitDecision denied = bucket.tryConsume(start);
+		assertFalse(denied.allowed());
+		assertEquals(1000, denied.retryAfterMillis());
+		assertTrue(bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(1)).allowed());
+		assertFalse(bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(1)).allowed());
+	}
+
+	@Test
+	@DisplayName("Redis 동기화 결과 다른 인스턴스가 예산을 소진했으면 로컬 버킷도 거부한다")
+	@SuppressWarnings("unchecked")
+	void testReconcileWithGlobalCount() {
+		// given: 이 인스턴스는 1회만 사용했지만, 전체 인스턴스 합계는 이미 한도(10)에 도달
+		LocalRateLimiter limiter = new LocalRateLimiter(redisTemplate, 0, 0);
+		assertTrue(limiter.tryAcquire("1.2.3.4:/api/v1/festivals", 10, 60).allowed());
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(10L, true));
+
+		// when
+		limiter.syncWithRedis();
+
+		// then
+		assertFalse(limiter.tryAcquire("1.2.3.4:/api/v1/festivals", 10, 60).allowed());
+	}
+
+	@Test
+	@DisplayName("Redis 동기화가 실패해도 로컬 한도는 그대로 적용된다")
+	@SuppressWarnings("unchecked")
+	void testLocalLimitWhenRedisDown() {
+		// given
+		LocalRateLimiter limiter = new LocalRateLimiter(redisTemplate, 0, 0);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("redis down"));
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			assertTrue(limiter.tryAcquire("user-1:/api/v1/user/me", 3, 60).allowed());
+		}
+		limiter.syncWithRedis();
+
+		// then
+		assertFalse(limiter.tryAcquire("user-1:/api/v1/user/me", 3, 60).allowed());
+		assertEquals(1, limiter.bucketCount());
+	}
+
+	@Test
+	@DisplayName("Redis 동기화가 계속 실패해도 윈도우 동안 사용되지 않은 버킷은 제거된다")
+	@SuppressWarnings("unchecked")
+	void testEvictIdleBucketsWithoutSync() {
+		// given: 미반영 소비량이 남은 채로 동기화 실패
+		LocalRateLimiter limiter = new LocalRateLimiter(redisTemplate, 0, 0);
+		when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("redis down"));
+		assertTrue(limiter.tryAcquire("1.2.3.4:/api/v1/festivals", 10, 60).allowed());
+		limiter.syncWithRedis();
+
+		// when
+		limiter.evictIdleBuckets(System.nanoTime());
+		assertEquals(1, limiter.bucketCount());
+		limiter.evictIdleBuckets(System.nanoTime() + TimeUnit.SECONDS.toNanos(61));
+
+		// then
+		assertEquals(0, limiter.bucketCount());
+	}
+}
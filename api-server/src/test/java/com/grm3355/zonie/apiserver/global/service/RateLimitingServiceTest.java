@@ -0,0 +1,68 @@
+package com.grm3355.zonie.apiserver.global.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitingService 단위 테스트")
+class RateLimitingServiceTest {
+
+	@Mock
+	private RedisTemplate<String, String> redisTemplate;
+	@Mock
+	private LocalRateLimiter localRateLimiter;
+
+	@Test
+	@DisplayName("REDIS 모드는 GCRA 스크립트 1회 결과로 남은 요청 수와 재시도 대기 시간을 반환한다")
+	@SuppressWarnings("unchecked")
+	void testGcraDecision() {
+		// given
+		RateLimitingService service = new RateLimitingService(redisTemplate, localRateLimiter, RateLimitMode.REDIS);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+			.thenReturn(List.of(1L, 59L, 0L))
+			.thenReturn(List.of(0L, 0L, 1500L));
+
+		// when
+		RateLimitDecision allowed = service.check("1.2.3.4:/api/v1/festivals", 60, 60);
+		RateLimitDecision denied = service.check("1.2.3.4:/api/v1/festivals", 60, 60);
+
+		// then
+		assertTrue(allowed.allowed());
+		assertEquals(59, allowed.remaining());
+		assertFalse(denied.allowed());
+		assertEquals(1500, denied.retryAfterMillis());
+		verify(redisTemplate, times(2)).execute(any(RedisScript.class),
+			eq(List.of("rate_limit:gcra:1.2.3.4:/api/v1/festivals")), eq("1000000"), eq("60000000"));
+		verifyNoInteractions(localRateLimiter);
+	}
+
+	@Test
+	@DisplayName("Redis 스크립트가 실패하면 로컬 한도로 대체한다")
+	@SuppressWarnings("unchecked")
+	void testFallbackToLocalWhenRedisFails() {
+		// given
+		RateLimitingService service = new RateLimitingService(redisTemplate, localRateLimiter, RateLimitMode.REDIS);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+			.thenThrow(new RuntimeException("redis down"));
+		when(localRateLimiter.tryAcquire("user-1:/api/v1/user/me", 60, 60))
+			.thenReturn(RateLimitDecision.allow(60, 10));
+
+		// when
+		RateLimitDecision decision = service.check("user-1:/api/v1/user/me", 60, 60);
+
+		// then
+		assertTrue(decision.allowed());
+		assertEquals(10, decision.remaining());
+	}
+}
@@ -2,8 +2,12 @@ package com.grm3355.zonie.batchserver.config;
 
 import java.time.LocalDate;
 
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -11,6 +15,7 @@ import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.grm3355.zonie.batchserver.job.FestivalDataSyncJob;
@@ -23,10 +28,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FestivalSyncBatchConfig {        // Spring Batch의 Job, Step, Tasklet을 정의하는 설정 역할
 
+	// api-server FestivalCatalog가 구독: 동기화 완료 시 인메모리 축제 카탈로그 재적재
+	private static final String FESTIVAL_SYNCED_EVENT_CHANNEL = "festival-events:synced";
+
 	// 1. 기존 서비스 로직(festivalDataSyncJob) 주입
 	private final FestivalDataSyncJob festivalDataSyncJob;
 	private final JobRepository jobRepository;                        // Spring Batch가 Job 이력 저장할 DB
 	private final PlatformTransactionManager transactionManager;    // 트랜잭션 관리
+	private final StringRedisTemplate stringRedisTemplate;
 
 	// 2. Spring Batch "Job" 정의 (이름: festivalSyncJob)
 	@Bean
@@ -41,6 +50,7 @@ public class FestivalSyncBatchConfig {        // Spring Batch의 Job, Step, Task
 	public Step festivalSyncStep() {
 		return new StepBuilder("festivalSyncStep", jobRepository)
 			.tasklet(festivalSyncTasklet(), transactionManager)         // 4. 이 Step이 실행할 Tasklet
+			.listener(festivalSyncedEventListener())
 			.build();
 	}
 
@@ -62,4 +72,27 @@ public class FestivalSyncBatchConfig {        // Spring Batch의 Job, Step, Task
 			}
 		};
 	}
+
+	// 완료 이벤트는 Step 트랜잭션 커밋 이후에 발행 (커밋 전 발행 시 api-server가 이전 데이터를 다시 적재할 수 있음)
+	@Bean
+	public StepExecutionListener festivalSyncedEventListener() {
+		return new StepExecutionListener() {
+			@Override
+			public ExitStatus afterStep(StepExecution stepExecution) {
+				if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+					publishSyncedEvent();
+				}
+				return stepExecution.getExitStatus();
+			}
+		};
+	}
+
+	// 이벤트 유실 시에도 api-server는 주기 갱신으로 따라잡으므로 발행 실패가 Job을 실패시키지 않음
+	private void publishSyncedEvent() {
+		try {
+			stringRedisTemplate.convertAndSend(FESTIVAL_SYNCED_EVENT_CHANNEL, LocalDate.now().toString());
+		} catch (Exception e) {
+			log.warn(">>>>> 축제 동기화 완료 이벤트 발행 실패", e);
+		}
+	}
 }
@@ -13,10 +13,10 @@ public class RedisConfig {
 
 	/**
 	 * Batch Job (ChatRoomLastMsgAtSyncJob)에서 사용할 문자열 전용 RedisTemplate
-	 * - 'chatroom:participants:*'
-	 * - 'chatroom:last_msg_at:*'
-	 * - last_msg_content는 sync할 필요가 없음
-	 * 위 두 패턴의 키와 값을 조회할 때 사용됩니다.
+	 * - 'chatroom:active_rooms' (활성화 ZSET)
+	 * - 'chatroom:{roomId}' (채팅방 요약 Hash의 lastAt)
+	 * - lastContent는 sync할 필요가 없음
+	 * 위 키의 값을 조회할 때 사용됩니다.
 	 */
 	@Bean
 	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
@@ -5,13 +5,16 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grm3355.zonie.batchserver.service.ChatRoomCleanupService;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomUserRepository;
 import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatRoomDeletionJob {
 
 	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomUserRepository chatRoomUserRepository;
 	private final ChatRoomCleanupService chatRoomCleanupService;
 	private final FestivalRepository festivalRepository;
 
@@ -49,8 +53,9 @@ public class ChatRoomDeletionJob {
 		log.info("emptyRoomIds.size() = {}", emptyRoomIds.size());
 
 		if (!emptyRoomIds.isEmpty()) {
-			// 삭제될 채팅방들이 속한 축제 ID를 미리 조회
+			// 삭제될 채팅방들이 속한 축제 ID, 랭킹 정리용 채팅방 정보를 미리 조회
 			List<Long> affectedFestivalIds = chatRoomRepository.findFestivalIdsByRoomIds(emptyRoomIds);
+			List<ChatRoomInfoDto> rankedRooms = chatRoomRepository.chatRoomListByRoomIds(emptyRoomIds);
 
 			// 2. PG DB 삭제 (ON DELETE CASCADE로 ChatRoomUser 동시 삭제)
 			// 해당 JPQL 메서드가 내부적으로 @Transactional을 가짐
@@ -65,6 +70,7 @@ public class ChatRoomDeletionJob {
 
 			// 3. Redis/Mongo 정리
 			chatRoomCleanupService.cleanupDeletedRoomData(emptyRoomIds);
+			chatRoomCleanupService.removeFromRankings(rankedRooms);
 		}
 	}
 
@@ -83,12 +89,17 @@ public class ChatRoomDeletionJob {
 		List<String> inactiveRoomIds = chatRoomRepository.findInactiveRoomIds(inactiveCutoff);
 
 		if (!inactiveRoomIds.isEmpty()) {
+			// 참여자 ID를 미리 조회 (PG 삭제 시 ChatRoomUser가 CASCADE로 함께 삭제됨)
+			List<String> memberUserIds = chatRoomUserRepository.findUserIdsByChatRoomIds(inactiveRoomIds);
+			List<ChatRoomInfoDto> rankedRooms = chatRoomRepository.chatRoomListByRoomIds(inactiveRoomIds);
+
 			// 2. PG DB 삭제
 			long deletedCount = chatRoomRepository.deleteEmptyChatRoomsInPgTx(inactiveRoomIds);
 			log.info("[삭제] 24시간 이상 대화 없는 채팅방 {}개 삭제됨", deletedCount);
 
 			// 3. Redis/Mongo 정리
-			chatRoomCleanupService.cleanupDeletedRoomData(inactiveRoomIds);
+			chatRoomCleanupService.cleanupDeletedRoomData(inactiveRoomIds, memberUserIds);
+			chatRoomCleanupService.removeFromRankings(rankedRooms);
 		}
 	}
 
@@ -111,7 +122,14 @@ public class ChatRoomDeletionJob {
 
 		if (!endedFestivalRoomIds.isEmpty()) {
 			// PG 삭제는 FestivalDataSyncJob에 맡기고 Redis/Mongo 정리만
-			chatRoomCleanupService.cleanupDeletedRoomData(endedFestivalRoomIds);
+			List<String> memberUserIds = chatRoomUserRepository.findUserIdsByChatRoomIds(endedFestivalRoomIds);
+			chatRoomCleanupService.cleanupDeletedRoomData(endedFestivalRoomIds, memberUserIds);
+
+			// 랭킹: 전체 범위에서는 방을 제거하고, 종료된 축제의 랭킹 키는 통째로 삭제
+			List<ChatRoomInfoDto> rankedRooms = chatRoomRepository.chatRoomListByRoomIds(endedFestivalRoomIds);
+			chatRoomCleanupService.removeFromRankings(rankedRooms);
+			chatRoomCleanupService.deleteFestivalRankings(
+				rankedRooms.stream().map(ChatRoomInfoDto::festivalId).filter(Objects::nonNull).distinct().toList());
 			log.warn("[삭제] 축제 종료 채팅방 {}개 Redis/Mongo 정리 완료.", endedFestivalRoomIds.size());
 		}
 	}
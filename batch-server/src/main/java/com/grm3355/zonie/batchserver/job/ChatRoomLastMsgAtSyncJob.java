@@ -1,12 +1,19 @@
 package com.grm3355.zonie.batchserver.job;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSyncDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomSyncRepository;
 import com.grm3355.zonie.commonlib.global.util.RedisScanService;
@@ -19,108 +26,86 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatRoomLastMsgAtSyncJob {
 
-	private static final String LAST_MSG_AT_KEY_PATTERN = "chatroom:last_msg_at:*";
+	private static final String ACTIVE_ROOMS_KEY = "chatroom:active_rooms";
+	// 직전 실행과 겹쳐 읽는 구간 (채팅 서버 간 시계 차이, 실행 중 도착한 메시지 대비 / 이미 반영된 값은 쿼리에서 무시)
+	private static final long OVERLAP_MILLIS = 5 * 60 * 1000L;
+	private static final int CHUNK_SIZE = 1000;
 
+	private final StringRedisTemplate stringRedisTemplate;
 	private final RedisScanService redisScanService;
 	private final ChatRoomSyncRepository chatRoomSyncRepository;
 
+	// 직전 실행에서 반영한 최대 활성화 점수 (재시작 시 0 → 전체를 한 번 다시 반영)
+	private volatile double watermark = 0;
+
 	/**
 	 * 1분마다 실행되는 Redis to DB 동기화 Job
-	 * ChatRoom.lastMessageAt 필드를 갱신하여 PG 기반 정렬을 지원하는 목적
-	 * -> 동기화 필요가 없어져 비활성화합니다.
+	 * ChatRoom.lastMessageAt 필드를 갱신하여 PG 기반 정렬(키워드 검색, 커서 목록의 활성화 순)을 지원하는 목적
+	 * 1. chatroom:active_rooms에서 직전 실행 이후 점수가 바뀐 방만 조회 (ZRANGEBYSCORE)
+	 * 2. 채팅방 요약 Hash의 lastAt(실제 마지막 대화 시각)을 HMGET 파이프라인으로 조회
+	 *    - active_rooms 점수는 대화가 없는 방도 생성 시각으로 들어 있으므로 lastAt이 있는 방만 반영
+	 * 3. PostgreSQL Bulk Update (더 최신 값일 때만 덮어씀)
+	 * Redis 키는 실시간 조회에 계속 쓰이므로 삭제하지 않음
 	 */
-	// @Scheduled(fixedRate = 60000) // fixedRate = 60000ms = 1분
-	@Deprecated
+	@Scheduled(fixedRate = 60000) // fixedRate = 60000ms = 1분
 	public void syncRedisToDb() {
 		log.info("ChatRoomLastMsgAtSyncJob 시작: Redis 데이터(마지막 대화 시각)를 PostgreSQL로 동기화합니다.");
 
-		// 1. Redis 키 탐색: RedisScanService (SCAN)
-		Set<String> lastMsgAtKeys = redisScanService.scanKeys(LAST_MSG_AT_KEY_PATTERN);        // 마지막 대화 시각 키 스캔
-		if (lastMsgAtKeys.isEmpty()) {
+		// 1. 직전 실행 이후 활성화된 방 조회
+		double from = watermark > 0 ? watermark - OVERLAP_MILLIS : Double.NEGATIVE_INFINITY;
+		Set<ZSetOperations.TypedTuple<String>> changed = stringRedisTemplate.opsForZSet()
+			.rangeByScoreWithScores(ACTIVE_ROOMS_KEY, from, Double.POSITIVE_INFINITY);
+		if (changed == null || changed.isEmpty()) {
 			log.info("동기화할 데이터가 없습니다. Job을 종료합니다.");
 			return;
 		}
-		log.info("키 탐색 완료: 마지막 대화 시각 키 {}개", lastMsgAtKeys.size());
-
-		// 2. dto 변환 (MGET 파이프라인 호출 후 변환)
-		Map<String, String> lastMessageTimestamps = redisScanService.multiGetLastMessageTimestamps(lastMsgAtKeys);
-		List<ChatRoomSyncDto> syncDataList = mergeSyncData(lastMessageTimestamps); // DTO 리스트로 변환
-		if (syncDataList.isEmpty()) {
-			log.warn("키는 탐색되었으나 유효한 데이터를 DTO로 변환하지 못했습니다. Job을 종료합니다.");
-			return;
-		}
-		log.info("데이터 가공 완료: 총 {}개의 채팅방 데이터 DTO 변환 성공", syncDataList.size());
-
-		// 3. PostgreSQL Bulk Update 실행
-		try {
-			ChatRoomSyncRepository.SyncDataWrapper wrapper = new ChatRoomSyncRepository.SyncDataWrapper(
-				syncDataList);    // Native Query용 래퍼
-			String roomIdsArray = listToPgArray(wrapper.getRoomIds());
-			String timestampsArray = listToPgArray(wrapper.getTimestamps());
-
-			chatRoomSyncRepository.bulkUpdateChatRooms(
-				roomIdsArray,
-				timestampsArray
-			);
-			log.info("PostgreSQL Bulk Update 완료: {}건 처리", syncDataList.size());
-		} catch (Exception e) {
-			log.error("PostgreSQL Bulk Update 중 심각한 오류 발생. Redis 데이터는 삭제되지 않습니다.", e);
-			throw e; // 스케줄러가 오류를 인지하도록 예외를 다시 던짐
-		}
-
-		// 4. Redis 캐시 정리 (3번 DB 저장 성공 시 실행)
-		try {
-			// lastMsgAtKeys만 삭제
-			if (!lastMsgAtKeys.isEmpty()) {
-				redisScanService.deleteKeys(lastMsgAtKeys);
-				log.info("Redis 캐시 정리 완료: 총 {}개의 키 삭제", lastMsgAtKeys.size());
+		List<String> roomIds = changed.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+		double maxScore = changed.stream()
+			.map(ZSetOperations.TypedTuple::getScore)
+			.filter(Objects::nonNull)
+			.mapToDouble(Double::doubleValue)
+			.max()
+			.orElse(watermark);
+
+		// 2~3. 청크 단위로 마지막 대화 시각 조회 후 Bulk Update
+		int updated = 0;
+		for (List<String> chunk : chunks(roomIds)) {
+			Map<String, ChatRoomSummaryDto> summaries = redisScanService.multiGetRoomSummaries(chunk);
+			List<ChatRoomSyncDto> syncDataList = summaries.values().stream()
+				.filter(summary -> summary.lastMessageAt() != null)
+				.map(summary -> ChatRoomSyncDto.withLastMessageTimestamp(summary.roomId(), summary.lastMessageAt()))
+				.toList();
+			if (syncDataList.isEmpty()) {
+				continue;
+			}
+			try {
+				ChatRoomSyncRepository.SyncDataWrapper wrapper = new ChatRoomSyncRepository.SyncDataWrapper(
+					syncDataList);    // Native Query용 래퍼
+				chatRoomSyncRepository.bulkUpdateChatRooms(
+					listToPgArray(wrapper.getRoomIds()),
+					listToPgArray(wrapper.getTimestamps())
+				);
+				updated += syncDataList.size();
+			} catch (Exception e) {
+				// 워터마크를 올리지 않아 다음 실행에서 같은 구간을 다시 반영
+				log.error("PostgreSQL Bulk Update 중 심각한 오류 발생. 다음 주기에 다시 시도합니다.", e);
+				throw e; // 스케줄러가 오류를 인지하도록 예외를 다시 던짐
 			}
-		} catch (Exception e) {
-			// DB 저장은 성공했으나 Redis 삭제에 실패한 경우
-			// - 다음 1분 주기에 데이터가 중복 처리될 수 있지만
-			//   - last_message_at은 CASE 문으로 방어됨: ChatRoomSyncRepository 쿼리문 (타임스탬프 비교해 최신값일 때만 덮어씀)
-			log.error("DB 동기화는 성공했으나 Redis 키 삭제 중 오류 발생. 로그만 남깁니다.", e);
 		}
-		log.info("ChatRoomLastMsgAtSyncJob 완료");
-	}
 
-	/**
-	 * 두 종류의 Redis 데이터(참여자 수, 마지막 대화 시각)를 roomId를 기준으로 병합하여 DTO 리스트로 변환합니다.
-	 */
-	private List<ChatRoomSyncDto> mergeSyncData(
-		Map<String, String> lastMessageTimestamps) {
-
-		// 1. (Key, Value) -> (RoomId, Dto)로 변환
-		Map<String, ChatRoomSyncDto> timestampDtoMap = lastMessageTimestamps.entrySet().stream()
-			.collect(Collectors.toMap(
-				entry -> parseRoomId(entry.getKey()), // "chatroom:last_msg_at:123" -> 123
-				entry -> {
-					String timestampStr = entry.getValue();
-					if (timestampStr.startsWith("\"") && timestampStr.endsWith("\"")) { //  양 끝의 큰따옴표를 제거
-						timestampStr = timestampStr.substring(1, timestampStr.length() - 1);
-					}
-					return ChatRoomSyncDto.withLastMessageTimestamp(
-						parseRoomId(entry.getKey()),
-						Long.parseLong(timestampStr) // 수정된 문자열로 파싱 시도
-					);
-				}
-			));
-
-		// 2. Map<String, ChatRoomSyncDto> -> List<ChatRoomSyncDto>로 변환
-		return timestampDtoMap.values().stream().toList();
+		watermark = maxScore;
+		log.info("ChatRoomLastMsgAtSyncJob 완료: 활성화된 방 {}개 중 {}건 반영", roomIds.size(), updated);
 	}
 
-	/**
-	 * Redis 키에서 채팅방 ID를 파싱합니다.
-	 * (예: "chatroom:participants:123" -> 123)
-	 */
-	private String parseRoomId(String key) {
-		// "chatroom:last_msg_at:"
-		if (key.startsWith(LAST_MSG_AT_KEY_PATTERN.replace("*", ""))) {
-			return key.substring(LAST_MSG_AT_KEY_PATTERN.length() - 1);
+	private static List<List<String>> chunks(List<String> roomIds) {
+		if (roomIds.size() <= CHUNK_SIZE) {
+			return Collections.singletonList(roomIds);
+		}
+		List<List<String>> chunks = new ArrayList<>();
+		for (int i = 0; i < roomIds.size(); i += CHUNK_SIZE) {
+			chunks.add(roomIds.subList(i, Math.min(i + CHUNK_SIZE, roomIds.size())));
 		}
-		log.warn("알 수 없는 키 패턴에서 RoomId 파싱 실패: {}", key);
-		return null; // merge 로직에서 필터링됨
+		return chunks;
 	}
 
 	/**
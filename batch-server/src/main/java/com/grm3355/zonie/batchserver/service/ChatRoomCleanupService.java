@@ -1,6 +1,7 @@
 package com.grm3355.zonie.batchserver.service;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -12,9 +13,15 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
 import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
 import com.grm3355.zonie.commonlib.global.util.RedisScanService;
 import com.mongodb.client.result.UpdateResult;
 
@@ -26,18 +33,32 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatRoomCleanupService {
 
-	// Redis Key Prefix
+	// Redis Key Prefix (채팅방 요약 Hash 도입 이전 키, 남아 있는 방을 위해 함께 정리)
 	private static final String LAST_MSG_AT_KEY_PREFIX = "chatroom:last_msg_at:";
 	private static final String LAST_MSG_CONTENT_KEY_PREFIX = "chatroom:last_msg_content:";
 	private static final String NICKNAME_SEQ_KEY_PREFIX = "chatroom:nickname_seq:";
+	// 사용자별 참여 채팅방 인덱스 (api-server UserRoomIndex): user:{userId}:rooms
+	private static final String USER_ROOMS_KEY_PREFIX = "user:";
+	private static final String USER_ROOMS_KEY_SUFFIX = ":rooms";
+	// chat-server가 STOMP 세션 컨텍스트를 무효화하도록 알리는 채널
+	private static final String ROOM_DELETED_EVENT_CHANNEL = "chat-events:room-deleted";
 	private final RedisScanService redisScanService;
 	private final MongoTemplate mongoTemplate; // MongoDB 연결을 위해 주입
+	private final StringRedisTemplate stringRedisTemplate;
 
 	/**
 	 * PG DB에서 삭제된 ChatRoom ID에 연관된 모든 Redis 캐시와 MongoDB 메시지를 정리합니다.
 	 * @param chatRoomIds PG DB에서 삭제된 채팅방 ID 목록
 	 */
 	public void cleanupDeletedRoomData(Collection<String> chatRoomIds) {
+		cleanupDeletedRoomData(chatRoomIds, List.of());
+	}
+
+	/**
+	 * @param chatRoomIds PG DB에서 삭제된 채팅방 ID 목록
+	 * @param memberUserIds 삭제 전 해당 채팅방들의 참여자 ID 목록 (사용자별 채팅방 인덱스 정리용)
+	 */
+	public void cleanupDeletedRoomData(Collection<String> chatRoomIds, Collection<String> memberUserIds) {
 		if (chatRoomIds.isEmpty())
 			return;
 
@@ -45,6 +66,7 @@ public class ChatRoomCleanupService {
 		Set<String> keysToDelete = new HashSet<>();
 		chatRoomIds.forEach(roomId -> {
 			// 채팅방 관련 키 추가
+			keysToDelete.add(ChatRoomSummaryDto.key(roomId));
 			keysToDelete.add(LAST_MSG_AT_KEY_PREFIX + roomId);
 			keysToDelete.add(LAST_MSG_CONTENT_KEY_PREFIX + roomId);
 			keysToDelete.add(NICKNAME_SEQ_KEY_PREFIX + roomId);
@@ -57,6 +79,9 @@ public class ChatRoomCleanupService {
 			log.info("[Redis] ChatRoom ID 기반 {}개의 캐시 키 정리 완료.", keysToDelete.size());
 		}
 
+		// 1-1. 참여자별 채팅방 인덱스에서 삭제된 방 제거 (ZREM, 파이프라인)
+		removeFromUserRoomIndexes(chatRoomIds, memberUserIds);
+
 		// 2. MongoDB 메시지 삭제
 		long deletedMessages = deleteMessagesByRoomIds(chatRoomIds);
 
@@ -64,10 +89,96 @@ public class ChatRoomCleanupService {
 		//    -> MessageLikeCleanupJob은 30일이 지난 키를 정리하지만, DB 삭제 시 즉시 정리하는 것이 메모리 효율적입니다.
 		cleanupMessageLikeKeys(chatRoomIds);
 
+		// 4. chat-server에 삭제 이벤트 발행 (세션 컨텍스트 무효화)
+		publishRoomDeletedEvents(chatRoomIds);
+
 		log.info("[Cleanup Summary] 채팅방 {}개 삭제 관련 MongoDB {}건, Redis {}개 정리 완료.",
 			chatRoomIds.size(), deletedMessages, keysToDelete.size());
 	}
 
+	/**
+	 * 참여자별 채팅방 인덱스(user:{userId}:rooms)에서 삭제된 방을 제거합니다.
+	 * 실패해도 정리 작업을 막지 않습니다. (api-server가 조회 시 PG에 없는 방을 제거함)
+	 */
+	private void removeFromUserRoomIndexes(Collection<String> chatRoomIds, Collection<String> memberUserIds) {
+		if (memberUserIds.isEmpty()) {
+			return;
+		}
+		String[] roomIds = chatRoomIds.toArray(String[]::new);
+		try {
+			stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection; // 문자열 기반 명령
+				for (String userId : memberUserIds) {
+					stringConnection.zRem(USER_ROOMS_KEY_PREFIX + userId + USER_ROOMS_KEY_SUFFIX, roomIds);
+				}
+				return null;
+			});
+			log.info("[Redis] 참여자 {}명의 채팅방 인덱스 정리 완료.", memberUserIds.size());
+		} catch (Exception e) {
+			log.error("[Redis] 참여자 채팅방 인덱스 정리 실패", e);
+		}
+	}
+
+	/**
+	 * 축제별/전체 채팅방 랭킹(chatroom:rank:*)에서 삭제된 방을 제거합니다. (ZREM, 파이프라인)
+	 * 랭킹 멤버에 생성 시각이 들어가므로 PG 삭제 전에 조회한 채팅방 정보를 받습니다.
+	 * 실패해도 정리 작업을 막지 않습니다. (api-server가 조회 시 PG에 없는 방을 제거함)
+	 * @param rooms 삭제 대상 채팅방 (ChatRoomRepository.chatRoomListByRoomIds)
+	 */
+	public void removeFromRankings(Collection<ChatRoomInfoDto> rooms) {
+		if (rooms.isEmpty()) {
+			return;
+		}
+		try {
+			stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection; // 문자열 기반 명령
+				for (ChatRoomInfoDto room : rooms) {
+					String member = ChatRoomRankingKeys.member(room.createdAt(), room.chatRoomId());
+					for (Long scope : Arrays.asList(room.festivalId(), null)) {
+						stringConnection.zRem(ChatRoomRankingKeys.members(scope), member);
+						stringConnection.zRem(ChatRoomRankingKeys.activity(scope), member);
+						stringConnection.zRem(ChatRoomRankingKeys.created(scope), member);
+					}
+				}
+				return null;
+			});
+			log.info("[Redis] 채팅방 {}개 랭킹 정리 완료.", rooms.size());
+		} catch (Exception e) {
+			log.error("[Redis] 채팅방 랭킹 정리 실패", e);
+		}
+	}
+
+	/**
+	 * 종료된 축제의 랭킹 키를 삭제합니다. (해당 축제의 채팅방은 모두 삭제 대상)
+	 */
+	public void deleteFestivalRankings(Collection<Long> festivalIds) {
+		Set<String> keys = festivalIds.stream()
+			.flatMap(festivalId -> Stream.of(
+				ChatRoomRankingKeys.members(festivalId),
+				ChatRoomRankingKeys.activity(festivalId),
+				ChatRoomRankingKeys.created(festivalId),
+				ChatRoomRankingKeys.loaded(festivalId),
+				ChatRoomRankingKeys.loading(festivalId)))
+			.collect(Collectors.toSet());
+		if (!keys.isEmpty()) {
+			redisScanService.deleteKeys(keys);
+			log.info("[Redis] 종료 축제 {}개의 랭킹 키 정리 완료.", festivalIds.size());
+		}
+	}
+
+	/**
+	 * 삭제된 채팅방 ID를 chat-server로 발행합니다. (메시지 본문 = roomId)
+	 * 발행 실패는 정리 작업을 막지 않습니다. (chat-server 컨텍스트는 TTL로 만료됨)
+	 */
+	private void publishRoomDeletedEvents(Collection<String> chatRoomIds) {
+		try {
+			chatRoomIds.forEach(roomId -> stringRedisTemplate.convertAndSend(ROOM_DELETED_EVENT_CHANNEL, roomId));
+			log.info("[Redis Pub/Sub] 채팅방 삭제 이벤트 {}건 발행 완료.", chatRoomIds.size());
+		} catch (Exception e) {
+			log.error("[Redis Pub/Sub] 채팅방 삭제 이벤트 발행 실패", e);
+		}
+	}
+
 	/**
 	 * MongoDB에서 메시지 삭제 및 좋아요 키 정리 (메시지 ID를 모르므로 Room ID를 기준으로 처리)
 	 */
@@ -0,0 +1,108 @@
+package com.grm3355.zonie.chatserver.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.grm3355.zonie.commonlib.domain.message.dto.MessageBroadcastDto;
+import com.grm3355.zonie.commonlib.domain.message.enums.MessageType;
+
+/**
+ * 채팅 메시지 브로드캐스트 직렬화 비용 비교 (메시지 1건, 구독 서버 1대 기준)
+ * - legacy*: Message 엔티티 발행 → 구독 서버마다 역직렬화 + DTO 변환 + 재직렬화
+ * - serializeOnce*: 발행 서버에서 MessageBroadcastDto를 한 번만 직렬화 → 구독 서버는 byte[] 전달만
+ * 구독 서버 비용(legacySubscriber vs serializeOnceSubscriber)의 차이가 노드당 메시지당 절약되는 CPU 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BroadcastSerializationBenchmark {
+
+	private static final String STOMP_TOPIC = "/sub/chat-rooms/benchmark-room";
+
+	private ObjectMapper objectMapper;
+	private com.grm3355.zonie.commonlib.domain.message.entity.Message message;
+	private byte[] legacyPayload;
+	private byte[] serializeOncePayload;
+
+	@Setup
+	public void setUp() throws Exception {
+		// Spring Boot 기본 ObjectMapper와 동일한 설정 (JavaTimeModule, ISO-8601 날짜)
+		objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+		// 좋아요가 어느 정도 쌓인 메시지 (likedByUserIds는 legacy 방식에서만 전송됨)
+		Set<String> likedByUserIds = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			likedByUserIds.add("user-" + i);
+		}
+		message = com.grm3355.zonie.commonlib.domain.message.entity.Message.builder()
+			.id(new ObjectId().toHexString())
+			.chatRoomId("benchmark-room")
+			.userId("benchmark-user")
+			.nickname("#3355")
+			.content("축제 메인 무대 앞에서 만나요! 지금 공연 시작했어요")
+			.type(MessageType.TEXT)
+			.createdAt(LocalDateTime.now())
+			.likeCount(likedByUserIds.size())
+			.likedByUserIds(likedByUserIds)
+			.build();
+
+		legacyPayload = objectMapper.writeValueAsBytes(message);
+		serializeOncePayload = objectMapper.writeValueAsBytes(MessageBroadcastDto.from(message));
+	}
+
+	// --- 발행 서버 (메시지당 1회) ---
+
+	@Benchmark
+	public byte[] legacyPublisher() throws Exception {
+		return objectMapper.writeValueAsBytes(message);
+	}
+
+	@Benchmark
+	public byte[] serializeOncePublisher() throws Exception {
+		return objectMapper.writeValueAsBytes(MessageBroadcastDto.from(message));
+	}
+
+	// --- 구독 서버 (메시지당, 노드마다) ---
+
+	@Benchmark
+	public Message<byte[]> legacySubscriber() throws Exception {
+		com.grm3355.zonie.commonlib.domain.message.entity.Message parsed =
+			objectMapper.readValue(legacyPayload, com.grm3355.zonie.commonlib.domain.message.entity.Message.class);
+		byte[] converted = objectMapper.writeValueAsBytes(MessageBroadcastDto.from(parsed));
+		return toStompMessage(converted);
+	}
+
+	@Benchmark
+	public Message<byte[]> serializeOnceSubscriber() {
+		return toStompMessage(serializeOncePayload);
+	}
+
+	private Message<byte[]> toStompMessage(byte[] payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setDestination(STOMP_TOPIC);
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+}
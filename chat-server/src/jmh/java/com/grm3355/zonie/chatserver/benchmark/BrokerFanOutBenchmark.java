@@ -0,0 +1,106 @@
+package com.grm3355.zonie.chatserver.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.grm3355.zonie.chatserver.handler.ChatRoomBrokerMessageHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 한 채팅방에 구독자가 1k/10k명일 때 메시지 1건의 브로커 fan-out 지연 시간 비교
+ * - simpleBroker: Spring SimpleBrokerMessageHandler (DefaultSubscriptionRegistry)
+ * - chatRoomBroker: ChatRoomBrokerMessageHandler (destination 완전 일치 + Copy-on-Write 배열)
+ * outbound 채널은 전달 건수만 세는 동기 채널이므로 순수 브로커 비용만 측정됩니다.
+ * 다른 방(other-room) 구독자도 함께 등록해 destination 매칭 비용을 포함합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrokerFanOutBenchmark {
+
+	private static final String ROOM_TOPIC = "/sub/chat-rooms/benchmark-room";
+	private static final int OTHER_ROOMS = 100;
+
+	@Param({"1000", "10000"})
+	private int subscribers;
+
+	private final LongAdder delivered = new LongAdder();
+	private SimpleBrokerMessageHandler simpleBroker;
+	private ChatRoomBrokerMessageHandler chatRoomBroker;
+	private Message<byte[]> broadcast;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel();
+		outbound.subscribe(message -> delivered.increment());
+
+		simpleBroker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), outbound,
+			new ExecutorSubscribableChannel(), List.of("/sub"));
+		chatRoomBroker = new ChatRoomBrokerMessageHandler(new ExecutorSubscribableChannel(), outbound,
+			new ExecutorSubscribableChannel(), List.of("/sub/chat-rooms/"), new SimpleMeterRegistry(), 200, 0, 20);
+		simpleBroker.start();
+		chatRoomBroker.start();
+
+		subscribeAll(simpleBroker);
+		subscribeAll(chatRoomBroker);
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(ROOM_TOPIC);
+		broadcast = MessageBuilder.createMessage("{\"content\":\"hello\"}".getBytes(), accessor.getMessageHeaders());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		simpleBroker.stop();
+		chatRoomBroker.stop();
+	}
+
+	@Benchmark
+	public long simpleBroker() {
+		simpleBroker.handleMessage(broadcast);
+		return delivered.sum();
+	}
+
+	@Benchmark
+	public long chatRoomBroker() {
+		chatRoomBroker.handleMessage(broadcast);
+		return delivered.sum();
+	}
+
+	private void subscribeAll(AbstractBrokerMessageHandler broker) {
+		for (int i = 0; i < subscribers; i++) {
+			broker.handleMessage(subscribe("session-" + i, ROOM_TOPIC));
+		}
+		for (int i = 0; i < OTHER_ROOMS; i++) {
+			broker.handleMessage(subscribe("other-session-" + i, "/sub/chat-rooms/other-room-" + i));
+		}
+	}
+
+	private Message<byte[]> subscribe(String sessionId, String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
@@ -0,0 +1,37 @@
+package com.grm3355.zonie.chatserver.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+
+import com.grm3355.zonie.chatserver.handler.ChatRoomBrokerMessageHandler;
+import com.grm3355.zonie.chatserver.service.ChatRoomBroadcaster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 채팅방 토픽 전용 브로커 등록
+ * WebSocketMessageBrokerConfigurationSupport가 만든 채널을 그대로 사용하므로 클라이언트 변경 없이 /sub/chat-rooms/{roomId}를 처리함
+ */
+@Configuration
+public class ChatRoomBrokerConfig {
+
+	@Bean
+	public ChatRoomBrokerMessageHandler chatRoomBrokerMessageHandler(
+		@Qualifier("clientInboundChannel") SubscribableChannel clientInboundChannel,
+		@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+		@Qualifier("brokerChannel") SubscribableChannel brokerChannel,
+		MeterRegistry meterRegistry,
+		@Value("${chat.replay.buffer-size:200}") int replayBufferSize,
+		@Value("${chat.replay.retain-ms:30000}") long replayRetainMillis,
+		@Value("${chat.websocket.coalesce.window-ms:20}") long coalesceWindowMillis) {
+		return new ChatRoomBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+			List.of(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX), meterRegistry, replayBufferSize, replayRetainMillis,
+			coalesceWindowMillis);
+	}
+}
@@ -1,18 +1,26 @@
 package com.grm3355.zonie.chatserver.config;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.chatserver.service.ChatRoomBroadcaster;
+import com.grm3355.zonie.chatserver.service.ChatNodeIdentity;
+import com.grm3355.zonie.chatserver.service.ChatRoomContextService;
+import com.grm3355.zonie.chatserver.service.LikeUpdateAggregator;
+import com.grm3355.zonie.chatserver.service.MessageRedisPublisher;
 import com.grm3355.zonie.commonlib.domain.message.dto.LikeUpdatePushDto;
-import com.grm3355.zonie.commonlib.domain.message.dto.MessageBroadcastDto;
-import com.grm3355.zonie.commonlib.domain.message.entity.Message;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,14 +32,24 @@ public class RedisSubscriberConfig {
 
 	private final SimpMessageSendingOperations messagingTemplate;
 	private final ObjectMapper objectMapper;
+	private final ChatRoomContextService chatRoomContextService;
+	private final ChatRoomBroadcaster chatRoomBroadcaster;
+	private final LikeUpdateAggregator likeUpdateAggregator;
+	private final ChatNodeIdentity chatNodeIdentity;
 	// private final ChatRoomService chatRoomService;
 
+	@Value("${chat.threads.virtual.enabled:false}")
+	private boolean virtualThreadsEnabled;
+
 	// (2) 메시지 리스너 어댑터: 실제 핸들러(RedisSubscriber)를 연결
-	// (2-A) 실제 채팅용 메시지 리스너 어댑터
+	// (2-A) 실제 채팅용 메시지 리스너
+	// 발행 서버가 직렬화한 MessageBroadcastDto JSON(byte[])을 변환 없이 STOMP 브로커로 전달
+	// 메시지 본문: origin 노드 ID(16바이트) + JSON (ChatNodeIdentity)
 	@Bean
-	MessageListenerAdapter chatListenerAdapter() {
-		// RedisSubscriber의 "handleMessage" 메소드가 메시지를 처리하도록 설정
-		return new MessageListenerAdapter(new RedisSubscriber(), "handleMessage");
+	MessageListener chatMessageListener() {
+		RedisSubscriber subscriber = new RedisSubscriber();
+		return (message, pattern) -> subscriber.handleMessage(message.getBody(),
+			new String(message.getChannel(), StandardCharsets.UTF_8));
 	}
 
 	// (2-B) Echo 테스트용 메시지 리스너 어댑터
@@ -56,29 +74,39 @@ public class RedisSubscriberConfig {
 		return new MessageListenerAdapter(new RedisSubscriber(), "handleLikeEvent");
 	}
 
-	// (2-E) 퇴장 이벤트 리스너 어댑터
-	// @Bean
-	@Deprecated
+	// (2-E) 퇴장 이벤트 리스너 어댑터: 세션 컨텍스트 무효화 용도
+	@Bean
 	MessageListenerAdapter leaveEventListenerAdapter() {
 		// RedisSubscriber의 "handleLeaveEvent" 메소드가 메시지를 처리하도록 설정
 		return new MessageListenerAdapter(new RedisSubscriber(), "handleLeaveEvent");
 	}
 
+	// (2-F) 채팅방 삭제 이벤트 리스너 어댑터: 세션 컨텍스트 무효화 용도
+	@Bean
+	MessageListenerAdapter roomDeletedEventListenerAdapter() {
+		// RedisSubscriber의 "handleRoomDeletedEvent" 메소드가 메시지를 처리하도록 설정
+		return new MessageListenerAdapter(new RedisSubscriber(), "handleRoomDeletedEvent");
+	}
+
 	// (3) Redis 메시지 리스너 컨테이너: 어떤 채널을 구독할지 설정
 	@Bean
 	RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory,
-		MessageListenerAdapter chatListenerAdapter,
 		MessageListenerAdapter echoListenerAdapter,
 		// MessageListenerAdapter joinEventListenerAdapter,
-		MessageListenerAdapter likeEventListenerAdapter
-		// , MessageListenerAdapter leaveEventListenerAdapter
+		MessageListenerAdapter likeEventListenerAdapter,
+		MessageListenerAdapter leaveEventListenerAdapter,
+		MessageListenerAdapter roomDeletedEventListenerAdapter
 	) {
 
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
+		if (virtualThreadsEnabled) {
+			// 리스너 호출(메시지 1건당 1 task)을 가상 스레드에서 실행
+			container.setTaskExecutor(new VirtualThreadTaskExecutor("redis-listener-"));
+		}
 
-		// "chat-room:*" 패턴을 구독 (chatListenerAdapter 사용)
-		container.addMessageListener(chatListenerAdapter, new PatternTopic("chat-room:*"));
+		// "chat-room:{roomId}" 채널은 패턴(chat-room:*)으로 전부 구독하지 않고,
+		// 로컬 STOMP 구독자가 있는 방만 ChatRoomSubscriptionRegistry가 동적으로 구독함 (chatMessageListener 사용)
 
 		// "echo-channel" 토픽을 구독 (echoListenerAdapter 사용)
 		container.addMessageListener(echoListenerAdapter, new ChannelTopic("echo-channel"));
@@ -90,7 +118,10 @@ public class RedisSubscriberConfig {
 		container.addMessageListener(likeEventListenerAdapter, new ChannelTopic("chat-events:like"));
 
 		// "chat-events:leave" 토픽을 구독 (leaveEventListenerAdapter 사용)
-		// container.addMessageListener(leaveEventListenerAdapter, new ChannelTopic("chat-events:leave"));
+		container.addMessageListener(leaveEventListenerAdapter, new ChannelTopic("chat-events:leave"));
+
+		// "chat-events:room-deleted" 토픽을 구독 (roomDeletedEventListenerAdapter 사용)
+		container.addMessageListener(roomDeletedEventListenerAdapter, new ChannelTopic("chat-events:room-deleted"));
 
 		return container;
 	}
@@ -105,26 +136,31 @@ public class RedisSubscriberConfig {
 
 		/**
 		 * 채팅 메세지 핸들러
+		 * 페이로드는 발행 서버에서 한 번만 직렬화된 MessageBroadcastDto JSON이므로 파싱하지 않고 그대로 전달
+		 * 이 서버가 발행한 메시지는 이미 로컬 구독자에게 전달했으므로 무시 (origin 노드 ID 비교)
 		 */
-		public void handleMessage(String messageJson, String channel) {
+		public void handleMessage(byte[] envelope, String channel) {
 			try {
-				// 1. JSON 파싱
-				Message message = objectMapper.readValue(messageJson, Message.class);
-
-				// 2. Message 객체에서 실제 roomId 가져오기
-				String roomId = message.getChatRoomId(); // e.g., "my-local-room"
-				if (roomId == null || roomId.isEmpty()) {
-					log.error("Message에 chatRoomId가 없습니다!");
+				// 1. 채널명(chat-room:{roomId})에서 roomId 가져오기
+				String roomId = channel.substring(MessageRedisPublisher.ROOM_CHANNEL_PREFIX.length());
+				if (roomId.isEmpty()) {
+					log.error("채널에 chatRoomId가 없습니다! [Channel: {}]", channel);
+					return;
+				}
+				if (envelope.length < ChatNodeIdentity.NODE_ID_LENGTH) {
+					log.error("잘못된 메시지 형식입니다! [Channel: {}]", channel);
 					return;
 				}
 
-				// 3. STOMP 토픽 생성
-				String stompTopic = "/sub/chat-rooms/" + roomId;
-				log.info(">>> REDIS SUB RECV [Channel: {}] -> [StompTopic: {}]", channel, stompTopic);
+				// 2. 자기 자신이 발행한 메시지(echo)는 건너뜀
+				if (chatNodeIdentity.isOwnEcho(envelope)) {
+					return;
+				}
+				log.debug(">>> REDIS SUB RECV [Channel: {}] -> [StompTopic: {}{}]", channel,
+					ChatRoomBroadcaster.ROOM_TOPIC_PREFIX, roomId);
 
-				// 4. MessageResponse DTO로 변환해 해당 STOMP 토픽으로 메시지 브로드캐스팅
-				MessageBroadcastDto dto = MessageBroadcastDto.from(message);
-				messagingTemplate.convertAndSend(stompTopic, dto);
+				// 3. 해당 STOMP 토픽으로 미리 인코딩된 페이로드 브로드캐스팅
+				chatRoomBroadcaster.broadcast(roomId, ChatNodeIdentity.unwrap(envelope));
 
 			} catch (Exception e) {
 				log.error("RedisSubscriber handleMessage Error", e);
@@ -175,12 +211,11 @@ public class RedisSubscriberConfig {
 					return;
 				}
 
-				// 3. STOMP 토픽 생성
-				String stompTopic = "/sub/chat-rooms/" + roomId;
-				log.info(">>> REDIS SUB RECV [Channel: chat-events:like] -> [StompTopic: {}]", stompTopic);
+				log.debug(">>> REDIS SUB RECV [Channel: chat-events:like] -> Room: {}, Message: {}", roomId,
+					dto.getMessageId());
 
-				// 4. 해당 STOMP 토픽으로 LikeUpdatePushDto 브로드캐스팅
-				messagingTemplate.convertAndSend(stompTopic, dto);
+				// 3. 메시지 단위로 모았다가 tick마다 최신 좋아요 수만 브로드캐스팅 (LikeUpdateAggregator)
+				likeUpdateAggregator.submit(dto);
 			} catch (Exception e) {
 				log.error("RedisSubscriber handleLikeEvent Error", e);
 			}
@@ -188,14 +223,14 @@ public class RedisSubscriberConfig {
 
 		/**
 		 * 'chat-events:leave' 채널을 처리하는 핸들러 (명시적 퇴장 이벤트)
+		 * api-server에서 퇴장(DB 삭제) 완료 후 발행 -> 해당 사용자의 세션 컨텍스트 무효화
 		 */
-		/*
 		public void handleLeaveEvent(String messageJson) {
 			try {
-				// 1. JSON 파싱: join 이벤트와 동일하게 userId와 roomId를 추출한다고 가정
-				Map<String, String> event = objectMapper.readValue(messageJson, Map.class);
-				String userId = event.get("userId");
-				String roomId = event.get("roomId");
+				// 1. JSON 파싱
+				Map<String, Object> event = objectMapper.readValue(messageJson, Map.class);
+				String userId = (String)event.get("userId");
+				String roomId = (String)event.get("roomId");
 
 				if (userId == null || roomId == null) {
 					log.error("Invalid leave event message: {}", messageJson);
@@ -204,13 +239,25 @@ public class RedisSubscriberConfig {
 
 				log.info(">>> REDIS SUB RECV [Channel: chat-events:leave] -> User: {}, Room: {}", userId, roomId);
 
-				// 2. ChatRoomService의 leaveRoom 로직 호출
-				chatRoomService.leaveRoom(userId, roomId);
+				// 2. 세션 컨텍스트 무효화 (다음 /send 시 PG에서 멤버십 재확인)
+				chatRoomContextService.invalidateUser(userId, roomId);
 
 			} catch (Exception e) {
 				log.error("RedisSubscriber handleLeaveEvent Error", e);
 			}
 		}
+
+		/**
+		 * 'chat-events:room-deleted' 채널을 처리하는 핸들러 (batch-server 채팅방 삭제 이벤트)
+		 * 메시지 본문은 삭제된 roomId 문자열
 		 */
+		public void handleRoomDeletedEvent(String roomId) {
+			if (roomId == null || roomId.isEmpty()) {
+				log.error("Invalid room-deleted event message.");
+				return;
+			}
+			log.info(">>> REDIS SUB RECV [Channel: chat-events:room-deleted] -> Room: {}", roomId);
+			chatRoomContextService.invalidateRoom(roomId);
+		}
 	}
 }
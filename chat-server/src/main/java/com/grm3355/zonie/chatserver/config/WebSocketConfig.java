@@ -1,12 +1,16 @@
 package com.grm3355.zonie.chatserver.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.grm3355.zonie.chatserver.handler.OutboundQueueDecoratorFactory;
 import com.grm3355.zonie.chatserver.util.JwtChannelInterceptor;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +21,20 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final JwtChannelInterceptor jwtChannelInterceptor;
+	private final OutboundQueueDecoratorFactory outboundQueueDecoratorFactory;
+
+	@Value("${chat.websocket.outbound.send-time-limit-ms:10000}")
+	private int sendTimeLimitMillis;
+
+	@Value("${chat.websocket.outbound.buffer-size-limit:524288}")
+	private int sendBufferSizeLimit;
+
+	// 가상 스레드 모드: inbound/outbound 채널을 가상 스레드로 처리 (저장소 동시 호출 수는 StoreBulkheads가 제한)
+	@Value("${chat.threads.virtual.enabled:false}")
+	private boolean virtualThreadsEnabled;
+
+	@Value("${chat.threads.virtual.channel-concurrency:1024}")
+	private int virtualChannelConcurrency;
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -32,9 +50,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registry.setApplicationDestinationPrefixes("/app");
 
 		// server -> client 메세지 수신 (Sub) 엔드포인트: /sub
-		// RedisSubscriber가 Redis(Pub/Sub)에서 받은 메시지를
-		// 이곳에 등록된 SimpleBroker(/sub)로 전송하여 클라이언트에게 브로드캐스팅함.
-		registry.enableSimpleBroker("/sub");
+		// - /sub/chat-rooms/{roomId}: ChatRoomBrokerMessageHandler (ChatRoomBrokerConfig)
+		//   RedisSubscriber가 Redis(Pub/Sub)에서 받은 메시지를 채팅방 전용 브로커로 전송하여 클라이언트에게 브로드캐스팅함.
+		// - 그 외(/sub/echo): SimpleBroker (CONNECT/DISCONNECT 응답도 SimpleBroker가 담당)
+		registry.enableSimpleBroker("/sub/echo");
 
 	}
 
@@ -42,5 +61,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	public void configureClientInboundChannel(ChannelRegistration registration) {
 		// 클라이언트에서 들어오는 메시지 (CONNECT, SEND, SUBSCRIBE 등)를 가로챕니다.
 		registration.interceptors(jwtChannelInterceptor);
+		if (virtualThreadsEnabled) {
+			registration.executor(virtualChannelExecutor("ws-inbound-"));
+		}
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		if (virtualThreadsEnabled) {
+			registration.executor(virtualChannelExecutor("ws-outbound-"));
+		}
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		// 세션별 유한 outbound 큐(Slow-consumer 격리) + 전송 시간/버퍼 한도
+		// 실제 한도는 BoundedOutboundSessionDecorator가 적용하고, Spring 기본 데코레이터에도 같은 값을 설정함
+		registration.addDecoratorFactory(outboundQueueDecoratorFactory);
+		registration.setSendTimeLimit(sendTimeLimitMillis);
+		registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+	}
+
+	private ThreadPoolTaskExecutor virtualChannelExecutor(String threadNamePrefix) {
+		// 가상 스레드는 생성 비용이 작으므로 큐에 쌓지 않고 동시 처리 수만 제한
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setVirtualThreads(true);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setCorePoolSize(virtualChannelConcurrency);
+		executor.setMaxPoolSize(virtualChannelConcurrency);
+		executor.setAllowCoreThreadTimeOut(true);
+		return executor;
 	}
 }
@@ -13,8 +13,10 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import com.grm3355.zonie.chatserver.dto.ChatLocationDto;
+import com.grm3355.zonie.chatserver.dto.ChatRoomSessionContext;
 import com.grm3355.zonie.chatserver.dto.MessageSendRequest;
 import com.grm3355.zonie.chatserver.service.ChatLocationService;
+import com.grm3355.zonie.chatserver.service.ChatRoomContextService;
 import com.grm3355.zonie.chatserver.service.MessageService;
 import com.grm3355.zonie.commonlib.global.exception.ApiErrorPayload;
 import com.grm3355.zonie.commonlib.global.exception.BusinessException;
@@ -31,6 +33,7 @@ public class ChatRoomHandler {
 	private static final String USER_ID_ATTR = "userId";
 	private final MessageService messageService;
 	private final ChatLocationService chatLocationService;
+	private final ChatRoomContextService chatRoomContextService;
 	private final SimpMessagingTemplate messagingTemplate;
 
 	/**
@@ -67,10 +70,15 @@ public class ChatRoomHandler {
 
 		// 위치 토큰 TTL/위치 갱신 시도
 		try {
+			// 세션 컨텍스트 적재 (입장 시점에 PG 1회 조회, 이후 /send는 세션 속성만 사용)
+			ChatRoomSessionContext context = chatRoomContextService.refresh(
+				accessor.getSessionAttributes(), userId, roomId);
+
 			// 반경 밖이라도 예외를 던지지 않고 토큰 발급만 건너뛰고, 예외는 던지지 않아 입장을 막지 않음
 			chatLocationService.setLocationTokenOnJoin(
 				userId,
 				roomId,
+				context.festivalId(),
 				locationPayload.getLat(),
 				locationPayload.getLon()
 			);
@@ -93,6 +101,9 @@ public class ChatRoomHandler {
 		String userId = getUserIdFromSession(accessor);
 		log.info(">>> STOMP RECV /app/chat-rooms/{}/leave [User: {}]", roomId, userId);
 
+		// 세션 컨텍스트 제거: 퇴장 후 /send 시 PG에서 멤버십을 다시 확인
+		chatRoomContextService.evict(accessor.getSessionAttributes(), roomId);
+
 		// 퇴장 로직 (Redis Set 제거, DB 삭제) -> API Server 대체
 		// 클라이언트는 API Server의 POST /join을 먼저 호출하고 STOMP 연결을 시도해야 함.
 	}
@@ -111,15 +122,19 @@ public class ChatRoomHandler {
 		String userId = getUserIdFromSession(accessor);
 		String content = request.getContent();
 
-		// 1. Location-Token 헤더 검증
-		chatLocationService.validateChatRoomEntry(userId, roomId);
+		// 0. 세션 컨텍스트 조회 (없으면 최초 1회 PG 적재)
+		ChatRoomSessionContext context = chatRoomContextService.getOrLoad(
+			accessor.getSessionAttributes(), userId, roomId);
+
+		// 1. Location-Token 헤더 검증 (Redis만 조회)
+		chatLocationService.validateChatRoomEntry(userId, context.festivalId());
 
 		// STOMP 핸들러가 메시지를 받았는지 로그 확인
 		log.debug(">>> STOMP RECV /app/chat-rooms/{}/send [User: {}, Msg: {}]",
 			roomId, userId, content);
 
 		// 2. 메시지 저장 및 발행
-		messageService.sendMessage(userId, roomId, content);
+		messageService.sendMessage(context, content);
 	}
 
 	/**
@@ -0,0 +1,16 @@
+package com.grm3355.zonie.chatserver.dto;
+
+/**
+ * STOMP 세션 속성에 보관하는 채팅방 컨텍스트
+ * /join 또는 첫 /send 시점에 PG에서 한 번만 조회하고, 이후 메시지 전송은 DB 조회 없이 이 값을 사용합니다.
+ */
+public record ChatRoomSessionContext(
+	String userId,          // 보낸 사람
+	String roomId,          // chat_rooms.chat_room_id
+	Long roomPk,            // chat_rooms.id
+	Long festivalId,        // 위치 토큰 키(locationToken:{userId}:{festivalId}) 생성용
+	String nickname,        // chat_room_user.nick_name
+	long roomCreatedAt,     // 채팅방 생성 시각 (ChatRoomRankingKeys.createdAtMillis, 랭킹 ZSET 멤버 생성용)
+	long loadedAt           // 컨텍스트 적재 시각 (epoch millis, TTL/무효화 판단용)
+) {
+}
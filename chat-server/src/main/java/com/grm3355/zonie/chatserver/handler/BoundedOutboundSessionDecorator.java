@@ -0,0 +1,240 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 유한 outbound 큐
+ * - sendMessage는 큐에 적재만 하고 즉시 반환 → 느린 클라이언트가 outbound 채널 스레드를 점유하지 않음
+ * - 세션당 하나의 drain 작업이 전용 Executor에서 순서대로 전송
+ * - 프레임 수/바이트 한도 초과 시 OutboundOverflowPolicy 적용, 전송 1건이 send-time-limit를 넘기면 연결 종료
+ *   - 새 프레임이 오지 않아도 OutboundQueueDecoratorFactory가 주기적으로 closeIfSendStalled를 호출해 검사
+ */
+@Slf4j
+public class BoundedOutboundSessionDecorator extends WebSocketSessionDecorator {
+
+	private static final String MESSAGE_FRAME_PREFIX = "MESSAGE\n";
+
+	private final int maxFrames;
+	private final int bufferSizeLimit;
+	private final long sendTimeLimitNanos;
+	private final OutboundOverflowPolicy overflowPolicy;
+	private final Executor sendExecutor;
+	private final OutboundQueueDecoratorFactory monitor;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Deque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+	private int pendingBytes;
+	private boolean draining;
+	private final AtomicBoolean limitExceeded = new AtomicBoolean();
+	private volatile long sendStartNanos; // 0: 전송 중 아님
+
+	public BoundedOutboundSessionDecorator(WebSocketSession delegate, int maxFrames, int bufferSizeLimit,
+		long sendTimeLimitMillis, OutboundOverflowPolicy overflowPolicy, Executor sendExecutor,
+		OutboundQueueDecoratorFactory monitor) {
+		super(delegate);
+		this.maxFrames = maxFrames;
+		this.bufferSizeLimit = bufferSizeLimit;
+		this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+		this.overflowPolicy = overflowPolicy;
+		this.sendExecutor = sendExecutor;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) throws IOException {
+		if (limitExceeded.get()) {
+			return;
+		}
+
+		String closeReason = null;
+		boolean startDrain = false;
+		lock.lock();
+		try {
+			if (isSendTimeExceeded()) {
+				closeReason = "send-time-limit";
+			} else {
+				queue.addLast(message);
+				pendingBytes += message.getPayloadLength();
+				closeReason = applyOverflowPolicy();
+				if (closeReason == null && !draining) {
+					draining = true;
+					startDrain = true;
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (closeReason != null) {
+			closeForLimit(closeReason);
+		} else if (startDrain) {
+			sendExecutor.execute(this::drain);
+		}
+	}
+
+	public int getPendingFrames() {
+		lock.lock();
+		try {
+			return queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getPendingBytes() {
+		lock.lock();
+		try {
+			return pendingBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 현재 진행 중인 전송의 경과 시간 (전송 중이 아니면 0)
+	 */
+	public long getCurrentSendMillis() {
+		long start = sendStartNanos;
+		return start == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	/**
+	 * 진행 중인 전송이 send-time-limit를 넘겼으면 연결을 종료합니다. (주기 검사용)
+	 * - 종료는 sendExecutor에서 수행 → 검사 스레드가 막힌 세션의 close를 기다리지 않음
+	 */
+	void closeIfSendStalled() {
+		if (!limitExceeded.get() && isSendTimeExceeded()) {
+			sendExecutor.execute(() -> closeForLimit("send-time-limit"));
+		}
+	}
+
+	private boolean isSendTimeExceeded() {
+		long start = sendStartNanos;
+		return start != 0 && System.nanoTime() - start > sendTimeLimitNanos;
+	}
+
+	/**
+	 * lock 안에서 호출. 연결을 끊어야 하면 사유를 반환합니다.
+	 */
+	private String applyOverflowPolicy() {
+		if (queue.size() <= maxFrames && pendingBytes <= bufferSizeLimit) {
+			return null;
+		}
+		switch (overflowPolicy) {
+			case DISCONNECT -> {
+				return "buffer-overflow";
+			}
+			case COALESCE -> {
+				dropOldestWhile(() -> pendingBytes > bufferSizeLimit);
+				if (queue.size() > maxFrames) {
+					coalesceTextFrames();
+				}
+			}
+			case DROP_OLDEST -> dropOldestWhile(() -> queue.size() > maxFrames || pendingBytes > bufferSizeLimit);
+		}
+		return null;
+	}
+
+	private void dropOldestWhile(BooleanSupplier overLimit) {
+		int dropped = 0;
+		Iterator<WebSocketMessage<?>> iterator = queue.iterator();
+		while (overLimit.getAsBoolean() && iterator.hasNext()) {
+			WebSocketMessage<?> candidate = iterator.next();
+			if (isDroppable(candidate)) {
+				iterator.remove();
+				pendingBytes -= candidate.getPayloadLength();
+				dropped++;
+			}
+		}
+		if (dropped > 0) {
+			monitor.onDropped(dropped);
+		}
+	}
+
+	private void coalesceTextFrames() {
+		if (!queue.stream().allMatch(TextMessage.class::isInstance)) {
+			dropOldestWhile(() -> queue.size() > maxFrames);
+			return;
+		}
+		StringBuilder merged = new StringBuilder(pendingBytes);
+		int frames = queue.size();
+		for (WebSocketMessage<?> frame : queue) {
+			merged.append(((TextMessage)frame).getPayload());
+		}
+		queue.clear();
+		TextMessage coalesced = new TextMessage(merged);
+		queue.addLast(coalesced);
+		pendingBytes = coalesced.getPayloadLength();
+		monitor.onCoalesced(frames);
+	}
+
+	private boolean isDroppable(WebSocketMessage<?> message) {
+		// 제어 프레임(CONNECTED/RECEIPT/ERROR)은 유지하고 브로드캐스트(MESSAGE)만 버림
+		return message instanceof TextMessage text && text.getPayload().startsWith(MESSAGE_FRAME_PREFIX);
+	}
+
+	private void drain() {
+		while (!limitExceeded.get()) {
+			WebSocketMessage<?> next;
+			lock.lock();
+			try {
+				next = queue.pollFirst();
+				if (next == null) {
+					draining = false;
+					return;
+				}
+				pendingBytes -= next.getPayloadLength();
+			} finally {
+				lock.unlock();
+			}
+
+			long start = System.nanoTime();
+			sendStartNanos = start;
+			try {
+				getDelegate().sendMessage(next);
+			} catch (Exception e) {
+				log.debug("Outbound 전송 실패 - 세션 종료: {}", getId(), e);
+				closeForLimit("send-error");
+			} finally {
+				sendStartNanos = 0;
+				monitor.recordSend(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void closeForLimit(String reason) {
+		if (!limitExceeded.compareAndSet(false, true)) {
+			return;
+		}
+		lock.lock();
+		try {
+			queue.clear();
+			pendingBytes = 0;
+		} finally {
+			lock.unlock();
+		}
+		monitor.onDisconnected(reason);
+		log.warn("느린 WebSocket 세션 종료: sessionId={}, reason={}", getId(), reason);
+		try {
+			getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+		} catch (IOException e) {
+			log.debug("세션 종료 실패: {}", getId(), e);
+		}
+	}
+}
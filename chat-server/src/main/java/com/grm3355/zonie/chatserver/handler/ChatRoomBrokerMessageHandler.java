@@ -0,0 +1,389 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 토픽(/sub/chat-rooms/{roomId}) 전용 인메모리 STOMP 브로커
+ * - SimpleBroker의 패턴 매칭(AntPathMatcher) 대신 destination 완전 일치 인덱스 사용 (방 단위 Copy-on-Write 배열)
+ * - 발행 시 구독자 배열을 락 없이 순회해 각 세션의 outbound 채널로 바로 전달
+ * - CONNECT/DISCONNECT 응답(ACK)은 함께 등록된 SimpleBroker가 담당하므로 여기서는 구독 정리만 수행
+ * - 방마다 최근 브로드캐스트를 RoomReplayBuffer에 보관하고, SUBSCRIBE에 lastSeenMessageId 헤더가 있으면
+ *   그 이후 메시지를 해당 구독에만 재전송 (재연결 시 Mongo 이력 조회 없이 누락 구간 복구)
+ *   - 재전송은 CHM/토픽 락 밖에서 수행하고, 그동안 도착한 실시간 메시지는 ReplayGate에 모았다가 재전송 뒤에 전달
+ * - 마지막 로컬 구독자가 떠나도 토픽과 버퍼를 남겨 계속 기록 (retain > 0)
+ *   - retain 시간은 ChatRoomSubscriptionRegistry가 관리: Redis 구독을 해제/재개할 때 markReplayGap으로 알림
+ *     → 구독자가 없으면 토픽 폐기, 있으면 버퍼를 비워 구멍 난 재전송 대신 miss(REST 이력 조회)로 처리
+ * - SUBSCRIBE에 coalesce:true 헤더가 있으면 해당 구독의 메시지를 FrameCoalescer가 모아 배열 프레임으로 전송
+ */
+@Slf4j
+public class ChatRoomBrokerMessageHandler extends AbstractBrokerMessageHandler {
+
+	public static final String LAST_SEEN_MESSAGE_ID_HEADER = "lastSeenMessageId";
+	public static final String REPLAYED_HEADER = "replayed";
+
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+
+	private final MeterRegistry meterRegistry;
+	private final int replayBufferSize;
+	private final boolean retainIdleDestinations;
+	private final FrameCoalescer frameCoalescer;
+
+	// destination -> 구독자 목록 (방 단위)
+	private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+	// sessionId -> (subscriptionId -> destination)
+	private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+	private final Timer fanoutTimer;
+	private final DistributionSummary fanoutSizeSummary;
+	private final Counter replayedCounter;
+	private final Counter replayMissCounter;
+
+	public ChatRoomBrokerMessageHandler(SubscribableChannel clientInboundChannel,
+		MessageChannel clientOutboundChannel, SubscribableChannel brokerChannel,
+		Collection<String> destinationPrefixes, MeterRegistry meterRegistry, int replayBufferSize,
+		long replayRetainMillis, long coalesceWindowMillis) {
+		super(clientInboundChannel, clientOutboundChannel, brokerChannel, destinationPrefixes);
+		this.meterRegistry = meterRegistry;
+		this.replayBufferSize = replayBufferSize;
+		this.retainIdleDestinations = replayRetainMillis > 0;
+		this.frameCoalescer = new FrameCoalescer(clientOutboundChannel, coalesceWindowMillis, meterRegistry);
+
+		this.fanoutTimer = Timer.builder("chat.broker.fanout")
+			.description("메시지 1건을 모든 구독자 outbound 채널로 전달하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.fanoutSizeSummary = DistributionSummary.builder("chat.broker.fanout.subscribers")
+			.description("메시지 1건당 전달 대상 구독자 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.broker.destinations", destinations, Map::size)
+			.description("구독자가 있거나 재연결 대기(retain) 중인 채팅방 토픽 수")
+			.register(meterRegistry);
+		this.replayedCounter = Counter.builder("chat.broker.replay.frames")
+			.description("재구독 시 링 버퍼에서 재전송한 메시지 수")
+			.register(meterRegistry);
+		this.replayMissCounter = Counter.builder("chat.broker.replay.misses")
+			.description("lastSeenMessageId가 링 버퍼에 없어 재전송하지 못한 구독 수 (클라이언트는 REST 이력 조회)")
+			.register(meterRegistry);
+	}
+
+	@Override
+	protected void startInternal() {
+		super.startInternal();
+		frameCoalescer.start();
+	}
+
+	@Override
+	protected void stopInternal() {
+		frameCoalescer.stop();
+		super.stopInternal();
+	}
+
+	@Override
+	protected void handleMessageInternal(Message<?> message) {
+		MessageHeaders headers = message.getHeaders();
+		SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
+		if (SimpMessageType.MESSAGE.equals(messageType)) {
+			if (destination != null && checkDestinationPrefix(destination)) {
+				sendMessageToSubscribers(destination, message);
+			}
+		} else if (SimpMessageType.SUBSCRIBE.equals(messageType)) {
+			String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+			if (destination != null && checkDestinationPrefix(destination)
+				&& sessionId != null && subscriptionId != null) {
+				String lastSeenMessageId = NativeMessageHeaderAccessor.getFirstNativeHeader(
+					LAST_SEEN_MESSAGE_ID_HEADER, headers);
+				boolean coalesce = Boolean.parseBoolean(NativeMessageHeaderAccessor.getFirstNativeHeader(
+					FrameCoalescer.COALESCE_HEADER, headers));
+				addSubscription(sessionId, subscriptionId, destination, lastSeenMessageId, coalesce);
+			}
+		} else if (SimpMessageType.UNSUBSCRIBE.equals(messageType)) {
+			// UNSUBSCRIBE 프레임에는 destination이 없으므로 세션 인덱스로 찾음
+			String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+			if (sessionId != null && subscriptionId != null) {
+				removeSubscription(sessionId, subscriptionId);
+			}
+		} else if (SimpMessageType.DISCONNECT.equals(messageType)) {
+			if (sessionId != null) {
+				removeSession(sessionId);
+			}
+		}
+	}
+
+	public int getSubscriberCount(String destination) {
+		Destination entry = destinations.get(destination);
+		return entry != null ? entry.subscribers.length : 0;
+	}
+
+	private void sendMessageToSubscribers(String destination, Message<?> message) {
+		Destination entry = destinations.get(destination);
+		if (entry == null) {
+			return;
+		}
+		Subscriber[] subscribers;
+		Object payload = message.getPayload();
+		// 버퍼 기록과 구독자 스냅샷을 원자적으로 처리 → 새 구독자는 재전송 또는 실시간 전달 중 정확히 한 번만 받음
+		synchronized (entry) {
+			if (payload instanceof byte[] bytes) {
+				entry.replayBuffer.append(bytes);
+			}
+			subscribers = entry.subscribers; // 발행 시점 스냅샷 (구독 변경과 무관하게 순회)
+		}
+		if (subscribers.length == 0) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		for (Subscriber subscriber : subscribers) {
+			if (subscriber.gate() != null && subscriber.gate().offer(message)) {
+				continue; // 재전송 중: 재전송이 끝난 뒤 순서대로 전달
+			}
+			deliver(subscriber, destination, message);
+		}
+		entry.delivered.add(subscribers.length);
+		fanoutSizeSummary.record(subscribers.length);
+		fanoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private void deliver(Subscriber subscriber, String destination, Message<?> message) {
+		Object payload = message.getPayload();
+		if (subscriber.batch() != null && payload instanceof byte[] bytes) {
+			subscriber.batch().add(bytes);
+			return;
+		}
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(subscriber.sessionId());
+		accessor.setSubscriptionId(subscriber.subscriptionId());
+		accessor.copyHeadersIfAbsent(message.getHeaders());
+		accessor.setLeaveMutable(true);
+		try {
+			getClientOutboundChannel().send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+		} catch (Exception e) {
+			log.error("Failed to send message to session {} ({})", subscriber.sessionId(), destination, e);
+		}
+	}
+
+	private void addSubscription(String sessionId, String subscriptionId, String destination,
+		String lastSeenMessageId, boolean coalesce) {
+		String previous = sessionSubscriptions
+			.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+			.put(subscriptionId, destination);
+		if (previous != null) {
+			detach(previous, sessionId, subscriptionId);
+		}
+		Subscriber subscriber = new Subscriber(sessionId, subscriptionId,
+			coalesce ? frameCoalescer.register(sessionId, subscriptionId, destination) : null,
+			lastSeenMessageId != null ? new ReplayGate() : null);
+		AtomicReference<List<byte[]>> missed = new AtomicReference<>();
+		destinations.compute(destination, (key, entry) -> {
+			Destination target = (entry != null ? entry : new Destination(destination));
+			synchronized (target) {
+				Subscriber[] current = target.subscribers;
+				Subscriber[] updated = Arrays.copyOf(current, current.length + 1);
+				updated[current.length] = subscriber;
+				target.subscribers = updated;
+				if (lastSeenMessageId != null) {
+					// 등록과 같은 임계 구역에서 재전송 대상을 정함 → 이후 메시지는 게이트로 들어가 정확히 한 번만 전달
+					missed.set(target.replayBuffer.tailAfter(lastSeenMessageId));
+				}
+			}
+			return target;
+		});
+		if (lastSeenMessageId != null) {
+			replay(subscriber, destination, lastSeenMessageId, missed.get());
+			finishReplay(subscriber, destination);
+		}
+	}
+
+	private void replay(Subscriber subscriber, String destination, String lastSeenMessageId, List<byte[]> missed) {
+		if (missed == null) {
+			replayMissCounter.increment();
+			log.debug("Replay miss: {} (lastSeenMessageId={})", destination, lastSeenMessageId);
+			return;
+		}
+		for (byte[] payload : missed) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			accessor.setSessionId(subscriber.sessionId());
+			accessor.setSubscriptionId(subscriber.subscriptionId());
+			accessor.setDestination(destination);
+			accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+			accessor.setNativeHeader(REPLAYED_HEADER, "true");
+			accessor.setLeaveMutable(true);
+			try {
+				getClientOutboundChannel().send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+			} catch (Exception e) {
+				log.error("Failed to replay message to session {} ({})", subscriber.sessionId(), destination, e);
+				return;
+			}
+		}
+		replayedCounter.increment(missed.size());
+	}
+
+	/**
+	 * 재전송 중 모인 실시간 메시지를 전달하고, 더 모인 것이 없으면 게이트를 엽니다.
+	 */
+	private void finishReplay(Subscriber subscriber, String destination) {
+		List<Message<?>> pending = subscriber.gate().drainOrOpen();
+		while (!pending.isEmpty()) {
+			pending.forEach(message -> deliver(subscriber, destination, message));
+			pending = subscriber.gate().drainOrOpen();
+		}
+	}
+
+	private void removeSubscription(String sessionId, String subscriptionId) {
+		Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		String destination = subscriptions.remove(subscriptionId);
+		if (destination != null) {
+			detach(destination, sessionId, subscriptionId);
+		}
+	}
+
+	private void removeSession(String sessionId) {
+		Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		subscriptions.forEach((subscriptionId, destination) -> detach(destination, sessionId, subscriptionId));
+	}
+
+	private void detach(String destination, String sessionId, String subscriptionId) {
+		destinations.computeIfPresent(destination, (key, entry) -> {
+			synchronized (entry) {
+				Subscriber[] current = entry.subscribers;
+				for (Subscriber subscriber : current) {
+					if (subscriber.matches(sessionId, subscriptionId) && subscriber.batch() != null) {
+						frameCoalescer.unregister(subscriber.batch());
+					}
+				}
+				Subscriber[] updated = Arrays.stream(current)
+					.filter(subscriber -> !subscriber.matches(sessionId, subscriptionId))
+					.toArray(Subscriber[]::new);
+				entry.subscribers = updated;
+				if (updated.length > 0) {
+					return entry;
+				}
+				if (retainIdleDestinations) {
+					// 재연결 대기: Redis 구독이 유지되는 동안 버퍼 유지 (폐기는 markReplayGap)
+					return entry;
+				}
+				entry.close();
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 이 노드가 토픽 메시지를 받지 못하는 구간이 생길 때 호출합니다. (ChatRoomSubscriptionRegistry의 Redis 구독 해제/재개)
+	 * 구독자가 없으면 토픽과 버퍼를 폐기하고, 있으면 버퍼만 비워 구간 이전 lastSeenMessageId의 재전송을 miss로 만듭니다.
+	 */
+	public void markReplayGap(String destination) {
+		destinations.computeIfPresent(destination, (key, entry) -> {
+			synchronized (entry) {
+				if (entry.subscribers.length == 0) {
+					entry.close();
+					return null;
+				}
+				entry.replayBuffer.clear();
+				return entry;
+			}
+		});
+	}
+
+	/**
+	 * @param batch coalesce:true로 구독한 경우의 배치 (아니면 null)
+	 * @param gate lastSeenMessageId로 구독한 경우 재전송이 끝날 때까지 실시간 메시지를 모으는 게이트 (아니면 null)
+	 */
+	private record Subscriber(String sessionId, String subscriptionId, FrameCoalescer.Batch batch, ReplayGate gate) {
+
+		boolean matches(String sessionId, String subscriptionId) {
+			return this.sessionId.equals(sessionId) && this.subscriptionId.equals(subscriptionId);
+		}
+	}
+
+	/**
+	 * 재전송 중인 구독의 실시간 메시지 대기열 (재전송이 끝나면 열려서 이후로는 바로 전달)
+	 */
+	private static final class ReplayGate {
+
+		private List<Message<?>> pending = new ArrayList<>();
+		private boolean open;
+
+		synchronized boolean offer(Message<?> message) {
+			if (open) {
+				return false;
+			}
+			pending.add(message);
+			return true;
+		}
+
+		synchronized List<Message<?>> drainOrOpen() {
+			if (pending.isEmpty()) {
+				open = true;
+				return List.of();
+			}
+			List<Message<?>> drained = pending;
+			pending = new ArrayList<>();
+			return drained;
+		}
+	}
+
+	/**
+	 * 토픽별 구독자 배열, 재전송 버퍼와 지표 (구독자가 0이 되면 지표도 함께 제거)
+	 */
+	private final class Destination {
+
+		private volatile Subscriber[] subscribers = EMPTY;
+		private final RoomReplayBuffer replayBuffer = new RoomReplayBuffer(replayBufferSize);
+		private final LongAdder delivered = new LongAdder();
+		private final Meter subscriberGauge;
+		private final Meter deliveredCounter;
+
+		private Destination(String destination) {
+			this.subscriberGauge = Gauge.builder("chat.broker.destination.subscribers", this,
+					entry -> entry.subscribers.length)
+				.tag("destination", destination)
+				.register(meterRegistry);
+			this.deliveredCounter = FunctionCounter.builder("chat.broker.destination.delivered", delivered,
+					LongAdder::sum)
+				.tag("destination", destination)
+				.register(meterRegistry);
+		}
+
+		private void close() {
+			meterRegistry.remove(subscriberGauge);
+			meterRegistry.remove(deliveredCounter);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구독 단위 프레임 합치기 (SUBSCRIBE 시 coalesce:true 헤더로 opt-in)
+ * - window-ms 동안 해당 구독으로 나갈 JSON 페이로드를 모아 하나의 JSON 배열 MESSAGE 프레임으로 전송
+ * - 프레임에는 batch-size 헤더를 붙여 클라이언트가 배열 프레임임을 알 수 있게 함
+ * - 같은 메시지 전송률에서 WebSocket 프레임 수(= send syscall 수)를 줄이는 것이 목적
+ */
+@Slf4j
+class FrameCoalescer {
+
+	static final String COALESCE_HEADER = "coalesce";
+	static final String BATCH_SIZE_HEADER = "batch-size";
+
+	private final MessageChannel clientOutboundChannel;
+	private final long windowMillis;
+	private final Set<Batch> batches = ConcurrentHashMap.newKeySet();
+	private final Counter framesCounter;
+	private final Counter messagesCounter;
+
+	private ScheduledExecutorService scheduler;
+
+	FrameCoalescer(MessageChannel clientOutboundChannel, long windowMillis, MeterRegistry meterRegistry) {
+		this.clientOutboundChannel = clientOutboundChannel;
+		this.windowMillis = windowMillis;
+		this.framesCounter = Counter.builder("chat.broker.coalesce.frames")
+			.description("합쳐서 전송한 배열 프레임 수")
+			.register(meterRegistry);
+		this.messagesCounter = Counter.builder("chat.broker.coalesce.messages")
+			.description("배열 프레임에 담겨 전송된 메시지 수")
+			.register(meterRegistry);
+	}
+
+	void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ws-coalesce");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flushAll, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+	}
+
+	void stop() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+		flushAll();
+	}
+
+	/**
+	 * 구독 시 배치를 등록하고 반환합니다. 구독자가 배치를 직접 참조하므로 발행 경로에서 맵 조회가 없습니다.
+	 */
+	Batch register(String sessionId, String subscriptionId, String destination) {
+		Batch batch = new Batch(sessionId, subscriptionId, destination);
+		batches.add(batch);
+		return batch;
+	}
+
+	void unregister(Batch batch) {
+		batches.remove(batch);
+	}
+
+	void flushAll() {
+		batches.forEach(this::flush);
+	}
+
+	private void flush(Batch batch) {
+		List<byte[]> payloads = batch.drain();
+		if (payloads.isEmpty()) {
+			return;
+		}
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(batch.sessionId);
+		accessor.setSubscriptionId(batch.subscriptionId);
+		accessor.setDestination(batch.destination);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setNativeHeader(BATCH_SIZE_HEADER, String.valueOf(payloads.size()));
+		accessor.setLeaveMutable(true);
+		try {
+			clientOutboundChannel.send(MessageBuilder.createMessage(toJsonArray(payloads),
+				accessor.getMessageHeaders()));
+			framesCounter.increment();
+			messagesCounter.increment(payloads.size());
+		} catch (Exception e) {
+			log.error("Failed to send coalesced frame to session {} ({})", batch.sessionId, batch.destination, e);
+		}
+	}
+
+	/**
+	 * 각 페이로드가 이미 JSON이므로 파싱 없이 '[', ',', ']'만 붙여 한 번에 복사
+	 */
+	private static byte[] toJsonArray(List<byte[]> payloads) {
+		int length = payloads.size() + 1; // '[' + ']' + 구분자(n - 1)
+		for (byte[] payload : payloads) {
+			length += payload.length;
+		}
+		byte[] array = new byte[length];
+		int position = 0;
+		array[position++] = '[';
+		for (int i = 0; i < payloads.size(); i++) {
+			if (i > 0) {
+				array[position++] = ',';
+			}
+			byte[] payload = payloads.get(i);
+			System.arraycopy(payload, 0, array, position, payload.length);
+			position += payload.length;
+		}
+		array[position] = ']';
+		return array;
+	}
+
+	static final class Batch {
+
+		private final String sessionId;
+		private final String subscriptionId;
+		private final String destination;
+		private List<byte[]> pending = new ArrayList<>();
+
+		private Batch(String sessionId, String subscriptionId, String destination) {
+			this.sessionId = sessionId;
+			this.subscriptionId = subscriptionId;
+			this.destination = destination;
+		}
+
+		synchronized void add(byte[] payload) {
+			pending.add(payload);
+		}
+
+		private synchronized List<byte[]> drain() {
+			if (pending.isEmpty()) {
+				return List.of();
+			}
+			List<byte[]> drained = pending;
+			pending = new ArrayList<>(drained.size());
+			return drained;
+		}
+	}
+}
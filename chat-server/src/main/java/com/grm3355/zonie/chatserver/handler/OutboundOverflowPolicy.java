@@ -0,0 +1,20 @@
+package com.grm3355.zonie.chatserver.handler;
+
+/**
+ * 세션별 outbound 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OutboundOverflowPolicy {
+	/**
+	 * 가장 오래된 MESSAGE 프레임부터 버림 (CONNECTED/RECEIPT/ERROR 등 제어 프레임은 유지)
+	 */
+	DROP_OLDEST,
+	/**
+	 * 대기 중인 텍스트 프레임을 하나의 WebSocket 메시지로 합쳐 전송 횟수를 줄임
+	 * (STOMP over WebSocket은 한 메시지에 여러 프레임을 허용) 바이트 한도 초과분은 DROP_OLDEST로 처리
+	 */
+	COALESCE,
+	/**
+	 * 세션 연결 종료 (클라이언트가 재연결 후 재동기화)
+	 */
+	DISCONNECT
+}
@@ -0,0 +1,152 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 모든 WebSocket 세션을 BoundedOutboundSessionDecorator로 감싸는 데코레이터 팩토리 (Slow-consumer 격리)
+ * - 세션별 전송은 가상 스레드에서 수행되므로 느린 세션이 블로킹되어도 다른 세션/outbound 채널에 영향 없음
+ * - send-time-limit 검사는 새 프레임 적재 시뿐 아니라 주기적으로도 수행 (마지막 프레임에서 막힌 세션도 정리)
+ * - 지표: 버린 프레임 수, 합친 프레임 수, 강제 종료 수(사유별), 전송 시간, 가장 느린 세션의 대기 프레임/전송 경과 시간
+ */
+@Component
+public class OutboundQueueDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+	private final int maxFrames;
+	private final int bufferSizeLimit;
+	private final long sendTimeLimitMillis;
+	private final OutboundOverflowPolicy overflowPolicy;
+	private final MeterRegistry meterRegistry;
+
+	private final ExecutorService sendExecutor =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-send-", 0).factory());
+	private ScheduledExecutorService stallChecker;
+	private final Map<String, BoundedOutboundSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+	private final Counter droppedCounter;
+	private final Counter coalescedCounter;
+	private final Timer sendTimer;
+
+	public OutboundQueueDecoratorFactory(MeterRegistry meterRegistry,
+		@Value("${chat.websocket.outbound.max-frames:1000}") int maxFrames,
+		@Value("${chat.websocket.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+		@Value("${chat.websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+		@Value("${chat.websocket.outbound.overflow-policy:DROP_OLDEST}") OutboundOverflowPolicy overflowPolicy) {
+		this.meterRegistry = meterRegistry;
+		this.maxFrames = maxFrames;
+		this.bufferSizeLimit = bufferSizeLimit;
+		this.sendTimeLimitMillis = sendTimeLimitMillis;
+		this.overflowPolicy = overflowPolicy;
+
+		this.droppedCounter = Counter.builder("chat.ws.outbound.dropped")
+			.description("큐 초과로 버린 MESSAGE 프레임 수")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("chat.ws.outbound.coalesced")
+			.description("큐 초과로 하나의 WebSocket 메시지로 합친 프레임 수")
+			.register(meterRegistry);
+		this.sendTimer = Timer.builder("chat.ws.outbound.send")
+			.description("WebSocket 프레임 1건 전송 시간")
+			.register(meterRegistry);
+		Gauge.builder("chat.ws.outbound.sessions", sessions, Map::size)
+			.register(meterRegistry);
+		registerMaxGauge("chat.ws.outbound.pending.frames.max", BoundedOutboundSessionDecorator::getPendingFrames);
+		registerMaxGauge("chat.ws.outbound.pending.bytes.max", BoundedOutboundSessionDecorator::getPendingBytes);
+		registerMaxGauge("chat.ws.outbound.send.age.max", BoundedOutboundSessionDecorator::getCurrentSendMillis);
+	}
+
+	@Override
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				BoundedOutboundSessionDecorator decorated = new BoundedOutboundSessionDecorator(session, maxFrames,
+					bufferSizeLimit, sendTimeLimitMillis, overflowPolicy, sendExecutor,
+					OutboundQueueDecoratorFactory.this);
+				sessions.put(session.getId(), decorated);
+				super.afterConnectionEstablished(decorated);
+			}
+
+			@Override
+			public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+				super.handleMessage(sessions.getOrDefault(session.getId(), session), message);
+			}
+
+			@Override
+			public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+				super.handleTransportError(sessions.getOrDefault(session.getId(), session), exception);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				BoundedOutboundSessionDecorator decorated = sessions.remove(session.getId());
+				super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+			}
+		};
+	}
+
+	@PostConstruct
+	public void start() {
+		stallChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ws-send-stall-checker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1, Math.min(sendTimeLimitMillis, 1000));
+		stallChecker.scheduleWithFixedDelay(this::closeStalledSessions, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (stallChecker != null) {
+			stallChecker.shutdownNow();
+		}
+		sendExecutor.shutdown();
+	}
+
+	void closeStalledSessions() {
+		sessions.values().forEach(BoundedOutboundSessionDecorator::closeIfSendStalled);
+	}
+
+	void onDropped(int frames) {
+		droppedCounter.increment(frames);
+	}
+
+	void onCoalesced(int frames) {
+		coalescedCounter.increment(frames);
+	}
+
+	void onDisconnected(String reason) {
+		meterRegistry.counter("chat.ws.outbound.disconnected", "reason", reason).increment();
+	}
+
+	void recordSend(long nanos) {
+		sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	private void registerMaxGauge(String name, ToDoubleFunction<BoundedOutboundSessionDecorator> metric) {
+		Gauge.builder(name, sessions, map -> map.values().stream().mapToDouble(metric).max().orElse(0))
+			.description("가장 느린 세션 기준 값")
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,144 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 채팅방별 최근 브로드캐스트 페이로드 링 버퍼 (재연결 시 누락 구간 재전송용)
+ * - 페이로드는 Redis 리스너가 이미 할당한 byte[]를 복사 없이 참조만 보관
+ * - 메시지 ID(ObjectId, 12바이트)는 long + int 원시 배열에 저장 → 엔트리당 추가 객체 할당 없음
+ * - 동기화는 호출 측(ChatRoomBrokerMessageHandler)이 방 단위로 담당
+ */
+final class RoomReplayBuffer {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final int OBJECT_ID_HEX_LENGTH = 24;
+
+	private final byte[][] payloads;
+	private final long[] idHigh;
+	private final int[] idLow;
+	private final boolean[] hasId;
+	private int head; // 다음에 기록할 위치
+	private int size;
+
+	RoomReplayBuffer(int capacity) {
+		this.payloads = new byte[capacity][];
+		this.idHigh = new long[capacity];
+		this.idLow = new int[capacity];
+		this.hasId = new boolean[capacity];
+	}
+
+	void append(byte[] payload) {
+		int capacity = payloads.length;
+		if (capacity == 0) {
+			return;
+		}
+		payloads[head] = payload;
+		byte[] id = extractObjectId(payload);
+		hasId[head] = id != null;
+		if (id != null) {
+			idHigh[head] = readLong(id, 0);
+			idLow[head] = readInt(id, 8);
+		}
+		head = (head + 1) % capacity;
+		if (size < capacity) {
+			size++;
+		}
+	}
+
+	/**
+	 * lastSeenMessageId 이후의 페이로드를 오래된 순으로 반환합니다.
+	 * 버퍼에 해당 ID가 없으면(이미 밀려났거나 다른 노드 구간) 연속성을 보장할 수 없으므로 null을 반환합니다.
+	 */
+	List<byte[]> tailAfter(String lastSeenMessageId) {
+		byte[] id = parseObjectId(lastSeenMessageId);
+		if (id == null) {
+			return null;
+		}
+		long high = readLong(id, 0);
+		int low = readInt(id, 8);
+
+		int capacity = payloads.length;
+		int oldest = (head - size + capacity) % capacity;
+		for (int offset = size - 1; offset >= 0; offset--) {
+			int index = (oldest + offset) % capacity;
+			if (hasId[index] && idHigh[index] == high && idLow[index] == low) {
+				List<byte[]> tail = new ArrayList<>(size - 1 - offset);
+				for (int next = offset + 1; next < size; next++) {
+					tail.add(payloads[(oldest + next) % capacity]);
+				}
+				return tail;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 수신 구간에 공백이 생겼을 때 호출 → 이전 ID로는 더 이상 이어 붙일 수 없음
+	 */
+	void clear() {
+		Arrays.fill(payloads, null);
+		head = 0;
+		size = 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * 최상위 "id" 필드만 읽고 중단 (MessageBroadcastDto는 id가 첫 필드라 토큰 몇 개만 읽음)
+	 */
+	private static byte[] extractObjectId(byte[] payload) {
+		try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if ("id".equals(field)) {
+					return value == JsonToken.VALUE_STRING ? parseObjectId(parser.getText()) : null;
+				}
+				parser.skipChildren();
+			}
+		} catch (IOException e) {
+			return null;
+		}
+		return null;
+	}
+
+	private static byte[] parseObjectId(String hex) {
+		if (hex == null || hex.length() != OBJECT_ID_HEX_LENGTH) {
+			return null;
+		}
+		try {
+			return HexFormat.of().parseHex(hex);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,57 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.grm3355.zonie.chatserver.service.ChatRoomBroadcaster;
+import com.grm3355.zonie.chatserver.service.ChatRoomSubscriptionRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 채팅방 Redis 채널 구독을 관리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSubscriptionEventHandler {
+
+	private final ChatRoomSubscriptionRegistry chatRoomSubscriptionRegistry;
+
+	@EventListener
+	public void handleSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+
+		// 채팅방 토픽(/sub/chat-rooms/{roomId})만 대상
+		if (destination == null || !destination.startsWith(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX)) {
+			return;
+		}
+		String roomId = destination.substring(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX.length());
+		if (roomId.isEmpty() || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+			log.warn("Invalid chat room SUBSCRIBE: destination={}, sessionId={}", destination,
+				accessor.getSessionId());
+			return;
+		}
+		chatRoomSubscriptionRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+	}
+
+	@EventListener
+	public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+			return;
+		}
+		chatRoomSubscriptionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void handleDisconnect(SessionDisconnectEvent event) {
+		chatRoomSubscriptionRegistry.removeSession(event.getSessionId());
+	}
+}
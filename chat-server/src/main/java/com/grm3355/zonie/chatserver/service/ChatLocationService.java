@@ -7,8 +7,6 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
-import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
 import com.grm3355.zonie.commonlib.domain.festival.repository.FestivalRepository;
 import com.grm3355.zonie.commonlib.global.exception.BusinessException;
 import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
@@ -21,43 +19,36 @@ public class ChatLocationService {
 
 	private final StringRedisTemplate redisTemplate;
 	private final FestivalRepository festivalRepository;
-	private final ChatRoomRepository chatRoomRepository;
 	private final ObjectMapper objectMapper; // DTO 역직렬화를 위해 추가
 	private final Duration tokenTtl;
+	private final StoreBulkheads storeBulkheads;
 	@Value("${chat.radius}")
 	private double max_radius;
 
-	public ChatLocationService(StringRedisTemplate redisTemplate, ChatRoomRepository chatRoomRepository,
+	public ChatLocationService(StringRedisTemplate redisTemplate,
 		ObjectMapper objectMapper, @Value("${location.token.ttl-minutes}") long ttlMinutes,
-		FestivalRepository festivalRepository) {
+		FestivalRepository festivalRepository, StoreBulkheads storeBulkheads) {
 		this.redisTemplate = redisTemplate;
-		this.chatRoomRepository = chatRoomRepository;
 		this.objectMapper = objectMapper;
 		this.tokenTtl = Duration.ofMinutes(ttlMinutes);
 		this.festivalRepository = festivalRepository;
+		this.storeBulkheads = storeBulkheads;
 	}
 
 	// Redis에서 토큰의 존재 여부만 확인
 	private void validateLocationToken(String userId, Long festivalId) {
 		String redisKey = buildKey(userId, String.valueOf(festivalId));
-		Boolean hasKey = redisTemplate.hasKey(redisKey);
+		Boolean hasKey = storeBulkheads.call(StoreBulkheads.Store.REDIS, () -> redisTemplate.hasKey(redisKey));
 
-		if (!hasKey) {
+		if (!Boolean.TRUE.equals(hasKey)) {
 			log.warn("Cannot find location token in Redis for userId: {}, festivalId: {}", userId, festivalId);
 			throw new BusinessException(ErrorCode.FORBIDDEN, "위치 인증 토큰이 없거나 만료되었습니다.");
 		}
 	}
 
-	// DB: 채팅방 ID -> 축제 ID
-	private Long getFestivalIdForRoom(String roomId) {
-		ChatRoom chatRoom = chatRoomRepository.findByChatRoomId(roomId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "채팅방 정보를 찾을 수 없습니다."));
-		return chatRoom.getFestival().getFestivalId();
-	}
-
 	// 메인 검증 메소드
-	public void validateChatRoomEntry(String userId, String roomId) {
-		Long festivalId = getFestivalIdForRoom(roomId);    // roomId로 festivalId 조회
+	// festivalId는 세션 컨텍스트(ChatRoomSessionContext)에서 전달받음 -> 메시지마다 PG 조회 x
+	public void validateChatRoomEntry(String userId, Long festivalId) {
 		validateLocationToken(userId, festivalId);        // 토큰 유효성 검사 (거리 재계산 x)
 		log.debug("Location token validation success for user {}.", userId);
 	}
@@ -106,9 +97,8 @@ public class ChatLocationService {
 	 * STOMP /join 시 호출: 위치 인증 토큰을 갱신합니다. (TTL 연장 목적)
 	 * API 서버에서 최초 발급 시 반경 검증을 완료했으므로, Chat 서버는 DB/PostGIS 접근 없이 Redis 갱신만 수행합니다.
 	 */
-	public void setLocationTokenOnJoin(String userId, String roomId, double lat, double lon) {
-		// 1. 축제 ID 획득 (DB 접근은 최소화)
-		Long festivalId = getFestivalIdForRoom(roomId);
+	public void setLocationTokenOnJoin(String userId, String roomId, Long festivalId, double lat, double lon) {
+		// 1. 축제 ID: 세션 컨텍스트에서 전달받음 (DB 접근 x)
 		String contextId = String.valueOf(festivalId);
 
 		// 2. 토큰 갱신/발급
@@ -0,0 +1,65 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버(노드) 식별자와 Redis 전파용 봉투(envelope) 처리
+ * - 발행 서버는 로컬 구독자에게 바로 전달(Local short-circuit)하고, 다른 서버를 위해 Redis로도 발행
+ * - Pub/Sub 페이로드 앞에 고정 길이(16바이트) origin 노드 ID를 붙여, 자기 자신이 발행한 메시지(echo)를 파싱 없이 걸러냄
+ * - Stream 전송 모드에서는 origin 필드로 같은 판단을 함
+ */
+@Slf4j
+@Component
+public class ChatNodeIdentity {
+
+	public static final int NODE_ID_LENGTH = 16;
+
+	@Getter
+	private final String nodeId;
+	private final byte[] nodeIdBytes;
+	@Getter
+	private final boolean localDeliveryEnabled;
+
+	public ChatNodeIdentity(@Value("${chat.local-delivery.enabled:true}") boolean localDeliveryEnabled) {
+		this.nodeId = UUID.randomUUID().toString().replace("-", "").substring(0, NODE_ID_LENGTH);
+		this.nodeIdBytes = nodeId.getBytes(StandardCharsets.US_ASCII);
+		this.localDeliveryEnabled = localDeliveryEnabled;
+		log.info("Chat node id: {} (local delivery: {})", nodeId, localDeliveryEnabled);
+	}
+
+	public byte[] getNodeIdBytes() {
+		return nodeIdBytes.clone();
+	}
+
+	/**
+	 * 파이프라인 모드용: origin 노드 ID + 페이로드 (스크립트 모드는 Redis에서 이어 붙임)
+	 */
+	public byte[] wrap(byte[] payload) {
+		byte[] envelope = Arrays.copyOf(nodeIdBytes, NODE_ID_LENGTH + payload.length);
+		System.arraycopy(payload, 0, envelope, NODE_ID_LENGTH, payload.length);
+		return envelope;
+	}
+
+	/**
+	 * 로컬 전달을 이미 했으므로 이 서버가 발행한 메시지는 다시 전달하지 않음
+	 * @param origin 봉투(Pub/Sub) 또는 origin 필드(Stream) - 앞 16바이트만 비교
+	 */
+	public boolean isOwnEcho(byte[] origin) {
+		if (!localDeliveryEnabled || origin == null || origin.length < NODE_ID_LENGTH) {
+			return false;
+		}
+		return Arrays.equals(origin, 0, NODE_ID_LENGTH, nodeIdBytes, 0, NODE_ID_LENGTH);
+	}
+
+	public static byte[] unwrap(byte[] envelope) {
+		return Arrays.copyOfRange(envelope, NODE_ID_LENGTH, envelope.length);
+	}
+}
@@ -0,0 +1,35 @@
+package com.grm3355.zonie.chatserver.service;
+
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발행 서버에서 한 번만 직렬화된 MessageBroadcastDto JSON(byte[])을 STOMP 브로커로 그대로 전달
+ * - 구독 서버에서는 역직렬화/DTO 변환/재직렬화(Jackson) 없이 페이로드를 전달만 함
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomBroadcaster {
+
+	public static final String ROOM_TOPIC_PREFIX = "/sub/chat-rooms/";
+
+	private final SimpMessageSendingOperations messagingTemplate;
+
+	/**
+	 * 미리 인코딩된 JSON 페이로드를 채팅방 STOMP 토픽으로 브로드캐스팅합니다.
+	 */
+	public void broadcast(String roomId, byte[] payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setLeaveMutable(true);
+
+		messagingTemplate.send(ROOM_TOPIC_PREFIX + roomId,
+			MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+	}
+}
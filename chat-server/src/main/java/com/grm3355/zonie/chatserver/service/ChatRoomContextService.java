@@ -0,0 +1,167 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.grm3355.zonie.chatserver.dto.ChatRoomSessionContext;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomUserRepository;
+import com.grm3355.zonie.commonlib.domain.user.entity.User;
+import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 세션 단위 채팅방 컨텍스트 캐시
+ * - /join 또는 첫 /send 시 PG에서 (userId, 방 PK, festivalId, 닉네임, 방 생성 시각)을 조회해 세션 속성에 저장
+ * - 이후 /send는 세션 속성만 읽음 (메시지당 PG 조회 0회)
+ * - 명시적 퇴장(/leave, chat-events:leave), 방 삭제(chat-events:room-deleted) 시 무효화
+ */
+@Slf4j
+@Service
+public class ChatRoomContextService {
+
+	private static final String CONTEXT_ATTR_PREFIX = "chatRoomContext:";
+	private static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+	private final UserRepository userRepository;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomUserRepository chatRoomUserRepository;
+	private final StoreBulkheads storeBulkheads;
+	private final long contextTtlMillis;
+
+	/**
+	 * 무효화 마커: roomId 또는 roomId:userId -> 무효화 시각
+	 * 세션 속성은 다른 세션에서 접근할 수 없으므로, 컨텍스트의 loadedAt과 비교해 지연 무효화합니다.
+	 * 마커는 컨텍스트 TTL이 지나면 의미가 없으므로 그 이후 정리됩니다.
+	 */
+	private final Map<String, Long> invalidationMarkers = new ConcurrentHashMap<>();
+	// 마지막 마커 정리 시각 (정리는 pruneIntervalMillis마다 한 번만: 무효화마다 전체 순회하지 않도록)
+	private final AtomicLong lastPrunedAt = new AtomicLong();
+	private final long pruneIntervalMillis;
+
+	public ChatRoomContextService(UserRepository userRepository, ChatRoomRepository chatRoomRepository,
+		ChatRoomUserRepository chatRoomUserRepository, StoreBulkheads storeBulkheads,
+		@Value("${chat.session-context.ttl-minutes:30}") long ttlMinutes) {
+		this.userRepository = userRepository;
+		this.chatRoomRepository = chatRoomRepository;
+		this.chatRoomUserRepository = chatRoomUserRepository;
+		this.storeBulkheads = storeBulkheads;
+		this.contextTtlMillis = Duration.ofMinutes(ttlMinutes).toMillis();
+		this.pruneIntervalMillis = Math.min(contextTtlMillis, Duration.ofMinutes(1).toMillis());
+	}
+
+	/**
+	 * 세션에 캐시된 컨텍스트를 반환하고, 없거나 무효화된 경우 PG에서 다시 적재합니다.
+	 */
+	public ChatRoomSessionContext getOrLoad(Map<String, Object> sessionAttributes, String userId, String roomId) {
+		if (sessionAttributes != null) {
+			Object cached = sessionAttributes.get(CONTEXT_ATTR_PREFIX + roomId);
+			if (cached instanceof ChatRoomSessionContext context && isValid(context, userId)) {
+				return context;
+			}
+		}
+		return refresh(sessionAttributes, userId, roomId);
+	}
+
+	/**
+	 * PG에서 컨텍스트를 강제로 다시 적재해 세션에 저장합니다. (/join 시 호출)
+	 * 채팅방 멤버가 아닌 경우(닉네임 없음)에는 세션에 저장하지 않아, 이후 가입이 즉시 반영되도록 합니다.
+	 */
+	public ChatRoomSessionContext refresh(Map<String, Object> sessionAttributes, String userId, String roomId) {
+		ChatRoomSessionContext context = storeBulkheads.call(StoreBulkheads.Store.POSTGRES, () -> load(userId, roomId));
+
+		if (sessionAttributes != null && !UNKNOWN_NICKNAME.equals(context.nickname())) {
+			sessionAttributes.put(CONTEXT_ATTR_PREFIX + roomId, context);
+		}
+		return context;
+	}
+
+	/**
+	 * 현재 세션의 특정 방 컨텍스트 제거 (STOMP /leave)
+	 */
+	public void evict(Map<String, Object> sessionAttributes, String roomId) {
+		if (sessionAttributes != null) {
+			sessionAttributes.remove(CONTEXT_ATTR_PREFIX + roomId);
+		}
+	}
+
+	/**
+	 * 특정 사용자의 특정 방 컨텍스트 무효화 (다른 노드/REST 퇴장: chat-events:leave)
+	 */
+	public void invalidateUser(String userId, String roomId) {
+		markInvalidated(roomId + ":" + userId);
+	}
+
+	/**
+	 * 방 전체 컨텍스트 무효화 (방 삭제: chat-events:room-deleted)
+	 */
+	public void invalidateRoom(String roomId) {
+		markInvalidated(roomId);
+	}
+
+	private boolean isValid(ChatRoomSessionContext context, String userId) {
+		if (!context.userId().equals(userId)) {
+			return false;
+		}
+		long loadedAt = context.loadedAt();
+		if (System.currentTimeMillis() - loadedAt > contextTtlMillis) {
+			return false;
+		}
+		Long roomInvalidatedAt = invalidationMarkers.get(context.roomId());
+		if (roomInvalidatedAt != null && roomInvalidatedAt >= loadedAt) {
+			return false;
+		}
+		Long userInvalidatedAt = invalidationMarkers.get(context.roomId() + ":" + userId);
+		return userInvalidatedAt == null || userInvalidatedAt < loadedAt;
+	}
+
+	private void markInvalidated(String markerKey) {
+		long now = System.currentTimeMillis();
+		invalidationMarkers.put(markerKey, now);
+
+		// TTL이 지난 마커 정리 (그보다 오래된 컨텍스트는 어차피 TTL로 만료됨)
+		// 주기당 한 스레드만 순회 → 퇴장이 몰려도 무효화 1건의 비용은 O(1) (분할 상환)
+		long prunedAt = lastPrunedAt.get();
+		if (now - prunedAt >= pruneIntervalMillis && lastPrunedAt.compareAndSet(prunedAt, now)) {
+			invalidationMarkers.values().removeIf(invalidatedAt -> now - invalidatedAt > contextTtlMillis);
+		}
+		log.debug("ChatRoom context invalidated: {}", markerKey);
+	}
+
+	private ChatRoomSessionContext load(String userId, String roomId) {
+		User user = userRepository.findByUserId(userId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+		ChatRoom room = chatRoomRepository.findByChatRoomId(roomId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "채팅방 정보를 찾을 수 없습니다."));
+
+		String nickname = chatRoomUserRepository.findByUserAndChatRoom(user, room)
+			.map(ChatRoomUser::getNickName)
+			.orElse(UNKNOWN_NICKNAME);
+
+		// 랭킹 ZSET 멤버는 api-server/batch-server와 같은 값이어야 하므로 공통 규칙으로 변환
+		long createdAtLong = ChatRoomRankingKeys.createdAtMillis(room.getCreatedAt());
+
+		log.debug("ChatRoom context loaded from DB: User {}, Room {}", userId, roomId);
+		return new ChatRoomSessionContext(
+			userId,
+			roomId,
+			room.getId(),
+			room.getFestival().getFestivalId(),
+			nickname,
+			createdAtLong,
+			System.currentTimeMillis()
+		);
+	}
+}
@@ -0,0 +1,231 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.grm3355.zonie.chatserver.handler.ChatRoomBrokerMessageHandler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 STOMP 구독 기반 Redis 채널 구독 관리 (Interest-based Subscription)
+ * - 이 서버에 첫 구독자가 생기면 chat-room:{roomId} 채널을 구독하고, 마지막 구독자가 떠나면 구독 해제
+ *   - 마지막 구독자가 떠난 뒤 retain 시간 동안은 구독을 유지 (재연결 대기: 브로커 재전송 버퍼가 계속 기록되도록)
+ *   - retain 시간의 유일한 관리 주체: 구독을 해제/재개할 때 브로커에 markReplayGap으로 수신 공백을 알림
+ * - 서버가 수신하는 Pub/Sub 트래픽이 전체 클러스터 트래픽이 아니라 이 서버가 호스팅하는 채팅방에 비례하게 됨
+ * - STREAM 전송 모드에서는 Redis 채널을 구독하지 않고 로컬 구독 수만 관리 (ChatStreamConsumer가 참고)
+ */
+@Slf4j
+@Service
+public class ChatRoomSubscriptionRegistry {
+
+	private final RedisMessageListenerContainer redisContainer;
+	private final MessageListener chatMessageListener;
+	private final ChatRoomBrokerMessageHandler chatRoomBrokerMessageHandler;
+	private final boolean pubSubEnabled;
+	private final long retainMillis;
+
+	// roomId -> 로컬 구독 수 (0: 마지막 구독자가 떠나고 retain 시간을 기다리는 중)
+	private final Map<String, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+	// roomId -> 마지막 구독자가 떠난 시각 (nanoTime, roomSubscriberCounts의 같은 방 compute 안에서만 변경)
+	private final Map<String, Long> idleSince = new ConcurrentHashMap<>();
+	// sessionId -> (subscriptionId -> roomId)
+	private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+	// 실제로 메시지를 받고 있는 방: PUBSUB은 Redis 채널 구독, STREAM은 ChatStreamConsumer 전달 (roomLocks 안에서만 변경)
+	private final Set<String> subscribedRooms = ConcurrentHashMap.newKeySet();
+	// 방 단위 Redis 구독 변경 순서 보장용 락 (방 수만큼 만들지 않고 고정 개수로 나눠 씀)
+	private final Object[] roomLocks = new Object[64];
+
+	private ScheduledExecutorService retainSweeper;
+
+	public ChatRoomSubscriptionRegistry(RedisMessageListenerContainer redisContainer,
+		@Qualifier("chatMessageListener") MessageListener chatMessageListener,
+		ChatRoomBrokerMessageHandler chatRoomBrokerMessageHandler, MeterRegistry meterRegistry,
+		@Value("${chat.transport.mode:PUBSUB}") ChatTransportMode transportMode,
+		@Value("${chat.replay.retain-ms:30000}") long retainMillis) {
+		this.redisContainer = redisContainer;
+		this.chatMessageListener = chatMessageListener;
+		this.chatRoomBrokerMessageHandler = chatRoomBrokerMessageHandler;
+		this.pubSubEnabled = transportMode == ChatTransportMode.PUBSUB;
+		this.retainMillis = retainMillis;
+		for (int i = 0; i < roomLocks.length; i++) {
+			roomLocks[i] = new Object();
+		}
+
+		Gauge.builder("chat.redis.subscribed.rooms", roomSubscriberCounts, Map::size)
+			.description("이 서버가 구독 중인 채팅방 채널 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (retainMillis <= 0) {
+			return;
+		}
+		retainSweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "chat-room-retain");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.min(retainMillis, 1000);
+		retainSweeper.scheduleWithFixedDelay(() -> expireIdleRooms(System.nanoTime()), period, period,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (retainSweeper != null) {
+			retainSweeper.shutdownNow();
+		}
+	}
+
+	/**
+	 * STOMP SUBSCRIBE: /sub/chat-rooms/{roomId}
+	 */
+	public void subscribe(String sessionId, String subscriptionId, String roomId) {
+		String previous = sessionSubscriptions
+			.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+			.put(subscriptionId, roomId);
+		if (roomId.equals(previous)) {
+			return; // 같은 구독 ID로 중복 SUBSCRIBE
+		}
+		if (previous != null) {
+			release(previous);
+		}
+		acquire(roomId);
+	}
+
+	/**
+	 * STOMP UNSUBSCRIBE
+	 */
+	public void unsubscribe(String sessionId, String subscriptionId) {
+		Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		String roomId = subscriptions.remove(subscriptionId);
+		if (roomId != null) {
+			release(roomId);
+		}
+	}
+
+	/**
+	 * STOMP DISCONNECT (또는 비정상 종료): 세션의 모든 구독 해제
+	 * DISCONNECT 이벤트는 중복 발생할 수 있으므로 세션 단위로 한 번만 처리됩니다.
+	 */
+	public void removeSession(String sessionId) {
+		Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+		subscriptions.values().forEach(this::release);
+	}
+
+	/**
+	 * 로컬 구독자가 있거나 retain 시간 안이라 브로커로 전달해야 하는 방인지 여부
+	 */
+	public boolean hasLocalSubscribers(String roomId) {
+		return roomSubscriberCounts.containsKey(roomId);
+	}
+
+	/**
+	 * 구독 수는 방 단위 compute 안에서 정하고, Redis 구독 변경은 compute 밖에서 수행합니다.
+	 * (구독 변경은 Redis 응답을 기다릴 수 있어 ConcurrentHashMap 버킷 락을 잡은 채 실행하지 않음)
+	 */
+	private void acquire(String roomId) {
+		boolean first = roomSubscriberCounts.compute(roomId, (key, count) -> {
+			idleSince.remove(key);
+			return count == null ? 1 : count + 1;
+		}) == 1;
+		if (first) {
+			syncRedisSubscription(roomId);
+		}
+	}
+
+	private void release(String roomId) {
+		boolean[] last = new boolean[1];
+		roomSubscriberCounts.computeIfPresent(roomId, (key, count) -> {
+			if (count > 1) {
+				return count - 1;
+			}
+			if (retainMillis > 0) {
+				idleSince.put(key, System.nanoTime());
+				return 0;
+			}
+			last[0] = true;
+			return null;
+		});
+		if (last[0]) {
+			syncRedisSubscription(roomId);
+		}
+	}
+
+	/**
+	 * retain 시간이 지나도록 구독자가 돌아오지 않은 방의 Redis 채널 구독을 해제합니다.
+	 */
+	void expireIdleRooms(long nowNanos) {
+		long retainNanos = TimeUnit.MILLISECONDS.toNanos(retainMillis);
+		for (String roomId : idleSince.keySet()) {
+			boolean[] expired = new boolean[1];
+			roomSubscriberCounts.computeIfPresent(roomId, (key, count) -> {
+				Long since = idleSince.get(key);
+				if (count > 0 || since == null || nowNanos - since < retainNanos) {
+					return count;
+				}
+				idleSince.remove(key);
+				expired[0] = true;
+				return null;
+			});
+			if (expired[0]) {
+				syncRedisSubscription(roomId);
+			}
+		}
+	}
+
+	/**
+	 * 현재 구독 수에 맞게 Redis 채널 구독을 맞춥니다.
+	 * 구독/해제 결정이 동시에 나면 Redis 변경 순서가 뒤바뀔 수 있으므로, 방 단위 락 안에서
+	 * 결정 당시 값이 아니라 최신 구독 수를 다시 읽어 반영 (마지막으로 실행된 동기화가 최종 상태를 맞춤)
+	 * 해제 후와 재개 전에 브로커 재전송 버퍼에 공백을 표시 → 공백 이전 lastSeenMessageId는 miss(REST 이력 조회)로 처리
+	 */
+	private void syncRedisSubscription(String roomId) {
+		synchronized (roomLocks[Math.floorMod(roomId.hashCode(), roomLocks.length)]) {
+			boolean wanted = roomSubscriberCounts.containsKey(roomId);
+			boolean subscribed = subscribedRooms.contains(roomId);
+			if (wanted && !subscribed) {
+				chatRoomBrokerMessageHandler.markReplayGap(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX + roomId);
+				if (pubSubEnabled) {
+					redisContainer.addMessageListener(chatMessageListener, topic(roomId));
+					log.info("Redis 채널 구독 시작: {}{}", MessageRedisPublisher.ROOM_CHANNEL_PREFIX, roomId);
+				}
+				subscribedRooms.add(roomId);
+			} else if (!wanted && subscribed) {
+				if (pubSubEnabled) {
+					redisContainer.removeMessageListener(chatMessageListener, topic(roomId));
+					log.info("Redis 채널 구독 해제: {}{}", MessageRedisPublisher.ROOM_CHANNEL_PREFIX, roomId);
+				}
+				subscribedRooms.remove(roomId);
+				chatRoomBrokerMessageHandler.markReplayGap(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX + roomId);
+			}
+		}
+	}
+
+	private ChannelTopic topic(String roomId) {
+		return new ChannelTopic(MessageRedisPublisher.ROOM_CHANNEL_PREFIX + roomId);
+	}
+}
@@ -0,0 +1,187 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Stream 전송 모드의 수신 측 (chat.transport.mode=STREAM일 때만 동작)
+ * - 전용 연결에서 XREAD BLOCK으로 마지막으로 읽은 ID 이후 엔트리를 batch-count개씩 읽음
+ * - GC 중단/일시적 연결 오류 후에도 마지막 ID부터 이어 읽으므로 MAXLEN 범위 안의 메시지는 유실되지 않음
+ * - 로컬 구독자가 있는 방의 메시지만 STOMP 브로커로 전달
+ * - 지표: 마지막으로 처리한 엔트리의 지연 시간(ms), XREAD 1회당 엔트리 수
+ */
+@Slf4j
+@Service
+public class ChatStreamConsumer {
+
+	private static final long RECONNECT_BACKOFF_MILLIS = 1000;
+	private static final byte[] ROOM_ID_FIELD = MessageRedisPublisher.STREAM_FIELD_ROOM_ID
+		.getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PAYLOAD_FIELD = MessageRedisPublisher.STREAM_FIELD_PAYLOAD
+		.getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ORIGIN_FIELD = MessageRedisPublisher.STREAM_FIELD_ORIGIN
+		.getBytes(StandardCharsets.UTF_8);
+
+	private final RedisConnectionFactory connectionFactory;
+	private final ChatRoomBroadcaster chatRoomBroadcaster;
+	private final ChatRoomSubscriptionRegistry chatRoomSubscriptionRegistry;
+	private final ChatNodeIdentity chatNodeIdentity;
+	private final ChatTransportMode transportMode;
+	private final byte[] streamKey;
+	private final int batchCount;
+	private final Duration blockTimeout;
+
+	private final AtomicLong lagMillis = new AtomicLong();
+	private final DistributionSummary batchSizeSummary;
+
+	private volatile boolean running;
+	private Thread readerThread;
+	private RecordId lastId; // reader 스레드 전용
+
+	public ChatStreamConsumer(RedisConnectionFactory connectionFactory, ChatRoomBroadcaster chatRoomBroadcaster,
+		ChatRoomSubscriptionRegistry chatRoomSubscriptionRegistry, ChatNodeIdentity chatNodeIdentity,
+		MeterRegistry meterRegistry,
+		@Value("${chat.transport.mode:PUBSUB}") ChatTransportMode transportMode,
+		@Value("${chat.transport.stream.key:chat-stream}") String streamKey,
+		@Value("${chat.transport.stream.batch-count:500}") int batchCount,
+		@Value("${chat.transport.stream.block-ms:1000}") long blockMillis) {
+		this.connectionFactory = connectionFactory;
+		this.chatRoomBroadcaster = chatRoomBroadcaster;
+		this.chatRoomSubscriptionRegistry = chatRoomSubscriptionRegistry;
+		this.chatNodeIdentity = chatNodeIdentity;
+		this.transportMode = transportMode;
+		this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+		this.batchCount = batchCount;
+		this.blockTimeout = Duration.ofMillis(blockMillis);
+
+		Gauge.builder("chat.stream.consumer.lag", lagMillis, AtomicLong::get)
+			.description("마지막으로 처리한 스트림 엔트리의 생성 시각 대비 지연 (ms)")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("chat.stream.consumer.batch.size")
+			.description("XREAD 1회당 읽은 엔트리 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (transportMode != ChatTransportMode.STREAM) {
+			return;
+		}
+		running = true;
+		readerThread = new Thread(this::runReader, "chat-stream-reader");
+		readerThread.setDaemon(true);
+		readerThread.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (readerThread == null) {
+			return;
+		}
+		try {
+			readerThread.join(blockTimeout.toMillis() + RECONNECT_BACKOFF_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void runReader() {
+		while (running) {
+			try (RedisConnection connection = connectionFactory.getConnection()) {
+				while (running) {
+					readBatch(connection);
+				}
+			} catch (Exception e) {
+				if (!running) {
+					return;
+				}
+				log.error("Redis Stream 읽기 실패 - {}ms 후 마지막 ID({})부터 재시도", RECONNECT_BACKOFF_MILLIS, lastId,
+					e);
+				sleepBackoff();
+			}
+		}
+	}
+
+	private void readBatch(RedisConnection connection) {
+		// 최초 1회만 $(이후 추가분), 이후에는 마지막으로 읽은 ID부터 이어 읽음
+		ReadOffset offset = lastId == null ? ReadOffset.latest() : ReadOffset.from(lastId);
+		List<ByteRecord> records = connection.streamCommands().xRead(
+			StreamReadOptions.empty().count(batchCount).block(blockTimeout),
+			StreamOffset.create(streamKey, offset));
+		if (records == null || records.isEmpty()) {
+			lagMillis.set(0);
+			return;
+		}
+
+		batchSizeSummary.record(records.size());
+		for (ByteRecord record : records) {
+			dispatch(record);
+			lastId = record.getId();
+		}
+		lagMillis.set(Math.max(0, System.currentTimeMillis() - lastId.getTimestamp()));
+	}
+
+	private void dispatch(ByteRecord record) {
+		byte[] roomIdBytes = null;
+		byte[] payload = null;
+		byte[] origin = null;
+		for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+			if (Arrays.equals(field.getKey(), ROOM_ID_FIELD)) {
+				roomIdBytes = field.getValue();
+			} else if (Arrays.equals(field.getKey(), PAYLOAD_FIELD)) {
+				payload = field.getValue();
+			} else if (Arrays.equals(field.getKey(), ORIGIN_FIELD)) {
+				origin = field.getValue();
+			}
+		}
+		if (roomIdBytes == null || payload == null) {
+			log.warn("잘못된 스트림 엔트리: {}", record.getId());
+			return;
+		}
+
+		String roomId = new String(roomIdBytes, StandardCharsets.UTF_8);
+		// 이 서버가 발행한 메시지는 이미 로컬 전달됨 / 로컬 구독자가 없는 방은 전달 불필요
+		if (chatNodeIdentity.isOwnEcho(origin) || !chatRoomSubscriptionRegistry.hasLocalSubscribers(roomId)) {
+			return;
+		}
+		try {
+			chatRoomBroadcaster.broadcast(roomId, payload);
+		} catch (Exception e) {
+			// 전달 실패로 재읽기(중복 전달)가 일어나지 않도록 엔트리 단위로 처리
+			log.error("스트림 메시지 브로드캐스트 실패: roomId={}, id={}", roomId, record.getId(), e);
+		}
+	}
+
+	private void sleepBackoff() {
+		try {
+			TimeUnit.MILLISECONDS.sleep(RECONNECT_BACKOFF_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.grm3355.zonie.chatserver.service;
+
+/**
+ * 채팅 메시지 서버 간 전파 방식 (chat.transport.mode)
+ */
+public enum ChatTransportMode {
+	/**
+	 * Redis Pub/Sub (chat-room:{roomId}) - 구독 중이 아닌 서버(GC 중단, 재시작)는 그 사이 메시지를 잃음
+	 */
+	PUBSUB,
+	/**
+	 * Redis Stream (XADD MAXLEN ~) - 각 서버가 마지막으로 읽은 ID부터 XREAD BLOCK으로 이어 읽음
+	 */
+	STREAM
+}
@@ -0,0 +1,90 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import com.grm3355.zonie.commonlib.domain.message.dto.LikeUpdatePushDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 이벤트 합치기 (메시지 단위)
+ * - chat-events:like 이벤트를 (roomId, messageId) 단위로 tick-ms 동안 모아 마지막 이벤트(최신 좋아요 수)만 방에 브로드캐스트
+ * - 인기 메시지에 토글이 몰려도 방 전체 push는 메시지당 tick마다 최대 1회
+ * - 토글한 사용자 본인의 liked 상태/좋아요 수는 api-server의 토글 API 응답으로 즉시 반영됨
+ */
+@Slf4j
+@Service
+public class LikeUpdateAggregator {
+
+	private final SimpMessageSendingOperations messagingTemplate;
+	private final long tickMillis;
+	private final Map<String, LikeUpdatePushDto> pending = new ConcurrentHashMap<>();
+	private final Counter receivedCounter;
+	private final Counter broadcastCounter;
+
+	private ScheduledExecutorService scheduler;
+
+	public LikeUpdateAggregator(SimpMessageSendingOperations messagingTemplate, MeterRegistry meterRegistry,
+		@Value("${chat.like.broadcast-tick-ms:200}") long tickMillis) {
+		this.messagingTemplate = messagingTemplate;
+		this.tickMillis = tickMillis;
+		this.receivedCounter = Counter.builder("chat.like.events.received")
+			.description("수신한 좋아요 이벤트 수")
+			.register(meterRegistry);
+		this.broadcastCounter = Counter.builder("chat.like.events.broadcast")
+			.description("합친 뒤 방에 브로드캐스트한 좋아요 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "like-aggregator");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::flush, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdown();
+		flush();
+	}
+
+	/**
+	 * 같은 메시지의 이전 이벤트는 덮어씀 (Redis 카운터 결과 순서대로 수신하므로 마지막 값이 최신 좋아요 수)
+	 */
+	public void submit(LikeUpdatePushDto dto) {
+		receivedCounter.increment();
+		pending.put(dto.getRoomId() + ":" + dto.getMessageId(), dto);
+	}
+
+	void flush() {
+		for (String key : pending.keySet()) {
+			LikeUpdatePushDto latest = pending.remove(key);
+			if (latest == null) {
+				continue;
+			}
+			try {
+				messagingTemplate.convertAndSend(ChatRoomBroadcaster.ROOM_TOPIC_PREFIX + latest.getRoomId(), latest);
+				broadcastCounter.increment();
+			} catch (Exception e) {
+				log.error("좋아요 이벤트 브로드캐스트 실패: roomId={}, messageId={}", latest.getRoomId(),
+					latest.getMessageId(), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,477 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import sun.misc.Unsafe;
+
+/**
+ * 채팅 메시지 로컬 Write-Ahead Journal (MongoDB 지연/장애 대비)
+ * - 전송이 수락된 메시지를 Mongo보다 먼저 메모리 맵 세그먼트 파일에 append (레코드: [길이][CRC32C][JSON])
+ * - fsync(force)는 fsync-interval-ms 주기로 묶어서 수행 (Group Commit)
+ *   → 프로세스 크래시에는 유실 없음 (페이지 캐시에 남음), OS 크래시 시 최대 한 주기 분량 유실 가능
+ * - Mongo 저장이 확인(ack)된 레코드 수가 세그먼트의 레코드 수와 같아지면 봉인된 세그먼트 파일 삭제
+ * - 메모리 맵은 현재 쓰는 세그먼트에만 유지: 봉인 시 해제하고, 봉인된 세그먼트는 FileChannel 위치 읽기로 접근
+ *   (Mongo 장애가 길어져 세그먼트가 쌓여도 주소 공간이 세그먼트 수만큼 늘지 않음)
+ * - 발행에 실패한 메시지는 discard로 레코드 길이의 부호를 바꿔 무효화 → 재시작 시 복구 대상에서 제외
+ * - 재시작 시 남아있는 세그먼트를 읽어 복구 대상으로 반환 (MessagePersistenceService가 같은 ID로 다시 insert)
+ */
+@Slf4j
+@Component
+public class MessageJournal {
+
+	private static final String SEGMENT_SUFFIX = ".journal";
+	private static final int HEADER_BYTES = Integer.BYTES * 2; // 길이 + CRC
+	private static final Unsafe UNSAFE = loadUnsafe();
+
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final Path directory;
+	private final int segmentBytes;
+	private final long fsyncIntervalMillis;
+
+	private final ReentrantLock appendLock = new ReentrantLock();
+	private final Map<Long, Segment> segments = new ConcurrentSkipListMap<>();
+	private final List<Position> recovered = new ArrayList<>();
+	private volatile Segment active; // appendLock 안에서만 변경, fsync 스레드가 읽음
+
+	private final Counter appendedCounter;
+	private final Timer fsyncTimer;
+	private ScheduledExecutorService flusher;
+
+	public MessageJournal(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${chat.message-journal.enabled:true}") boolean enabled,
+		@Value("${chat.message-journal.dir:./data/message-journal}") String directory,
+		@Value("${chat.message-journal.segment-bytes:67108864}") int segmentBytes,
+		@Value("${chat.message-journal.fsync-interval-ms:5}") long fsyncIntervalMillis) {
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.directory = Path.of(directory);
+		this.segmentBytes = segmentBytes;
+		this.fsyncIntervalMillis = fsyncIntervalMillis;
+
+		this.appendedCounter = Counter.builder("chat.message.journal.appended")
+			.description("Journal에 기록된 메시지 수")
+			.register(meterRegistry);
+		this.fsyncTimer = Timer.builder("chat.message.journal.fsync")
+			.description("세그먼트 force(fsync) 소요 시간")
+			.register(meterRegistry);
+		Gauge.builder("chat.message.journal.segments", segments, Map::size)
+			.description("삭제되지 않은 세그먼트 파일 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void open() throws IOException {
+		if (!enabled) {
+			return;
+		}
+		Files.createDirectories(directory);
+		long nextIndex = 0;
+		for (Path file : listSegmentFiles()) {
+			long index = segmentIndex(file);
+			Segment segment = Segment.recover(file, index, this);
+			nextIndex = Math.max(nextIndex, index + 1);
+			if (segment.appended.get() == 0) {
+				segment.release();
+				segment.delete();
+				continue;
+			}
+			segments.put(index, segment);
+			log.warn("미저장 Journal 세그먼트 복구: {} ({}건)", file.getFileName(), segment.appended.get());
+		}
+		active = createSegment(nextIndex);
+
+		flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "message-journal-fsync");
+			thread.setDaemon(true);
+			return thread;
+		});
+		flusher.scheduleWithFixedDelay(this::forceActive, fsyncIntervalMillis, fsyncIntervalMillis,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void close() {
+		if (flusher != null) {
+			flusher.shutdown();
+			try {
+				flusher.awaitTermination(fsyncIntervalMillis * 2, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (active != null) {
+			forceActive();
+		}
+		segments.values().forEach(Segment::release);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 재시작 전 Mongo 저장이 확인되지 않은 레코드 위치 (open 시점에 한 번 채워짐)
+	 */
+	public List<Position> drainRecovered() {
+		List<Position> positions = new ArrayList<>(recovered);
+		recovered.clear();
+		return positions;
+	}
+
+	/**
+	 * 메시지를 기록하고 위치를 반환합니다. 직렬화/공간 부족 등으로 기록하지 못하면 예외가 발생합니다.
+	 */
+	public Position append(Message message) {
+		byte[] data;
+		try {
+			data = objectMapper.writeValueAsBytes(message);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Journal 직렬화 실패: " + message.getId(), e);
+		}
+		if (data.length + HEADER_BYTES > segmentBytes) {
+			throw new IllegalStateException("메시지가 Journal 세그먼트보다 큽니다: " + data.length);
+		}
+		CRC32C crc = new CRC32C();
+		crc.update(data);
+
+		appendLock.lock();
+		try {
+			if (!active.hasRoom(data.length)) {
+				rollSegment();
+			}
+			Position position = active.write(data, (int)crc.getValue());
+			appendedCounter.increment();
+			return position;
+		} finally {
+			appendLock.unlock();
+		}
+	}
+
+	public Message read(Position position) {
+		byte[] data = position.segment().readRecord(position.offset());
+		try {
+			return objectMapper.readValue(data, Message.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Journal 레코드 역직렬화 실패: " + position, e);
+		}
+	}
+
+	/**
+	 * 발행에 실패해 저장하면 안 되는 레코드를 무효화합니다. (재시작 시 복구 대상에서 제외, 세그먼트 삭제 계산에는 ack로 포함)
+	 */
+	public void discard(Position position) {
+		position.segment().markDiscarded(position.offset());
+		ack(position);
+	}
+
+	/**
+	 * Mongo 저장 완료 확인. 봉인된 세그먼트의 모든 레코드가 확인되면 파일을 삭제합니다.
+	 */
+	public void ack(Position position) {
+		Segment segment = position.segment();
+		segment.acked.incrementAndGet();
+		if (segment.isFullyAcked()) {
+			removeSegment(segment);
+		}
+	}
+
+	private void rollSegment() {
+		Segment previous = active;
+		active = createSegment(previous.index + 1);
+		fsyncTimer.record(previous::seal);
+		if (previous.isFullyAcked()) {
+			removeSegment(previous);
+		}
+	}
+
+	private void removeSegment(Segment segment) {
+		if (segments.remove(segment.index, segment)) {
+			segment.release();
+			segment.delete();
+		}
+	}
+
+	private Segment createSegment(long index) {
+		Path file = directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+		try {
+			Segment segment = Segment.create(file, index, segmentBytes);
+			segments.put(index, segment);
+			return segment;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Journal 세그먼트 생성 실패: " + file, e);
+		}
+	}
+
+	private void forceActive() {
+		Segment segment = active;
+		if (segment != null && segment.dirty) {
+			fsyncTimer.record(segment::force);
+		}
+	}
+
+	private List<Path> listSegmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private static long segmentIndex(Path file) {
+		String name = file.getFileName().toString();
+		return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	/**
+	 * Journal 레코드 위치 (세그먼트 + 레코드 시작 오프셋)
+	 */
+	public record Position(Segment segment, int offset) {
+
+		@Override
+		public String toString() {
+			return segment.file.getFileName() + "@" + offset;
+		}
+	}
+
+	/**
+	 * 고정 크기 세그먼트 파일 (쓰는 동안에는 메모리 맵, 봉인 후에는 FileChannel로만 접근)
+	 * 레코드는 본문과 CRC를 먼저 쓰고 길이를 마지막에 써서, 크래시 시 중간까지 쓰인 레코드는 복구 대상에서 제외됩니다.
+	 * 길이가 음수인 레코드는 무효화(discard)된 레코드입니다.
+	 * 매핑 해제와 매핑 접근(force/읽기/무효화)은 세그먼트 락으로 직렬화 (해제된 매핑 접근은 JVM 크래시)
+	 */
+	public static final class Segment {
+
+		private final Path file;
+		private final long index;
+		private final FileChannel channel;
+		private MappedByteBuffer buffer; // 봉인/해제 후 null
+		private final AtomicInteger appended = new AtomicInteger();
+		private final AtomicInteger acked = new AtomicInteger();
+		private int writeOffset;
+		private volatile boolean sealed;
+		private volatile boolean dirty;
+
+		private Segment(Path file, long index, FileChannel channel, MappedByteBuffer buffer) {
+			this.file = file;
+			this.index = index;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		private static Segment create(Path file, long index, int size) throws IOException {
+			FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+			try {
+				return new Segment(file, index, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+			} catch (IOException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		private static Segment recover(Path file, long index, MessageJournal journal) throws IOException {
+			FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			Segment segment = new Segment(file, index, channel, null);
+			segment.sealed = true;
+
+			int offset = 0;
+			try {
+				while (offset + HEADER_BYTES <= buffer.capacity()) {
+					int length = buffer.getInt(offset);
+					boolean discarded = length < 0;
+					int dataLength = Math.abs(length);
+					if (dataLength == 0 || offset + HEADER_BYTES + dataLength > buffer.capacity()) {
+						break;
+					}
+					byte[] data = new byte[dataLength];
+					buffer.get(offset + HEADER_BYTES, data);
+					CRC32C crc = new CRC32C();
+					crc.update(data);
+					if ((int)crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+						log.warn("Journal 레코드 CRC 불일치 - 이후 레코드 무시: {}@{}", file.getFileName(), offset);
+						break;
+					}
+					if (!discarded) {
+						segment.appended.incrementAndGet();
+						journal.recovered.add(new Position(segment, offset));
+					}
+					offset += HEADER_BYTES + dataLength;
+				}
+			} finally {
+				unmap(buffer);
+			}
+			segment.writeOffset = offset;
+			return segment;
+		}
+
+		private boolean hasRoom(int dataLength) {
+			return writeOffset + HEADER_BYTES + dataLength <= buffer.capacity();
+		}
+
+		/**
+		 * appendLock 안에서만 호출 (활성 세그먼트는 appendLock 밖에서 봉인되지 않으므로 매핑이 유효함)
+		 */
+		private Position write(byte[] data, int crc) {
+			int offset = writeOffset;
+			buffer.put(offset + HEADER_BYTES, data);
+			buffer.putInt(offset + Integer.BYTES, crc);
+			buffer.putInt(offset, data.length);
+			writeOffset = offset + HEADER_BYTES + data.length;
+			appended.incrementAndGet();
+			dirty = true;
+			return new Position(this, offset);
+		}
+
+		private synchronized byte[] readRecord(int offset) {
+			try {
+				int length = buffer != null ? buffer.getInt(offset) : readInt(offset);
+				byte[] data = new byte[Math.abs(length)];
+				if (buffer != null) {
+					buffer.get(offset + HEADER_BYTES, data);
+				} else {
+					readFully(ByteBuffer.wrap(data), offset + HEADER_BYTES);
+				}
+				return data;
+			} catch (IOException e) {
+				throw new UncheckedIOException("Journal 레코드 읽기 실패: " + file.getFileName() + "@" + offset, e);
+			}
+		}
+
+		/**
+		 * 길이를 음수로 바꿔 무효화 (4바이트 쓰기 1회라 중간 상태 없음). 봉인된 세그먼트는 바로 fsync.
+		 */
+		private synchronized void markDiscarded(int offset) {
+			try {
+				if (buffer != null) {
+					buffer.putInt(offset, -Math.abs(buffer.getInt(offset)));
+					dirty = true;
+					return;
+				}
+				ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).putInt(0, -Math.abs(readInt(offset)));
+				while (length.hasRemaining()) {
+					channel.write(length, offset + length.position());
+				}
+				channel.force(false);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Journal 레코드 무효화 실패: " + file.getFileName() + "@" + offset, e);
+			}
+		}
+
+		private boolean isFullyAcked() {
+			return sealed && acked.get() >= appended.get();
+		}
+
+		private synchronized void force() {
+			if (buffer == null) {
+				return;
+			}
+			dirty = false;
+			buffer.force();
+		}
+
+		/**
+		 * 쓰기를 마친 세그먼트를 fsync 후 매핑 해제하고 봉인합니다. (appendLock 안에서 호출)
+		 */
+		private synchronized void seal() {
+			force();
+			unmap(buffer);
+			buffer = null;
+			sealed = true;
+		}
+
+		/**
+		 * 매핑과 파일 핸들을 해제합니다. 이후 이 세그먼트의 Position은 읽을 수 없습니다.
+		 */
+		private synchronized void release() {
+			unmap(buffer);
+			buffer = null;
+			try {
+				channel.close();
+			} catch (IOException e) {
+				log.warn("Journal 세그먼트 닫기 실패: {}", file, e);
+			}
+		}
+
+		private int readInt(int offset) throws IOException {
+			ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+			readFully(value, offset);
+			return value.getInt(0);
+		}
+
+		private void readFully(ByteBuffer target, long offset) throws IOException {
+			while (target.hasRemaining()) {
+				if (channel.read(target, offset + target.position()) < 0) {
+					throw new IOException("Journal 세그먼트가 예상보다 짧습니다: " + file.getFileName());
+				}
+			}
+		}
+
+		private void delete() {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				log.warn("Journal 세그먼트 삭제 실패: {}", file, e);
+			}
+		}
+	}
+
+	/**
+	 * 매핑을 GC를 기다리지 않고 바로 해제합니다. (공개 API가 없어 Unsafe.invokeCleaner 사용, 불가하면 GC에 맡김)
+	 */
+	private static void unmap(MappedByteBuffer buffer) {
+		if (buffer == null || UNSAFE == null) {
+			return;
+		}
+		try {
+			UNSAFE.invokeCleaner(buffer);
+		} catch (RuntimeException e) {
+			log.debug("Journal 세그먼트 매핑 해제 실패 - GC가 해제", e);
+		}
+	}
+
+	private static Unsafe loadUnsafe() {
+		try {
+			Field field = Unsafe.class.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			return (Unsafe)field.get(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.warn("Unsafe를 사용할 수 없어 Journal 세그먼트 매핑은 GC가 해제합니다.", e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,457 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 Write-Behind 저장소
+ * - 메시지 ID(ObjectId)는 전송 시점에 클라이언트(chat-server)에서 생성하므로, 저장 완료를 기다리지 않고 바로 발행할 수 있음
+ * - 유한 큐에 적재 후 전용 writer 스레드가 batch-size 또는 flush-interval-ms 단위로 insertMany (Group Commit)
+ * - 큐가 가득 차면 offer-timeout-ms 동안 대기(Backpressure)하고, 그래도 자리가 없으면 호출 스레드에서 동기 저장
+ *   (동기 저장은 MONGO Bulkhead를 거치므로, Mongo 지연 시 inbound 스레드가 모두 Mongo에 묶이지 않음)
+ * - MessageJournal이 켜져 있으면 적재 전에 로컬 Journal에 먼저 기록하고, 큐가 가득 찬 경우 동기 저장 대신
+ *   Journal 위치만 남겨(spill) writer가 여유 있을 때 다시 읽어 저장 → Mongo 지연/장애 중에도 전송 지연이 일정하게 유지됨
+ * - 저장이 확인된 메시지는 Journal에 ack, 재시작 시 ack되지 않은 메시지는 같은 ID로 다시 insert (중복 키는 이미 저장된 것으로 처리)
+ *   - 문서 전체를 덮어쓰는 upsert는 쓰지 않음: 이미 반영된 좋아요 수를 지우거나, 삭제된 채팅방의 메시지를 되살릴 수 있음
+ * - 저장 실패한 메시지는 writer가 지수 백오프 후 다시 시도 (백오프 중에는 새 배치를 꺼내지 않아 writer가 Mongo에 묶이지 않음,
+ *   그동안 쌓인 메시지는 큐 → Journal spill 순으로 보관)
+ * - 종료 시 큐에 남은 메시지를 모두 저장한 후 종료
+ */
+@Slf4j
+@Service
+public class MessagePersistenceService {
+
+	private static final long IDLE_POLL_MILLIS = 100;
+	private static final int DUPLICATE_KEY = 11000;
+	private static final int MAX_REJECTED_ATTEMPTS = 3;    // 문서 단위로 거부된 메시지의 최대 시도 횟수 (연결 장애는 무제한)
+
+	private final MongoTemplate mongoTemplate;
+	private final StoreBulkheads storeBulkheads;
+	private final MessageJournal messageJournal;
+	private final BlockingQueue<PendingMessage> queue;
+	private final ConcurrentLinkedQueue<MessageJournal.Position> spilled = new ConcurrentLinkedQueue<>();
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final long offerTimeoutMillis;
+	private final long shutdownTimeoutMillis;
+	private final long retryBackoffMillis;
+	private final long retryBackoffMaxMillis;
+
+	// --- Metrics ---
+	private final DistributionSummary batchSizeSummary;
+	private final Timer flushTimer;
+	private final Counter backpressureCounter;
+	private final Counter syncFallbackCounter;
+	private final Counter spillCounter;
+	private final Counter failureCounter;
+	private final Counter retryCounter;
+
+	private volatile boolean running;
+	private Thread writerThread;
+	private RetryBatch retry;    // 백오프 후 다시 저장할 배치 (writer 스레드 전용, 종료 시에는 stop()이 처리)
+
+	public MessagePersistenceService(MongoTemplate mongoTemplate,
+		StoreBulkheads storeBulkheads, MessageJournal messageJournal, MeterRegistry meterRegistry,
+		@Value("${chat.message-persistence.queue-capacity:10000}") int queueCapacity,
+		@Value("${chat.message-persistence.batch-size:500}") int batchSize,
+		@Value("${chat.message-persistence.flush-interval-ms:5}") long flushIntervalMillis,
+		@Value("${chat.message-persistence.offer-timeout-ms:50}") long offerTimeoutMillis,
+		@Value("${chat.message-persistence.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+		@Value("${chat.message-persistence.retry-backoff-ms:100}") long retryBackoffMillis,
+		@Value("${chat.message-persistence.retry-backoff-max-ms:30000}") long retryBackoffMaxMillis) {
+		this.mongoTemplate = mongoTemplate;
+		this.storeBulkheads = storeBulkheads;
+		this.messageJournal = messageJournal;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+		this.offerTimeoutMillis = offerTimeoutMillis;
+		this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+		this.retryBackoffMillis = retryBackoffMillis;
+		this.retryBackoffMaxMillis = retryBackoffMaxMillis;
+
+		Gauge.builder("chat.message.persist.queue.depth", queue, BlockingQueue::size)
+			.description("저장 대기 중인 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.message.persist.spilled.depth", spilled, ConcurrentLinkedQueue::size)
+			.description("큐 대신 Journal에만 남아 재저장을 기다리는 메시지 수")
+			.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("chat.message.persist.batch.size")
+			.description("insertMany 1회당 메시지 수")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("chat.message.persist.flush")
+			.description("insertMany 소요 시간")
+			.register(meterRegistry);
+		this.backpressureCounter = meterRegistry.counter("chat.message.persist.backpressure");
+		this.syncFallbackCounter = meterRegistry.counter("chat.message.persist.sync.fallback");
+		this.spillCounter = meterRegistry.counter("chat.message.persist.spilled");
+		this.failureCounter = meterRegistry.counter("chat.message.persist.failures");
+		this.retryCounter = meterRegistry.counter("chat.message.persist.retries");
+	}
+
+	@PostConstruct
+	public void start() {
+		List<MessageJournal.Position> recovered = messageJournal.drainRecovered();
+		if (!recovered.isEmpty()) {
+			log.warn("Journal에서 미확인 메시지 {}건 복구 - 재저장 예정", recovered.size());
+			spilled.addAll(recovered);
+		}
+		running = true;
+		writerThread = new Thread(this::runWriter, "message-writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * 종료 시 writer 스레드가 큐를 모두 비울 때까지 대기하고, 남은 메시지는 직접 저장합니다.
+	 * (MongoTemplate에 의존하므로 Mongo 클라이언트보다 먼저 호출됨)
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			writerThread.join(shutdownTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// 백오프 중이던 배치는 한 번 더 시도 (실패하면 Journal에 남아 다음 기동 시 복구)
+		if (retry != null) {
+			List<PendingMessage> failed = write(retry.messages()).failed();
+			retry = null;
+			logUnsaved(failed);
+		}
+
+		List<PendingMessage> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			log.warn("종료 시점 미저장 메시지 {}건 동기 저장", remaining.size());
+			logUnsaved(write(remaining).failed());
+		}
+		// Journal에 남은 메시지는 다음 기동 시에도 복구되지만, 가능한 한 지금 저장
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+		while (readSpilled(batch)) {
+			List<PendingMessage> failed = write(batch).failed();
+			batch.clear();
+			if (!failed.isEmpty()) {
+				// Mongo 장애: 나머지 spill 메시지는 Journal에 남겨 다음 기동 시 복구
+				logUnsaved(failed);
+				break;
+			}
+		}
+	}
+
+	private void logUnsaved(List<PendingMessage> failed) {
+		if (failed.isEmpty()) {
+			return;
+		}
+		long journaled = failed.stream().filter(pending -> pending.position() != null).count();
+		failureCounter.increment(failed.size() - journaled);
+		log.error("종료 시점 저장 실패 {}건 (Journal 보관 {}건은 다음 기동 시 복구)", failed.size(), journaled);
+	}
+
+	/**
+	 * 메시지를 Journal에 기록한 뒤 저장 큐에 적재합니다. (ID가 미리 할당되어 있어야 함)
+	 */
+	public void enqueue(Message message) {
+		enqueue(message, running ? journal(message) : null);
+	}
+
+	/**
+	 * 전송이 수락된 메시지를 발행 전에 Journal에 먼저 기록합니다.
+	 * @return Journal 위치 (Journal 미사용/기록 실패 시 null → 기존 Write-Behind 경로로만 처리)
+	 */
+	public MessageJournal.Position journal(Message message) {
+		if (!messageJournal.isEnabled()) {
+			return null;
+		}
+		try {
+			return messageJournal.append(message);
+		} catch (Exception e) {
+			log.error("메시지 Journal 기록 실패 - Journal 없이 저장: messageId={}", message.getId(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 발행에 실패한 메시지의 Journal 레코드를 무효화합니다. (재시작 시 보이지 않은 메시지가 저장되지 않도록)
+	 */
+	public void discard(MessageJournal.Position position) {
+		if (position == null) {
+			return;
+		}
+		try {
+			messageJournal.discard(position);
+		} catch (Exception e) {
+			log.error("Journal 레코드 무효화 실패: {}", position, e);
+		}
+	}
+
+	/**
+	 * journal()로 기록한 메시지를 저장 큐에 적재합니다.
+	 * 큐가 가득 찬 경우 offer-timeout-ms 동안 대기하고, 그래도 실패하면 Journal에만 남기거나(spill) 호출 스레드에서 동기 저장합니다.
+	 */
+	public void enqueue(Message message, MessageJournal.Position position) {
+		if (!running) {
+			// 동기 저장이 실패해도 Journal에 남아 다음 기동 시 복구되므로 ack하지 않음
+			saveSyncFromCaller(message);
+			return;
+		}
+		PendingMessage pending = new PendingMessage(message, position);
+		if (queue.offer(pending)) {
+			return;
+		}
+
+		backpressureCounter.increment();
+		try {
+			if (queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (pending.position() != null) {
+			// 이미 Journal에 기록되어 유실되지 않으므로, 호출 스레드를 Mongo에 묶지 않고 나중에 저장
+			spillCounter.increment();
+			spilled.add(pending.position());
+			return;
+		}
+		saveSyncFromCaller(message);
+	}
+
+	/**
+	 * 호출(inbound) 스레드에서의 동기 저장. Bulkhead가 포화되면 저장을 포기하고 실패로 집계합니다.
+	 * (메시지는 이미 발행된 상태이므로 전송 자체는 실패시키지 않음)
+	 */
+	private void saveSyncFromCaller(Message message) {
+		try {
+			storeBulkheads.run(StoreBulkheads.Store.MONGO, () -> saveSync(message));
+		} catch (BusinessException e) {
+			failureCounter.increment();
+			log.error("Mongo Bulkhead 포화로 메시지 저장 실패: messageId={}, roomId={}", message.getId(),
+				message.getChatRoomId());
+		}
+	}
+
+	private void runWriter() {
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				if (retry != null) {
+					if (!running) {
+						break;    // 종료 중에는 백오프를 기다리지 않고 stop()에 맡김
+					}
+					long waitNanos = retry.notBeforeNanos() - System.nanoTime();
+					if (waitNanos > 0) {
+						TimeUnit.NANOSECONDS.sleep(Math.min(waitNanos, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS)));
+						continue;
+					}
+					retryCounter.increment();
+					flush(retry.messages(), retry.attempt() + 1);
+					continue;
+				}
+				PendingMessage first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					batch.add(first);
+					fillBatch(batch);
+					flush(batch, 0);
+					batch.clear();
+				}
+				// 큐 배치 사이사이에 spill/복구된 메시지를 한 배치씩 재저장
+				if (retry == null && readSpilled(batch)) {
+					flush(batch, 0);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				log.error("메시지 writer 처리 중 오류", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * batch-size에 도달하거나 첫 메시지 이후 flush-interval-ms가 지날 때까지 배치를 채웁니다.
+	 */
+	private void fillBatch(List<PendingMessage> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + flushIntervalNanos;
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			if (batch.size() >= batchSize) {
+				return;
+			}
+			long remainingNanos = deadline - System.nanoTime();
+			if (remainingNanos <= 0) {
+				return;
+			}
+			PendingMessage next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	/**
+	 * spill/복구된 Journal 위치를 최대 batch-size개까지 읽어 배치에 담습니다.
+	 * @return 담은 메시지가 있으면 true
+	 */
+	private boolean readSpilled(List<PendingMessage> batch) {
+		MessageJournal.Position position;
+		while (batch.size() < batchSize && (position = spilled.poll()) != null) {
+			try {
+				batch.add(new PendingMessage(messageJournal.read(position), position));
+			} catch (Exception e) {
+				failureCounter.increment();
+				log.error("Journal 레코드를 읽을 수 없어 건너뜀: {}", position, e);
+				messageJournal.ack(position);
+			}
+		}
+		return !batch.isEmpty();
+	}
+
+	/**
+	 * 배치를 저장하고, 실패한 메시지는 지수 백오프 후 다시 시도하도록 retry에 남깁니다. (writer 스레드)
+	 * @param attempt 이 배치의 재시도 횟수 (처음 저장은 0)
+	 */
+	private void flush(List<PendingMessage> batch, int attempt) {
+		WriteResult result = write(batch);
+		List<PendingMessage> failed = result.failed();
+		if (failed.isEmpty()) {
+			retry = null;
+			return;
+		}
+		if (result.rejected() && attempt + 1 >= MAX_REJECTED_ATTEMPTS) {
+			// 문서 자체가 거부되는 경우(검증 오류 등)는 재시도해도 저장되지 않으므로 포기 (뒤 메시지가 막히지 않게)
+			failureCounter.increment(failed.size());
+			log.error("메시지 {}건 저장 포기 ({}회 거부됨): messageIds={}", failed.size(), attempt + 1,
+				failed.stream().map(pending -> pending.message().getId()).toList());
+			failed.forEach(this::ack);
+			retry = null;
+			return;
+		}
+		long backoffMillis = Math.min(retryBackoffMillis << Math.min(attempt, 20), retryBackoffMaxMillis);
+		retry = new RetryBatch(failed, attempt, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+		log.warn("메시지 {}건 저장 실패 - {}ms 후 재시도 (재시도 {}회째)", failed.size(), backoffMillis, attempt + 1);
+	}
+
+	/**
+	 * 순서 없는(unordered) bulk insert로 한 번에 저장합니다.
+	 * ID가 클라이언트에서 할당되므로, 중복 키 오류는 이미 저장된 메시지(복구/재시도)로 보고 성공 처리합니다.
+	 * @return 저장되지 않은 메시지 (중복 키 이외의 문서 단위 오류, 또는 요청 전체 실패)
+	 */
+	private WriteResult write(List<PendingMessage> batch) {
+		batchSizeSummary.record(batch.size());
+		List<Message> messages = batch.stream().map(PendingMessage::message).toList();
+		try {
+			flushTimer.record(() -> mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)
+				.insert(messages)
+				.execute());
+			batch.forEach(this::ack);
+			return new WriteResult(List.of(), false);
+		} catch (Exception e) {
+			List<BulkWriteError> errors = bulkWriteErrors(e);
+			if (errors == null) {
+				log.error("메시지 일괄 저장 실패 ({}건)", batch.size(), e);
+				return new WriteResult(new ArrayList<>(batch), false);
+			}
+			Set<Integer> failedIndexes = errors.stream()
+				.filter(error -> error.getCode() != DUPLICATE_KEY)
+				.map(BulkWriteError::getIndex)
+				.collect(Collectors.toSet());
+			List<PendingMessage> failed = new ArrayList<>(failedIndexes.size());
+			for (int i = 0; i < batch.size(); i++) {
+				if (failedIndexes.contains(i)) {
+					failed.add(batch.get(i));
+				} else {
+					ack(batch.get(i));
+				}
+			}
+			if (!failed.isEmpty()) {
+				log.error("메시지 일괄 저장 중 {}건 실패 ({}건 중)", failed.size(), batch.size(), e);
+			}
+			return new WriteResult(failed, true);
+		}
+	}
+
+	/**
+	 * @return 건별 쓰기 오류 (요청 자체가 실패한 경우 null)
+	 */
+	private static List<BulkWriteError> bulkWriteErrors(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof BulkOperationException bulkException) {
+				return bulkException.getErrors();
+			}
+			if (t instanceof MongoBulkWriteException mongoException && mongoException.getWriteConcernError() == null) {
+				return mongoException.getWriteErrors();
+			}
+		}
+		return null;
+	}
+
+	private void ack(PendingMessage pending) {
+		if (pending.position() != null) {
+			messageJournal.ack(pending.position());
+		}
+	}
+
+	private void saveSync(Message message) {
+		syncFallbackCounter.increment();
+		try {
+			mongoTemplate.insert(message);
+		} catch (DuplicateKeyException e) {
+			log.debug("이미 저장된 메시지: messageId={}", message.getId());
+		} catch (Exception e) {
+			failureCounter.increment();
+			log.error("메시지 저장 실패: messageId={}, roomId={}", message.getId(), message.getChatRoomId(), e);
+		}
+	}
+
+	/**
+	 * 저장 대기 메시지와 Journal 위치 (Journal 미사용/기록 실패 시 position은 null)
+	 */
+	private record PendingMessage(Message message, MessageJournal.Position position) {
+	}
+
+	/**
+	 * @param failed 저장되지 않은 메시지
+	 * @param rejected 요청은 처리됐지만 문서 단위로 거부된 경우 true (연결 장애 등 요청 전체 실패는 false)
+	 */
+	private record WriteResult(List<PendingMessage> failed, boolean rejected) {
+	}
+
+	/**
+	 * @param notBeforeNanos 다시 시도할 수 있는 시각 (System.nanoTime 기준)
+	 */
+	private record RetryBatch(List<PendingMessage> messages, int attempt, long notBeforeNanos) {
+	}
+}
@@ -0,0 +1,220 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지 전송 후처리 Redis 갱신 (Pub/Sub 발행 또는 Stream 추가 + active_rooms ZSET + 채팅방 요약 Hash + 활성화 랭킹 ZSET)
+ * - 기본: Lua 스크립트(EVALSHA, NOSCRIPT 시 EVAL) 1회 호출로 원자적 처리 → 1 RTT, 키 간 부분 갱신 구간 없음
+ * - 스크립트 실행이 불가능한 환경(EVAL 비활성화, 권한 없음 등)에서는 파이프라인으로 대체 (1 RTT, 원자성은 보장 안 됨)
+ * - chat.transport.mode=STREAM이면 PUBLISH 대신 XADD MAXLEN ~ 로 전파 (ChatStreamConsumer가 읽음)
+ * - Bulkhead 거절이나 Redis 오류는 삼키지 않고 BusinessException으로 호출 측(보낸 사람)에 전달
+ *   (호출 측은 이 호출이 성공한 뒤에 로컬 구독자에게 전달하므로, 로컬에만 보이고 다른 노드/요약에는 없는 메시지가 생기지 않음)
+ */
+@Slf4j
+@Service
+public class MessageRedisPublisher {
+
+	public static final String ROOM_CHANNEL_PREFIX = "chat-room:";
+	private static final String ACTIVE_ROOMS_KEY = "chatroom:active_rooms";
+	static final String STREAM_FIELD_ROOM_ID = "roomId";
+	static final String STREAM_FIELD_PAYLOAD = "payload";
+	static final String STREAM_FIELD_ORIGIN = "origin";
+	private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final StoreBulkheads storeBulkheads;
+	private final ChatNodeIdentity chatNodeIdentity;
+	private final byte[] origin;
+	private final ChatTransportMode transportMode;
+	private final String streamKey;
+	private final long streamMaxLength;
+	private final RedisScript<Long> postSendScript;
+	private final Timer scriptTimer;
+	private final Timer pipelineTimer;
+
+	private volatile boolean scriptEnabled;
+
+	public MessageRedisPublisher(StringRedisTemplate stringRedisTemplate, StoreBulkheads storeBulkheads,
+		ChatNodeIdentity chatNodeIdentity, MeterRegistry meterRegistry, @Value("${chat.redis.post-send-script.enabled:true}") boolean scriptEnabled,
+		@Value("${chat.transport.mode:PUBSUB}") ChatTransportMode transportMode,
+		@Value("${chat.transport.stream.key:chat-stream}") String streamKey,
+		@Value("${chat.transport.stream.max-length:100000}") long streamMaxLength) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.storeBulkheads = storeBulkheads;
+		this.chatNodeIdentity = chatNodeIdentity;
+		this.origin = chatNodeIdentity.getNodeIdBytes();
+		this.scriptEnabled = scriptEnabled;
+		this.transportMode = transportMode;
+		this.streamKey = streamKey;
+		this.streamMaxLength = streamMaxLength;
+
+		String scriptPath = transportMode == ChatTransportMode.STREAM
+			? "scripts/post_send_stream.lua" : "scripts/post_send.lua";
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource(scriptPath)));
+		script.setResultType(Long.class);
+		this.postSendScript = script;
+
+		this.scriptTimer = Timer.builder("chat.redis.post_send")
+			.description("메시지 전송 후처리 Redis 호출 지연 시간")
+			.tag("mode", "script")
+			.register(meterRegistry);
+		this.pipelineTimer = Timer.builder("chat.redis.post_send")
+			.description("메시지 전송 후처리 Redis 호출 지연 시간")
+			.tag("mode", "pipeline")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 채팅방 채널로 페이로드를 발행하고, 정렬용 ZSET, 채팅방 요약 Hash(마지막 대화 시각/내용, 메시지 수),
+	 * 축제별/전체 활성화 랭킹 ZSET을 한 번의 왕복으로 갱신합니다.
+	 * @throws BusinessException Bulkhead 포화(TOO_MANY_REQUESTS) 또는 Redis 오류(INTERNAL_SERVER_ERROR)
+	 * @param festivalId 채팅방이 속한 축제 ID (랭킹 키)
+	 * @param rankingMember 랭킹 ZSET 멤버 (ChatRoomRankingKeys.member)
+	 * @param lastMessageAt 마지막 대화 시각 (epoch millis, 활성화 점수로 그대로 사용)
+	 */
+	public void publishAndUpdate(String roomId, Long festivalId, String rankingMember, byte[] payload,
+		long lastMessageAt, String lastContent) {
+		PostSend postSend = new PostSend(roomId, festivalId, rankingMember, payload, lastMessageAt, lastContent);
+		storeBulkheads.run(StoreBulkheads.Store.REDIS, () -> doPublishAndUpdate(postSend));
+	}
+
+	private void doPublishAndUpdate(PostSend postSend) {
+		if (scriptEnabled) {
+			try {
+				scriptTimer.record(() -> executeScript(postSend));
+				return;
+			} catch (Exception e) {
+				if (!isScriptingUnavailable(e)) {
+					// 일시적 오류: 스크립트가 이미 실행됐을 수 있으므로 재시도하지 않고 보낸 사람에게 실패를 알림 (중복 발행 방지)
+					log.error("Redis post-send 스크립트 실행 실패", e);
+					throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "메시지 전송에 실패했습니다. 다시 시도해주세요.");
+				}
+				scriptEnabled = false;
+				log.warn("Redis 스크립트 실행 불가 - 파이프라인 모드로 전환합니다. ({})", e.getMessage());
+			}
+		}
+		try {
+			pipelineTimer.record(() -> executePipeline(postSend));
+		} catch (Exception e) {
+			log.error("Redis post-send 파이프라인 실행 실패", e);
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "메시지 전송에 실패했습니다. 다시 시도해주세요.");
+		}
+	}
+
+	private void executeScript(PostSend postSend) {
+		String roomId = postSend.roomId();
+		String lastMessageAt = String.valueOf(postSend.lastMessageAt());
+		String festivalActivityKey = ChatRoomRankingKeys.activity(postSend.festivalId());
+		String allActivityKey = ChatRoomRankingKeys.activity(null);
+		// 페이로드가 이미 byte[]이므로 인자는 모두 byte[]로 전달 (String 변환/복사 없음)
+		if (transportMode == ChatTransportMode.STREAM) {
+			stringRedisTemplate.execute(
+				postSendScript,
+				RedisSerializer.byteArray(),
+				LONG_RESULT_SERIALIZER,
+				List.of(ACTIVE_ROOMS_KEY, ChatRoomSummaryDto.key(roomId), streamKey, festivalActivityKey,
+					allActivityKey),
+				bytes(roomId),
+				bytes(lastMessageAt),
+				bytes(postSend.lastContent()),
+				bytes(String.valueOf(streamMaxLength)),
+				postSend.payload(),
+				origin,
+				bytes(postSend.rankingMember())
+			);
+			return;
+		}
+		stringRedisTemplate.execute(
+			postSendScript,
+			RedisSerializer.byteArray(),
+			LONG_RESULT_SERIALIZER,
+			List.of(ACTIVE_ROOMS_KEY, ChatRoomSummaryDto.key(roomId), festivalActivityKey, allActivityKey),
+			bytes(roomId),
+			bytes(lastMessageAt),
+			bytes(postSend.lastContent()),
+			bytes(ROOM_CHANNEL_PREFIX + roomId),
+			postSend.payload(),
+			origin,
+			bytes(postSend.rankingMember())
+		);
+	}
+
+	private void executePipeline(PostSend postSend) {
+		String roomId = postSend.roomId();
+		byte[] payload = postSend.payload();
+		long lastMessageAt = postSend.lastMessageAt();
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			if (transportMode == ChatTransportMode.STREAM) {
+				connection.streamCommands().xAdd(
+					StreamRecords.newRecord()
+						.in(bytes(streamKey))
+						.ofMap(Map.of(bytes(STREAM_FIELD_ROOM_ID), bytes(roomId),
+							bytes(STREAM_FIELD_PAYLOAD), payload,
+							bytes(STREAM_FIELD_ORIGIN), origin)),
+					XAddOptions.maxlen(streamMaxLength).approximateTrimming(true));
+			} else {
+				connection.publish(bytes(ROOM_CHANNEL_PREFIX + roomId), chatNodeIdentity.wrap(payload));
+			}
+			connection.zSetCommands().zAdd(bytes(ACTIVE_ROOMS_KEY), lastMessageAt, bytes(roomId));
+			byte[] summaryKey = bytes(ChatRoomSummaryDto.key(roomId));
+			connection.hashCommands().hMSet(summaryKey, Map.of(
+				bytes(ChatRoomSummaryDto.FIELD_LAST_AT), bytes(String.valueOf(lastMessageAt)),
+				bytes(ChatRoomSummaryDto.FIELD_LAST_CONTENT), bytes(postSend.lastContent())));
+			connection.hashCommands().hIncrBy(summaryKey, bytes(ChatRoomSummaryDto.FIELD_MSG_COUNT), 1);
+			// 랭킹은 이미 적재된 방만 갱신 (XX), 늦게 도착한 메시지가 점수를 되돌리지 않음 (GT)
+			byte[] rankingMember = bytes(postSend.rankingMember());
+			connection.zSetCommands().zAdd(bytes(ChatRoomRankingKeys.activity(postSend.festivalId())),
+				lastMessageAt, rankingMember, ZAddArgs.ifExists().gt());
+			connection.zSetCommands().zAdd(bytes(ChatRoomRankingKeys.activity(null)),
+				lastMessageAt, rankingMember, ZAddArgs.ifExists().gt());
+			return null;
+		});
+	}
+
+	private record PostSend(String roomId, Long festivalId, String rankingMember, byte[] payload,
+		long lastMessageAt, String lastContent) {
+	}
+
+	/**
+	 * EVAL/EVALSHA 명령 자체를 쓸 수 없는 경우인지 판단 (일시적 연결 오류와 구분)
+	 */
+	private boolean isScriptingUnavailable(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			String message = t.getMessage();
+			if (message != null && (message.contains("unknown command") || message.contains("NOPERM"))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -1,24 +1,17 @@
 package com.grm3355.zonie.chatserver.service;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
-import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
-import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
-import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomUserRepository;
+import com.grm3355.zonie.chatserver.dto.ChatRoomSessionContext;
+import com.grm3355.zonie.commonlib.domain.message.dto.MessageBroadcastDto;
 import com.grm3355.zonie.commonlib.domain.message.entity.Message;
 import com.grm3355.zonie.commonlib.domain.message.enums.MessageType;
-import com.grm3355.zonie.commonlib.domain.message.repository.MessageRepository;
-import com.grm3355.zonie.commonlib.domain.user.entity.User;
-import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
-import com.grm3355.zonie.commonlib.global.exception.BusinessException;
-import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+import com.grm3355.zonie.commonlib.global.util.ChatRoomRankingKeys;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,29 +21,33 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MessageService {
 
-	private final MessageRepository messageRepository;
-	private final RedisTemplate<String, Object> redisTemplate;    // (Pub/Sub용)
-	private final StringRedisTemplate stringRedisTemplate;        // 순수 문자열 저장용
+	private final MessagePersistenceService messagePersistenceService;
+	private final MessageRedisPublisher messageRedisPublisher;    // Pub/Sub + 채팅방 상태 갱신 (1 RTT)
 	private final ObjectMapper objectMapper;
-	private final ChatRoomUserRepository chatRoomUserRepository;
-	private final UserRepository userRepository;
-	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomContextService chatRoomContextService;
+	private final ChatRoomBroadcaster chatRoomBroadcaster;
+	private final ChatNodeIdentity chatNodeIdentity;
 
+	/**
+	 * 세션 컨텍스트 없이 호출되는 경우 (매번 PG 조회)
+	 */
 	public void sendMessage(String userId, String roomId, String content) {
+		sendMessage(chatRoomContextService.getOrLoad(null, userId, roomId), content);
+	}
 
-		// 1. 사용자 정보 및 채팅방 정보 - 닉네임 조회
-		User user = userRepository.findByUserId(userId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다. (MessageService)"));
-
-		ChatRoom room = chatRoomRepository.findByChatRoomId(roomId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "채팅방을 찾을 수 없습니다. (MessageService)"));
+	/**
+	 * STOMP 세션 컨텍스트 기반 메시지 전송: 사용자/채팅방/닉네임 PG 조회 없음
+	 */
+	public void sendMessage(ChatRoomSessionContext context, String content) {
 
-		String nickname = chatRoomUserRepository.findByUserAndChatRoom(user, room)
-			.map(ChatRoomUser::getNickName)
-			.orElse("알 수 없음");
+		// 1. 사용자 정보 및 채팅방 정보 - 닉네임 (세션 컨텍스트)
+		String userId = context.userId();
+		String roomId = context.roomId();
+		String nickname = context.nickname();
 
-		// 2. MongoDB에 메시지 즉시 저장
+		// 2. ObjectId를 미리 생성 (MongoDB 저장은 발행 후 Write-Behind 큐에 위임, 발행 전 Mongo 왕복 없음)
 		Message message = Message.builder()
+			.id(new ObjectId().toHexString())
 			.chatRoomId(roomId)
 			.userId(userId)
 			.nickname(nickname)
@@ -60,39 +57,53 @@ public class MessageService {
 			.likeCount(0)
 			.likedByUserIds(new java.util.HashSet<>())
 			.build();
-		messageRepository.save(message);
 
-		// 3. Redis Pub/Sub으로 다른 서버에 전파 (채팅방 구독자들에게 브로드캐스팅)
+		// 3. 마지막 대화 시각
+		long lastMessageAtLong = System.currentTimeMillis();
+
+		// 3-1. 활성화 점수 = 마지막 대화 시각 (epoch millis 그대로)
+		// double 점수에 생성 시각까지 소수부로 더하면 두 값 모두 담을 수 없어(유효 자릿수 부족) 생성 시각이 사라짐
+		// → 동점 시 생성 최신순은 랭킹 ZSET 멤버("{생성 시각}:{roomId}")의 사전순으로 처리
+		String rankingMember = ChatRoomRankingKeys.member(context.roomCreatedAt(), roomId);
+
+		// 3-2. 마지막 메시지 내용
+		String lastContent = nickname + ": " + content;
+
+		// 4. Redis 후처리를 1 RTT로 처리 (Lua 스크립트, 불가 시 파이프라인)
+		// - Pub/Sub 발행: 다른 서버에 전파 (채팅방 구독자들에게 브로드캐스팅)
+		// - ZADD chatroom:active_rooms: 실시간 정렬 및 페이지네이션 (Score를 통한 랭킹 관리)
+		// - ZADD XX GT chatroom:rank:{festivalId|all}:activity: 축제별/전체 채팅방 목록의 활성화 순 랭킹
+		// - HSET chatroom:{roomId} lastAt/lastContent, HINCRBY msgCount: 채팅방 요약 Hash (정확한 타임스탬프 원본 Long 값, 마지막 메시지 내용)
+		byte[] payload;
 		try {
-			// message 객체 원본 전송
-			redisTemplate.convertAndSend("chat-room:" + roomId, message);
-		} catch (Exception e) {
-			log.error("Message Pub/Sub 발행 실패", e);
+			// 구독 서버에서 재직렬화하지 않도록 브로드캐스트용 DTO를 여기서 한 번만 직렬화
+			payload = objectMapper.writeValueAsBytes(MessageBroadcastDto.from(message));
+		} catch (JsonProcessingException e) {
+			log.error("Message 직렬화 실패", e);
+			return;
 		}
 
-		// 4. 마지막 대화 시각
-		long createdAtLong = room.getCreatedAt()
-			.atZone(ZoneId.systemDefault())
-			.toInstant()
-			.toEpochMilli(); // LocalDateTime -> Long
-		Long lastMessageAtLong = System.currentTimeMillis();
+		// 5. 수락된 메시지는 발행 전에 Journal에 먼저 기록 (발행 직후 크래시해도 클라이언트가 본 메시지는 재시작 시 저장됨)
+		MessageJournal.Position journaled = messagePersistenceService.journal(message);
 
-		// 4-1. Composite Score 계산 및 ZSET 갱신
-		// Score = Last Message At (정수부) + Created At (소수부)
-		// CreatedAt을 10^16으로 나누어 소수점 이하로 만듦 (정밀도 이슈 감수)
-		double compositeScore = lastMessageAtLong.doubleValue() + ((double)createdAtLong / 10000000000000000D);
-
-		// 4-1. Redis에 ZSET에 등록/갱신
-		// ZADD key score member
-		// 실시간 정렬 및 페이지네이션 (Score를 통한 랭킹 관리) 목적으로만 사용함
-		stringRedisTemplate.opsForZSet().add("chatroom:active_rooms", roomId, compositeScore);
+		// 6. Redis 후처리: Bulkhead 거절/Redis 오류 시 BusinessException으로 보낸 사람에게 실패를 알리고,
+		//    로컬 전달과 저장은 하지 않음 (로컬 구독자에게만 보이고 다른 노드/요약에는 없는 메시지 방지)
+		//    Journal 레코드는 무효화해 재시작 시에도 저장되지 않게 함
+		try {
+			messageRedisPublisher.publishAndUpdate(roomId, context.festivalId(), rankingMember, payload,
+				lastMessageAtLong, lastContent);
+		} catch (RuntimeException e) {
+			messagePersistenceService.discard(journaled);
+			throw e;
+		}
 
-		// 4-2. Redis에 갱신
-		// 정확한 실시간 타임스탬프 원본 Long 값
-		stringRedisTemplate.opsForValue().set("chatroom:last_msg_at:" + roomId, String.valueOf(lastMessageAtLong));
+		// 7. Local short-circuit: 이 서버의 구독자에게는 Redis 왕복 없이 바로 전달 (구독자가 없으면 브로커에서 버려짐)
+		//    Redis로 돌아오는 자기 echo는 origin 노드 ID로 걸러짐 (RedisSubscriber, ChatStreamConsumer)
+		if (chatNodeIdentity.isLocalDeliveryEnabled()) {
+			chatRoomBroadcaster.broadcast(roomId, payload);
+		}
 
-		// 5. Redis에 마지막 메시지 내용 갱신 - String Template
-		String lastContent = nickname + ": " + content;
-		stringRedisTemplate.opsForValue().set("chatroom:last_msg_content:" + roomId, lastContent);
+		// 8. MongoDB 저장은 Write-Behind 큐에 위임 (Journal 위치와 함께)
+		messagePersistenceService.enqueue(message, journaled);
 	}
 }
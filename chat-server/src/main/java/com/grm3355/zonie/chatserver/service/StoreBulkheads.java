@@ -0,0 +1,89 @@
+package com.grm3355.zonie.chatserver.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소별 동시 호출 수 제한 (Bulkhead)
+ * 가상 스레드 모드에서는 스레드 풀이 사실상 무제한이므로, 한 저장소(e.g., Mongo)가 멈추면 모든 요청이 그 저장소에 묶일 수 있음
+ * → 저장소마다 Semaphore로 동시 호출 수를 제한하고, acquire-timeout-ms 안에 허가를 못 받으면 즉시 실패시킴
+ */
+@Slf4j
+@Component
+public class StoreBulkheads {
+
+	public enum Store {
+		POSTGRES, MONGO, REDIS
+	}
+
+	private final Map<Store, Semaphore> semaphores = new EnumMap<>(Store.class);
+	private final Map<Store, Counter> rejectedCounters = new EnumMap<>(Store.class);
+	private final long acquireTimeoutMillis;
+
+	public StoreBulkheads(MeterRegistry meterRegistry,
+		@Value("${chat.bulkhead.postgres.max-concurrent:10}") int postgresMaxConcurrent,
+		@Value("${chat.bulkhead.mongo.max-concurrent:50}") int mongoMaxConcurrent,
+		@Value("${chat.bulkhead.redis.max-concurrent:200}") int redisMaxConcurrent,
+		@Value("${chat.bulkhead.acquire-timeout-ms:200}") long acquireTimeoutMillis) {
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		semaphores.put(Store.POSTGRES, new Semaphore(postgresMaxConcurrent));
+		semaphores.put(Store.MONGO, new Semaphore(mongoMaxConcurrent));
+		semaphores.put(Store.REDIS, new Semaphore(redisMaxConcurrent));
+
+		semaphores.forEach((store, semaphore) -> {
+			String storeTag = store.name().toLowerCase();
+			Gauge.builder("chat.bulkhead.available", semaphore, Semaphore::availablePermits)
+				.tag("store", storeTag)
+				.register(meterRegistry);
+			rejectedCounters.put(store, Counter.builder("chat.bulkhead.rejected")
+				.tag("store", storeTag)
+				.register(meterRegistry));
+		});
+	}
+
+	public <T> T call(Store store, Supplier<T> action) {
+		Semaphore semaphore = semaphores.get(store);
+		acquire(store, semaphore);
+		try {
+			return action.get();
+		} finally {
+			semaphore.release();
+		}
+	}
+
+	public void run(Store store, Runnable action) {
+		call(store, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	private void acquire(Store store, Semaphore semaphore) {
+		boolean acquired;
+		try {
+			acquired = semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			rejectedCounters.get(store).increment();
+			log.warn("Bulkhead 포화로 요청 거절: store={}", store);
+			throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요.");
+		}
+	}
+}
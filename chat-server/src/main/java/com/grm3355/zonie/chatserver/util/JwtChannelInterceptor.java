@@ -51,8 +51,7 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 				try {
 					// 2-1. 성공 시 userId 추출 및 Principal 설정
 					// (검증 실패 시 catch로 이동)
-					jwtTokenProvider.validateToken(token);
-					String userId = jwtTokenProvider.getUserIdFromToken(token);
+					String userId = jwtTokenProvider.parseClaims(token).userId();
 
 					// 3. 인증 객체 생성
 					UsernamePasswordAuthenticationToken authentication =
@@ -0,0 +1,21 @@
+-- 메시지 전송 후처리 - Redis Streams 전송 모드 (1 RTT, 원자적 실행)
+-- KEYS[1] = chatroom:active_rooms
+-- KEYS[2] = chatroom:{roomId} (채팅방 요약 Hash: lastAt, lastContent, msgCount)
+-- KEYS[3] = 채팅 메시지 스트림 (chat-stream)
+-- KEYS[4] = chatroom:rank:{festivalId}:activity (축제별 활성화 랭킹)
+-- KEYS[5] = chatroom:rank:all:activity (전체 활성화 랭킹)
+-- ARGV[1] = roomId
+-- ARGV[2] = lastMessageAt (epoch millis, 요약 Hash의 lastAt이자 활성화 점수)
+-- ARGV[3] = 마지막 메시지 내용 ("닉네임: 내용")
+-- ARGV[4] = 스트림 최대 길이 (MAXLEN ~, 근사 트리밍)
+-- ARGV[5] = 페이로드 (발행 서버에서 한 번만 직렬화된 MessageBroadcastDto JSON)
+-- ARGV[6] = origin 노드 ID (발행 서버가 자기 echo를 걸러내는 용도)
+-- ARGV[7] = 랭킹 멤버 ("{생성 시각 13자리}:{roomId}")
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[2], 'lastAt', ARGV[2], 'lastContent', ARGV[3])
+redis.call('HINCRBY', KEYS[2], 'msgCount', 1)
+-- 랭킹은 이미 적재된 방만 갱신 (XX), 늦게 도착한 메시지가 점수를 되돌리지 않음 (GT)
+redis.call('ZADD', KEYS[4], 'XX', 'GT', ARGV[2], ARGV[7])
+redis.call('ZADD', KEYS[5], 'XX', 'GT', ARGV[2], ARGV[7])
+redis.call('XADD', KEYS[3], 'MAXLEN', '~', ARGV[4], '*', 'roomId', ARGV[1], 'payload', ARGV[5], 'origin', ARGV[6])
+return 1
@@ -0,0 +1,136 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedOutboundSessionDecoratorTest {
+
+	@Mock
+	private WebSocketSession delegate;
+
+	// drain 작업을 바로 실행하지 않고 모아두는 Executor (느린 클라이언트 시뮬레이션)
+	private final List<Runnable> pendingDrains = new ArrayList<>();
+	private OutboundQueueDecoratorFactory monitor;
+
+	@BeforeEach
+	void setUp() {
+		monitor = new OutboundQueueDecoratorFactory(new SimpleMeterRegistry(), 3, 1024 * 1024, 10000,
+			OutboundOverflowPolicy.DROP_OLDEST);
+	}
+
+	private BoundedOutboundSessionDecorator session(OutboundOverflowPolicy policy) {
+		return new BoundedOutboundSessionDecorator(delegate, 3, 1024 * 1024, 10000, policy, pendingDrains::add,
+			monitor);
+	}
+
+	private TextMessage frame(String body) {
+		return new TextMessage("MESSAGE\ndestination:/sub/chat-rooms/room-1\n\n" + body + "\u0000");
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST: 큐가 가득 차면 가장 오래된 MESSAGE 프레임을 버리고 최신 프레임을 순서대로 전송한다")
+	void testDropOldest() throws Exception {
+		// given
+		BoundedOutboundSessionDecorator session = session(OutboundOverflowPolicy.DROP_OLDEST);
+
+		// when
+		for (int i = 1; i <= 5; i++) {
+			session.sendMessage(frame("m" + i));
+		}
+		assertEquals(3, session.getPendingFrames());
+		pendingDrains.forEach(Runnable::run);
+
+		// then
+		ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+		verify(delegate, times(3)).sendMessage(captor.capture());
+		assertTrue(captor.getAllValues().get(0).getPayload().contains("m3"));
+		assertTrue(captor.getAllValues().get(2).getPayload().contains("m5"));
+		assertEquals(1, pendingDrains.size(), "세션당 drain 작업은 하나만 실행되어야 합니다.");
+	}
+
+	@Test
+	@DisplayName("COALESCE: 큐가 가득 차면 대기 프레임을 하나의 WebSocket 메시지로 합친다")
+	void testCoalesce() throws Exception {
+		// given
+		BoundedOutboundSessionDecorator session = session(OutboundOverflowPolicy.COALESCE);
+
+		// when
+		for (int i = 1; i <= 4; i++) {
+			session.sendMessage(frame("m" + i));
+		}
+		pendingDrains.forEach(Runnable::run);
+
+		// then
+		ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+		verify(delegate, times(1)).sendMessage(captor.capture());
+		String payload = captor.getValue().getPayload();
+		assertTrue(payload.contains("m1") && payload.contains("m4"));
+	}
+
+	@Test
+	@DisplayName("DISCONNECT: 큐가 가득 차면 세션을 종료하고 이후 프레임은 무시한다")
+	void testDisconnect() throws Exception {
+		// given
+		BoundedOutboundSessionDecorator session = session(OutboundOverflowPolicy.DISCONNECT);
+
+		// when
+		for (int i = 1; i <= 5; i++) {
+			session.sendMessage(frame("m" + i));
+		}
+
+		// then
+		verify(delegate, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+		assertEquals(0, session.getPendingFrames());
+		verify(delegate, never()).sendMessage(any());
+	}
+
+	@Test
+	@DisplayName("새 프레임이 없어도 주기 검사에서 send-time-limit를 넘긴 전송을 발견하면 세션을 종료한다")
+	void testCloseIfSendStalled() throws Exception {
+		// given: 마지막 프레임 전송이 응답 없이 멈춘 세션
+		CountDownLatch inSend = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			inSend.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(delegate).sendMessage(any());
+		BoundedOutboundSessionDecorator session = new BoundedOutboundSessionDecorator(delegate, 3, 1024 * 1024, 50,
+			OutboundOverflowPolicy.DROP_OLDEST, command -> new Thread(command).start(), monitor);
+		session.sendMessage(frame("m1"));
+		assertTrue(inSend.await(5, TimeUnit.SECONDS));
+
+		try {
+			// when
+			session.closeIfSendStalled();
+			verify(delegate, never()).close(any());
+			Thread.sleep(100);
+			session.closeIfSendStalled();
+
+			// then
+			verify(delegate, timeout(1000).times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+		} finally {
+			release.countDown();
+		}
+	}
+}
@@ -0,0 +1,286 @@
+package com.grm3355.zonie.chatserver.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatRoomBrokerMessageHandlerTest {
+
+	private static final String ROOM_TOPIC = "/sub/chat-rooms/room-1";
+
+	private final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+	private ChatRoomBrokerMessageHandler handler;
+
+	@BeforeEach
+	void setUp() {
+		ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+		clientOutboundChannel.subscribe(outbound::add);
+		handler = new ChatRoomBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutboundChannel,
+			new ExecutorSubscribableChannel(), List.of("/sub/chat-rooms/"), new SimpleMeterRegistry(), 3, 60_000, 10);
+		handler.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		handler.stop();
+	}
+
+	@Test
+	@DisplayName("채팅방 토픽 구독자에게만 세션/구독 ID를 붙여 전달한다")
+	void testFanOutToExactDestinationSubscribers() {
+		// given
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-2", "sub-0", ROOM_TOPIC));
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-3", "sub-0", "/sub/chat-rooms/room-2"));
+
+		// when
+		handler.handleMessage(frame(SimpMessageType.MESSAGE, null, null, ROOM_TOPIC));
+
+		// then
+		assertEquals(2, outbound.size());
+		assertEquals(List.of("session-1", "session-2"), outbound.stream()
+			.map(message -> SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))
+			.sorted()
+			.toList());
+		outbound.forEach(message -> assertEquals("sub-0",
+			SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders())));
+	}
+
+	@Test
+	@DisplayName("UNSUBSCRIBE/DISCONNECT 시 구독이 정리되고 마지막 구독자가 떠나면 토픽도 제거된다")
+	void testUnsubscribeAndDisconnect() {
+		// given
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-2", "sub-0", ROOM_TOPIC));
+
+		// when
+		handler.handleMessage(frame(SimpMessageType.UNSUBSCRIBE, "session-1", "sub-0", null));
+
+		// then
+		assertEquals(1, handler.getSubscriberCount(ROOM_TOPIC));
+
+		// when
+		handler.handleMessage(frame(SimpMessageType.DISCONNECT, "session-2", null, null));
+		handler.handleMessage(frame(SimpMessageType.MESSAGE, null, null, ROOM_TOPIC));
+
+		// then
+		assertEquals(0, handler.getSubscriberCount(ROOM_TOPIC));
+		assertTrue(outbound.isEmpty());
+	}
+
+	@Test
+	@DisplayName("채팅방 prefix가 아닌 토픽은 처리하지 않는다")
+	void testIgnoreOtherDestinations() {
+		// when
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", "/sub/echo"));
+
+		// then
+		assertEquals(0, handler.getSubscriberCount("/sub/echo"));
+	}
+
+	@Test
+	@DisplayName("lastSeenMessageId로 재구독하면 그 이후 메시지만 해당 구독에 재전송한다")
+	void testReplayAfterLastSeenMessageId() {
+		// given
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		for (int i = 1; i <= 3; i++) {
+			handler.handleMessage(chatMessage(i));
+		}
+		outbound.clear();
+
+		// when: 메시지 1까지 받은 클라이언트가 재연결
+		handler.handleMessage(subscribeWithLastSeen("session-2", messageId(1)));
+
+		// then
+		assertEquals(2, outbound.size());
+		assertTrue(new String((byte[])outbound.get(0).getPayload()).contains(messageId(2)));
+		assertTrue(new String((byte[])outbound.get(1).getPayload()).contains(messageId(3)));
+		outbound.forEach(message -> {
+			assertEquals("session-2", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+			assertEquals("true", NativeMessageHeaderAccessor.getFirstNativeHeader(
+				ChatRoomBrokerMessageHandler.REPLAYED_HEADER, message.getHeaders()));
+		});
+	}
+
+	@Test
+	@DisplayName("lastSeenMessageId가 버퍼에서 밀려났으면 재전송하지 않는다 (REST 이력 조회로 대체)")
+	void testNoReplayWhenLastSeenEvicted() {
+		// given: 버퍼 크기 3
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		for (int i = 1; i <= 5; i++) {
+			handler.handleMessage(chatMessage(i));
+		}
+		outbound.clear();
+
+		// when
+		handler.handleMessage(subscribeWithLastSeen("session-2", messageId(1)));
+
+		// then
+		assertTrue(outbound.isEmpty());
+	}
+
+	@Test
+	@DisplayName("마지막 구독자가 떠나도 retain 시간 동안은 버퍼를 유지해 재연결한 구독자에게 재전송한다")
+	void testReplayBufferRetainedAfterLastSubscriberLeaves() {
+		// given: 메시지 1까지 받은 유일한 구독자가 연결을 잃음
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		handler.handleMessage(chatMessage(1));
+		handler.handleMessage(frame(SimpMessageType.DISCONNECT, "session-1", null, null));
+
+		// when: 재연결 전에 도착한 메시지도 버퍼에 기록됨
+		handler.handleMessage(chatMessage(2));
+		outbound.clear();
+		handler.handleMessage(subscribeWithLastSeen("session-2", messageId(1)));
+
+		// then
+		assertEquals(1, outbound.size());
+		assertTrue(new String((byte[])outbound.get(0).getPayload()).contains(messageId(2)));
+
+		// when: 다시 떠난 뒤 Redis 구독이 해제되면(공백 표시) 토픽과 버퍼가 폐기됨
+		handler.handleMessage(frame(SimpMessageType.DISCONNECT, "session-2", null, null));
+		handler.markReplayGap(ROOM_TOPIC);
+		assertEquals(0, handler.getSubscriberCount(ROOM_TOPIC));
+		outbound.clear();
+		handler.handleMessage(subscribeWithLastSeen("session-3", messageId(1)));
+
+		// then
+		assertTrue(outbound.isEmpty());
+	}
+
+	@Test
+	@DisplayName("구독자가 남아 있을 때 공백이 표시되면 버퍼를 비워 이전 ID로의 재구독은 재전송하지 않는다")
+	void testNoReplayAcrossGap() {
+		// given
+		handler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		handler.handleMessage(chatMessage(1));
+		handler.handleMessage(chatMessage(2));
+
+		// when: 수신 공백 이후 메시지 3 도착
+		handler.markReplayGap(ROOM_TOPIC);
+		handler.handleMessage(chatMessage(3));
+		outbound.clear();
+		handler.handleMessage(subscribeWithLastSeen("session-2", messageId(1)));
+
+		// then: 메시지 2만 빠진 목록 대신 miss
+		assertTrue(outbound.isEmpty());
+		assertEquals(2, handler.getSubscriberCount(ROOM_TOPIC));
+	}
+
+	@Test
+	@DisplayName("재전송 중 도착한 실시간 메시지는 재전송이 끝난 뒤에 전달된다")
+	void testLiveMessageDuringReplayIsDeliveredAfterReplay() {
+		// given: 재전송 프레임을 받는 순간 새 메시지가 발행되는 outbound 채널
+		ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+		List<Message<?>> frames = new CopyOnWriteArrayList<>();
+		ChatRoomBrokerMessageHandler replayingHandler = new ChatRoomBrokerMessageHandler(
+			new ExecutorSubscribableChannel(), clientOutboundChannel, new ExecutorSubscribableChannel(),
+			List.of("/sub/chat-rooms/"), new SimpleMeterRegistry(), 3, 60_000, 10);
+		AtomicBoolean published = new AtomicBoolean();
+		clientOutboundChannel.subscribe(message -> {
+			frames.add(message);
+			if (NativeMessageHeaderAccessor.getFirstNativeHeader(ChatRoomBrokerMessageHandler.REPLAYED_HEADER,
+				message.getHeaders()) != null && published.compareAndSet(false, true)) {
+				replayingHandler.handleMessage(chatMessage(4));
+			}
+		});
+		replayingHandler.start();
+		replayingHandler.handleMessage(frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0", ROOM_TOPIC));
+		for (int i = 1; i <= 3; i++) {
+			replayingHandler.handleMessage(chatMessage(i));
+		}
+		frames.clear();
+
+		// when
+		replayingHandler.handleMessage(subscribeWithLastSeen("session-2", messageId(1)));
+		replayingHandler.stop();
+
+		// then: session-2는 2, 3(재전송) 다음에 4(실시간)를 받음
+		List<String> received = frames.stream()
+			.filter(message -> "session-2".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())))
+			.map(message -> new String((byte[])message.getPayload()))
+			.toList();
+		assertEquals(3, received.size());
+		assertTrue(received.get(0).contains(messageId(2)));
+		assertTrue(received.get(1).contains(messageId(3)));
+		assertTrue(received.get(2).contains(messageId(4)));
+	}
+
+	@Test
+	@DisplayName("coalesce:true로 구독하면 윈도우 동안의 메시지를 하나의 JSON 배열 프레임으로 전송한다")
+	void testCoalesceFrames() {
+		// given: 윈도우가 끝나기 전에 stop()으로 남은 배치를 내보내도록 긴 윈도우 사용
+		ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+		List<Message<?>> frames = new CopyOnWriteArrayList<>();
+		clientOutboundChannel.subscribe(frames::add);
+		ChatRoomBrokerMessageHandler coalescingHandler = new ChatRoomBrokerMessageHandler(
+			new ExecutorSubscribableChannel(), clientOutboundChannel, new ExecutorSubscribableChannel(),
+			List.of("/sub/chat-rooms/"), new SimpleMeterRegistry(), 3, 0, 60_000);
+		coalescingHandler.start();
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId("session-1");
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination(ROOM_TOPIC);
+		accessor.setNativeHeader(FrameCoalescer.COALESCE_HEADER, "true");
+		coalescingHandler.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+		// when
+		for (int i = 1; i <= 3; i++) {
+			coalescingHandler.handleMessage(chatMessage(i));
+		}
+		assertTrue(frames.isEmpty());
+		coalescingHandler.stop();
+
+		// then
+		assertEquals(1, frames.size());
+		String body = new String((byte[])frames.get(0).getPayload());
+		assertTrue(body.startsWith("[{") && body.endsWith("}]"));
+		assertTrue(body.contains(messageId(1)) && body.contains(messageId(3)));
+		assertEquals("3", NativeMessageHeaderAccessor.getFirstNativeHeader(FrameCoalescer.BATCH_SIZE_HEADER,
+			frames.get(0).getHeaders()));
+	}
+
+	private Message<byte[]> subscribeWithLastSeen(String sessionId, String lastSeenMessageId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId("sub-0");
+		accessor.setDestination(ROOM_TOPIC);
+		accessor.setNativeHeader(ChatRoomBrokerMessageHandler.LAST_SEEN_MESSAGE_ID_HEADER, lastSeenMessageId);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Message<byte[]> chatMessage(int sequence) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(ROOM_TOPIC);
+		String json = "{\"id\":\"" + messageId(sequence) + "\",\"content\":\"m" + sequence + "\"}";
+		return MessageBuilder.createMessage(json.getBytes(), accessor.getMessageHeaders());
+	}
+
+	private String messageId(int sequence) {
+		return String.format("65f0000000000000000000%02x", sequence);
+	}
+
+	private Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId,
+		String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+	}
+}
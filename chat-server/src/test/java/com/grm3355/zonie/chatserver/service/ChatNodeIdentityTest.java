@@ -0,0 +1,40 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatNodeIdentityTest {
+
+	private static final byte[] PAYLOAD = "{\"id\":\"m1\"}".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	@DisplayName("자기 노드가 감싼 메시지는 echo로 판단하고, 다른 노드의 메시지는 페이로드를 그대로 복원한다")
+	void testEchoDetection() {
+		// given
+		ChatNodeIdentity self = new ChatNodeIdentity(true);
+		ChatNodeIdentity other = new ChatNodeIdentity(true);
+
+		// when
+		byte[] ownEnvelope = self.wrap(PAYLOAD);
+		byte[] otherEnvelope = other.wrap(PAYLOAD);
+
+		// then
+		assertTrue(self.isOwnEcho(ownEnvelope));
+		assertFalse(self.isOwnEcho(otherEnvelope));
+		assertArrayEquals(PAYLOAD, ChatNodeIdentity.unwrap(otherEnvelope));
+	}
+
+	@Test
+	@DisplayName("로컬 전달이 꺼져 있으면 자기 메시지도 Redis 경로로 전달한다")
+	void testNoDedupeWhenLocalDeliveryDisabled() {
+		// given
+		ChatNodeIdentity self = new ChatNodeIdentity(false);
+
+		// when & then
+		assertFalse(self.isOwnEcho(self.wrap(PAYLOAD)));
+	}
+}
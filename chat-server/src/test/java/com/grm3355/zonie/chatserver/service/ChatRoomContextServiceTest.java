@@ -0,0 +1,114 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.grm3355.zonie.chatserver.dto.ChatRoomSessionContext;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
+import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
+import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomUserRepository;
+import com.grm3355.zonie.commonlib.domain.festival.entity.Festival;
+import com.grm3355.zonie.commonlib.domain.user.entity.User;
+import com.grm3355.zonie.commonlib.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomContextServiceTest {
+
+	private static final String USER_ID = "test-user";
+	private static final String ROOM_ID = "test-room-1";
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+	@Mock
+	private ChatRoomUserRepository chatRoomUserRepository;
+	@Mock
+	private ChatRoom chatRoom;
+	@Mock
+	private Festival festival;
+
+	private ChatRoomContextService chatRoomContextService;
+	private Map<String, Object> sessionAttributes;
+
+	@BeforeEach
+	void setUp() {
+		StoreBulkheads storeBulkheads = new StoreBulkheads(new SimpleMeterRegistry(), 10, 10, 10, 1000);
+		chatRoomContextService = new ChatRoomContextService(userRepository, chatRoomRepository,
+			chatRoomUserRepository, storeBulkheads, 30);
+		sessionAttributes = new HashMap<>();
+
+		User user = User.builder().userId(USER_ID).build();
+		ChatRoomUser chatRoomUser = ChatRoomUser.builder().nickName("#3355").user(user).chatRoom(chatRoom).build();
+
+		lenient().when(chatRoom.getId()).thenReturn(1L);
+		lenient().when(chatRoom.getFestival()).thenReturn(festival);
+		lenient().when(chatRoom.getCreatedAt()).thenReturn(LocalDateTime.now());
+		lenient().when(festival.getFestivalId()).thenReturn(10L);
+		lenient().when(userRepository.findByUserId(USER_ID)).thenReturn(Optional.of(user));
+		lenient().when(chatRoomRepository.findByChatRoomId(ROOM_ID)).thenReturn(Optional.of(chatRoom));
+		lenient().when(chatRoomUserRepository.findByUserAndChatRoom(user, chatRoom))
+			.thenReturn(Optional.of(chatRoomUser));
+	}
+
+	@Test
+	@DisplayName("첫 조회 시에만 PG에서 적재하고, 이후 전송은 세션 속성의 컨텍스트를 재사용한다")
+	void testContextIsCachedInSession() {
+		// when
+		ChatRoomSessionContext first = chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+		ChatRoomSessionContext second = chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+
+		// then
+		assertSame(first, second);
+		assertEquals("#3355", first.nickname());
+		assertEquals(10L, first.festivalId());
+		verify(chatRoomRepository, times(1)).findByChatRoomId(ROOM_ID);
+		verify(userRepository, times(1)).findByUserId(USER_ID);
+	}
+
+	@Test
+	@DisplayName("방 삭제/퇴장 이벤트로 무효화되면 다음 전송 시 PG에서 다시 적재한다")
+	void testInvalidationForcesReload() {
+		// given
+		chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+
+		// when
+		chatRoomContextService.invalidateRoom(ROOM_ID);
+		chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+		chatRoomContextService.invalidateUser(USER_ID, ROOM_ID);
+		chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+
+		// then
+		verify(chatRoomRepository, times(3)).findByChatRoomId(ROOM_ID);
+	}
+
+	@Test
+	@DisplayName("채팅방 멤버가 아니면 컨텍스트를 세션에 저장하지 않는다")
+	void testNonMemberIsNotCached() {
+		// given
+		when(chatRoomUserRepository.findByUserAndChatRoom(any(User.class), eq(chatRoom)))
+			.thenReturn(Optional.empty());
+
+		// when
+		ChatRoomSessionContext context = chatRoomContextService.getOrLoad(sessionAttributes, USER_ID, ROOM_ID);
+
+		// then
+		assertEquals("알 수 없음", context.nickname());
+		assertTrue(sessionAttributes.isEmpty());
+	}
+}
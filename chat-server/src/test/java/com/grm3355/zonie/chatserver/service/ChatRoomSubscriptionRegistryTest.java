@@ -0,0 +1,147 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.grm3355.zonie.chatserver.handler.ChatRoomBrokerMessageHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionRegistryTest {
+
+	private static final ChannelTopic ROOM_TOPIC = new ChannelTopic("chat-room:room-1");
+	private static final String ROOM_DESTINATION = "/sub/chat-rooms/room-1";
+
+	@Mock
+	private RedisMessageListenerContainer redisContainer;
+	@Mock
+	private MessageListener chatMessageListener;
+	@Mock
+	private ChatRoomBrokerMessageHandler chatRoomBrokerMessageHandler;
+
+	private ChatRoomSubscriptionRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new ChatRoomSubscriptionRegistry(redisContainer, chatMessageListener,
+			chatRoomBrokerMessageHandler, new SimpleMeterRegistry(), ChatTransportMode.PUBSUB, 0);
+	}
+
+	@Test
+	@DisplayName("첫 로컬 구독자가 생길 때만 Redis 채널을 구독하고, 마지막 구독자가 떠나면 해제한다")
+	void testSubscribeOnFirstAndUnsubscribeOnLast() {
+		// when
+		registry.subscribe("session-1", "sub-0", "room-1");
+		registry.subscribe("session-2", "sub-0", "room-1");
+
+		// then
+		verify(redisContainer, times(1)).addMessageListener(chatMessageListener, ROOM_TOPIC);
+		assertTrue(registry.hasLocalSubscribers("room-1"));
+
+		// when
+		registry.unsubscribe("session-1", "sub-0");
+		verify(redisContainer, never()).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+		registry.unsubscribe("session-2", "sub-0");
+
+		// then
+		verify(redisContainer, times(1)).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+		assertFalse(registry.hasLocalSubscribers("room-1"));
+	}
+
+	@Test
+	@DisplayName("세션 종료 시 해당 세션의 모든 구독이 해제되며, 중복 DISCONNECT는 무시된다")
+	void testRemoveSessionReleasesAllSubscriptions() {
+		// given
+		registry.subscribe("session-1", "sub-0", "room-1");
+		registry.subscribe("session-1", "sub-1", "room-2");
+
+		// when
+		registry.removeSession("session-1");
+		registry.removeSession("session-1");
+
+		// then
+		verify(redisContainer, times(1)).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+		verify(redisContainer, times(1)).removeMessageListener(chatMessageListener,
+			new ChannelTopic("chat-room:room-2"));
+		assertFalse(registry.hasLocalSubscribers("room-1"));
+		assertFalse(registry.hasLocalSubscribers("room-2"));
+	}
+
+	@Test
+	@DisplayName("Redis 구독 응답을 기다리는 동안에도 같은 방의 해제가 막히지 않고, 끝나면 최신 상태(해제)로 맞춘다")
+	void testUnsubscribeIsNotBlockedBySlowSubscribe() throws Exception {
+		// given: Redis 채널 구독이 응답을 기다리는 중
+		CountDownLatch inSubscribe = new CountDownLatch(1);
+		CountDownLatch resume = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			inSubscribe.countDown();
+			resume.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(redisContainer).addMessageListener(chatMessageListener, ROOM_TOPIC);
+		Thread subscriber = new Thread(() -> registry.subscribe("session-1", "sub-0", "room-1"));
+		subscriber.start();
+		assertTrue(inSubscribe.await(5, TimeUnit.SECONDS));
+
+		// when: 구독 수 변경은 Redis 응답과 무관하게 바로 끝남
+		Thread unsubscriber = new Thread(() -> registry.unsubscribe("session-1", "sub-0"));
+		unsubscriber.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (registry.hasLocalSubscribers("room-1") && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertFalse(registry.hasLocalSubscribers("room-1"));
+		resume.countDown();
+		subscriber.join(5000);
+		unsubscriber.join(5000);
+
+		// then: 늦게 끝난 구독도 최신 구독 수(0)에 맞춰 해제됨
+		verify(redisContainer, times(1)).addMessageListener(chatMessageListener, ROOM_TOPIC);
+		verify(redisContainer, times(1)).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+	}
+
+	@Test
+	@DisplayName("마지막 구독자가 떠나도 retain 시간 동안은 Redis 채널 구독을 유지하고, 지나면 해제한다")
+	void testRetainSubscriptionAfterLastSubscriberLeaves() {
+		// given
+		ChatRoomSubscriptionRegistry retaining = new ChatRoomSubscriptionRegistry(redisContainer,
+			chatMessageListener, chatRoomBrokerMessageHandler, new SimpleMeterRegistry(), ChatTransportMode.PUBSUB,
+			30_000);
+		retaining.subscribe("session-1", "sub-0", "room-1");
+
+		// when: 구독자가 떠났다가 retain 시간 안에 재연결
+		retaining.removeSession("session-1");
+		retaining.expireIdleRooms(System.nanoTime());
+		retaining.subscribe("session-2", "sub-0", "room-1");
+
+		// then: 구독 해제/재구독 없이 유지 (브로커 버퍼도 그대로: 공백 표시는 첫 구독 때 한 번)
+		verify(redisContainer, times(1)).addMessageListener(chatMessageListener, ROOM_TOPIC);
+		verify(redisContainer, never()).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+		verify(chatRoomBrokerMessageHandler, times(1)).markReplayGap(ROOM_DESTINATION);
+
+		// when: 다시 떠난 뒤 retain 시간이 지남
+		retaining.removeSession("session-2");
+		assertTrue(retaining.hasLocalSubscribers("room-1"));
+		retaining.expireIdleRooms(System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+		// then: Redis 구독 해제와 함께 브로커 버퍼에도 공백 표시 (같은 시점 → 구멍 난 재전송 없음)
+		InOrder inOrder = inOrder(redisContainer, chatRoomBrokerMessageHandler);
+		inOrder.verify(redisContainer).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+		inOrder.verify(chatRoomBrokerMessageHandler).markReplayGap(ROOM_DESTINATION);
+		assertFalse(retaining.hasLocalSubscribers("room-1"));
+	}
+}
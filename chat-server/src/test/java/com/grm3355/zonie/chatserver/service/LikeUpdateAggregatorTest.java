@@ -0,0 +1,61 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import com.grm3355.zonie.commonlib.domain.message.dto.LikeUpdatePushDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LikeUpdateAggregatorTest {
+
+	@Mock
+	private SimpMessageSendingOperations messagingTemplate;
+
+	private LikeUpdateAggregator likeUpdateAggregator;
+
+	@BeforeEach
+	void setUp() {
+		// tick은 직접 flush()로 대신함 (start() 미호출)
+		likeUpdateAggregator = new LikeUpdateAggregator(messagingTemplate, new SimpleMeterRegistry(), 200);
+	}
+
+	@Test
+	@DisplayName("같은 메시지의 좋아요 이벤트는 tick 동안 합쳐 최신 좋아요 수만 한 번 브로드캐스트한다")
+	void testCoalescePerMessage() {
+		// given
+		likeUpdateAggregator.submit(new LikeUpdatePushDto("room-1", "msg-1", "user-a", true, 1));
+		likeUpdateAggregator.submit(new LikeUpdatePushDto("room-1", "msg-1", "user-b", true, 2));
+		likeUpdateAggregator.submit(new LikeUpdatePushDto("room-1", "msg-1", "user-a", false, 1));
+		likeUpdateAggregator.submit(new LikeUpdatePushDto("room-1", "msg-2", "user-c", true, 7));
+
+		// when
+		likeUpdateAggregator.flush();
+
+		// then
+		ArgumentCaptor<LikeUpdatePushDto> captor = ArgumentCaptor.forClass(LikeUpdatePushDto.class);
+		verify(messagingTemplate, times(2)).convertAndSend(eq("/sub/chat-rooms/room-1"), captor.capture());
+		LikeUpdatePushDto msg1 = captor.getAllValues().stream()
+			.filter(dto -> dto.getMessageId().equals("msg-1"))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(1, msg1.getLikeCount());
+
+		// when: 새 이벤트가 없으면 다음 tick에서는 전송하지 않음
+		likeUpdateAggregator.flush();
+
+		// then
+		verifyNoMoreInteractions(messagingTemplate);
+	}
+}
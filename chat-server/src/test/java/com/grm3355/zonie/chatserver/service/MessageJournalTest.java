@@ -0,0 +1,122 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MessageJournalTest {
+
+	@TempDir
+	private Path dir;
+
+	private MessageJournal open(int segmentBytes) throws IOException {
+		MessageJournal journal = new MessageJournal(new ObjectMapper().findAndRegisterModules(),
+			new SimpleMeterRegistry(), true, dir.toString(), segmentBytes, 5);
+		journal.open();
+		return journal;
+	}
+
+	private Message message(String content) {
+		return Message.builder().id(new ObjectId().toHexString()).chatRoomId("room-1").content(content).build();
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.count();
+		}
+	}
+
+	@Test
+	@DisplayName("기록한 메시지를 위치로 다시 읽을 수 있고, 모두 ack된 이전 세그먼트 파일은 삭제된다")
+	void testAppendReadAndTruncateAfterAck() throws IOException {
+		// given: 세그먼트 1개에 몇 건만 들어가도록 작게 설정
+		MessageJournal journal = open(512);
+		List<MessageJournal.Position> positions = new ArrayList<>();
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Message message = message("hello-" + i);
+			messages.add(message);
+			positions.add(journal.append(message));
+		}
+		assertTrue(segmentCount() > 1);
+
+		// when & then
+		for (int i = 0; i < positions.size(); i++) {
+			Message read = journal.read(positions.get(i));
+			assertEquals(messages.get(i).getId(), read.getId());
+			assertEquals(messages.get(i).getContent(), read.getContent());
+		}
+
+		// when
+		positions.forEach(journal::ack);
+
+		// then: 현재 쓰는 세그먼트만 남음
+		assertEquals(1, segmentCount());
+		journal.close();
+	}
+
+	@Test
+	@DisplayName("재시작하면 ack되지 않은 메시지를 복구 대상으로 돌려준다")
+	void testRecoverUnackedMessages() throws IOException {
+		// given
+		MessageJournal journal = open(64 * 1024);
+		Message acked = message("saved");
+		Message pending = message("pending");
+		journal.ack(journal.append(acked));
+		journal.append(pending);
+		journal.close();
+
+		// when
+		MessageJournal reopened = open(64 * 1024);
+		List<MessageJournal.Position> recovered = reopened.drainRecovered();
+
+		// then: 봉인되지 않은 세그먼트는 ack 여부와 관계없이 전부 복구 (upsert로 재저장되므로 중복 없음)
+		List<String> ids = recovered.stream().map(position -> reopened.read(position).getId()).toList();
+		assertEquals(List.of(acked.getId(), pending.getId()), ids);
+		assertTrue(reopened.drainRecovered().isEmpty());
+		reopened.close();
+	}
+
+	@Test
+	@DisplayName("무효화(discard)한 레코드는 쓰는 중인 세그먼트든 봉인된 세그먼트든 재시작 시 복구하지 않는다")
+	void testDiscardedRecordsAreNotRecovered() throws IOException {
+		// given: 첫 메시지는 봉인된 세그먼트에, 마지막 메시지는 쓰는 중인 세그먼트에 있음
+		MessageJournal journal = open(512);
+		List<MessageJournal.Position> positions = new ArrayList<>();
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			Message message = message("hello-" + i);
+			messages.add(message);
+			positions.add(journal.append(message));
+		}
+		assertTrue(segmentCount() > 1);
+
+		// when
+		journal.discard(positions.get(0));
+		journal.discard(positions.get(positions.size() - 1));
+		journal.close();
+		MessageJournal reopened = open(512);
+
+		// then
+		List<String> ids = reopened.drainRecovered().stream()
+			.map(position -> reopened.read(position).getId())
+			.toList();
+		assertEquals(messages.subList(1, messages.size() - 1).stream().map(Message::getId).toList(), ids);
+		reopened.close();
+	}
+}
@@ -0,0 +1,187 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+import com.mongodb.bulk.BulkWriteError;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MessagePersistenceServiceTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+	@Mock
+	private BulkOperations bulkOperations;
+
+	@TempDir
+	private Path journalDir;
+
+	private MessagePersistenceService create(int queueCapacity, long flushIntervalMillis) {
+		return create(queueCapacity, flushIntervalMillis, false);
+	}
+
+	private MessagePersistenceService create(int queueCapacity, long flushIntervalMillis, boolean journalEnabled) {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StoreBulkheads storeBulkheads = new StoreBulkheads(meterRegistry, 10, 10, 10, 1000);
+		MessageJournal messageJournal = new MessageJournal(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+			journalEnabled, journalDir.toString(), 64 * 1024, 5);
+		try {
+			messageJournal.open();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return new MessagePersistenceService(mongoTemplate, storeBulkheads, messageJournal,
+			meterRegistry, queueCapacity, 500, flushIntervalMillis, 0, 5000, 10, 100);
+	}
+
+	private Message message(String roomId) {
+		return Message.builder().id(new ObjectId().toHexString()).chatRoomId(roomId).content("hi").build();
+	}
+
+	/**
+	 * unordered bulk insert를 흉내 내고, 저장된 메시지 ID를 모읍니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private Set<String> captureBulkInserts() {
+		Set<String> persistedIds = new HashSet<>();
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)).thenReturn(bulkOperations);
+		when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+			List<Message> messages = invocation.getArgument(0, List.class);
+			synchronized (persistedIds) {
+				messages.forEach(m -> persistedIds.add(m.getId()));
+			}
+			return bulkOperations;
+		});
+		return persistedIds;
+	}
+
+	@Test
+	@DisplayName("큐에 적재된 메시지는 bulk insert로 일괄 저장되고, 종료 시 남은 메시지도 모두 저장된다")
+	void testBatchInsertAndFlushOnShutdown() {
+		// given
+		Set<String> persistedIds = captureBulkInserts();
+		MessagePersistenceService service = create(1000, 50);
+		service.start();
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			service.enqueue(message("room-1"));
+		}
+		service.stop();
+
+		// then
+		assertEquals(100, persistedIds.size());
+		verify(mongoTemplate, never()).insert(any(Message.class));
+	}
+
+	@Test
+	@DisplayName("일괄 저장이 실패하면 writer가 백오프 후 배치를 다시 저장하고, 건별 동기 저장으로 writer를 막지 않는다")
+	void testRetryBatchWithBackoffOnFailure() throws InterruptedException {
+		// given: 첫 저장은 Mongo 장애로 실패
+		Set<String> persistedIds = captureBulkInserts();
+		AtomicInteger attempts = new AtomicInteger();
+		when(bulkOperations.execute()).thenAnswer(invocation -> {
+			if (attempts.getAndIncrement() == 0) {
+				throw new RuntimeException("mongo down");
+			}
+			return null;
+		});
+		MessagePersistenceService service = create(1000, 1);
+		service.start();
+
+		// when
+		service.enqueue(message("room-1"));
+		service.enqueue(message("room-1"));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (attempts.get() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		service.stop();
+
+		// then
+		assertTrue(attempts.get() >= 2);
+		assertEquals(2, persistedIds.size());
+		verify(mongoTemplate, never()).insert(any(Message.class));
+	}
+
+	@Test
+	@DisplayName("이미 저장된 메시지(중복 키)는 덮어쓰지 않고 저장된 것으로 처리한다")
+	void testDuplicateKeyIsTreatedAsSaved() {
+		// given: 재시작 복구 등으로 첫 메시지가 이미 저장되어 있음
+		captureBulkInserts();
+		BulkOperationException duplicate = mock(BulkOperationException.class);
+		when(duplicate.getErrors()).thenReturn(
+			List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)));
+		when(bulkOperations.execute()).thenThrow(duplicate);
+		MessagePersistenceService service = create(1000, 50);
+		service.start();
+
+		// when
+		service.enqueue(message("room-1"));
+		service.stop();
+
+		// then: 재시도/덮어쓰기 없음
+		verify(bulkOperations, times(1)).execute();
+		verify(bulkOperations, never()).replaceOne(any(), any(), any());
+		verify(mongoTemplate, never()).insert(any(Message.class));
+	}
+
+	@Test
+	@DisplayName("Journal이 켜져 있으면 큐가 가득 차도 호출 스레드에서 동기 저장하지 않고, 모든 메시지가 결국 저장된다")
+	void testSpillToJournalWhenQueueFull() {
+		// given
+		Set<String> persistedIds = captureBulkInserts();
+		MessagePersistenceService service = create(1, 1, true);
+		service.start();
+
+		// when
+		for (int i = 0; i < 200; i++) {
+			service.enqueue(message("room-1"));
+		}
+		service.stop();
+
+		// then
+		assertEquals(200, persistedIds.size());
+		verify(mongoTemplate, never()).insert(any(Message.class));
+	}
+
+	@Test
+	@DisplayName("writer가 멈춘 뒤(종료 후)에는 호출 스레드에서 동기 저장한다")
+	void testSyncSaveAfterShutdown() {
+		// given
+		MessagePersistenceService service = create(1, 1);
+		service.start();
+		service.stop();
+
+		// when
+		service.enqueue(message("room-1"));
+
+		// then
+		verify(mongoTemplate, times(1)).insert(any(Message.class));
+		verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Message.class));
+	}
+}
@@ -12,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoomUser;
 import com.grm3355.zonie.commonlib.domain.chatroom.repository.ChatRoomRepository;
@@ -41,7 +42,7 @@ class MessageServiceIntegrationTest {
 	void shouldWriteCleanTimestampToRedis() {
 		String userId = "test-user";
 		String roomId = "test-room-1";
-		String redisKey = "chatroom:last_msg_at:" + roomId;
+		String redisKey = ChatRoomSummaryDto.key(roomId);
 
 		// 테스트 전 Redis 데이터 정리
 		stringRedisTemplate.delete(redisKey);
@@ -64,7 +65,7 @@ class MessageServiceIntegrationTest {
 		messageService.sendMessage(userId, roomId, "Hello Integration Test");
 
 		// 3. Redis에 저장된 값 확인
-		String storedValue = stringRedisTemplate.opsForValue().get(redisKey);
+		String storedValue = (String)stringRedisTemplate.opsForHash().get(redisKey, ChatRoomSummaryDto.FIELD_LAST_AT);
 
 		// 4. 값 검증: 이중 따옴표가 없어야 하고 Long으로 파싱되어야 함
 		assertNotNull(storedValue, "Redis에 값이 저장되어야 합니다.");
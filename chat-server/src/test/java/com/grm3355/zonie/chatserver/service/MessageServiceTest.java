@@ -0,0 +1,83 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grm3355.zonie.chatserver.dto.ChatRoomSessionContext;
+import com.grm3355.zonie.commonlib.domain.message.entity.Message;
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+import com.grm3355.zonie.commonlib.global.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class MessageServiceTest {
+
+	private static final String ROOM_ID = "test-room-1";
+
+	@Mock
+	private MessagePersistenceService messagePersistenceService;
+	@Mock
+	private MessageRedisPublisher messageRedisPublisher;
+	@Mock
+	private ChatRoomContextService chatRoomContextService;
+	@Mock
+	private ChatRoomBroadcaster chatRoomBroadcaster;
+
+	private MessageService messageService;
+	private ChatRoomSessionContext context;
+
+	@BeforeEach
+	void setUp() {
+		messageService = new MessageService(messagePersistenceService, messageRedisPublisher,
+			new ObjectMapper().findAndRegisterModules(), chatRoomContextService, chatRoomBroadcaster,
+			new ChatNodeIdentity(true));
+		context = new ChatRoomSessionContext("test-user", ROOM_ID, 1L, 10L, "닉넴", 1_700_000_000_000L,
+			System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("Journal에 먼저 기록하고, Redis 후처리가 성공한 뒤에 로컬 구독자에게 전달하고 저장 큐에 적재한다")
+	void testPublishBeforeLocalDelivery() {
+		// given
+		MessageJournal.Position journaled = new MessageJournal.Position(null, 0);
+		when(messagePersistenceService.journal(any(Message.class))).thenReturn(journaled);
+
+		// when
+		messageService.sendMessage(context, "hello");
+
+		// then
+		InOrder inOrder = inOrder(messageRedisPublisher, chatRoomBroadcaster, messagePersistenceService);
+		inOrder.verify(messagePersistenceService).journal(any(Message.class));
+		inOrder.verify(messageRedisPublisher).publishAndUpdate(eq(ROOM_ID), eq(10L), anyString(), any(byte[].class),
+			anyLong(), eq("닉넴: hello"));
+		inOrder.verify(chatRoomBroadcaster).broadcast(eq(ROOM_ID), any(byte[].class));
+		inOrder.verify(messagePersistenceService).enqueue(any(Message.class), eq(journaled));
+		verify(messagePersistenceService, never()).discard(any());
+	}
+
+	@Test
+	@DisplayName("Redis Bulkhead 거절/오류 시 보낸 사람에게 예외를 전달하고, 로컬 전달과 저장 없이 Journal 레코드를 무효화한다")
+	void testPublishFailureIsNotSwallowed() {
+		// given
+		MessageJournal.Position journaled = new MessageJournal.Position(null, 0);
+		when(messagePersistenceService.journal(any(Message.class))).thenReturn(journaled);
+		doThrow(new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "요청이 많아 잠시 후 다시 시도해주세요."))
+			.when(messageRedisPublisher)
+			.publishAndUpdate(anyString(), anyLong(), anyString(), any(byte[].class), anyLong(), anyString());
+
+		// when & then
+		assertThrows(BusinessException.class, () -> messageService.sendMessage(context, "hello"));
+		verifyNoInteractions(chatRoomBroadcaster);
+		verify(messagePersistenceService).discard(journaled);
+		verify(messagePersistenceService, never()).enqueue(any(Message.class), any());
+	}
+}
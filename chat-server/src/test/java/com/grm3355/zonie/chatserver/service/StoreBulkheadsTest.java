@@ -0,0 +1,46 @@
+package com.grm3355.zonie.chatserver.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.grm3355.zonie.commonlib.global.exception.BusinessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StoreBulkheadsTest {
+
+	@Test
+	@DisplayName("저장소의 동시 호출 수가 한도에 도달하면 해당 저장소 호출만 거절되고 다른 저장소는 영향받지 않는다")
+	void testRejectWhenSaturated() throws Exception {
+		// given: MONGO 동시 호출 1건 제한
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StoreBulkheads storeBulkheads = new StoreBulkheads(meterRegistry, 1, 1, 1, 10);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread stalled = Thread.ofVirtual().start(() -> storeBulkheads.run(StoreBulkheads.Store.MONGO, () -> {
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		assertTrue(entered.await(1, TimeUnit.SECONDS));
+
+		// when & then
+		assertThrows(BusinessException.class,
+			() -> storeBulkheads.run(StoreBulkheads.Store.MONGO, () -> fail("실행되면 안 됩니다.")));
+		assertEquals("ok", storeBulkheads.call(StoreBulkheads.Store.REDIS, () -> "ok"));
+		assertEquals(1.0, meterRegistry.get("chat.bulkhead.rejected").tag("store", "mongo").counter().count());
+
+		release.countDown();
+		stalled.join();
+		assertEquals("ok", storeBulkheads.call(StoreBulkheads.Store.MONGO, () -> "ok"));
+	}
+}
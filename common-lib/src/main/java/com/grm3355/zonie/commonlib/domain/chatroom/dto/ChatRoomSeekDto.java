@@ -0,0 +1,25 @@
+package com.grm3355.zonie.commonlib.domain.chatroom.dto;
+
+/**
+ * 커서(키셋) 페이지네이션용 채팅방 조회 결과
+ * ChatRoomInfoDto 필드 + 다음 페이지 커서를 만들 정렬 키 (seekKey, seekId)
+ */
+public record ChatRoomSeekDto(
+	String chatRoomId,
+	Long festivalId,
+	String title,
+	Long participantCount,
+	Long lastMessageAt,
+	String festivalTitle,
+	Double lat,
+	Double lon,
+	Long createdAt,
+	Long seekKey,               // 정렬 키 (참여자 수, id, 활성화 시각 마이크로초)
+	Long seekId                 // chat_rooms.id (동점 처리용, 유일)
+) {
+
+	public ChatRoomInfoDto toInfo() {
+		return new ChatRoomInfoDto(chatRoomId, festivalId, title, participantCount, lastMessageAt, festivalTitle,
+			lat, lon, createdAt);
+	}
+}
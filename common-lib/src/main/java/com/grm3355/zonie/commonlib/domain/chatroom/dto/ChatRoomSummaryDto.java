@@ -0,0 +1,57 @@
+package com.grm3355.zonie.commonlib.domain.chatroom.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 실시간 요약 (Redis Hash: chatroom:{roomId})
+ * - lastAt: 마지막 대화 시각 (epoch millis), lastContent: 마지막 대화 내용 ("닉네임: 내용")
+ * - nicknameSeq: 닉네임 순번 (HINCRBY), msgCount: 누적 메시지 수 (HINCRBY)
+ * - 쓰기: chat-server(메시지 후처리 스크립트), api-server(닉네임 순번) / 읽기: api-server 목록 조회 (HMGET 파이프라인)
+ */
+public record ChatRoomSummaryDto(
+	String roomId,
+	Long lastMessageAt,
+	String lastContent,
+	Long messageCount
+) {
+
+	public static final String KEY_PREFIX = "chatroom:";
+	public static final String FIELD_LAST_AT = "lastAt";
+	public static final String FIELD_LAST_CONTENT = "lastContent";
+	public static final String FIELD_NICKNAME_SEQ = "nicknameSeq";
+	public static final String FIELD_MSG_COUNT = "msgCount";
+
+	// 목록 조회 시 HMGET으로 읽는 필드 (순서 = of()의 values 순서)
+	public static final List<String> READ_FIELDS = List.of(FIELD_LAST_AT, FIELD_LAST_CONTENT, FIELD_MSG_COUNT);
+
+	public static String key(String roomId) {
+		return KEY_PREFIX + roomId;
+	}
+
+	/**
+	 * HMGET 결과(READ_FIELDS 순서)로 생성합니다. 숫자로 읽을 수 없는 값은 null로 무시합니다.
+	 */
+	public static ChatRoomSummaryDto of(String roomId, List<String> values) {
+		if (values == null || values.size() < READ_FIELDS.size()) {
+			return empty(roomId);
+		}
+		return new ChatRoomSummaryDto(roomId, parseLong(values.get(0)), values.get(1), parseLong(values.get(2)));
+	}
+
+	public static ChatRoomSummaryDto empty(String roomId) {
+		return new ChatRoomSummaryDto(roomId, null, null, null);
+	}
+
+	private static Long parseLong(String value) {
+		if (value == null) {
+			return null;
+		}
+		// 양 끝의 큰따옴표가 있다면 제거 (방어용)
+		String clean = value.replaceAll("^\"|\"$", "");
+		try {
+			return Long.parseLong(clean);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -29,7 +30,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(
+	name = "chat_rooms",
+	indexes = {
+		// 커서 목록 참여자 수 정렬: (member_count, id) 행 값 비교 + ORDER BY (ChatRoomRepository SEEK_PART_*)
+		@Index(name = "idx_chat_rooms_member_count_id", columnList = "member_count, id"),
+		@Index(name = "idx_chat_rooms_festival_member_count_id", columnList = "festival_id, member_count, id")
+	}
+)
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -83,7 +91,7 @@ public class ChatRoom extends BaseTimeEntity {
 	private Long memberCount = 0L;
 
 	/**
-	 * 마지막 대화 시각 (RedisToDbSyncJob이 1분마다 갱신)
+	 * 마지막 대화 시각 (batch-server ChatRoomLastMsgAtSyncJob이 1분마다 갱신)
 	 */
 	@Column(name = "last_message_at")
 	private LocalDateTime lastMessageAt;
@@ -34,6 +34,10 @@ import lombok.NoArgsConstructor;
 	uniqueConstraints = {
 		@UniqueConstraint(
 			columnNames = {"chat_room_id", "nick_name"}
+		),
+		// 같은 사용자의 동시 입장 요청 중복 방지 (입장 시 채팅방 행 락을 잡지 않음)
+		@UniqueConstraint(
+			columnNames = {"chat_room_id", "user_id"}
 		)
 	}
 )
@@ -6,12 +6,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import jakarta.persistence.LockModeType;
-
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +16,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomInfoDto;
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSeekDto;
 import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
 
 @Repository
@@ -107,15 +105,124 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 		   WHERE c.chat_room_id IS NOT NULL AND (cru.user_id = :userId)
 		""";
 
+	// 채팅방 랭킹 ZSET 기반 목록 조회용: 검색 조건 없이 채팅방 정보만 (축제 조건, ID 목록 조건은 각 쿼리에서 추가)
+	// createdAt은 랭킹 멤버와 같은 값이 되도록 밀리초 미만을 버림 (ChatRoomRankingKeys.createdAtMillis)
+	String ROOM_INFO_QUERY_BASE = """
+		     SELECT
+		     c.chat_room_id as chatRoomId,
+		     f.festival_id as festivalId,
+		     c.title,
+		     c.member_count as participantCount,
+		     (EXTRACT(EPOCH FROM c.last_message_at) * 1000)::BIGINT AS lastMessageAt,
+		     f.title AS festivalTitle,
+		     ST_Y(c.position::geometry) AS lat,
+		     ST_X(c.position::geometry) AS lon,
+		     FLOOR(EXTRACT(EPOCH FROM c.created_at) * 1000)::BIGINT AS createdAt
+		     FROM chat_rooms c
+		     LEFT JOIN festivals f ON f.festival_id = c.festival_id
+		""";
+
+	// =========================================================================
+	// 커서(키셋) 페이지네이션 쿼리: OFFSET, COUNT 없이 커서 이후 행만 조회
+	// 정렬/방향마다 별도 쿼리: (정렬 컬럼, id) 행 값 비교 + 같은 방향의 ORDER BY → 인덱스 순서대로 읽다가 LIMIT에서 멈춤
+	// - 쿼리 = SEEK_SELECT + SEEK_KEY_{정렬} + SEEK_FROM + 범위 조건(SEEK_*_WHERE) + SEEK_{정렬}_{방향}
+	// - PART: 참여자 수, (member_count, id) 인덱스 (ChatRoom @Table indexes)
+	// - DATE: 생성 순서 = PK 순서
+	// - ACTIVE: 마지막 대화 시각, 대화가 없으면 생성 시각 (last_message_at은 batch-server ChatRoomLastMsgAtSyncJob이 1분마다 갱신)
+	//   커서 키는 마이크로초 (timestamp 정밀도 그대로 비교해야 동점 경계에서 누락/중복이 없음)
+	// - 동점은 정렬 방향대로 id로 구분, 첫 페이지는 정렬 방향의 끝 값을 커서로 사용 (ChatRoomCursor.first)
+	// - limit: 페이지 크기 + 1 (한 행 더 읽어 다음 페이지 여부 판단)
+	// =========================================================================
+	String SEEK_SELECT = """
+		     SELECT
+		     c.chat_room_id as chatRoomId,
+		     f.festival_id as festivalId,
+		     c.title,
+		     c.member_count as participantCount,
+		     (EXTRACT(EPOCH FROM c.last_message_at) * 1000)::BIGINT AS lastMessageAt,
+		     f.title AS festivalTitle,
+		     ST_Y(c.position::geometry) AS lat,
+		     ST_X(c.position::geometry) AS lon,
+		     (EXTRACT(EPOCH FROM c.created_at) * 1000)::BIGINT AS createdAt,
+		""";
+	String SEEK_KEY_PART = " c.member_count AS seekKey, c.id AS seekId";
+	String SEEK_KEY_DATE = " c.id AS seekKey, c.id AS seekId";
+	String SEEK_KEY_ACTIVE =
+		" (EXTRACT(EPOCH FROM COALESCE(c.last_message_at, c.created_at)) * 1000000)::BIGINT AS seekKey, c.id AS seekId";
+	String SEEK_FROM = """
+		     FROM chat_rooms c
+		     LEFT JOIN festivals f ON f.festival_id = c.festival_id
+		""";
+
+	// 범위 조건
+	String SEEK_TOTAL_WHERE = " WHERE (:keyword IS NULL OR c.title ILIKE :keyword)";
+	String SEEK_FESTIVAL_WHERE = " WHERE c.festival_id = :festivalId AND (:keyword IS NULL OR c.title ILIKE :keyword)";
+	// (chat_room_id, user_id) 유니크 → JOIN으로도 중복 행 없음
+	String SEEK_MY_WHERE = " JOIN chat_room_user cru ON cru.chat_room_id = c.chat_room_id WHERE cru.user_id = :userId";
+
+	// 커서 조건과 정렬
+	String SEEK_PART_DESC = """
+		     AND (c.member_count, c.id) < (:cursorKey, :cursorId)
+		     ORDER BY c.member_count DESC, c.id DESC
+		     LIMIT :limit
+		""";
+	String SEEK_PART_ASC = """
+		     AND (c.member_count, c.id) > (:cursorKey, :cursorId)
+		     ORDER BY c.member_count ASC, c.id ASC
+		     LIMIT :limit
+		""";
+	String SEEK_DATE_DESC = """
+		     AND c.id < :cursorId
+		     ORDER BY c.id DESC
+		     LIMIT :limit
+		""";
+	String SEEK_DATE_ASC = """
+		     AND c.id > :cursorId
+		     ORDER BY c.id ASC
+		     LIMIT :limit
+		""";
+	String SEEK_ACTIVE_DESC = """
+		     AND (COALESCE(c.last_message_at, c.created_at), c.id)
+		         < (TIMESTAMP 'epoch' + CAST(:cursorKey AS BIGINT) * INTERVAL '1 microsecond', :cursorId)
+		     ORDER BY COALESCE(c.last_message_at, c.created_at) DESC, c.id DESC
+		     LIMIT :limit
+		""";
+	String SEEK_ACTIVE_ASC = """
+		     AND (COALESCE(c.last_message_at, c.created_at), c.id)
+		         > (TIMESTAMP 'epoch' + CAST(:cursorKey AS BIGINT) * INTERVAL '1 microsecond', :cursorId)
+		     ORDER BY COALESCE(c.last_message_at, c.created_at) ASC, c.id ASC
+		     LIMIT :limit
+		""";
+
 	Optional<ChatRoom> findByChatRoomId(String chatRoomId);
 
 	/**
-	 * 채팅방 ID로 조회, 비관적 락(PESSIMISTIC_WRITE)
-	 * 트랜잭션 완료 시까지 다른 트랜잭션의 접근(RW)을 막아 동시성 문제 해결
+	 * 정원이 남아 있을 때만 인원 수를 1 늘림 (조건 확인과 증가가 UPDATE 한 문장 안에서 원자적으로 수행됨)
+	 * 미리 행 락을 잡고 읽은 뒤 비교하는 대신, 행 락은 이 UPDATE부터 트랜잭션 종료까지만 유지됨
+	 * @return 1: 입장 확정, 0: 정원 초과(또는 방 없음)
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE chat_rooms
+		SET member_count = member_count + 1
+		WHERE chat_room_id = :chatRoomId AND member_count < max_participants
+		""", nativeQuery = true)
+	int incrementMemberCountIfAvailable(@Param("chatRoomId") String chatRoomId);
+
+	/**
+	 * 인원 수를 1 줄임 (0 미만으로 내려가지 않음)
+	 * @return 1: 감소, 0: 이미 0명(또는 방 없음)
 	 */
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query("SELECT c FROM ChatRoom c WHERE c.chatRoomId = :chatRoomId")
-	Optional<ChatRoom> findByChatRoomIdWithLock(@Param("chatRoomId") String chatRoomId);
+	@Modifying
+	@Query(value = """
+		UPDATE chat_rooms
+		SET member_count = member_count - 1
+		WHERE chat_room_id = :chatRoomId AND member_count > 0
+		""", nativeQuery = true)
+	int decrementMemberCount(@Param("chatRoomId") String chatRoomId);
+
+	@Query(value = "SELECT c.member_count FROM chat_rooms c WHERE c.chat_room_id = :chatRoomId", nativeQuery = true)
+	Optional<Long> findMemberCountByChatRoomId(@Param("chatRoomId") String chatRoomId);
 
 	/**
 	 * 종합검색에서 채팅방 검색 채팅 관련 Native Query (festivalId로 조회)
@@ -139,6 +246,103 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 				   + " GROUP BY c.chat_room_id, f.festival_id, c.title, c.position, c.member_count, c.last_message_at, f.title, c.created_at", countQuery = MY_ROOM_QUERY_BASE_COUNT, nativeQuery = true)
 	Page<ChatRoomInfoDto> chatMyRoomList(String userId, String keyword, Pageable pageable);
 
+	/**
+	 * 종합검색 채팅방 커서 페이지 (SEEK_SELECT 참고)
+	 * @param cursorKey 이전 페이지 마지막 행의 seekKey (첫 페이지는 ChatRoomCursor.first)
+	 * @param cursorId 이전 페이지 마지막 행의 seekId
+	 */
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_PART_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByPartDesc(@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_PART_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByPartAsc(@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_DATE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByDateDesc(@Param("keyword") String keyword,
+		@Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_DATE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByDateAsc(@Param("keyword") String keyword,
+		@Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_ACTIVE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByActiveDesc(@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_TOTAL_WHERE + SEEK_ACTIVE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> totalChatRoomSeekByActiveAsc(@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	/**
+	 * 축제별 채팅방 커서 페이지
+	 */
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_PART_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByPartDesc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_PART_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByPartAsc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_DATE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByDateDesc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_DATE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByDateAsc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_ACTIVE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByActiveDesc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_FESTIVAL_WHERE + SEEK_ACTIVE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatFestivalRoomSeekByActiveAsc(@Param("festivalId") long festivalId,
+		@Param("keyword") String keyword,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	/**
+	 * 내 채팅방 커서 페이지
+	 */
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_MY_WHERE + SEEK_PART_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByPartDesc(@Param("userId") String userId,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_PART + SEEK_FROM + SEEK_MY_WHERE + SEEK_PART_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByPartAsc(@Param("userId") String userId,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_MY_WHERE + SEEK_DATE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByDateDesc(@Param("userId") String userId,
+		@Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_DATE + SEEK_FROM + SEEK_MY_WHERE + SEEK_DATE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByDateAsc(@Param("userId") String userId,
+		@Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_MY_WHERE + SEEK_ACTIVE_DESC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByActiveDesc(@Param("userId") String userId,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	@Query(value = SEEK_SELECT + SEEK_KEY_ACTIVE + SEEK_FROM + SEEK_MY_WHERE + SEEK_ACTIVE_ASC, nativeQuery = true)
+	List<ChatRoomSeekDto> chatMyRoomSeekByActiveAsc(@Param("userId") String userId,
+		@Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, @Param("limit") int limit);
+
+	// 커서 페이지의 전체 개수 (요청 시에만, 캐시해서 사용)
+	@Query(value = TOTAL_CHAT_QUERY_BASE_COUNT, nativeQuery = true)
+	long countTotalChatRooms(@Param("keyword") String keyword);
+
+	@Query(value = CHAT_QUERY_BASE_COUNT, nativeQuery = true)
+	long countFestivalChatRooms(@Param("festivalId") long festivalId, @Param("keyword") String keyword);
+
+	@Query(value = MY_ROOM_QUERY_BASE_COUNT, nativeQuery = true)
+	long countMyChatRooms(@Param("userId") String userId);
+
 	/**
 	 * 내 채팅 관련 JPQL(userId로 조회)
 	 */
@@ -225,6 +429,25 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 	@Query("SELECT c.chatRoomId FROM ChatRoom c WHERE c.festival.eventEndDate < :today")
 	List<String> findRoomsByFestivalEnded(@Param("today") LocalDate today);
 
+	/**
+	 * 채팅방 랭킹 ZSET에서 가져온 Room ID 목록의 정보를 ZSET 순서대로 조회 (페이지 메타데이터 조회용)
+	 * 삭제된 채팅방은 결과에서 빠짐
+	 */
+	@Query(value = ROOM_INFO_QUERY_BASE
+				   + " WHERE c.chat_room_id IN (:roomIds)"
+				   + " ORDER BY array_position(CAST(ARRAY[:roomIds] AS TEXT[]), c.chat_room_id)",
+		nativeQuery = true)
+	List<ChatRoomInfoDto> chatRoomListByRoomIds(@Param("roomIds") List<String> roomIds);
+
+	/**
+	 * 채팅방 랭킹 ZSET 적재용 전체 채팅방 조회
+	 * @param festivalId 축제 ID (null이면 전체 채팅방)
+	 */
+	@Query(value = ROOM_INFO_QUERY_BASE
+				   + " WHERE (CAST(:festivalId AS BIGINT) IS NULL OR c.festival_id = :festivalId)",
+		nativeQuery = true)
+	List<ChatRoomInfoDto> findRankingRooms(@Param("festivalId") Long festivalId);
+
 	/**
 	 * 특정 사용자가 참여하는 채팅방 중, 주어진 Room ID 목록에 포함되는 방의 정보를 조회
 	 * ZSET 기반 정렬 후 PG에서 데이터 조회용 (roomIds: Redis에서 가져온 ID 목록 사용)
@@ -14,7 +14,7 @@ import com.grm3355.zonie.commonlib.domain.chatroom.entity.ChatRoom;
 import lombok.Getter;
 
 /**
- * Batch-server의 RedisToDbSyncJob에서 사용할 chat_rooms 테이블 Bulk Update 전용 Repository
+ * Batch-server의 ChatRoomLastMsgAtSyncJob에서 사용할 chat_rooms 테이블 Bulk Update 전용 Repository
  */
 public interface ChatRoomSyncRepository extends Repository<ChatRoom, Long> { // ID값 타입 = String
 
@@ -30,8 +30,9 @@ public interface ChatRoomSyncRepository extends Repository<ChatRoom, Long> { //
 		          -- last_message_at 업데이트 (DB 값보다 최신일 때만)
 		          last_message_at = CASE
 		                              -- DB값이 null이거나, Redis 타임스탬프가 더 클 때
+		                              -- (저장할 때와 같은 세션 타임존 기준으로 비교: EXTRACT(EPOCH)는 벽시계 값을 UTC로 간주함)
 		                              WHEN cr.last_message_at IS NULL OR
-		                                   data.last_message_timestamp > (EXTRACT(EPOCH FROM cr.last_message_at) * 1000)
+		                                   TO_TIMESTAMP(data.last_message_timestamp / 1000.0) > cr.last_message_at
 		                              THEN TO_TIMESTAMP(data.last_message_timestamp / 1000.0)
 		                              ELSE cr.last_message_at
 		                          END
@@ -1,6 +1,7 @@
 package com.grm3355.zonie.commonlib.domain.chatroom.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,14 @@ public interface ChatRoomUserRepository extends JpaRepository<ChatRoomUser, Long
 	void updateLastReadAtByUserId(@Param("userId") String userId,
 		@Param("now") LocalDateTime now); // (안 읽은 N 기능 지원) 연결 끊김 시 마지막 읽은 시각 갱신용
 
+	// 사용자별 채팅방 인덱스(user:{userId}:rooms) 재구성용
+	@Query(value = "SELECT cru.chat_room_id FROM chat_room_user cru WHERE cru.user_id = :userId", nativeQuery = true)
+	List<String> findChatRoomIdsByUserId(@Param("userId") String userId);
+
+	// 채팅방 삭제 전, 사용자별 채팅방 인덱스에서 제거할 참여자 조회용
+	@Query(value = "SELECT DISTINCT cru.user_id FROM chat_room_user cru WHERE cru.chat_room_id IN :chatRoomIds", nativeQuery = true)
+	List<String> findUserIdsByChatRoomIds(@Param("chatRoomIds") Collection<String> chatRoomIds);
+
 	/**
 	 * [TestManagement]
 	 */
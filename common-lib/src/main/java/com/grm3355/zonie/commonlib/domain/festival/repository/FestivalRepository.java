@@ -45,6 +45,24 @@ public interface FestivalRepository extends JpaRepository<Festival, Long> {
 	@Query("UPDATE Festival f SET f.chatRoomCount = f.chatRoomCount+1 WHERE f.festivalId = :festivalId")
 	void updateFestivalChatRoomCount(Long festivalId);
 
+	/**
+	 * 채팅방 개설 슬롯 예약 (조건부 원자적 증가)
+	 * - 개설 가능 기간(시작 dayNum일 전 ~ 종료일) 안이고 채팅방 수가 maxRoom 미만일 때만 +1
+	 * - 조회 후 비교/증가하는 대신 한 문장으로 처리하므로 동시 개설 요청이 몰려도 maxRoom을 넘지 않음
+	 * @return 1: 예약 성공, 0: 한도 초과이거나 개설 가능 기간이 아닌(또는 없는) 축제
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE festivals
+		SET chat_room_count = chat_room_count + 1
+		WHERE festival_id = :festivalId
+		  AND chat_room_count < :maxRoom
+		  AND CURRENT_TIMESTAMP >= (event_start_date - make_interval(days => :dayNum))
+		  AND CURRENT_TIMESTAMP <= (event_end_date + interval '1 day' - interval '1 second')
+		""", nativeQuery = true)
+	int reserveChatRoomSlot(@Param("festivalId") long festivalId, @Param("dayNum") int dayNum,
+		@Param("maxRoom") int maxRoom);
+
 	// 채팅방 수 감소
 	@Modifying(clearAutomatically = true)
 	@Query("UPDATE Festival f SET f.chatRoomCount = f.chatRoomCount-1 WHERE f.festivalId = :festivalId")
@@ -2,6 +2,7 @@ package com.grm3355.zonie.commonlib.global.entity;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
@@ -25,18 +26,27 @@ public abstract class BaseTimeEntity {
 
 	@PrePersist
 	protected void onCreate() {
-		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		LocalDateTime now = now();
 		this.createdAt = now;
 		this.updatedAt = now;
 	}
 
 	@PreUpdate
 	protected void onUpdate() {
-		this.updatedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		this.updatedAt = now();
 	}
 
 	public void softDelete() {
-		this.deletedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		this.deletedAt = now();
+	}
+
+	/**
+	 * PG timestamp 정밀도(마이크로초)로 자른 현재 시각
+	 * 나노초를 그대로 저장하면 PG가 반올림해, 저장 직후 엔티티 값과 다시 읽은 값이 달라질 수 있음
+	 * (예: 랭킹 ZSET 멤버의 생성 시각 millis가 생성 시점과 이후 조회 시점에 서로 달라짐)
+	 */
+	private static LocalDateTime now() {
+		return LocalDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.MICROS);
 	}
 
 	public LocalDateTime getCreatedAt() {
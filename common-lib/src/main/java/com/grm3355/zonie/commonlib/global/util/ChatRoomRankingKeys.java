@@ -0,0 +1,74 @@
+package com.grm3355.zonie.commonlib.global.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 채팅방 랭킹 ZSET 키/멤버 규칙 (api-server, chat-server, batch-server 공통)
+ * - 키: chatroom:rank:{festivalId | all}:{members | activity | created}
+ *   - members: 참여자 수, activity: 마지막 대화 시각(대화가 없으면 생성 시각), created: 생성 시각 (epoch millis)
+ * - 멤버: "{생성 시각 13자리}:{roomId}" (생성 시각은 createdAtMillis(), 모든 서버가 같은 값을 만들어야 ZREM/XX 갱신이 맞음)
+ *   - double 점수에는 epoch millis 두 개(약 41비트씩)를 손실 없이 담을 수 없으므로 점수는 정렬 기준 값 하나만 정확히 저장하고,
+ *     동점 시 순서는 Redis의 멤버 사전순 비교로 결정 (ZREVRANGE → 생성 최신순, ZRANGE → 생성 오래된순)
+ * - loaded 키: PG에서 랭킹을 적재했는지 표시 (TTL, 없거나 만료되면 조회 측에서 PG로 다시 적재)
+ * - loading 키: 재적재를 한 요청만 수행하도록 잡는 짧은 락
+ */
+public final class ChatRoomRankingKeys {
+
+	public static final String ALL_SCOPE = "all";
+	private static final String KEY_PREFIX = "chatroom:rank:";
+	private static final String MEMBER_SEPARATOR = ":";
+
+	private ChatRoomRankingKeys() {
+	}
+
+	public static String members(Long festivalId) {
+		return key(festivalId, "members");
+	}
+
+	public static String activity(Long festivalId) {
+		return key(festivalId, "activity");
+	}
+
+	public static String created(Long festivalId) {
+		return key(festivalId, "created");
+	}
+
+	public static String loaded(Long festivalId) {
+		return key(festivalId, "loaded");
+	}
+
+	public static String loading(Long festivalId) {
+		return key(festivalId, "loading");
+	}
+
+	/**
+	 * @param festivalId 축제 ID (null이면 전체 범위)
+	 */
+	public static String key(Long festivalId, String metric) {
+		return KEY_PREFIX + (festivalId != null ? festivalId.toString() : ALL_SCOPE) + ":" + metric;
+	}
+
+	/**
+	 * 멤버에 넣는 채팅방 생성 시각 (created_at 벽시계 값을 UTC로 간주한 epoch millis, 밀리초 미만 버림)
+	 * PG의 FLOOR(EXTRACT(EPOCH FROM c.created_at) * 1000)과 같은 값
+	 */
+	public static long createdAtMillis(LocalDateTime createdAt) {
+		return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	/**
+	 * @return 랭킹 ZSET 멤버 ("{생성 시각 13자리}:{roomId}")
+	 */
+	public static String member(long createdAt, String roomId) {
+		return String.format("%013d", createdAt) + MEMBER_SEPARATOR + roomId;
+	}
+
+	/**
+	 * @return 랭킹 ZSET 멤버에서 꺼낸 roomId
+	 */
+	public static String roomIdOf(String member) {
+		int index = member.indexOf(MEMBER_SEPARATOR);
+		return index >= 0 ? member.substring(index + 1) : member;
+	}
+}
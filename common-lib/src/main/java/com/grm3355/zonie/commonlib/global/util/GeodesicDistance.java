@@ -0,0 +1,83 @@
+package com.grm3355.zonie.commonlib.global.util;
+
+/**
+ * WGS84 타원체 위의 두 좌표 간 측지 거리 (PostGIS geography의 ST_Distance / ST_DWithin과 같은 기준)
+ * - Vincenty 역산식을 사용하며, PostGIS(GeographicLib)와의 차이는 mm 미만
+ * - 대척점 부근처럼 수렴하지 않는 경우에만 평균 반경 구면(haversine) 거리로 대체
+ */
+public final class GeodesicDistance {
+
+	/** WGS84 장반경 (m) */
+	public static final double SEMI_MAJOR_AXIS = 6_378_137.0;
+	/** WGS84 편평률 */
+	public static final double FLATTENING = 1 / 298.257223563;
+	/** WGS84 단반경 (m) */
+	public static final double SEMI_MINOR_AXIS = SEMI_MAJOR_AXIS * (1 - FLATTENING);
+	/** 자오선 곡률 반경의 최솟값 (적도, m): 위도 1도의 최소 길이 계산용 */
+	public static final double MIN_MERIDIONAL_RADIUS =
+		SEMI_MAJOR_AXIS * (1 - FLATTENING * (2 - FLATTENING));
+
+	private static final double MEAN_RADIUS = 6_371_008.8;
+	private static final int MAX_ITERATIONS = 200;
+	private static final double CONVERGENCE = 1e-12;
+
+	private GeodesicDistance() {
+	}
+
+	/**
+	 * @return 두 좌표 간 거리 (m)
+	 */
+	public static double meters(double lat1, double lon1, double lat2, double lon2) {
+		if (lat1 == lat2 && lon1 == lon2) {
+			return 0;
+		}
+		double f = FLATTENING;
+		double l = Math.toRadians(lon2 - lon1);
+		double u1 = Math.atan((1 - f) * Math.tan(Math.toRadians(lat1)));
+		double u2 = Math.atan((1 - f) * Math.tan(Math.toRadians(lat2)));
+		double sinU1 = Math.sin(u1);
+		double cosU1 = Math.cos(u1);
+		double sinU2 = Math.sin(u2);
+		double cosU2 = Math.cos(u2);
+
+		double lambda = l;
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double sinLambda = Math.sin(lambda);
+			double cosLambda = Math.cos(lambda);
+			double sinSigma = Math.sqrt((cosU2 * sinLambda) * (cosU2 * sinLambda)
+				+ (cosU1 * sinU2 - sinU1 * cosU2 * cosLambda) * (cosU1 * sinU2 - sinU1 * cosU2 * cosLambda));
+			if (sinSigma == 0) {
+				return 0; // 같은 점
+			}
+			double cosSigma = sinU1 * sinU2 + cosU1 * cosU2 * cosLambda;
+			double sigma = Math.atan2(sinSigma, cosSigma);
+			double sinAlpha = cosU1 * cosU2 * sinLambda / sinSigma;
+			double cosSqAlpha = 1 - sinAlpha * sinAlpha;
+			double cos2SigmaM = cosSqAlpha != 0 ? cosSigma - 2 * sinU1 * sinU2 / cosSqAlpha : 0; // 적도선 위
+			double c = f / 16 * cosSqAlpha * (4 + f * (4 - 3 * cosSqAlpha));
+			double previous = lambda;
+			lambda = l + (1 - c) * f * sinAlpha
+				* (sigma + c * sinSigma * (cos2SigmaM + c * cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)));
+
+			if (Math.abs(lambda - previous) < CONVERGENCE) {
+				double uSq = cosSqAlpha * (SEMI_MAJOR_AXIS * SEMI_MAJOR_AXIS - SEMI_MINOR_AXIS * SEMI_MINOR_AXIS)
+					/ (SEMI_MINOR_AXIS * SEMI_MINOR_AXIS);
+				double a = 1 + uSq / 16384 * (4096 + uSq * (-768 + uSq * (320 - 175 * uSq)));
+				double b = uSq / 1024 * (256 + uSq * (-128 + uSq * (74 - 47 * uSq)));
+				double deltaSigma = b * sinSigma * (cos2SigmaM + b / 4
+					* (cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)
+					- b / 6 * cos2SigmaM * (-3 + 4 * sinSigma * sinSigma) * (-3 + 4 * cos2SigmaM * cos2SigmaM)));
+				return SEMI_MINOR_AXIS * a * (sigma - deltaSigma);
+			}
+		}
+		return haversine(lat1, lon1, lat2, lon2);
+	}
+
+	private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+		double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+			+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * MEAN_RADIUS * Math.asin(Math.min(1, Math.sqrt(h)));
+	}
+}
@@ -0,0 +1,22 @@
+package com.grm3355.zonie.commonlib.global.util;
+
+/**
+ * 서명 검증을 마친 JWT에서 한 번에 추출한 정보.
+ * 필터/인터셉터는 토큰당 이 객체 하나만 사용하여, 항목마다 토큰을 다시 파싱하지 않는다.
+ *
+ * @param userId          subject
+ * @param role            role 클레임 (없으면 null)
+ * @param password        password 클레임 (없으면 null)
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record JwtClaims(
+	String userId,
+	String role,
+	String password,
+	long expiresAtMillis
+) {
+
+	public boolean isExpired(long nowMillis) {
+		return nowMillis >= expiresAtMillis;
+	}
+}
@@ -1,6 +1,13 @@
 package com.grm3355.zonie.commonlib.global.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.SecretKey;
 
@@ -13,6 +20,7 @@ import com.grm3355.zonie.commonlib.global.enums.Role;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -23,6 +31,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * JWT(JSON Web Token)의 생성, 유효성 검증 및 토큰에서 정보 추출을 담당하는 유틸리티 클래스.
  * Access Token과 Refresh Token을 발행하고 관리한다.
+ * 검증에 성공한 토큰은 토큰 해시(SHA-256) 기준으로 만료 시각까지 캐시하여,
+ * 같은 토큰으로 반복되는 요청(필터/인터셉터)에서는 서명 검증과 JSON 파싱을 다시 하지 않는다.
  */
 @Slf4j
 @Component
@@ -50,7 +60,14 @@ public class JwtTokenProvider {
 	@Value("${jwt.refresh-token-expiration-time}") // Refresh Token의 만료 시간을 주입받는다.
 	private long refreshTokenExpirationTime;
 
+	@Value("${jwt.verified-cache.max-size:10000}") // 검증 완료 토큰 캐시 최대 크기 (0이면 캐시 사용 안 함)
+	private int verifiedCacheMaxSize;
+
 	private SecretKey key;
+	private JwtParser parser;
+
+	// 토큰 SHA-256 해시(Base64) -> 검증된 클레임. 원본 토큰은 보관하지 않는다.
+	private final Map<String, JwtClaims> verifiedCache = new ConcurrentHashMap<>();
 
 	@PostConstruct
 	public void init() {
@@ -58,6 +75,8 @@ public class JwtTokenProvider {
 		// 이 키는 JWT 서명 및 검증에 사용된다.
 		byte[] keyBytes = Decoders.BASE64.decode(secret);
 		this.key = Keys.hmacShaKeyFor(keyBytes);
+		// 파서는 불변(thread-safe)이므로 한 번만 생성해 재사용한다.
+		this.parser = Jwts.parser().verifyWith(key).build();
 	}
 
 	/**
@@ -100,27 +119,82 @@ public class JwtTokenProvider {
 		return builder.compact();
 	}
 
-	public void validateToken(String token) {
-		Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+	/**
+	 * 토큰을 한 번만 검증/파싱하여 필요한 정보를 모두 반환한다.
+	 * 캐시에 있고 만료되지 않았으면 검증을 생략하고, 만료되었거나 캐시에 없으면 전체 검증을 수행한다.
+	 * (검증 실패 시 기존과 동일하게 ExpiredJwtException 등 JwtException / IllegalArgumentException 발생)
+	 */
+	public JwtClaims parseClaims(String token) {
+		if (verifiedCacheMaxSize <= 0 || token == null) {
+			return toJwtClaims(parser.parseSignedClaims(token).getPayload());
+		}
+
+		String cacheKey = hash(token);
+		long now = System.currentTimeMillis();
+		JwtClaims cached = verifiedCache.get(cacheKey);
+		if (cached != null) {
+			if (!cached.isExpired(now)) {
+				return cached;
+			}
+			verifiedCache.remove(cacheKey, cached);
+		}
+
+		Claims claims = parser.parseSignedClaims(token).getPayload();
+		JwtClaims jwtClaims = toJwtClaims(claims);
+		if (claims.getExpiration() != null) {
+			cacheVerified(cacheKey, jwtClaims, now);
+		}
+		return jwtClaims;
 	}
 
-	private Claims extractClaims(String token) {
-		return Jwts.parser()
-			.verifyWith(key)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload();
+	public void validateToken(String token) {
+		parseClaims(token);
 	}
 
 	public String getUserIdFromToken(String token) {
-		return extractClaims(token).getSubject();
+		return parseClaims(token).userId();
 	}
 
 	public String getRoleFromToken(String token) {
-		return extractClaims(token).get(CLAIM_KEY_ROLE, String.class);
+		return parseClaims(token).role();
 	}
 
 	public String getPasswordFromToken(String token) {
-		return extractClaims(token).get(CLAIM_KEY_PASSWORD, String.class);
+		return parseClaims(token).password();
+	}
+
+	private JwtClaims toJwtClaims(Claims claims) {
+		Date expiration = claims.getExpiration();
+		return new JwtClaims(
+			claims.getSubject(),
+			claims.get(CLAIM_KEY_ROLE, String.class),
+			claims.get(CLAIM_KEY_PASSWORD, String.class),
+			expiration != null ? expiration.getTime() : Long.MAX_VALUE
+		);
+	}
+
+	/**
+	 * 캐시가 가득 차면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의 항목을 1/10 정도 비운다.
+	 */
+	private void cacheVerified(String cacheKey, JwtClaims jwtClaims, long now) {
+		if (verifiedCache.size() >= verifiedCacheMaxSize) {
+			verifiedCache.values().removeIf(claims -> claims.isExpired(now));
+			int toEvict = verifiedCache.size() - verifiedCacheMaxSize * 9 / 10;
+			Iterator<String> keys = verifiedCache.keySet().iterator();
+			while (toEvict-- > 0 && keys.hasNext()) {
+				keys.next();
+				keys.remove();
+			}
+		}
+		verifiedCache.put(cacheKey, jwtClaims);
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
 	}
 }
@@ -1,5 +1,8 @@
 package com.grm3355.zonie.commonlib.global.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,9 +17,15 @@ import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.grm3355.zonie.commonlib.domain.chatroom.dto.ChatRoomSummaryDto;
+
 @Service("chatServerRedisScanService")
 public class RedisScanService {
 
+	// 채팅방 요약 Hash 도입 이전의 개별 키 (요약 Hash가 아직 없는 방의 대체 조회용)
+	private static final String LEGACY_LAST_AT_PREFIX = "chatroom:last_msg_at:";
+	private static final String LEGACY_LAST_CONTENT_PREFIX = "chatroom:last_msg_content:";
+
 	private final StringRedisTemplate stringRedisTemplate;
 
 	public RedisScanService(StringRedisTemplate stringRedisTemplate) {
@@ -96,6 +105,70 @@ public class RedisScanService {
 		return timestampMap;
 	}
 
+	/**
+	 * 채팅방 ID 목록을 받아, 각 채팅방 요약 Hash(chatroom:{roomId})를 파이프라인으로 일괄 조회합니다. (HMGET)
+	 * - 페이지 전체를 한 번의 왕복으로 조회
+	 * - 요약 Hash에 마지막 대화가 없는 방은 이전 개별 키(chatroom:last_msg_at:*, chatroom:last_msg_content:*)를
+	 *   MGET 한 번으로 대체 조회 (요약 Hash 도입 이후 대화가 없던 방도 마지막 대화가 비어 보이지 않도록)
+	 *
+	 * @param roomIds 채팅방 ID 목록
+	 * @return Map<String, ChatRoomSummaryDto> (roomId → 요약, 어디에도 없는 방은 모든 값이 null)
+	 */
+	public Map<String, ChatRoomSummaryDto> multiGetRoomSummaries(Collection<String> roomIds) {
+		if (roomIds == null || roomIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		String[] fields = ChatRoomSummaryDto.READ_FIELDS.toArray(String[]::new);
+		List<Object> results = stringRedisTemplate.executePipelined((RedisConnection connection) -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (String roomId : roomIds) {
+				stringConnection.hMGet(ChatRoomSummaryDto.key(roomId), fields);
+			}
+			return null;
+		});
+
+		Map<String, ChatRoomSummaryDto> summaryMap = new HashMap<>();
+		List<String> missingRoomIds = new ArrayList<>();
+		int i = 0;
+		for (String roomId : roomIds) {
+			ChatRoomSummaryDto summary = ChatRoomSummaryDto.of(roomId, (List<String>)results.get(i++));
+			summaryMap.put(roomId, summary);
+			if (summary.lastMessageAt() == null && summary.lastContent() == null) {
+				missingRoomIds.add(roomId);
+			}
+		}
+		if (!missingRoomIds.isEmpty()) {
+			fillLegacySummaries(missingRoomIds, summaryMap);
+		}
+		return summaryMap;
+	}
+
+	/**
+	 * 이전 개별 키(마지막 대화 시각/내용)로 요약을 채웁니다. (MGET 1회)
+	 */
+	private void fillLegacySummaries(List<String> roomIds, Map<String, ChatRoomSummaryDto> summaryMap) {
+		List<String> keys = new ArrayList<>(roomIds.size() * 2);
+		for (String roomId : roomIds) {
+			keys.add(LEGACY_LAST_AT_PREFIX + roomId);
+			keys.add(LEGACY_LAST_CONTENT_PREFIX + roomId);
+		}
+		List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+		if (values == null) {
+			return;
+		}
+		for (int j = 0; j < roomIds.size(); j++) {
+			String lastAt = values.get(j * 2);
+			String lastContent = values.get(j * 2 + 1);
+			if (lastAt == null && lastContent == null) {
+				continue;
+			}
+			String roomId = roomIds.get(j);
+			Long messageCount = summaryMap.get(roomId).messageCount();
+			summaryMap.put(roomId, ChatRoomSummaryDto.of(roomId,
+				Arrays.asList(lastAt, lastContent, messageCount != null ? String.valueOf(messageCount) : null)));
+		}
+	}
+
 	/**
 	 * likedByKeys 키(Set) 목록을 받아, 각 키의 모든 멤버를 파이프라인으로 일괄 조회합니다. (SMEMBERS)
 	 *
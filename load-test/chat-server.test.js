@@ -6,7 +6,11 @@ import {Trend} from 'k6/metrics';
 import {API_BASE_URL, CHAT_WEBSOCKET_URL} from './common/config.js';
 
 const messageRoundtripTrend = new Trend('websocket_message_roundtrip_duration');
-const CHAT_VUS_COUNT = 100; // (동시 웹소켓 연결 부하)
+// (동시 웹소켓 연결 부하)
+// 플랫폼/가상 스레드 모드 비교: CHAT_VIRTUAL_THREADS=true|false로 서버를 띄운 뒤
+// 같은 VU 수로 websocket_message_roundtrip_duration p95를 비교 (e.g., k6 run -e CHAT_VUS=1000 chat-server.test.js)
+// 전송 방식 비교도 동일: CHAT_TRANSPORT_MODE=PUBSUB|STREAM
+const CHAT_VUS_COUNT = Number(__ENV.CHAT_VUS || 100);
 
 export const options = {
     scenarios: {